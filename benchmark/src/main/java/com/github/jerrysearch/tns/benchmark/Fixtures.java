@@ -0,0 +1,82 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.transport.TMemoryBuffer;
+
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 基准测试共用的节点、请求
+ *
+ * @author jerry
+ *
+ */
+public class Fixtures {
+
+	public static final int VNODES = 10;
+	/**
+	 * ping间隔（秒），测试期间很少有节点被ping
+	 */
+	public static final int PING_FREQUENCY = 3600;
+
+	private Fixtures() {
+	}
+
+	/**
+	 * 某个service下count个UP节点，host为127.x.y.z，由节点id的低24位得到，都指向同一个端口
+	 *
+	 * 不同service的id不重叠时host也各不相同，与每个节点一台机器的实际部署一样，intern不会合并host
+	 *
+	 * @param serviceName
+	 * @param count
+	 * @param firstId
+	 *            节点id从firstId开始递增
+	 * @param port
+	 *            PingTarget的端口
+	 * @return
+	 */
+	public static List<TSNode> nodes(String serviceName, int count, long firstId, int port) {
+		List<TSNode> list = new ArrayList<TSNode>(count);
+		long timestamp = System.currentTimeMillis();
+		for (int i = 0; i < count; i++) {
+			long n = firstId + i;
+			TSNode tsnode = new TSNode();
+			tsnode.setServiceName(serviceName);
+			tsnode.setHost("127." + ((n >> 16) & 0xff) + "." + ((n >> 8) & 0xff) + "." + (n & 0xff));
+			tsnode.setPort(port);
+			tsnode.setId(firstId + i);
+			tsnode.setVNodes(VNODES);
+			tsnode.setPingFrequency(PING_FREQUENCY);
+			tsnode.setState(State.UP);
+			tsnode.setTimestamp(timestamp);
+			list.add(tsnode);
+		}
+		return list;
+	}
+
+	/**
+	 * 编码后的serviceList请求
+	 *
+	 * @param serviceName
+	 * @return
+	 * @throws TException
+	 */
+	public static byte[] serviceListRequest(String serviceName) throws TException {
+		TMemoryBuffer buffer = new TMemoryBuffer(128);
+		TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+		protocol.writeMessageBegin(new TMessage("serviceList", TMessageType.CALL, 1));
+		new TNSRpc.serviceList_args("benchmark", serviceName).write(protocol);
+		protocol.writeMessageEnd();
+		byte[] request = new byte[buffer.length()];
+		System.arraycopy(buffer.getArray(), 0, request, 0, request.length);
+		return request;
+	}
+}
@@ -0,0 +1,53 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.github.jerrysearch.tns.client.indexbuild.IIndexBuilder;
+import com.github.jerrysearch.tns.client.loadbalance.TNodeSelector;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 改为不可变快照之前ServicePool的节点索引：共享的ArrayList，读写锁保护，作为ServicePoolBenchmark的对照
+ *
+ * @author jerry
+ *
+ */
+public class LockedServicePool {
+
+	private final List<TSNode> serviceList = new ArrayList<TSNode>();
+	private final TNodeSelector<TSNode> tsnodeSelector;
+	private final IIndexBuilder<TSNode> indexBuilder;
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock readLock = lock.readLock();
+	private final Lock writeLock = lock.writeLock();
+
+	public LockedServicePool(TNodeSelector<TSNode> tsnodeSelector, IIndexBuilder<TSNode> indexBuilder) {
+		this.tsnodeSelector = tsnodeSelector;
+		this.indexBuilder = indexBuilder;
+	}
+
+	public void rebuildIndex(List<TSNode> list) {
+		try {
+			this.writeLock.lock();
+			this.serviceList.clear();
+			this.serviceList.addAll(this.indexBuilder.build(list));
+		} finally {
+			this.writeLock.unlock();
+		}
+	}
+
+	public TSNode getOne() {
+		TSNode tnode = null;
+		try {
+			this.readLock.lock();
+			tnode = this.tsnodeSelector.selectOne(this.serviceList);
+		} finally {
+			this.readLock.unlock();
+		}
+		return tnode;
+	}
+}
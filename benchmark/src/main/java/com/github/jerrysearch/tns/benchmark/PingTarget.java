@@ -0,0 +1,59 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TTransportException;
+
+import com.github.jerrysearch.tns.protocol.rpc.PoolAble;
+
+/**
+ * 本地的PoolAble服务，基准测试注册的节点都指向它，ping总是成功，节点一直保持UP
+ *
+ * @author jerry
+ *
+ */
+public class PingTarget implements PoolAble.Iface {
+
+	private final int vNodes;
+	private final TServerSocket socket;
+	private final TServer server;
+
+	/**
+	 * 
+	 * @param vNodes
+	 *            ping返回的vNodes，与注册的节点一致时ping不会改变节点
+	 * @throws TTransportException
+	 */
+	public PingTarget(int vNodes) throws TTransportException {
+		this.vNodes = vNodes;
+		this.socket = new TServerSocket(0);
+		TThreadPoolServer.Args args = new TThreadPoolServer.Args(this.socket);
+		args.processor(new PoolAble.Processor<PoolAble.Iface>(this));
+		args.maxWorkerThreads(16);
+		this.server = new TThreadPoolServer(args);
+		Thread thread = new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+				server.serve();
+			}
+		}, "PingTarget");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	public int getPort() {
+		return this.socket.getServerSocket().getLocalPort();
+	}
+
+	@Override
+	public int ping() throws TException {
+		return this.vNodes;
+	}
+
+	public void stop() {
+		this.server.stop();
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.thrift.transport.TTransportException;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.PingTaskManager;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+
+/**
+ * 注册表的内存占用：通过pushServiceList装入nodes个UP节点（分布在services个service中），
+ * 输出装入前后GC之后的堆使用量之差，以及每个节点的字节数
+ *
+ * 节点由Fixtures生成，每个节点的host都是不同的IPv4地址，且是单独的字符串，与反序列化得到的一样。
+ * 开启service.compact时快照不持有节点，不开启时每个UP节点在快照中还有一个TSNode及其host字符串。
+ * 1000个service、100万个节点时，开启service.compact每个节点约60字节，不开启约179字节。
+ * NodeTable把IPv4地址存为int，host为域名时每个节点另有一个intern的字符串，通常约50字节
+ *
+ * java -Xmx2g -Dservice.compact=true -Dlog4j.configuration=benchmark-log4j.properties -cp benchmark/target/benchmarks.jar com.github.jerrysearch.tns.benchmark.RegistryFootprint
+ *
+ * @author jerry
+ *
+ */
+public class RegistryFootprint {
+
+	private RegistryFootprint() {
+	}
+
+	public static void main(String[] args) throws InterruptedException, TTransportException {
+		int nodes = Integer.getInteger("nodes", 1000000);
+		int services = Integer.getInteger("services", 1000);
+		int perService = nodes / services;
+		/**
+		 * 装入期间到期的节点ping本地的PingTarget，状态不变
+		 */
+		PingTarget pingTarget = new PingTarget(Fixtures.VNODES);
+		SNodeManager sNodeManager = SNodeManager.getInstance();
+		PingTaskManager.getInstance();
+
+		long before = usedHeap();
+		for (int s = 0; s < services; s++) {
+			List<TSNode> list = Fixtures.nodes("benchmark.footprint.svc" + s, perService,
+					(long) s * perService + 1, pingTarget.getPort());
+			sNodeManager.pushServiceList(list);
+		}
+		long after = usedHeap();
+
+		List<String> serviceNames = new ArrayList<String>();
+		sNodeManager.toServiceNameList(serviceNames);
+		int up = sNodeManager.upServiceNodeList("benchmark.footprint.svc0").size();
+		long bytes = after - before;
+		System.out.println(String.format("service.compact=%s ping.wheel=%s", Config.serviceCompact,
+				Config.pingWheel));
+		System.out.println(String.format("services %d, nodes %d, svc0 up %d", serviceNames.size(),
+				perService * services, up));
+		System.out.println(String.format("heap %.1f MB, %.1f bytes/node", bytes / 1048576D,
+				(double) bytes / (perService * services)));
+		pingTarget.stop();
+		System.exit(0);
+	}
+
+	/**
+	 * 多次GC之后的堆使用量
+	 */
+	private static long usedHeap() throws InterruptedException {
+		long used = Long.MAX_VALUE;
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(200);
+			used = Math.min(used, ManagementFactory.getMemoryMXBean().getHeapMemoryUsage()
+					.getUsed());
+		}
+		return used;
+	}
+}
@@ -0,0 +1,167 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.thrift.transport.TTransportException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+
+/**
+ * 后台合并一次50k节点的推送（pushServiceList）时，读取热点service的serviceList延迟
+ *
+ * 每组7个读线程、1个合并线程，推送的都是其它service的节点：
+ * <ul>
+ * <li>globalLock：读写都持有同一把全局读写锁，与按service分锁之前的SNodeManager相同</li>
+ * <li>perService：toUpServiceNodeList，只持有所读service的读锁</li>
+ * <li>snapshot：upServiceNodeList，读取不可变快照，不加锁</li>
+ * </ul>
+ *
+ * java -jar benchmark/target/benchmarks.jar ServiceListContentionBenchmark
+ *
+ * @author jerry
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx2g",
+		"-Dlog4j.configuration=benchmark-log4j.properties" })
+public class ServiceListContentionBenchmark {
+
+	private static final int HOT_SERVICES = 8;
+	private static final int HOT_NODES = 100;
+	private static final int PUSH_SERVICES = 500;
+	private static final int PUSH_NODES = 100;
+
+	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+	/**
+	 * globalLock组使用，模拟整个注册表一把锁
+	 */
+	private final ReentrantReadWriteLock globalLock = new ReentrantReadWriteLock();
+	private PingTarget pingTarget;
+	private String[] hotServices;
+	/**
+	 * 每次合并推送的50k节点
+	 */
+	private List<TSNode> push;
+
+	@Setup
+	public void setup() throws TTransportException {
+		this.pingTarget = new PingTarget(Fixtures.VNODES);
+		int port = this.pingTarget.getPort();
+		long id = 1;
+		this.hotServices = new String[HOT_SERVICES];
+		for (int i = 0; i < HOT_SERVICES; i++) {
+			this.hotServices[i] = "benchmark.hot." + i;
+			this.sNodeManager.pushServiceList(Fixtures.nodes(this.hotServices[i], HOT_NODES, id,
+					port));
+			id += HOT_NODES;
+		}
+		this.push = new ArrayList<TSNode>(PUSH_SERVICES * PUSH_NODES);
+		for (int i = 0; i < PUSH_SERVICES; i++) {
+			this.push.addAll(Fixtures.nodes("benchmark.push." + i, PUSH_NODES, id, port));
+			id += PUSH_NODES;
+		}
+		/**
+		 * 首次推送新增全部节点，之后的推送与gossip的全量推送一样，大多数节点没有变化
+		 */
+		this.sNodeManager.pushServiceList(this.push);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.pingTarget.stop();
+	}
+
+	private String hotService() {
+		return this.hotServices[ThreadLocalRandom.current().nextInt(HOT_SERVICES)];
+	}
+
+	/**
+	 * 每次推送使用新的节点对象，与反序列化得到的一样
+	 */
+	private List<TSNode> pushList() {
+		List<TSNode> list = new ArrayList<TSNode>(this.push.size());
+		for (TSNode tsnode : this.push) {
+			list.add(new TSNode(tsnode));
+		}
+		return list;
+	}
+
+	@Benchmark
+	@Group("globalLock")
+	@GroupThreads(7)
+	public List<TSNode> globalLockRead() {
+		List<TSNode> list = new ArrayList<TSNode>();
+		this.globalLock.readLock().lock();
+		try {
+			this.sNodeManager.toUpServiceNodeList(this.hotService(), list);
+		} finally {
+			this.globalLock.readLock().unlock();
+		}
+		return list;
+	}
+
+	@Benchmark
+	@Group("globalLock")
+	@GroupThreads(1)
+	public void globalLockMerge() {
+		List<TSNode> list = this.pushList();
+		this.globalLock.writeLock().lock();
+		try {
+			this.sNodeManager.pushServiceList(list);
+		} finally {
+			this.globalLock.writeLock().unlock();
+		}
+	}
+
+	@Benchmark
+	@Group("perService")
+	@GroupThreads(7)
+	public List<TSNode> perServiceRead() {
+		List<TSNode> list = new ArrayList<TSNode>();
+		this.sNodeManager.toUpServiceNodeList(this.hotService(), list);
+		return list;
+	}
+
+	@Benchmark
+	@Group("perService")
+	@GroupThreads(1)
+	public void perServiceMerge() {
+		this.sNodeManager.pushServiceList(this.pushList());
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(7)
+	public List<TSNode> snapshotRead() {
+		return this.sNodeManager.upServiceNodeList(this.hotService());
+	}
+
+	@Benchmark
+	@Group("snapshot")
+	@GroupThreads(1)
+	public void snapshotMerge() {
+		this.sNodeManager.pushServiceList(this.pushList());
+	}
+}
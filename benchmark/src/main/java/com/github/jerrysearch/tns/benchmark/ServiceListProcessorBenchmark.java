@@ -0,0 +1,104 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
+import com.github.jerrysearch.tns.server.rpc.cache.CachedTNSRpcProcessor;
+import com.github.jerrysearch.tns.server.rpc.cache.ServiceListResponseCache;
+import com.github.jerrysearch.tns.server.rpc.impl.TNSRpcImpl;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+
+/**
+ * 同一个serviceList请求，CachedTNSRpcProcessor（返回预先编码的结果）与生成代码中的TNSRpc.Processor的处理耗时
+ *
+ * java -jar benchmark/target/benchmarks.jar ServiceListProcessorBenchmark -prof gc
+ *
+ * @author jerry
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=benchmark-log4j.properties")
+public class ServiceListProcessorBenchmark {
+
+	private static final String SERVICE_NAME = "benchmark.processor";
+
+	/**
+	 * service下UP节点的个数
+	 */
+	@Param({ "10", "100", "1000" })
+	public int nodes;
+
+	private PingTarget pingTarget;
+	private byte[] request;
+	private TProcessor cached;
+	private TProcessor plain;
+
+	@Setup
+	public void setup() throws TException {
+		this.pingTarget = new PingTarget(Fixtures.VNODES);
+		SNodeManager.getInstance().pushServiceList(
+				Fixtures.nodes(SERVICE_NAME, this.nodes, 1, this.pingTarget.getPort()));
+		this.request = Fixtures.serviceListRequest(SERVICE_NAME);
+		this.cached = new CachedTNSRpcProcessor(new TNSRpcImpl());
+		this.plain = new TNSRpc.Processor<TNSRpcImpl>(new TNSRpcImpl());
+	}
+
+	@TearDown
+	public void tearDown() {
+		System.out.println(ServiceListResponseCache.getInstance().cacheStatus());
+		this.pingTarget.stop();
+	}
+
+	/**
+	 * 每个线程复用的输入、输出
+	 */
+	@State(Scope.Thread)
+	public static class Exchange {
+		private final TMemoryInputTransport in = new TMemoryInputTransport();
+		private final TByteArrayOutputStream bytes = new TByteArrayOutputStream(1 << 16);
+		private final TProtocol inProtocol = new TBinaryProtocol(this.in);
+		private final TProtocol outProtocol = new TBinaryProtocol(new TIOStreamTransport(
+				this.bytes));
+
+		private int process(TProcessor processor, byte[] request) throws TException {
+			this.in.reset(request);
+			this.bytes.reset();
+			processor.process(this.inProtocol, this.outProtocol);
+			return this.bytes.len();
+		}
+	}
+
+	@Benchmark
+	public int cached(Exchange exchange) throws TException {
+		return exchange.process(this.cached, this.request);
+	}
+
+	@Benchmark
+	public int plain(Exchange exchange) throws TException {
+		return exchange.process(this.plain, this.request);
+	}
+}
@@ -0,0 +1,125 @@
+package com.github.jerrysearch.tns.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.jerrysearch.tns.client.client.ServicePool;
+import com.github.jerrysearch.tns.client.cluster.ClusterPool;
+import com.github.jerrysearch.tns.client.indexbuild.AliasTSNodeIndexBuilder;
+import com.github.jerrysearch.tns.client.indexbuild.IIndexBuilder;
+import com.github.jerrysearch.tns.client.indexbuild.LoadbalanceTSNodeIndexBuilder;
+import com.github.jerrysearch.tns.client.loadbalance.AliasTSNodeSelector;
+import com.github.jerrysearch.tns.client.loadbalance.P2CTSNodeSelector;
+import com.github.jerrysearch.tns.client.loadbalance.PeakEwmaTSNodeSelector;
+import com.github.jerrysearch.tns.client.loadbalance.RandomTSNodeSelector;
+import com.github.jerrysearch.tns.client.loadbalance.TNodeSelector;
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * ServicePool.getOne()（不可变快照，无锁）与之前读写锁实现（LockedServicePool）的吞吐
+ *
+ * main按1、2、4、8、16、32、64个线程依次运行，并开启GC profiler，gc.alloc.rate.norm是每次getOne分配的字节数，
+ * 用于发现每次选择都分配对象的选择器
+ *
+ * java -cp benchmark/target/benchmarks.jar com.github.jerrysearch.tns.benchmark.ServicePoolBenchmark
+ *
+ * @author jerry
+ *
+ */
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.configuration=benchmark-log4j.properties")
+public class ServicePoolBenchmark {
+
+	private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+	@Param({ "random", "alias", "p2c", "peakEwma" })
+	public String selector;
+
+	/**
+	 * service下的节点个数
+	 */
+	@Param({ "16", "256" })
+	public int nodes;
+
+	private ServicePool servicePool;
+	private LockedServicePool lockedPool;
+
+	@Setup
+	public void setup() {
+		List<TSNode> list = new ArrayList<TSNode>(this.nodes);
+		for (int i = 0; i < this.nodes; i++) {
+			TSNode tsnode = new TSNode();
+			tsnode.setServiceName("benchmark.pool");
+			tsnode.setHost("10.0." + (i >> 8) + "." + (i & 0xff));
+			tsnode.setPort(9000);
+			tsnode.setId(i + 1);
+			tsnode.setVNodes(1 + i % Fixtures.VNODES);
+			tsnode.setState(State.UP);
+			list.add(tsnode);
+		}
+		/**
+		 * 没有cluster节点，不会从cluster同步列表，节点由rebuildIndex设置
+		 */
+		this.servicePool = new ServicePool(new ClusterPool(), "benchmark.pool", 60,
+				this.newSelector(), this.newIndexBuilder());
+		this.servicePool.rebuildIndex(list);
+		this.lockedPool = new LockedServicePool(this.newSelector(), this.newIndexBuilder());
+		this.lockedPool.rebuildIndex(list);
+	}
+
+	private TNodeSelector<TSNode> newSelector() {
+		if ("alias".equals(this.selector)) {
+			return new AliasTSNodeSelector();
+		} else if ("p2c".equals(this.selector)) {
+			return new P2CTSNodeSelector();
+		} else if ("peakEwma".equals(this.selector)) {
+			return new PeakEwmaTSNodeSelector();
+		}
+		return new RandomTSNodeSelector();
+	}
+
+	private IIndexBuilder<TSNode> newIndexBuilder() {
+		if ("alias".equals(this.selector)) {
+			return new AliasTSNodeIndexBuilder();
+		}
+		return new LoadbalanceTSNodeIndexBuilder();
+	}
+
+	@Benchmark
+	public TSNode snapshot() {
+		return this.servicePool.getOne();
+	}
+
+	@Benchmark
+	public TSNode locked() {
+		return this.lockedPool.getOne();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder().include(ServicePoolBenchmark.class.getSimpleName())
+					.threads(threads).addProfiler(GCProfiler.class).build()).run();
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.github.jerrysearch.tns.client.async;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.async.TAsyncClient;
+
+/**
+ * 一次异步调用，由AsyncServiceInvoker选择节点、建立连接后执行
+ *
+ * <pre>
+ * new AsyncCall&lt;Foo.AsyncClient, Foo.AsyncClient.bar_call, String&gt;() {
+ * 	public void call(Foo.AsyncClient client, AsyncMethodCallback&lt;Foo.AsyncClient.bar_call&gt; callback)
+ * 			throws TException {
+ * 		client.bar(arg, callback);
+ * 	}
+ * 
+ * 	public String getResult(Foo.AsyncClient.bar_call response) throws TException {
+ * 		return response.getResult();
+ * 	}
+ * }
+ * </pre>
+ *
+ * @author jerry
+ *
+ * @param <C>
+ *            service的AsyncClient
+ * @param <R>
+ *            方法对应的xxx_call
+ * @param <T>
+ *            返回值
+ */
+public interface AsyncCall<C extends TAsyncClient, R, T> {
+
+	/**
+	 * 发起调用，只能调用client的一个方法
+	 *
+	 * @param client
+	 * @param callback
+	 * @throws TException
+	 */
+	public void call(C client, AsyncMethodCallback<R> callback) throws TException;
+
+	/**
+	 * 从返回中取出结果，在selector线程中执行
+	 *
+	 * @param response
+	 * @return
+	 * @throws TException
+	 *             service声明的异常
+	 */
+	public T getResult(R response) throws TException;
+}
@@ -0,0 +1,46 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.apache.thrift.async.TAsyncClientManager;
+
+import com.github.jerrysearch.tns.client.task.DaemonThreadFactory;
+
+/**
+ * 进程内共用的TAsyncClientManager，一个selector线程处理全部异步调用；以及发起对冲请求的定时器
+ *
+ * @author jerry
+ *
+ */
+public class AsyncClientManager {
+
+	private final TAsyncClientManager manager;
+	private final ScheduledExecutorService timer = Executors.newScheduledThreadPool(1,
+			new DaemonThreadFactory("AsyncTimer"));
+
+	private AsyncClientManager() {
+		try {
+			this.manager = new TAsyncClientManager();
+		} catch (IOException e) {
+			throw new IllegalStateException("open selector fail", e);
+		}
+	}
+
+	public TAsyncClientManager getManager() {
+		return manager;
+	}
+
+	public ScheduledExecutorService getTimer() {
+		return timer;
+	}
+
+	private static class proxy {
+		private static AsyncClientManager instance = new AsyncClientManager();
+	}
+
+	public static AsyncClientManager getInstance() {
+		return proxy.instance;
+	}
+}
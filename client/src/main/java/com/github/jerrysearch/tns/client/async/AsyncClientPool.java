@@ -0,0 +1,231 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.apache.thrift.async.TAsyncClient;
+import org.apache.thrift.async.TAsyncClientFactory;
+import org.apache.thrift.transport.TNonblockingSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.client.pool.ConnectionPoolConfig;
+import com.github.jerrysearch.tns.client.pool.NodePool;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按TSNode（host:port）复用的非阻塞client，每个client同时只有一个进行中的调用
+ *
+ * 空闲client后进先出，每个节点最多保留maxIdle个，超过idleTimeoutMillis未用的不再借出。
+ * 借出前做一次非阻塞读，对端已关闭的连接直接丢弃；调用出错的client不再放回。
+ * 节点从列表中消失或损坏时关闭该节点的空闲client，借出的client在归还时关闭
+ *
+ * @author jerry
+ *
+ * @param <C>
+ *            service的AsyncClient
+ */
+public class AsyncClientPool<C extends TAsyncClient> implements NodePool {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncClientPool.class);
+
+	private final TAsyncClientFactory<C> clientFactory;
+	private final ConnectionPoolConfig config;
+	/**
+	 * host:port -> 空闲client
+	 */
+	private final ConcurrentHashMap<String, Node<C>> nodes = new ConcurrentHashMap<String, Node<C>>();
+
+	/**
+	 *
+	 * @param clientFactory
+	 * @param config
+	 *            使用maxIdle、idleTimeoutMillis、timeoutMillis（连接 + 调用的超时时间）
+	 */
+	public AsyncClientPool(TAsyncClientFactory<C> clientFactory, ConnectionPoolConfig config) {
+		this.clientFactory = clientFactory;
+		this.config = config;
+	}
+
+	/**
+	 * 借出tsnode的一个client，没有可用的空闲client时新建，连接在第一次调用时建立
+	 *
+	 * @param tsnode
+	 * @return
+	 * @throws IOException
+	 */
+	public PooledAsyncClient<C> borrow(TSNode tsnode) throws IOException {
+		String key = key(tsnode);
+		Node<C> node = this.nodes.get(key);
+		if (null == node) {
+			node = new Node<C>();
+			Node<C> old = this.nodes.putIfAbsent(key, node);
+			if (null != old) {
+				node = old;
+			}
+		}
+		while (true) {
+			PooledAsyncClient<C> client = node.idle.pollFirst();
+			if (null == client) {
+				break;
+			}
+			if (this.validate(client)) {
+				return client;
+			}
+			client.close();
+		}
+		TNonblockingSocket transport = new TNonblockingSocket(tsnode.getHost(), tsnode.getPort(),
+				this.config.getTimeoutMillis());
+		C client = this.clientFactory.getAsyncClient(transport);
+		client.setTimeout(this.config.getTimeoutMillis());
+		return new PooledAsyncClient<C>(transport, client, node);
+	}
+
+	/**
+	 * 调用成功，归还client，超出maxIdle或节点已关闭时关闭
+	 *
+	 * @param client
+	 */
+	public void giveBack(PooledAsyncClient<C> client) {
+		Node<C> node = client.node;
+		if (node.closed || client.client.hasError() || !client.transport.isOpen()
+				|| node.idle.size() >= this.config.getMaxIdle()) {
+			client.close();
+			return;
+		}
+		client.lastReturnMillis = System.currentTimeMillis();
+		node.idle.offerFirst(client);
+		if (node.closed) {
+			node.close(); // 与close()并发时，不留下未关闭的client
+		}
+	}
+
+	/**
+	 * 调用出错，关闭client
+	 *
+	 * @param client
+	 */
+	public void invalidate(PooledAsyncClient<C> client) {
+		client.close();
+	}
+
+	/**
+	 * 只保留list中节点的client，同时关闭空闲超时的client
+	 */
+	@Override
+	public void retain(List<TSNode> list) {
+		Set<String> keys = new HashSet<String>();
+		for (TSNode tsnode : list) {
+			keys.add(key(tsnode));
+		}
+		long deadline = System.currentTimeMillis() - this.config.getIdleTimeoutMillis();
+		for (Entry<String, Node<C>> entry : this.nodes.entrySet()) {
+			if (!keys.contains(entry.getKey())) {
+				this.close(entry.getKey(), entry.getValue());
+				continue;
+			}
+			while (true) {
+				PooledAsyncClient<C> client = entry.getValue().idle.peekLast();
+				if (null == client || client.lastReturnMillis > deadline) {
+					break;
+				}
+				if (entry.getValue().idle.removeLastOccurrence(client)) {
+					client.close();
+				}
+			}
+		}
+	}
+
+	@Override
+	public void evict(TSNode tsnode) {
+		String key = key(tsnode);
+		Node<C> node = this.nodes.get(key);
+		if (null != node) {
+			this.close(key, node);
+		}
+	}
+
+	/**
+	 * 关闭全部空闲client
+	 */
+	public void close() {
+		for (Entry<String, Node<C>> entry : this.nodes.entrySet()) {
+			this.close(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void close(String key, Node<C> node) {
+		if (this.nodes.remove(key, node)) {
+			node.closed = true;
+			node.close();
+			log.debug("close async clients [{}]", key);
+		}
+	}
+
+	private boolean validate(PooledAsyncClient<C> client) {
+		if (client.client.hasError() || !client.transport.isOpen()) {
+			return false;
+		}
+		if (System.currentTimeMillis() - client.lastReturnMillis > this.config
+				.getIdleTimeoutMillis()) {
+			return false;
+		}
+		/**
+		 * 空闲的连接上不应有数据，读到-1为对端已关闭，读到数据为错误的返回
+		 */
+		try {
+			return client.transport.read(ByteBuffer.allocate(1)) == 0;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static String key(TSNode tsnode) {
+		return tsnode.getHost() + ":" + tsnode.getPort();
+	}
+
+	private static class Node<C extends TAsyncClient> {
+		private final ConcurrentLinkedDeque<PooledAsyncClient<C>> idle = new ConcurrentLinkedDeque<PooledAsyncClient<C>>();
+		private volatile boolean closed = false;
+
+		private void close() {
+			while (true) {
+				PooledAsyncClient<C> client = this.idle.pollFirst();
+				if (null == client) {
+					return;
+				}
+				client.close();
+			}
+		}
+	}
+
+	/**
+	 * 借出的client，调用完成后giveBack或invalidate
+	 */
+	public static class PooledAsyncClient<C extends TAsyncClient> {
+		private final TNonblockingSocket transport;
+		private final C client;
+		private final Node<C> node;
+		private volatile long lastReturnMillis = System.currentTimeMillis();
+
+		private PooledAsyncClient(TNonblockingSocket transport, C client, Node<C> node) {
+			this.transport = transport;
+			this.client = client;
+			this.node = node;
+		}
+
+		public C getClient() {
+			return client;
+		}
+
+		private void close() {
+			this.transport.close();
+		}
+	}
+}
@@ -0,0 +1,365 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.apache.thrift.async.TAsyncClient;
+import org.apache.thrift.async.TAsyncClientFactory;
+import org.apache.thrift.transport.TTransportException;
+
+import com.github.jerrysearch.tns.client.async.AsyncClientPool.PooledAsyncClient;
+import com.github.jerrysearch.tns.client.client.ServicePool;
+import com.github.jerrysearch.tns.client.pool.ConnectionPoolConfig;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 基于ServicePool的异步调用，节点选择、超时、acquire/release由这里处理，调用方不占用线程
+ *
+ * 使用Thrift的非阻塞client，服务端需要是framed的（TNonblockingServer、TThreadedSelectorServer等）。
+ * client按节点复用（AsyncClientPool），每个client同时只有一个进行中的调用，调用成功后放回，出错时关闭；
+ * 节点从ServicePool中移除或brokenNode时关闭该节点的空闲client。新连接的建立同样在selector线程中完成。
+ * 不再使用时调用close
+ *
+ * 配置了RetryBudget时可以使用invokeHedged：第一个节点在最近耗时的某个分位数内没有返回时，
+ * 再向另一个节点发出同样的请求，取先返回的结果，额外请求受RetryBudget限制。只用于幂等的调用
+ *
+ * <pre>
+ * AsyncServiceInvoker&lt;Foo.AsyncClient&gt; invoker = new AsyncServiceInvoker&lt;Foo.AsyncClient&gt;(servicePool,
+ * 		new Foo.AsyncClient.Factory(AsyncClientManager.getInstance().getManager(),
+ * 				new TBinaryProtocol.Factory()), 3000);
+ * ServiceFuture&lt;String&gt; future = invoker.invoke(call);
+ * </pre>
+ *
+ * @author jerry
+ *
+ * @param <C>
+ *            service的AsyncClient
+ */
+public class AsyncServiceInvoker<C extends TAsyncClient> {
+
+	private final ServicePool servicePool;
+	private final AsyncClientPool<C> clientPool;
+	/**
+	 * 以下字段只在开启对冲时使用
+	 */
+	private final LatencyWindow latencyWindow;
+	private final RetryBudget retryBudget;
+	private final AtomicLong hedged = new AtomicLong();
+	private final AtomicLong hedgeWins = new AtomicLong();
+
+	/**
+	 *
+	 * @param servicePool
+	 * @param clientFactory
+	 *            service的AsyncClient.Factory，建议使用AsyncClientManager中共用的manager
+	 * @param timeoutMillis
+	 *            连接 + 调用的超时时间
+	 */
+	public AsyncServiceInvoker(ServicePool servicePool, TAsyncClientFactory<C> clientFactory,
+			int timeoutMillis) {
+		this(servicePool, clientFactory, timeoutMillis, 0, null);
+	}
+
+	/**
+	 * 
+	 * @param servicePool
+	 * @param clientFactory
+	 * @param config
+	 *            client池的配置，使用timeoutMillis、maxIdle、idleTimeoutMillis
+	 * @param hedgePercentile
+	 * @param retryBudget
+	 *            null表示不对冲
+	 */
+	public AsyncServiceInvoker(ServicePool servicePool, TAsyncClientFactory<C> clientFactory,
+			ConnectionPoolConfig config, double hedgePercentile, RetryBudget retryBudget) {
+		this.servicePool = servicePool;
+		this.clientPool = new AsyncClientPool<C>(clientFactory, config);
+		this.retryBudget = retryBudget;
+		this.latencyWindow = null == retryBudget ? null : new LatencyWindow(1024, hedgePercentile,
+				100);
+		servicePool.addNodePool(this.clientPool);
+	}
+
+	/**
+	 *
+	 * @param servicePool
+	 * @param clientFactory
+	 * @param timeoutMillis
+	 * @param hedgePercentile
+	 *            第一个请求超过最近耗时的该分位数仍未返回时发出对冲请求，如0.95
+	 * @param retryBudget
+	 *            对冲请求的预算，null表示不对冲
+	 */
+	public AsyncServiceInvoker(ServicePool servicePool, TAsyncClientFactory<C> clientFactory,
+			int timeoutMillis, double hedgePercentile, RetryBudget retryBudget) {
+		this(servicePool, clientFactory, config(timeoutMillis), hedgePercentile, retryBudget);
+	}
+
+	private static ConnectionPoolConfig config(int timeoutMillis) {
+		ConnectionPoolConfig config = new ConnectionPoolConfig();
+		config.setTimeoutMillis(timeoutMillis);
+		return config;
+	}
+
+	/**
+	 * 从ServicePool中移除client池并关闭空闲client，进行中的调用完成后关闭其client
+	 */
+	public void close() {
+		this.servicePool.removeNodePool(this.clientPool);
+		this.clientPool.close();
+	}
+
+	/**
+	 * 选择一个节点发起异步调用
+	 *
+	 * @param call
+	 * @return
+	 */
+	public <R, T> ServiceFuture<T> invoke(AsyncCall<C, R, T> call) {
+		return this.invoke(this.servicePool.getOne(), call);
+	}
+
+	/**
+	 * 按key选择一个节点发起异步调用
+	 *
+	 * @see ServicePool#getOne(String)
+	 * @param key
+	 * @param call
+	 * @return
+	 */
+	public <R, T> ServiceFuture<T> invoke(String key, AsyncCall<C, R, T> call) {
+		return this.invoke(this.servicePool.getOne(key), call);
+	}
+
+	/**
+	 * 选择一个节点发起异步调用，慢时向另一个节点发出对冲请求
+	 *
+	 * @param call
+	 *            必须是幂等的
+	 * @return
+	 */
+	public <R, T> ServiceFuture<T> invokeHedged(AsyncCall<C, R, T> call) {
+		return this.hedge(this.servicePool.getOne(), call);
+	}
+
+	/**
+	 * 按key选择第一个节点，对冲请求不受key约束
+	 *
+	 * @param key
+	 * @param call
+	 *            必须是幂等的
+	 * @return
+	 */
+	public <R, T> ServiceFuture<T> invokeHedged(String key, AsyncCall<C, R, T> call) {
+		return this.hedge(this.servicePool.getOne(key), call);
+	}
+
+	/**
+	 * 发出的对冲请求数
+	 *
+	 * @return
+	 */
+	public long getHedged() {
+		return this.hedged.get();
+	}
+
+	/**
+	 * 对冲请求先于第一个请求返回的次数
+	 *
+	 * @return
+	 */
+	public long getHedgeWins() {
+		return this.hedgeWins.get();
+	}
+
+	private <R, T> ServiceFuture<T> hedge(TSNode tsnode, AsyncCall<C, R, T> call) {
+		if (null == this.retryBudget) {
+			return this.invoke(tsnode, call);
+		}
+		this.retryBudget.deposit();
+		long delayNanos = this.latencyWindow.percentileNanos();
+		ServiceFuture<T> primary = this.invoke(tsnode, call);
+		if (null == tsnode || delayNanos < 0) {
+			return primary;
+		}
+		Hedge<R, T> hedge = new Hedge<R, T>(tsnode, call);
+		primary.addCallback(hedge.new Attempt(false));
+		hedge.schedule(delayNanos);
+		return hedge.result;
+	}
+
+	/**
+	 * 选择与tsnode不同的节点
+	 */
+	private TSNode selectOther(TSNode tsnode) {
+		for (int i = 0; i < 3; i++) {
+			TSNode other = this.servicePool.getOne();
+			if (null == other) {
+				return null;
+			}
+			if (other.getPort() != tsnode.getPort() || !other.getHost().equals(tsnode.getHost())) {
+				return other;
+			}
+		}
+		return null;
+	}
+
+	private <R, T> ServiceFuture<T> invoke(final TSNode tsnode, final AsyncCall<C, R, T> call) {
+		final ServiceFuture<T> future = new ServiceFuture<T>();
+		if (null == tsnode) {
+			future.setException(new TTransportException(TTransportException.NOT_OPEN,
+					"no available node"));
+			return future;
+		}
+		final PooledAsyncClient<C> client;
+		try {
+			client = this.clientPool.borrow(tsnode);
+		} catch (IOException e) {
+			future.setException(new TTransportException(TTransportException.NOT_OPEN, e));
+			return future;
+		}
+
+		final long start = System.nanoTime();
+		final AtomicBoolean finished = new AtomicBoolean(false);
+		this.servicePool.acquire(tsnode);
+		AsyncMethodCallback<R> callback = new AsyncMethodCallback<R>() {
+
+			@Override
+			public void onComplete(R response) {
+				this.finish(true);
+				servicePool.reportSuccess(tsnode);
+				if (null != latencyWindow) {
+					latencyWindow.record(System.nanoTime() - start);
+				}
+				try {
+					future.set(call.getResult(response));
+				} catch (Exception e) {
+					future.setException(e);
+				}
+			}
+
+			@Override
+			public void onError(Exception e) {
+				this.finish(false);
+				servicePool.reportFailure(tsnode);
+				future.setException(e);
+			}
+
+			/**
+			 * 回调时client已结束本次调用，成功时可以放回复用
+			 */
+			private void finish(boolean ok) {
+				if (finished.compareAndSet(false, true)) {
+					if (ok) {
+						clientPool.giveBack(client);
+					} else {
+						clientPool.invalidate(client);
+					}
+					servicePool.release(tsnode, System.nanoTime() - start);
+				}
+			}
+		};
+		try {
+			call.call(client.getClient(), callback);
+		} catch (Exception e) {
+			callback.onError(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 一次对冲调用：任一请求成功即完成，全部请求失败才失败
+	 */
+	private class Hedge<R, T> implements Runnable {
+		private final ServiceFuture<T> result = new ServiceFuture<T>();
+		private final TSNode primary;
+		private final AsyncCall<C, R, T> call;
+		/**
+		 * 以下字段持有this锁时读写
+		 */
+		private int outstanding = 1;
+		private ScheduledFuture<?> timer;
+
+		private Hedge(TSNode primary, AsyncCall<C, R, T> call) {
+			this.primary = primary;
+			this.call = call;
+		}
+
+		private void schedule(long delayNanos) {
+			ScheduledFuture<?> timer = AsyncClientManager.getInstance().getTimer()
+					.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+			synchronized (this) {
+				if (this.outstanding == 0 || this.result.isDone()) {
+					timer.cancel(false);
+				} else {
+					this.timer = timer;
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			if (this.result.isDone()) {
+				return;
+			}
+			TSNode other = selectOther(this.primary);
+			if (null == other) {
+				return;
+			}
+			synchronized (this) {
+				/**
+				 * 先确认仍需对冲再扣预算，已完成的调用不消耗预算
+				 */
+				if (this.outstanding == 0 || this.result.isDone() || !retryBudget.tryWithdraw()) {
+					return;
+				}
+				this.outstanding++;
+			}
+			hedged.incrementAndGet();
+			invoke(other, this.call).addCallback(new Attempt(true));
+		}
+
+		private class Attempt implements FutureCallback<T> {
+			private final boolean hedge;
+
+			private Attempt(boolean hedge) {
+				this.hedge = hedge;
+			}
+
+			@Override
+			public void onSuccess(T value) {
+				if (result.set(value)) {
+					if (this.hedge) {
+						hedgeWins.incrementAndGet();
+					}
+					this.cancelTimer();
+				}
+			}
+
+			@Override
+			public void onFailure(Throwable cause) {
+				boolean last;
+				synchronized (Hedge.this) {
+					last = --outstanding == 0;
+				}
+				if (last) {
+					this.cancelTimer();
+					result.setException(cause);
+				}
+			}
+
+			private void cancelTimer() {
+				synchronized (Hedge.this) {
+					if (null != timer) {
+						timer.cancel(false);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.github.jerrysearch.tns.client.async;
+
+/**
+ * ServiceFuture完成时的回调
+ *
+ * @author jerry
+ *
+ * @param <T>
+ */
+public interface FutureCallback<T> {
+
+	public void onSuccess(T result);
+
+	public void onFailure(Throwable cause);
+}
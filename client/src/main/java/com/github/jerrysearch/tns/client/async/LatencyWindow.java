@@ -0,0 +1,85 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 最近N次调用耗时的环形缓冲，分位数按固定间隔重新计算后缓存
+ *
+ * @author jerry
+ *
+ */
+public class LatencyWindow {
+
+	/**
+	 * 分位数缓存时间
+	 */
+	private static final long REFRESH_NANOS = 1000000000L;
+
+	private final AtomicLongArray samples;
+	private final int mask;
+	private final AtomicInteger index = new AtomicInteger();
+	private final double percentile;
+	/**
+	 * 样本数不足时不给出分位数
+	 */
+	private final int minSamples;
+	private final AtomicBoolean refreshing = new AtomicBoolean(false);
+	private volatile long cachedNanos = -1;
+	private volatile long cachedAt = System.nanoTime() - REFRESH_NANOS;
+
+	/**
+	 *
+	 * @param size
+	 *            样本数，会调整为2的幂
+	 * @param percentile
+	 *            (0, 1)
+	 * @param minSamples
+	 */
+	public LatencyWindow(int size, double percentile, int minSamples) {
+		int n = 1;
+		while (n < size) {
+			n <<= 1;
+		}
+		this.samples = new AtomicLongArray(n);
+		this.mask = n - 1;
+		this.percentile = percentile;
+		this.minSamples = Math.min(minSamples, n);
+	}
+
+	public void record(long latencyNanos) {
+		this.samples.lazySet(this.index.getAndIncrement() & this.mask, latencyNanos);
+	}
+
+	/**
+	 * @return 分位数，样本不足时返回-1
+	 */
+	public long percentileNanos() {
+		long now = System.nanoTime();
+		if (now - this.cachedAt >= REFRESH_NANOS && this.refreshing.compareAndSet(false, true)) {
+			try {
+				this.cachedNanos = this.compute();
+				this.cachedAt = now;
+			} finally {
+				this.refreshing.set(false);
+			}
+		}
+		return this.cachedNanos;
+	}
+
+	private long compute() {
+		int count = Math.min(this.index.get() & Integer.MAX_VALUE, this.mask + 1);
+		if (count < this.minSamples) {
+			return -1;
+		}
+		long[] array = new long[count];
+		for (int i = 0; i < count; i++) {
+			array[i] = this.samples.get(i);
+		}
+		Arrays.sort(array);
+		int rank = (int) Math.ceil(this.percentile * count) - 1;
+		return array[Math.max(0, Math.min(rank, count - 1))];
+	}
+}
@@ -0,0 +1,63 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 令牌桶形式的额外请求预算：每个正常请求存入ratio个令牌，每个对冲请求取出1个，
+ * 令牌数不超过maxTokens，额外请求的比例因此不会超过ratio（突发不超过maxTokens）
+ *
+ * @author jerry
+ *
+ */
+public class RetryBudget {
+
+	private static final long SCALE = 1000;
+
+	private final long deposit;
+	private final long max;
+	private final AtomicLong tokens = new AtomicLong();
+
+	/**
+	 *
+	 * @param ratio
+	 *            额外请求占正常请求的比例，如0.05
+	 * @param maxTokens
+	 *            最多积累的令牌数
+	 */
+	public RetryBudget(double ratio, int maxTokens) {
+		this.deposit = (long) (ratio * SCALE);
+		this.max = maxTokens * SCALE;
+	}
+
+	/**
+	 * 每个正常请求调用一次
+	 */
+	public void deposit() {
+		while (true) {
+			long current = this.tokens.get();
+			long next = Math.min(current + this.deposit, this.max);
+			if (next == current || this.tokens.compareAndSet(current, next)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return 是否取到令牌
+	 */
+	public boolean tryWithdraw() {
+		while (true) {
+			long current = this.tokens.get();
+			if (current < SCALE) {
+				return false;
+			}
+			if (this.tokens.compareAndSet(current, current - SCALE)) {
+				return true;
+			}
+		}
+	}
+
+	public double getTokens() {
+		return (double) this.tokens.get() / SCALE;
+	}
+}
@@ -0,0 +1,171 @@
+package com.github.jerrysearch.tns.client.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 可以注册回调的Future，只能完成一次
+ *
+ * 回调在完成调用的线程中执行（通常是selector线程），不要在回调中阻塞
+ *
+ * @author jerry
+ *
+ * @param <T>
+ */
+public class ServiceFuture<T> implements Future<T> {
+
+	private static final Logger log = LoggerFactory.getLogger(ServiceFuture.class);
+
+	private final CountDownLatch latch = new CountDownLatch(1);
+	/**
+	 * 以下字段持有this锁时读写
+	 */
+	private List<FutureCallback<T>> callbacks = new ArrayList<FutureCallback<T>>(2);
+	private boolean done = false;
+	private boolean cancelled = false;
+	private T result;
+	private Throwable cause;
+
+	/**
+	 * 正常完成
+	 *
+	 * @param result
+	 * @return 是否由本次调用完成
+	 */
+	public boolean set(T result) {
+		List<FutureCallback<T>> callbacks;
+		synchronized (this) {
+			if (this.done) {
+				return false;
+			}
+			this.done = true;
+			this.result = result;
+			callbacks = this.callbacks;
+			this.callbacks = null;
+		}
+		this.latch.countDown();
+		for (FutureCallback<T> callback : callbacks) {
+			this.notifySuccess(callback, result);
+		}
+		return true;
+	}
+
+	/**
+	 * 异常完成
+	 *
+	 * @param cause
+	 * @return 是否由本次调用完成
+	 */
+	public boolean setException(Throwable cause) {
+		return this.setException(cause, false);
+	}
+
+	/**
+	 * done、cancelled、cause在同一次加锁中设置，与set互斥
+	 */
+	private boolean setException(Throwable cause, boolean cancelled) {
+		List<FutureCallback<T>> callbacks;
+		synchronized (this) {
+			if (this.done) {
+				return false;
+			}
+			this.done = true;
+			this.cancelled = cancelled;
+			this.cause = cause;
+			callbacks = this.callbacks;
+			this.callbacks = null;
+		}
+		this.latch.countDown();
+		for (FutureCallback<T> callback : callbacks) {
+			this.notifyFailure(callback, cause);
+		}
+		return true;
+	}
+
+	/**
+	 * 注册回调，已完成时立即在当前线程执行
+	 *
+	 * @param callback
+	 */
+	public void addCallback(FutureCallback<T> callback) {
+		synchronized (this) {
+			if (!this.done) {
+				this.callbacks.add(callback);
+				return;
+			}
+		}
+		if (null == this.cause) {
+			this.notifySuccess(callback, this.result);
+		} else {
+			this.notifyFailure(callback, this.cause);
+		}
+	}
+
+	/**
+	 * 只是不再等待结果，已经发出的请求仍会执行到完成或超时
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return this.setException(new CancellationException(), true);
+	}
+
+	@Override
+	public synchronized boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	@Override
+	public synchronized boolean isDone() {
+		return this.done;
+	}
+
+	@Override
+	public T get() throws InterruptedException, ExecutionException {
+		this.latch.await();
+		return this.report();
+	}
+
+	@Override
+	public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+			TimeoutException {
+		if (!this.latch.await(timeout, unit)) {
+			throw new TimeoutException();
+		}
+		return this.report();
+	}
+
+	private synchronized T report() throws ExecutionException {
+		if (this.cancelled) {
+			throw (CancellationException) this.cause;
+		}
+		if (null != this.cause) {
+			throw new ExecutionException(this.cause);
+		}
+		return this.result;
+	}
+
+	private void notifySuccess(FutureCallback<T> callback, T result) {
+		try {
+			callback.onSuccess(result);
+		} catch (Exception e) {
+			log.error("future callback", e);
+		}
+	}
+
+	private void notifyFailure(FutureCallback<T> callback, Throwable cause) {
+		try {
+			callback.onFailure(cause);
+		} catch (Exception e) {
+			log.error("future callback", e);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.github.jerrysearch.tns.client.breaker;
+
+/**
+ * 单个节点的熔断器
+ *
+ * CLOSED：正常，连续失败或窗口内错误率超过阈值时OPEN；OPEN：拒绝请求，openMillis后HALF_OPEN；
+ * HALF_OPEN：同时只放行一个探测请求，连续成功halfOpenSuccesses次后CLOSED，失败则重新OPEN。
+ * forceOpen的熔断在openMillis之后也可由resetForced恢复为CLOSED，不需要调用方上报探测结果
+ *
+ * @author jerry
+ *
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final CircuitBreakerConfig config;
+	/**
+	 * 无锁读取，CLOSED时allowRequest不加锁
+	 */
+	private volatile State state = State.CLOSED;
+	/**
+	 * 以下字段持有this锁时读写
+	 */
+	private final boolean[] window;
+	private int windowIndex = 0;
+	private int windowCount = 0;
+	private int windowFailures = 0;
+	private int consecutiveFailures = 0;
+	private long openedAt;
+	/**
+	 * 半开时探测请求的放行时间，0表示没有进行中的探测
+	 */
+	private long probeAt = 0;
+	private int probeSuccesses = 0;
+	/**
+	 * 由forceOpen熔断，之后还没有上报过结果
+	 */
+	private boolean forced = false;
+
+	public CircuitBreaker(CircuitBreakerConfig config) {
+		this.config = config;
+		this.window = new boolean[Math.max(1, config.getWindowSize())];
+	}
+
+	/**
+	 * 是否放行一个请求，HALF_OPEN时返回true即占用探测名额
+	 *
+	 * @return
+	 */
+	public boolean allowRequest() {
+		if (this.state == State.CLOSED) {
+			return true;
+		}
+		synchronized (this) {
+			long now = System.currentTimeMillis();
+			switch (this.state) {
+			case CLOSED:
+				return true;
+			case OPEN:
+				if (now - this.openedAt < this.config.getOpenMillis()) {
+					return false;
+				}
+				this.state = State.HALF_OPEN;
+				this.probeSuccesses = 0;
+				this.probeAt = now;
+				return true;
+			default:
+				/**
+				 * 探测请求没有反馈结果（调用方未上报）时，超时后允许下一个探测
+				 */
+				if (this.probeAt != 0 && now - this.probeAt < this.config.getOpenMillis()) {
+					return false;
+				}
+				this.probeAt = now;
+				return true;
+			}
+		}
+	}
+
+	public synchronized void onSuccess() {
+		switch (this.state) {
+		case CLOSED:
+			this.consecutiveFailures = 0;
+			this.record(false);
+			break;
+		case HALF_OPEN:
+			this.probeAt = 0;
+			this.forced = false;
+			if (++this.probeSuccesses >= this.config.getHalfOpenSuccesses()) {
+				this.close();
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	public synchronized void onFailure() {
+		switch (this.state) {
+		case CLOSED:
+			this.consecutiveFailures++;
+			this.record(true);
+			if (this.consecutiveFailures >= this.config.getConsecutiveFailures()
+					|| (this.windowCount >= this.config.getMinRequests() && this.windowFailures >= this.config
+							.getErrorRate() * this.windowCount)) {
+				this.open();
+			}
+			break;
+		case HALF_OPEN:
+			this.open();
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * 立即熔断，用于调用方确认节点已损坏
+	 */
+	public synchronized void forceOpen() {
+		this.open();
+		this.forced = true;
+	}
+
+	/**
+	 * forceOpen之后没有上报过结果、且已熔断openMillis时恢复为CLOSED
+	 */
+	public void resetForced() {
+		if (this.state == State.CLOSED) {
+			return;
+		}
+		synchronized (this) {
+			if (this.forced
+					&& System.currentTimeMillis() - this.openedAt >= this.config.getOpenMillis()) {
+				this.close();
+			}
+		}
+	}
+
+	public State getState() {
+		return state;
+	}
+
+	private void record(boolean failure) {
+		if (this.windowCount == this.window.length) {
+			if (this.window[this.windowIndex]) {
+				this.windowFailures--;
+			}
+		} else {
+			this.windowCount++;
+		}
+		this.window[this.windowIndex] = failure;
+		if (failure) {
+			this.windowFailures++;
+		}
+		this.windowIndex = (this.windowIndex + 1) % this.window.length;
+	}
+
+	private void open() {
+		this.forced = false;
+		this.state = State.OPEN;
+		this.openedAt = System.currentTimeMillis();
+		this.probeAt = 0;
+	}
+
+	private void close() {
+		this.windowIndex = 0;
+		this.windowCount = 0;
+		this.windowFailures = 0;
+		this.consecutiveFailures = 0;
+		this.probeAt = 0;
+		this.forced = false;
+		this.state = State.CLOSED;
+	}
+}
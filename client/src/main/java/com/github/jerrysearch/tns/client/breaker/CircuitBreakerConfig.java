@@ -0,0 +1,90 @@
+package com.github.jerrysearch.tns.client.breaker;
+
+/**
+ * 熔断配置
+ *
+ * @author jerry
+ *
+ */
+public class CircuitBreakerConfig {
+
+	/**
+	 * 连续失败次数达到该值时熔断
+	 */
+	private int consecutiveFailures = 5;
+	/**
+	 * 统计错误率的最近请求数
+	 */
+	private int windowSize = 20;
+	/**
+	 * 窗口内请求数不少于该值时才按错误率熔断
+	 */
+	private int minRequests = 10;
+	/**
+	 * 错误率达到该值时熔断
+	 */
+	private double errorRate = 0.5;
+	/**
+	 * 熔断后经过该时间进入半开，允许探测请求
+	 */
+	private long openMillis = 5000;
+	/**
+	 * 半开时连续成功该次数后恢复
+	 */
+	private int halfOpenSuccesses = 2;
+
+	public int getConsecutiveFailures() {
+		return consecutiveFailures;
+	}
+
+	public void setConsecutiveFailures(int consecutiveFailures) {
+		this.consecutiveFailures = consecutiveFailures;
+	}
+
+	public int getWindowSize() {
+		return windowSize;
+	}
+
+	public void setWindowSize(int windowSize) {
+		this.windowSize = windowSize;
+	}
+
+	public int getMinRequests() {
+		return minRequests;
+	}
+
+	public void setMinRequests(int minRequests) {
+		this.minRequests = minRequests;
+	}
+
+	public double getErrorRate() {
+		return errorRate;
+	}
+
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	public long getOpenMillis() {
+		return openMillis;
+	}
+
+	public void setOpenMillis(long openMillis) {
+		this.openMillis = openMillis;
+	}
+
+	public int getHalfOpenSuccesses() {
+		return halfOpenSuccesses;
+	}
+
+	public void setHalfOpenSuccesses(int halfOpenSuccesses) {
+		this.halfOpenSuccesses = halfOpenSuccesses;
+	}
+
+	@Override
+	public String toString() {
+		return "CircuitBreakerConfig [consecutiveFailures=" + consecutiveFailures + ", windowSize="
+				+ windowSize + ", minRequests=" + minRequests + ", errorRate=" + errorRate
+				+ ", openMillis=" + openMillis + ", halfOpenSuccesses=" + halfOpenSuccesses + "]";
+	}
+}
@@ -0,0 +1,124 @@
+package com.github.jerrysearch.tns.client.breaker;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.jerrysearch.tns.client.loadbalance.TSNodeFilter;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按TSNode（id）分开的熔断器
+ *
+ * retain时为列表中的每个节点建立熔断器，并发布以TSNode对象为key的不可变索引，
+ * allowRequest按对象查找，不拼接字符串、不装箱；不在索引中的TSNode按id查找
+ *
+ * @see CircuitBreaker
+ * @author jerry
+ *
+ */
+public class CircuitBreakerRegistry implements TSNodeFilter {
+
+	private final CircuitBreakerConfig config;
+	/**
+	 * id -> breaker
+	 */
+	private final ConcurrentHashMap<Long, CircuitBreaker> breakers = new ConcurrentHashMap<Long, CircuitBreaker>();
+	/**
+	 * 最近一次retain的节点 -> breaker，整体替换
+	 */
+	private volatile Map<TSNode, CircuitBreaker> index = Collections.emptyMap();
+
+	public CircuitBreakerRegistry(CircuitBreakerConfig config) {
+		this.config = config;
+	}
+
+	/**
+	 * @see CircuitBreaker#allowRequest()
+	 * @param tsnode
+	 * @return
+	 */
+	public boolean allowRequest(TSNode tsnode) {
+		CircuitBreaker breaker = this.find(tsnode);
+		return null == breaker || breaker.allowRequest();
+	}
+
+	/**
+	 * 同allowRequest，用于按key选择节点时跳过熔断中的节点
+	 */
+	@Override
+	public boolean accept(TSNode tsnode) {
+		return this.allowRequest(tsnode);
+	}
+
+	public void onSuccess(TSNode tsnode) {
+		CircuitBreaker breaker = this.find(tsnode);
+		if (null != breaker) {
+			breaker.onSuccess();
+		}
+	}
+
+	public void onFailure(TSNode tsnode) {
+		this.get(tsnode).onFailure();
+	}
+
+	public void forceOpen(TSNode tsnode) {
+		this.get(tsnode).forceOpen();
+	}
+
+	/**
+	 * 节点的熔断状态，没有记录时为CLOSED
+	 *
+	 * @param tsnode
+	 * @return
+	 */
+	public CircuitBreaker.State getState(TSNode tsnode) {
+		CircuitBreaker breaker = this.find(tsnode);
+		return null == breaker ? CircuitBreaker.State.CLOSED : breaker.getState();
+	}
+
+	/**
+	 * 只保留list中节点的熔断器，为list中的节点建立熔断器并发布索引
+	 *
+	 * list中被forceOpen、且已熔断openMillis的节点恢复为CLOSED：服务端仍认为节点可用，
+	 * 只通过brokenNode反馈、不上报调用结果的调用方也能在下次同步后重新使用该节点
+	 *
+	 * @param list
+	 */
+	public void retain(List<TSNode> list) {
+		Set<Long> ids = new HashSet<Long>();
+		Map<TSNode, CircuitBreaker> index = new IdentityHashMap<TSNode, CircuitBreaker>();
+		for (TSNode tsnode : list) {
+			ids.add(tsnode.getId());
+			CircuitBreaker breaker = this.get(tsnode);
+			breaker.resetForced();
+			index.put(tsnode, breaker);
+		}
+		this.breakers.keySet().retainAll(ids);
+		this.index = index;
+	}
+
+	private CircuitBreaker find(TSNode tsnode) {
+		CircuitBreaker breaker = this.index.get(tsnode);
+		if (null == breaker) {
+			breaker = this.breakers.get(tsnode.getId());
+		}
+		return breaker;
+	}
+
+	private CircuitBreaker get(TSNode tsnode) {
+		CircuitBreaker breaker = this.find(tsnode);
+		if (null == breaker) {
+			breaker = new CircuitBreaker(this.config);
+			CircuitBreaker old = this.breakers.putIfAbsent(tsnode.getId(), breaker);
+			if (null != old) {
+				breaker = old;
+			}
+		}
+		return breaker;
+	}
+}
@@ -3,32 +3,61 @@ package com.github.jerrysearch.tns.client.client;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.apache.thrift.transport.TTransportException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.jerrysearch.tns.client.breaker.CircuitBreakerConfig;
+import com.github.jerrysearch.tns.client.breaker.CircuitBreakerRegistry;
 import com.github.jerrysearch.tns.client.cluster.ClusterPool;
 import com.github.jerrysearch.tns.client.conf.ClientConfig;
 import com.github.jerrysearch.tns.client.indexbuild.IIndexBuilder;
 import com.github.jerrysearch.tns.client.indexbuild.LoadbalanceTSNodeIndexBuilder;
+import com.github.jerrysearch.tns.client.indexbuild.NodeIndex;
+import com.github.jerrysearch.tns.client.loadbalance.KeyedTSNodeSelector;
+import com.github.jerrysearch.tns.client.loadbalance.LoadAwareTSNodeSelector;
 import com.github.jerrysearch.tns.client.loadbalance.RandomTSNodeSelector;
 import com.github.jerrysearch.tns.client.loadbalance.TNodeSelector;
+import com.github.jerrysearch.tns.client.pool.NodePool;
+import com.github.jerrysearch.tns.client.pool.PooledConnection;
+import com.github.jerrysearch.tns.client.pool.ServiceConnectionPool;
 import com.github.jerrysearch.tns.client.task.SysServiceListTask;
 import com.github.jerrysearch.tns.client.task.TaskManager;
+import com.github.jerrysearch.tns.client.task.WatchServiceListTask;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
 
 public class ServicePool extends ClientConfig {
 
-	private final List<TSNode> serviceList = new ArrayList<TSNode>();
+	/**
+	 * 节点索引的不可变快照，重建时整体替换，getOne无锁读取
+	 */
+	private volatile List<TSNode> serviceList = Collections.emptyList();
 	private final TNodeSelector<TSNode> tsnodeSelector;
 	private final IIndexBuilder<TSNode> indexBuilder;
-	private final ReadWriteLock lock = new ReentrantReadWriteLock();
-	private final Lock readLock = lock.readLock();
-	private final Lock writeLock = lock.writeLock();
+	/**
+	 * 最近一次rebuildIndex的原始节点列表，brokenNode时据此重建
+	 */
+	private List<TSNode> sourceList = Collections.emptyList();
+	/**
+	 * 串行化rebuildIndex与brokenNode
+	 */
+	private final Object writeLock = new Object();
+	/**
+	 * 连接池，首次borrow时使用默认配置创建
+	 */
+	private volatile ServiceConnectionPool connectionPool;
+	/**
+	 * 节点熔断，null表示未开启
+	 */
+	private volatile CircuitBreakerRegistry breakers;
+	/**
+	 * 其它按节点持有连接的池，如AsyncServiceInvoker的client池
+	 */
+	private final List<NodePool> nodePools = new CopyOnWriteArrayList<NodePool>();
 	private static final Logger log = LoggerFactory.getLogger(ServicePool.class);
 
 	/**
@@ -67,11 +96,28 @@ public class ServicePool extends ClientConfig {
 	 */
 	public ServicePool(ClusterPool clusterPool, String serviceName, int heartbeat,
 			TNodeSelector<TSNode> tsnodeSelector, IIndexBuilder<TSNode> indexBuilder) {
+		this(clusterPool, serviceName, heartbeat, tsnodeSelector, indexBuilder, false);
+	}
+
+	/**
+	 * 
+	 * @param clusterPool
+	 * @param serviceName
+	 * @param heartbeat
+	 *            [10 , 60]
+	 * @param tsnodeSelector
+	 * @param indexBuilder
+	 * @param watch
+	 *            是否长轮询service列表，需要cluster开启service.watch
+	 * @see WatchServiceListTask
+	 */
+	public ServicePool(ClusterPool clusterPool, String serviceName, int heartbeat,
+			TNodeSelector<TSNode> tsnodeSelector, IIndexBuilder<TSNode> indexBuilder, boolean watch) {
 		this.tsnodeSelector = tsnodeSelector;
 		this.indexBuilder = indexBuilder;
 		heartbeat = Math.max(10, heartbeat);
 		heartbeat = Math.min(heartbeat, 60);
-		this.registerService(clusterPool, serviceName, heartbeat);
+		this.registerService(clusterPool, serviceName, heartbeat, watch);
 	}
 
 	/**
@@ -79,14 +125,21 @@ public class ServicePool extends ClientConfig {
 	 * @param clusterPool
 	 * @param serviceName
 	 * @param heartbeat
+	 * @param watch
 	 */
-	private void registerService(ClusterPool clusterPool, String serviceName, int heartbeat) {
+	private void registerService(ClusterPool clusterPool, String serviceName, int heartbeat,
+			boolean watch) {
 		String clientId = this.getClientId();
 		SysServiceListTask task = new SysServiceListTask(clusterPool, this, serviceName, clientId);
 
 		task.run(); // 初始提交任务，阻塞执行一次，以免getOne取不到可用节点
 
-		TaskManager.getInstance().submit(task, heartbeat);
+		if (watch) {
+			TaskManager.getInstance().watch(
+					new WatchServiceListTask(clusterPool, this, serviceName, clientId, heartbeat));
+		} else {
+			TaskManager.getInstance().submit(task, heartbeat);
+		}
 	}
 
 	/**
@@ -96,15 +149,37 @@ public class ServicePool extends ClientConfig {
 	 * @param list
 	 */
 	public void rebuildIndex(List<TSNode> list) {
-		this.writeLock.tryLock();
-		try {
-			this.serviceList.clear();
-			Collection<TSNode> collection = this.indexBuilder.build(list);
-			this.serviceList.addAll(collection);
-			log.debug("rebuildIndex : {}", Arrays.toString(list.toArray(new TSNode[list.size()])));
-		} finally {
-			this.writeLock.unlock();
+		synchronized (this.writeLock) {
+			this.sourceList = list;
+			this.serviceList = this.build(list);
+			CircuitBreakerRegistry breakers = this.breakers;
+			if (null != breakers) {
+				breakers.retain(list);
+			}
+		}
+		if (this.tsnodeSelector instanceof LoadAwareTSNodeSelector) {
+			((LoadAwareTSNodeSelector) this.tsnodeSelector).retain(list);
+		}
+		ServiceConnectionPool connectionPool = this.connectionPool;
+		if (null != connectionPool) {
+			connectionPool.retain(list);
+		}
+		for (NodePool nodePool : this.nodePools) {
+			nodePool.retain(list);
+		}
+		log.debug("rebuildIndex : {}", Arrays.toString(list.toArray(new TSNode[list.size()])));
+	}
+
+	/**
+	 * NodeIndex直接发布，其它集合复制为不可变列表
+	 */
+	private List<TSNode> build(List<TSNode> list) {
+		Collection<TSNode> collection = this.indexBuilder.build(list);
+		if (collection instanceof NodeIndex) {
+			return (NodeIndex<TSNode>) collection;
 		}
+		TSNode[] array = collection.toArray(new TSNode[collection.size()]);
+		return Collections.unmodifiableList(Arrays.asList(array));
 	}
 
 	/**
@@ -114,28 +189,263 @@ public class ServicePool extends ClientConfig {
 	 * @return TSNode
 	 */
 	public TSNode getOne() {
-		TSNode tnode = null;
-		try {
-			this.readLock.lock();
-			tnode = this.tsnodeSelector.selectOne(this.serviceList);
-		} finally {
-			this.readLock.unlock();
+		List<TSNode> list = this.serviceList;
+		return this.admit(this.tsnodeSelector.selectOne(list), list);
+	}
+
+	/**
+	 * 按key选择一个节点，选择器为KeyedTSNodeSelector时相同的key尽量落在同一个节点，否则同getOne()
+	 * 
+	 * @see KeyedTSNodeSelector
+	 * @param key
+	 * @return TSNode
+	 */
+	public TSNode getOne(String key) {
+		if (this.tsnodeSelector instanceof KeyedTSNodeSelector) {
+			/**
+			 * 熔断中的节点在环上跳过，该节点的key落到环上的下一个节点，不随机重选
+			 */
+			return ((KeyedTSNodeSelector) this.tsnodeSelector).selectOne(this.serviceList, key,
+					this.breakers);
+		}
+		return this.getOne();
+	}
+
+	/**
+	 * 开启熔断时跳过熔断中的节点：先按策略重选几次，再顺序查找，全部熔断时返回null
+	 */
+	private TSNode admit(TSNode tsnode, List<TSNode> list) {
+		CircuitBreakerRegistry breakers = this.breakers;
+		if (null == breakers || null == tsnode || breakers.allowRequest(tsnode)) {
+			return tsnode;
+		}
+		for (int i = 0; i < 3; i++) {
+			TSNode other = this.tsnodeSelector.selectOne(list);
+			if (null != other && breakers.allowRequest(other)) {
+				return other;
+			}
+		}
+		for (TSNode other : list) {
+			if (breakers.allowRequest(other)) {
+				return other;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 对tsnode的调用开始，与release成对调用，选择器为LoadAwareTSNodeSelector时有效
+	 * 
+	 * @see LoadAwareTSNodeSelector
+	 * @param tsnode
+	 */
+	public void acquire(TSNode tsnode) {
+		if (this.tsnodeSelector instanceof LoadAwareTSNodeSelector) {
+			((LoadAwareTSNodeSelector) this.tsnodeSelector).acquire(tsnode);
+		}
+	}
+
+	/**
+	 * 对tsnode的调用结束，耗时未知
+	 * 
+	 * @see LoadAwareTSNodeSelector
+	 * @param tsnode
+	 */
+	public void release(TSNode tsnode) {
+		this.release(tsnode, -1);
+	}
+
+	/**
+	 * 对tsnode的调用结束
+	 * 
+	 * @see LoadAwareTSNodeSelector
+	 * @param tsnode
+	 * @param latencyNanos
+	 *            调用耗时，用于延迟感知的选择器
+	 */
+	public void release(TSNode tsnode, long latencyNanos) {
+		if (this.tsnodeSelector instanceof LoadAwareTSNodeSelector) {
+			((LoadAwareTSNodeSelector) this.tsnodeSelector).release(tsnode, latencyNanos);
 		}
-		return tnode;
 	}
 
 	/**
-	 * node损坏
+	 * 对tsnode的调用成功，开启熔断时有效
+	 * 
+	 * @param tsnode
+	 */
+	public void reportSuccess(TSNode tsnode) {
+		CircuitBreakerRegistry breakers = this.breakers;
+		if (null != breakers) {
+			breakers.onSuccess(tsnode);
+		}
+	}
+
+	/**
+	 * 对tsnode的调用失败（连接、超时等），开启熔断时有效
+	 * 
+	 * @param tsnode
+	 */
+	public void reportFailure(TSNode tsnode) {
+		CircuitBreakerRegistry breakers = this.breakers;
+		if (null != breakers) {
+			breakers.onFailure(tsnode);
+		}
+	}
+
+	/**
+	 * 开启节点熔断，此后brokenNode只熔断该节点，不再从索引中移除
+	 * 
+	 * 通过reportSuccess/reportFailure（或borrow、giveBack、invalidate）上报结果时，半开探测成功即恢复；
+	 * 只调用brokenNode的节点在熔断openMillis之后、下次同步仍包含该节点时恢复
+	 * 
+	 * @see CircuitBreakerRegistry
+	 * @param config
+	 */
+	public void enableCircuitBreaker(CircuitBreakerConfig config) {
+		CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(config);
+		synchronized (this.writeLock) {
+			breakers.retain(this.sourceList);
+			this.breakers = breakers;
+		}
+	}
+
+	public CircuitBreakerRegistry getCircuitBreakers() {
+		return breakers;
+	}
+
+	/**
+	 * node损坏，开启熔断时熔断该节点，否则从索引中移除直到下次同步；两种情况都关闭该节点的连接池，
+	 * 包括addNodePool加入的池
 	 * 
 	 * @param tsnode
 	 */
 	public void brokenNode(TSNode tsnode) {
+		CircuitBreakerRegistry breakers = this.breakers;
+		if (null != breakers) {
+			breakers.forceOpen(tsnode);
+		} else {
+			synchronized (this.writeLock) {
+				List<TSNode> list = new ArrayList<TSNode>(this.sourceList);
+				while (list.remove(tsnode))
+					;
+				this.sourceList = list;
+				this.serviceList = this.build(list);
+			}
+		}
+		ServiceConnectionPool connectionPool = this.connectionPool;
+		if (null != connectionPool) {
+			connectionPool.evict(tsnode);
+		}
+		for (NodePool nodePool : this.nodePools) {
+			nodePool.evict(tsnode);
+		}
+	}
+
+	/**
+	 * 选择一个节点并借出它的连接，用完后调用giveBack，出错时调用invalidate
+	 * 
+	 * @see ServiceConnectionPool
+	 * @return
+	 * @throws TTransportException
+	 *             没有可用节点、等待超时或建立连接失败
+	 */
+	public PooledConnection borrow() throws TTransportException {
+		return this.borrow(this.getOne());
+	}
+
+	/**
+	 * 按key选择一个节点并借出它的连接
+	 * 
+	 * @see #getOne(String)
+	 * @param key
+	 * @return
+	 * @throws TTransportException
+	 */
+	public PooledConnection borrow(String key) throws TTransportException {
+		return this.borrow(this.getOne(key));
+	}
+
+	private PooledConnection borrow(TSNode tsnode) throws TTransportException {
+		if (null == tsnode) {
+			throw new TTransportException(TTransportException.NOT_OPEN, "no available node");
+		}
+		PooledConnection connection;
 		try {
-			this.writeLock.lock();
-			while (this.serviceList.remove(tsnode))
-				;
-		} finally {
-			this.writeLock.unlock();
+			connection = this.getConnectionPool().borrow(tsnode);
+		} catch (TTransportException e) {
+			if (e.getType() != TTransportException.TIMED_OUT) { // 建立连接失败，不是池已满
+				this.reportFailure(tsnode);
+			}
+			throw e;
 		}
+		this.acquire(tsnode);
+		return connection;
+	}
+
+	/**
+	 * 调用成功，归还连接
+	 * 
+	 * @param connection
+	 */
+	public void giveBack(PooledConnection connection) {
+		this.release(connection.getTsnode(), connection.getLatencyNanos());
+		this.reportSuccess(connection.getTsnode());
+		this.getConnectionPool().giveBack(connection);
+	}
+
+	/**
+	 * 调用出错，关闭连接
+	 * 
+	 * @param connection
+	 */
+	public void invalidate(PooledConnection connection) {
+		this.release(connection.getTsnode(), connection.getLatencyNanos());
+		this.reportFailure(connection.getTsnode());
+		this.getConnectionPool().invalidate(connection);
+	}
+
+	public ServiceConnectionPool getConnectionPool() {
+		ServiceConnectionPool connectionPool = this.connectionPool;
+		if (null == connectionPool) {
+			synchronized (this.writeLock) {
+				if (null == this.connectionPool) {
+					this.connectionPool = new ServiceConnectionPool();
+				}
+				connectionPool = this.connectionPool;
+			}
+		}
+		return connectionPool;
+	}
+
+	/**
+	 * 使用自定义配置的连接池，最好在首次borrow之前设置
+	 * 
+	 * 已有连接池时关闭它：取消空闲连接检查、关闭空闲连接，之前借出的连接归还时由原节点连接池关闭
+	 * 
+	 * @param connectionPool
+	 */
+	public void setConnectionPool(ServiceConnectionPool connectionPool) {
+		ServiceConnectionPool old;
+		synchronized (this.writeLock) {
+			old = this.connectionPool;
+			this.connectionPool = connectionPool;
+		}
+		if (null != old && old != connectionPool) {
+			old.close();
+		}
+	}
+
+	/**
+	 * 加入一个按节点持有连接的池，rebuildIndex时只保留新列表中的节点，brokenNode时关闭该节点的连接
+	 * 
+	 * @param nodePool
+	 */
+	public void addNodePool(NodePool nodePool) {
+		this.nodePools.add(nodePool);
+	}
+
+	public void removeNodePool(NodePool nodePool) {
+		this.nodePools.remove(nodePool);
 	}
 }
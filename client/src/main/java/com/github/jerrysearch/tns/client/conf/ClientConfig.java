@@ -8,6 +8,12 @@ import java.lang.management.ManagementFactory;
  *
  */
 public class ClientConfig {
+	/**
+	 * cluster的TNSRpcServer使用selector模式（tns.rpc.selector=true）时需要打开
+	 */
+	public static final boolean FRAMED = Boolean.parseBoolean(System.getProperty(
+			"tns.client.framed", "false"));
+
 	private final String clientId = ManagementFactory.getRuntimeMXBean().getName();
 
 	public String getClientId() {
@@ -0,0 +1,103 @@
+package com.github.jerrysearch.tns.client.indexbuild;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按vNodes加权的alias表（Vose），构建O(n)，选择O(1)，每个节点只保存一次
+ * 
+ * @author jerry
+ *
+ */
+public class AliasTSNodeIndex extends NodeIndex<TSNode> {
+
+	private final TSNode[] nodes;
+	/**
+	 * 第i格选中nodes[i]的概率，否则选中nodes[alias[i]]
+	 */
+	private final double[] prob;
+	private final int[] alias;
+
+	public AliasTSNodeIndex(List<TSNode> list) {
+		int n = list.size();
+		this.nodes = list.toArray(new TSNode[n]);
+		this.prob = new double[n];
+		this.alias = new int[n];
+		if (n == 0) {
+			return;
+		}
+		long total = 0;
+		for (TSNode tsnode : this.nodes) {
+			total += Math.max(tsnode.getVNodes(), 0);
+		}
+		/**
+		 * 按平均权重归一化，small、large用数组模拟栈
+		 */
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int smallSize = 0;
+		int largeSize = 0;
+		for (int i = 0; i < n; i++) {
+			scaled[i] = total == 0 ? 1 : (double) Math.max(this.nodes[i].getVNodes(), 0) * n
+					/ total;
+			if (scaled[i] < 1) {
+				small[smallSize++] = i;
+			} else {
+				large[largeSize++] = i;
+			}
+		}
+		while (smallSize > 0 && largeSize > 0) {
+			int s = small[--smallSize];
+			int l = large[--largeSize];
+			this.prob[s] = scaled[s];
+			this.alias[s] = l;
+			scaled[l] = scaled[l] + scaled[s] - 1;
+			if (scaled[l] < 1) {
+				small[smallSize++] = l;
+			} else {
+				large[largeSize++] = l;
+			}
+		}
+		/**
+		 * 剩余的格子只有浮点误差，概率为1
+		 */
+		while (largeSize > 0) {
+			int l = large[--largeSize];
+			this.prob[l] = 1;
+			this.alias[l] = l;
+		}
+		while (smallSize > 0) {
+			int s = small[--smallSize];
+			this.prob[s] = 1;
+			this.alias[s] = s;
+		}
+	}
+
+	/**
+	 * 按权重随机选择一个节点
+	 * 
+	 * @return 没有节点时返回null
+	 */
+	public TSNode sample() {
+		int n = this.nodes.length;
+		if (n == 0) {
+			return null;
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int i = random.nextInt(n);
+		return random.nextDouble() < this.prob[i] ? this.nodes[i] : this.nodes[this.alias[i]];
+	}
+
+	@Override
+	public TSNode get(int index) {
+		return this.nodes[index];
+	}
+
+	@Override
+	public int size() {
+		return this.nodes.length;
+	}
+}
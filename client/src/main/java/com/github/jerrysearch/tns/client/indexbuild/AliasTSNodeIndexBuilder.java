@@ -0,0 +1,23 @@
+package com.github.jerrysearch.tns.client.indexbuild;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 构建alias表，配合 AliasTSNodeSelector 才有效果
+ * 
+ * 与LoadbalanceTSNodeIndexBuilder相比不按vNodes复制节点，索引大小与vNodes无关
+ * 
+ * @author jerry
+ *
+ */
+public class AliasTSNodeIndexBuilder implements IIndexBuilder<TSNode> {
+
+	@Override
+	public Collection<TSNode> build(List<TSNode> list) {
+		return new AliasTSNodeIndex(list);
+	}
+
+}
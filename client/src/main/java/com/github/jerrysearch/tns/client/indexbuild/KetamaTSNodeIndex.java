@@ -0,0 +1,129 @@
+package com.github.jerrysearch.tns.client.indexbuild;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * ketama哈希环，每个节点 vNodes * pointsPerVNode 个虚拟点
+ * 
+ * 虚拟点由host:port决定，节点重新上线（id变化）后位置不变，节点增减只影响相邻区间的key
+ * 
+ * @author jerry
+ *
+ */
+public class KetamaTSNodeIndex extends NodeIndex<TSNode> {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final TSNode[] nodes;
+	/**
+	 * 排序后的虚拟点，无符号32位
+	 */
+	private final long[] points;
+	/**
+	 * 虚拟点对应的节点下标
+	 */
+	private final int[] owners;
+	private final long totalWeight;
+
+	public KetamaTSNodeIndex(List<TSNode> list, int pointsPerVNode) {
+		this.nodes = list.toArray(new TSNode[list.size()]);
+		TreeMap<Long, Integer> treeMap = new TreeMap<Long, Integer>();
+		long totalWeight = 0;
+		for (int n = 0; n < this.nodes.length; n++) {
+			TSNode tsnode = this.nodes[n];
+			int weight = weight(tsnode);
+			totalWeight += weight;
+			int replicas = weight * pointsPerVNode;
+			for (int i = 0; i < (replicas + 3) / 4; i++) {
+				byte[] digest = md5(tsnode.getHost() + ":" + tsnode.getPort() + "-" + i);
+				for (int h = 0; h < 4; h++) {
+					treeMap.put(hash(digest, h), n);
+				}
+			}
+		}
+		this.totalWeight = totalWeight;
+		this.points = new long[treeMap.size()];
+		this.owners = new int[treeMap.size()];
+		int i = 0;
+		for (Map.Entry<Long, Integer> entry : treeMap.entrySet()) {
+			this.points[i] = entry.getKey();
+			this.owners[i] = entry.getValue();
+			i++;
+		}
+	}
+
+	/**
+	 * 节点权重，vNodes小于1按1计算
+	 */
+	public static int weight(TSNode tsnode) {
+		return Math.max(tsnode.getVNodes(), 1);
+	}
+
+	public long getTotalWeight() {
+		return totalWeight;
+	}
+
+	/**
+	 * 虚拟点个数
+	 */
+	public int pointCount() {
+		return this.points.length;
+	}
+
+	/**
+	 * hash顺时针方向的第一个虚拟点
+	 * 
+	 * @param hash
+	 *            无符号32位
+	 * @return 虚拟点下标
+	 */
+	public int locate(long hash) {
+		int i = Arrays.binarySearch(this.points, hash);
+		if (i < 0) {
+			i = -i - 1;
+		}
+		return i == this.points.length ? 0 : i;
+	}
+
+	/**
+	 * 虚拟点所属的节点
+	 */
+	public TSNode owner(int point) {
+		return this.nodes[this.owners[point]];
+	}
+
+	@Override
+	public TSNode get(int index) {
+		return this.nodes[index];
+	}
+
+	@Override
+	public int size() {
+		return this.nodes.length;
+	}
+
+	private static byte[] md5(String key) {
+		try {
+			MessageDigest md5 = MessageDigest.getInstance("MD5");
+			return md5.digest(key.getBytes(UTF8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * ketama：一个md5摘要取4个32位哈希值
+	 */
+	private static long hash(byte[] digest, int h) {
+		return ((long) (digest[3 + h * 4] & 0xFF) << 24) | ((long) (digest[2 + h * 4] & 0xFF) << 16)
+				| ((long) (digest[1 + h * 4] & 0xFF) << 8) | (digest[h * 4] & 0xFF);
+	}
+}
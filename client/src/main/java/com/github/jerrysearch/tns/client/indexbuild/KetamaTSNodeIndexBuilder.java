@@ -0,0 +1,35 @@
+package com.github.jerrysearch.tns.client.indexbuild;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 构建ketama哈希环，配合 BoundedLoadHashTSNodeSelector 才有效果
+ * 
+ * @author jerry
+ *
+ */
+public class KetamaTSNodeIndexBuilder implements IIndexBuilder<TSNode> {
+
+	private final int pointsPerVNode;
+
+	public KetamaTSNodeIndexBuilder() {
+		this(40);
+	}
+
+	/**
+	 * @param pointsPerVNode
+	 *            每个vNode的虚拟点个数
+	 */
+	public KetamaTSNodeIndexBuilder(int pointsPerVNode) {
+		this.pointsPerVNode = Math.max(pointsPerVNode, 1);
+	}
+
+	@Override
+	public Collection<TSNode> build(List<TSNode> list) {
+		return new KetamaTSNodeIndex(list, this.pointsPerVNode);
+	}
+
+}
@@ -0,0 +1,15 @@
+package com.github.jerrysearch.tns.client.indexbuild;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 不可变的节点索引，带有预先计算好的选择结构，ServicePool直接发布，不再复制
+ * 
+ * @author jerry
+ *
+ * @param <T>
+ */
+public abstract class NodeIndex<T> extends AbstractList<T> implements RandomAccess {
+
+}
@@ -0,0 +1,27 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.github.jerrysearch.tns.client.indexbuild.AliasTSNodeIndex;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按vNodes加权的O(1)选择器 配合 AliasTSNodeIndexBuilder 才有效果，其它索引退化为随机选择
+ * 
+ * @author jerry
+ *
+ */
+public class AliasTSNodeSelector implements TNodeSelector<TSNode> {
+
+	@Override
+	public TSNode selectOne(List<TSNode> list) {
+		if (list instanceof AliasTSNodeIndex) {
+			return ((AliasTSNodeIndex) list).sample();
+		}
+		if (list.isEmpty()) {
+			return null;
+		}
+		return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+	}
+}
@@ -0,0 +1,168 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.jerrysearch.tns.client.indexbuild.KetamaTSNodeIndex;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 有界负载的一致性哈希，配合 KetamaTSNodeIndexBuilder 才有效果
+ * 
+ * 从key在环上的位置顺时针查找，跳过进行中请求数已达上限的节点。节点上限为
+ * ceil((1 + epsilon) * (总进行中请求数 + 1) * vNodes / 总vNodes)，热点key溢出到环上的下一个节点。
+ * 需要调用方通过ServicePool的acquire、release反馈进行中的请求；没有key时随机选择。
+ * 有filter时（如熔断）被拒绝的节点同样顺时针跳过，key仍落在环上固定的下一个节点
+ * 
+ * @author jerry
+ *
+ */
+public class BoundedLoadHashTSNodeSelector implements KeyedTSNodeSelector,
+		LoadAwareTSNodeSelector {
+
+	private final double epsilon;
+	/**
+	 * node id -> 进行中的请求数
+	 */
+	private final ConcurrentHashMap<Long, AtomicInteger> outstanding = new ConcurrentHashMap<Long, AtomicInteger>();
+	private final AtomicInteger total = new AtomicInteger();
+
+	public BoundedLoadHashTSNodeSelector() {
+		this(0.25);
+	}
+
+	/**
+	 * @param epsilon
+	 *            允许超出平均负载的比例
+	 */
+	public BoundedLoadHashTSNodeSelector(double epsilon) {
+		this.epsilon = Math.max(epsilon, 0.01);
+	}
+
+	@Override
+	public TSNode selectOne(List<TSNode> list) {
+		if (list.isEmpty()) {
+			return null;
+		}
+		return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+	}
+
+	@Override
+	public TSNode selectOne(List<TSNode> list, String key) {
+		return this.selectOne(list, key, null);
+	}
+
+	@Override
+	public TSNode selectOne(List<TSNode> list, String key, TSNodeFilter filter) {
+		if (!(list instanceof KetamaTSNodeIndex) || null == key) {
+			return this.random(list, filter);
+		}
+		KetamaTSNodeIndex ring = (KetamaTSNodeIndex) list;
+		int count = ring.pointCount();
+		if (count == 0) {
+			return null;
+		}
+		double average = (1 + this.epsilon) * (this.total.get() + 1) / ring.getTotalWeight();
+		int start = ring.locate(hash(key));
+		for (int i = 0; i < count; i++) {
+			TSNode tsnode = ring.owner((start + i) % count);
+			double capacity = Math.ceil(average * KetamaTSNodeIndex.weight(tsnode));
+			if (this.outstanding(tsnode) + 1 <= capacity
+					&& (null == filter || filter.accept(tsnode))) {
+				return tsnode;
+			}
+		}
+		/**
+		 * 都已满载，忽略负载上限，取第一个被接受的节点
+		 */
+		for (int i = 0; i < count; i++) {
+			TSNode tsnode = ring.owner((start + i) % count);
+			if (null == filter || filter.accept(tsnode)) {
+				return tsnode;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 没有key时随机选择，被拒绝时从随机位置顺序查找
+	 */
+	private TSNode random(List<TSNode> list, TSNodeFilter filter) {
+		if (list.isEmpty()) {
+			return null;
+		}
+		int size = list.size();
+		int start = ThreadLocalRandom.current().nextInt(size);
+		for (int i = 0; i < size; i++) {
+			TSNode tsnode = list.get((start + i) % size);
+			if (null == filter || filter.accept(tsnode)) {
+				return tsnode;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * murmur3 fmix32，返回无符号32位
+	 */
+	private static long hash(String key) {
+		int h = key.hashCode();
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h & 0xFFFFFFFFL;
+	}
+
+	private int outstanding(TSNode tsnode) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		return null == count ? 0 : count.get();
+	}
+
+	@Override
+	public void acquire(TSNode tsnode) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		if (null == count) {
+			count = new AtomicInteger();
+			AtomicInteger old = this.outstanding.putIfAbsent(tsnode.getId(), count);
+			if (null != old) {
+				count = old;
+			}
+		}
+		count.incrementAndGet();
+		this.total.incrementAndGet();
+	}
+
+	@Override
+	public void release(TSNode tsnode, long latencyNanos) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		if (null == count) {
+			return; // retain已经清除
+		}
+		if (count.decrementAndGet() < 0) {
+			count.incrementAndGet();
+			return;
+		}
+		this.total.decrementAndGet();
+	}
+
+	@Override
+	public void retain(List<TSNode> list) {
+		Set<Long> ids = new HashSet<Long>();
+		for (TSNode tsnode : list) {
+			ids.add(tsnode.getId());
+		}
+		for (Map.Entry<Long, AtomicInteger> entry : this.outstanding.entrySet()) {
+			if (!ids.contains(entry.getKey())
+					&& this.outstanding.remove(entry.getKey(), entry.getValue())) {
+				this.total.addAndGet(-entry.getValue().get());
+			}
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按key选择节点，相同的key尽量落在同一个节点
+ * 
+ * @author jerry
+ *
+ */
+public interface KeyedTSNodeSelector extends TNodeSelector<TSNode> {
+
+	public TSNode selectOne(List<TSNode> list, String key);
+
+	/**
+	 * 按key选择filter接受的节点，被拒绝的节点按环上的顺序跳过，其它key的落点不变
+	 * 
+	 * @param list
+	 * @param key
+	 * @param filter
+	 *            null表示不过滤
+	 * @return 全部被拒绝时返回null
+	 */
+	public TSNode selectOne(List<TSNode> list, String key, TSNodeFilter filter);
+}
@@ -0,0 +1,37 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 需要调用方反馈请求情况的节点选择器，由ServicePool的acquire、release调用
+ * 
+ * @author jerry
+ *
+ */
+public interface LoadAwareTSNodeSelector extends TNodeSelector<TSNode> {
+
+	/**
+	 * 对tsnode的调用开始
+	 * 
+	 * @param tsnode
+	 */
+	public void acquire(TSNode tsnode);
+
+	/**
+	 * 对tsnode的调用结束
+	 * 
+	 * @param tsnode
+	 * @param latencyNanos
+	 *            调用耗时，小于0表示未知
+	 */
+	public void release(TSNode tsnode, long latencyNanos);
+
+	/**
+	 * 节点列表重建，只保留list中节点的统计
+	 * 
+	 * @param list
+	 */
+	public void retain(List<TSNode> list);
+}
@@ -0,0 +1,98 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.jerrysearch.tns.client.indexbuild.AliasTSNodeIndex;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * power of two choices：按vNodes加权随机取两个节点，选择进行中请求数/vNodes较小的一个
+ * 
+ * 需要调用方通过ServicePool的acquire、release反馈进行中的请求，配合AliasTSNodeIndexBuilder时按vNodes加权取样，
+ * 配合LoadbalanceTSNodeIndexBuilder时列表本身已按vNodes展开
+ * 
+ * @author jerry
+ *
+ */
+public class P2CTSNodeSelector implements LoadAwareTSNodeSelector {
+
+	/**
+	 * node id -> 进行中的请求数
+	 */
+	private final ConcurrentHashMap<Long, AtomicInteger> outstanding = new ConcurrentHashMap<Long, AtomicInteger>();
+
+	@Override
+	public TSNode selectOne(List<TSNode> list) {
+		int size = list.size();
+		if (size == 0) {
+			return null;
+		}
+		if (size == 1) {
+			return list.get(0);
+		}
+		TSNode a = this.pick(list);
+		TSNode b = this.pick(list);
+		if (a.getId() == b.getId()) {
+			b = this.pick(list);
+		}
+		/**
+		 * (outstanding(a) + 1) / vNodes(a) <= (outstanding(b) + 1) / vNodes(b)
+		 */
+		long left = (long) (this.outstanding(a) + 1) * Math.max(b.getVNodes(), 1);
+		long right = (long) (this.outstanding(b) + 1) * Math.max(a.getVNodes(), 1);
+		return left <= right ? a : b;
+	}
+
+	private TSNode pick(List<TSNode> list) {
+		if (list instanceof AliasTSNodeIndex) {
+			return ((AliasTSNodeIndex) list).sample();
+		}
+		return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+	}
+
+	private int outstanding(TSNode tsnode) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		return null == count ? 0 : count.get();
+	}
+
+	@Override
+	public void acquire(TSNode tsnode) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		if (null == count) {
+			count = new AtomicInteger();
+			AtomicInteger old = this.outstanding.putIfAbsent(tsnode.getId(), count);
+			if (null != old) {
+				count = old;
+			}
+		}
+		count.incrementAndGet();
+	}
+
+	@Override
+	public void release(TSNode tsnode, long latencyNanos) {
+		AtomicInteger count = this.outstanding.get(tsnode.getId());
+		if (null != count && count.decrementAndGet() < 0) {
+			count.set(0); // retain之后释放的旧请求
+		}
+	}
+
+	@Override
+	public void retain(List<TSNode> list) {
+		Set<Long> ids = new HashSet<Long>();
+		for (TSNode tsnode : list) {
+			ids.add(tsnode.getId());
+		}
+		Iterator<Long> iterator = this.outstanding.keySet().iterator();
+		while (iterator.hasNext()) {
+			if (!ids.contains(iterator.next())) {
+				iterator.remove();
+			}
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.github.jerrysearch.tns.client.indexbuild.AliasTSNodeIndex;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 延迟感知的选择器：每个节点维护对峰值敏感的延迟EWMA，按 延迟 * (进行中请求数 + 1) / vNodes 打分
+ * 
+ * 按vNodes加权随机取两个候选，选择得分低的一个，避免所有调用方同时涌向同一个最优节点。
+ * 观测到的延迟高于当前值时直接取峰值，否则按时间衰减；没有新观测的节点延迟随时间衰减，恢复后重新获得流量
+ * 
+ * @author jerry
+ *
+ */
+public class PeakEwmaTSNodeSelector implements LoadAwareTSNodeSelector {
+
+	/**
+	 * 没有延迟数据但有进行中请求的节点的得分
+	 */
+	private static final double PENALTY = Long.MAX_VALUE >> 16;
+
+	/**
+	 * node id -> 统计
+	 */
+	private final ConcurrentHashMap<Long, Stats> statsMap = new ConcurrentHashMap<Long, Stats>();
+	private final double decayNanos;
+
+	public PeakEwmaTSNodeSelector() {
+		this(10000);
+	}
+
+	/**
+	 * @param decayMillis
+	 *            EWMA的时间常数
+	 */
+	public PeakEwmaTSNodeSelector(int decayMillis) {
+		this.decayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(decayMillis, 1));
+	}
+
+	@Override
+	public TSNode selectOne(List<TSNode> list) {
+		int size = list.size();
+		if (size == 0) {
+			return null;
+		}
+		if (size == 1) {
+			return list.get(0);
+		}
+		TSNode a = this.pick(list);
+		TSNode b = this.pick(list);
+		if (a.getId() == b.getId()) {
+			b = this.pick(list);
+		}
+		return this.score(a) <= this.score(b) ? a : b;
+	}
+
+	private TSNode pick(List<TSNode> list) {
+		if (list instanceof AliasTSNodeIndex) {
+			return ((AliasTSNodeIndex) list).sample();
+		}
+		return list.get(ThreadLocalRandom.current().nextInt(list.size()));
+	}
+
+	private double score(TSNode tsnode) {
+		Stats stats = this.statsMap.get(tsnode.getId());
+		if (null == stats) {
+			return 0;
+		}
+		return stats.score(System.nanoTime()) / Math.max(tsnode.getVNodes(), 1);
+	}
+
+	private Stats stats(TSNode tsnode) {
+		Stats stats = this.statsMap.get(tsnode.getId());
+		if (null == stats) {
+			stats = new Stats();
+			Stats old = this.statsMap.putIfAbsent(tsnode.getId(), stats);
+			if (null != old) {
+				stats = old;
+			}
+		}
+		return stats;
+	}
+
+	@Override
+	public void acquire(TSNode tsnode) {
+		this.stats(tsnode).acquire();
+	}
+
+	@Override
+	public void release(TSNode tsnode, long latencyNanos) {
+		Stats stats = this.statsMap.get(tsnode.getId());
+		if (null != stats) {
+			stats.release(System.nanoTime(), latencyNanos);
+		}
+	}
+
+	@Override
+	public void retain(List<TSNode> list) {
+		Set<Long> ids = new HashSet<Long>();
+		for (TSNode tsnode : list) {
+			ids.add(tsnode.getId());
+		}
+		Iterator<Long> iterator = this.statsMap.keySet().iterator();
+		while (iterator.hasNext()) {
+			if (!ids.contains(iterator.next())) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private class Stats {
+		private int outstanding = 0;
+		/**
+		 * 延迟EWMA（纳秒），0表示还没有数据
+		 */
+		private double cost = 0;
+		private long stamp = System.nanoTime();
+
+		private synchronized void acquire() {
+			this.outstanding++;
+		}
+
+		private synchronized void release(long now, long latencyNanos) {
+			if (this.outstanding > 0) {
+				this.outstanding--;
+			}
+			if (latencyNanos < 0) {
+				return;
+			}
+			if (latencyNanos > this.cost) {
+				this.cost = latencyNanos; // 峰值
+			} else {
+				double w = Math.exp(-(now - this.stamp) / decayNanos);
+				this.cost = this.cost * w + latencyNanos * (1 - w);
+			}
+			this.stamp = now;
+		}
+
+		private synchronized double score(long now) {
+			/**
+			 * 距离上次观测越久，延迟越向0衰减
+			 */
+			double w = Math.exp(-Math.max(now - this.stamp, 0) / decayNanos);
+			double decayed = this.cost * w;
+			if (decayed == 0 && this.outstanding > 0) {
+				return PENALTY + this.outstanding;
+			}
+			return decayed * (this.outstanding + 1);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.jerrysearch.tns.client.loadbalance;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 选择节点时判断节点是否可用，例如熔断
+ * 
+ * @author jerry
+ *
+ */
+public interface TSNodeFilter {
+
+	/**
+	 * 返回true即选中该节点，可能有副作用（如占用半开熔断器的探测名额），选择器对选中的节点只调用一次
+	 * 
+	 * @param tsnode
+	 * @return
+	 */
+	public boolean accept(TSNode tsnode);
+}
@@ -0,0 +1,117 @@
+package com.github.jerrysearch.tns.client.pool;
+
+import com.github.jerrysearch.tns.client.conf.ClientConfig;
+
+/**
+ * 连接池配置，每个TSNode一个池，以下数量均针对单个TSNode
+ *
+ * @author jerry
+ *
+ */
+public class ConnectionPoolConfig {
+
+	/**
+	 * 最少空闲连接数，由后台任务补齐
+	 */
+	private int minIdle = 0;
+	/**
+	 * 最多空闲连接数，归还时超出的连接直接关闭
+	 */
+	private int maxIdle = 8;
+	/**
+	 * 最多同时借出的连接数
+	 */
+	private int maxActive = 32;
+	/**
+	 * 借出数达到maxActive时borrow的最长等待时间
+	 */
+	private int maxWaitMillis = 1000;
+	/**
+	 * 建立连接、读写的超时时间
+	 */
+	private int timeoutMillis = 3000;
+	/**
+	 * 空闲超过该时间的连接被关闭，避免使用已被服务端或中间设备断开的连接
+	 */
+	private long idleTimeoutMillis = 60000;
+	/**
+	 * borrow时调用PoolAble.ping()校验连接，多一次往返，默认只检查连接状态与空闲时间
+	 */
+	private boolean testOnBorrow = false;
+	/**
+	 * 服务端为TFramedTransport时打开
+	 */
+	private boolean framed = ClientConfig.FRAMED;
+
+	public int getMinIdle() {
+		return minIdle;
+	}
+
+	public void setMinIdle(int minIdle) {
+		this.minIdle = minIdle;
+	}
+
+	public int getMaxIdle() {
+		return maxIdle;
+	}
+
+	public void setMaxIdle(int maxIdle) {
+		this.maxIdle = maxIdle;
+	}
+
+	public int getMaxActive() {
+		return maxActive;
+	}
+
+	public void setMaxActive(int maxActive) {
+		this.maxActive = maxActive;
+	}
+
+	public int getMaxWaitMillis() {
+		return maxWaitMillis;
+	}
+
+	public void setMaxWaitMillis(int maxWaitMillis) {
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	public int getTimeoutMillis() {
+		return timeoutMillis;
+	}
+
+	public void setTimeoutMillis(int timeoutMillis) {
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public long getIdleTimeoutMillis() {
+		return idleTimeoutMillis;
+	}
+
+	public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	public boolean isTestOnBorrow() {
+		return testOnBorrow;
+	}
+
+	public void setTestOnBorrow(boolean testOnBorrow) {
+		this.testOnBorrow = testOnBorrow;
+	}
+
+	public boolean isFramed() {
+		return framed;
+	}
+
+	public void setFramed(boolean framed) {
+		this.framed = framed;
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionPoolConfig [minIdle=" + minIdle + ", maxIdle=" + maxIdle + ", maxActive="
+				+ maxActive + ", maxWaitMillis=" + maxWaitMillis + ", timeoutMillis=" + timeoutMillis
+				+ ", idleTimeoutMillis=" + idleTimeoutMillis + ", testOnBorrow=" + testOnBorrow
+				+ ", framed=" + framed + "]";
+	}
+}
@@ -0,0 +1,212 @@
+package com.github.jerrysearch.tns.client.pool;
+
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.PoolAble;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 单个TSNode的连接池
+ *
+ * 空闲连接后进先出，最近用过的连接优先借出，久未使用的连接留在队尾由后台任务关闭。
+ * 池关闭后仍可借出连接，但归还时直接关闭，调用方不会因节点下线而失败
+ *
+ * @author jerry
+ *
+ */
+public class NodeConnectionPool {
+
+	private static final Logger log = LoggerFactory.getLogger(NodeConnectionPool.class);
+
+	private final TSNode tsnode;
+	private final ConnectionPoolConfig config;
+	private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<PooledConnection>();
+	private final Semaphore active;
+	private volatile boolean closed = false;
+
+	public NodeConnectionPool(TSNode tsnode, ConnectionPoolConfig config) {
+		this.tsnode = tsnode;
+		this.config = config;
+		this.active = new Semaphore(config.getMaxActive());
+	}
+
+	/**
+	 * 借出一个连接，没有可用的空闲连接时新建
+	 *
+	 * @return
+	 * @throws TTransportException
+	 *             等待超时或建立连接失败
+	 */
+	public PooledConnection borrow() throws TTransportException {
+		try {
+			if (!this.active.tryAcquire(this.config.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+				throw new TTransportException(TTransportException.TIMED_OUT, "pool exhausted ["
+						+ this.tsnode.getHost() + ":" + this.tsnode.getPort() + "]");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new TTransportException(TTransportException.UNKNOWN, e);
+		}
+		try {
+			while (true) {
+				PooledConnection connection = this.idle.pollFirst();
+				if (null == connection) {
+					return this.create();
+				}
+				if (this.validate(connection)) {
+					return connection;
+				}
+				connection.close();
+			}
+		} catch (TTransportException e) {
+			this.active.release();
+			throw e;
+		} catch (RuntimeException e) {
+			this.active.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * 归还连接，超出maxIdle或池已关闭时关闭连接
+	 *
+	 * @param connection
+	 */
+	public void giveBack(PooledConnection connection) {
+		try {
+			if (this.closed || !connection.getTransport().isOpen()
+					|| this.idle.size() >= this.config.getMaxIdle()) {
+				connection.close();
+				return;
+			}
+			connection.setLastReturnMillis(System.currentTimeMillis());
+			this.idle.offerFirst(connection);
+			if (this.closed) {
+				this.closeIdle(); // 与close()并发时，不留下未关闭的连接
+			}
+		} finally {
+			this.active.release();
+		}
+	}
+
+	/**
+	 * 调用出错的连接不再放回池中
+	 *
+	 * @param connection
+	 */
+	public void invalidate(PooledConnection connection) {
+		try {
+			connection.close();
+		} finally {
+			this.active.release();
+		}
+	}
+
+	/**
+	 * 关闭空闲超时的连接，再补齐minIdle，由后台任务周期调用
+	 *
+	 * 每次最多新建一个连接，空闲与借出的连接合计不超过maxActive；节点不可达时每个节点每次只等待一次连接超时
+	 */
+	public void evict() {
+		if (this.closed) {
+			return;
+		}
+		long deadline = System.currentTimeMillis() - this.config.getIdleTimeoutMillis();
+		while (this.idle.size() > this.config.getMinIdle()) {
+			PooledConnection connection = this.idle.peekLast();
+			if (null == connection || connection.getLastReturnMillis() > deadline) {
+				break;
+			}
+			if (this.idle.removeLastOccurrence(connection)) {
+				connection.close();
+			}
+		}
+		if (!this.closed && this.idle.size() < this.config.getMinIdle()
+				&& this.idle.size() + this.getActive() < this.config.getMaxActive()) {
+			try {
+				this.idle.offerLast(this.create());
+			} catch (TTransportException e) {
+				log.warn("fill idle [{}:{}] fail -> {}", this.tsnode.getHost(),
+						this.tsnode.getPort(), e.getMessage());
+			}
+		}
+		if (this.closed) {
+			this.closeIdle();
+		}
+	}
+
+	/**
+	 * 节点下线，关闭全部空闲连接，借出的连接在归还时关闭
+	 */
+	public void close() {
+		this.closed = true;
+		this.closeIdle();
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	public int getIdle() {
+		return this.idle.size();
+	}
+
+	public int getActive() {
+		return this.config.getMaxActive() - this.active.availablePermits();
+	}
+
+	public TSNode getTsnode() {
+		return tsnode;
+	}
+
+	private void closeIdle() {
+		while (true) {
+			PooledConnection connection = this.idle.pollFirst();
+			if (null == connection) {
+				return;
+			}
+			connection.close();
+		}
+	}
+
+	private PooledConnection create() throws TTransportException {
+		TTransport transport = new TSocket(this.tsnode.getHost(), this.tsnode.getPort(),
+				this.config.getTimeoutMillis());
+		if (this.config.isFramed()) {
+			transport = new TFramedTransport(transport);
+		}
+		TProtocol protocol = new TBinaryProtocol(transport);
+		transport.open();
+		return new PooledConnection(this.tsnode, transport, protocol, this);
+	}
+
+	private boolean validate(PooledConnection connection) {
+		if (!connection.getTransport().isOpen()) {
+			return false;
+		}
+		if (System.currentTimeMillis() - connection.getLastReturnMillis() > this.config
+				.getIdleTimeoutMillis()) {
+			return false;
+		}
+		if (this.config.isTestOnBorrow()) {
+			try {
+				new PoolAble.Client(connection.getProtocol()).ping();
+			} catch (Exception e) {
+				log.debug("validate [{}] fail -> {}", connection, e.getMessage());
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,29 @@
+package com.github.jerrysearch.tns.client.pool;
+
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按TSNode持有连接的池，由ServicePool在rebuildIndex、brokenNode时通知
+ *
+ * @see com.github.jerrysearch.tns.client.client.ServicePool#addNodePool(NodePool)
+ * @author jerry
+ *
+ */
+public interface NodePool {
+
+	/**
+	 * 只保留list中节点的连接
+	 *
+	 * @param list
+	 */
+	public void retain(List<TSNode> list);
+
+	/**
+	 * 关闭tsnode的连接
+	 *
+	 * @param tsnode
+	 */
+	public void evict(TSNode tsnode);
+}
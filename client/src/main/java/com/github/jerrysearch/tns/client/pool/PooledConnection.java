@@ -0,0 +1,84 @@
+package com.github.jerrysearch.tns.client.pool;
+
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 池中的一个连接，用getProtocol()构造业务的Thrift Client，用完后归还
+ *
+ * @author jerry
+ *
+ */
+public class PooledConnection {
+
+	private final TSNode tsnode;
+	private final TTransport transport;
+	private final TProtocol protocol;
+	private final NodeConnectionPool pool;
+	/**
+	 * 最近一次归还的时间，用于空闲超时
+	 */
+	private volatile long lastReturnMillis = System.currentTimeMillis();
+	/**
+	 * 借出的时间，用于统计调用耗时
+	 */
+	private long borrowNanos;
+
+	PooledConnection(TSNode tsnode, TTransport transport, TProtocol protocol,
+			NodeConnectionPool pool) {
+		this.tsnode = tsnode;
+		this.transport = transport;
+		this.protocol = protocol;
+		this.pool = pool;
+	}
+
+	public TSNode getTsnode() {
+		return tsnode;
+	}
+
+	public TTransport getTransport() {
+		return transport;
+	}
+
+	public TProtocol getProtocol() {
+		return protocol;
+	}
+
+	NodeConnectionPool getPool() {
+		return pool;
+	}
+
+	long getLastReturnMillis() {
+		return lastReturnMillis;
+	}
+
+	void setLastReturnMillis(long lastReturnMillis) {
+		this.lastReturnMillis = lastReturnMillis;
+	}
+
+	void setBorrowNanos(long borrowNanos) {
+		this.borrowNanos = borrowNanos;
+	}
+
+	/**
+	 * 从借出到现在的耗时
+	 * 
+	 * @return
+	 */
+	public long getLatencyNanos() {
+		return System.nanoTime() - this.borrowNanos;
+	}
+
+	void close() {
+		if (this.transport.isOpen()) {
+			this.transport.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PooledConnection [" + tsnode.getHost() + ":" + tsnode.getPort() + "]";
+	}
+}
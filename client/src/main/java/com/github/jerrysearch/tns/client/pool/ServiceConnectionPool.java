@@ -0,0 +1,158 @@
+package com.github.jerrysearch.tns.client.pool;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.client.task.EvictConnectionTask;
+import com.github.jerrysearch.tns.client.task.TaskManager;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 按TSNode（host:port）分开的连接池，节点从列表中消失或损坏时关闭对应的池
+ *
+ * @see NodeConnectionPool
+ * @author jerry
+ *
+ */
+public class ServiceConnectionPool implements NodePool {
+
+	private static final Logger log = LoggerFactory.getLogger(ServiceConnectionPool.class);
+	/**
+	 * 空闲连接检查周期，秒
+	 */
+	private static final int EVICT_INTERVAL = 10;
+
+	private final ConnectionPoolConfig config;
+	/**
+	 * host:port -> pool
+	 */
+	private final ConcurrentHashMap<String, NodeConnectionPool> pools = new ConcurrentHashMap<String, NodeConnectionPool>();
+	/**
+	 * 空闲连接检查任务，close时取消
+	 */
+	private final ScheduledFuture<?> evictTask;
+
+	public ServiceConnectionPool() {
+		this(new ConnectionPoolConfig());
+	}
+
+	public ServiceConnectionPool(ConnectionPoolConfig config) {
+		this.config = config;
+		this.evictTask = TaskManager.getInstance().evict(new EvictConnectionTask(this),
+				EVICT_INTERVAL);
+	}
+
+	/**
+	 * 借出tsnode的一个连接
+	 *
+	 * @param tsnode
+	 * @return
+	 * @throws TTransportException
+	 */
+	public PooledConnection borrow(TSNode tsnode) throws TTransportException {
+		String key = key(tsnode);
+		NodeConnectionPool pool = this.pools.get(key);
+		if (null == pool) {
+			pool = new NodeConnectionPool(tsnode, this.config);
+			NodeConnectionPool old = this.pools.putIfAbsent(key, pool);
+			if (null != old) {
+				pool = old;
+			}
+		}
+		PooledConnection connection = pool.borrow();
+		connection.setBorrowNanos(System.nanoTime());
+		return connection;
+	}
+
+	/**
+	 * 归还连接
+	 *
+	 * @param connection
+	 */
+	public void giveBack(PooledConnection connection) {
+		connection.getPool().giveBack(connection);
+	}
+
+	/**
+	 * 调用出错，关闭连接
+	 *
+	 * @param connection
+	 */
+	public void invalidate(PooledConnection connection) {
+		connection.getPool().invalidate(connection);
+	}
+
+	/**
+	 * 只保留list中节点的连接池
+	 *
+	 * @param list
+	 */
+	@Override
+	public void retain(List<TSNode> list) {
+		Set<String> keys = new HashSet<String>();
+		for (TSNode tsnode : list) {
+			keys.add(key(tsnode));
+		}
+		for (Entry<String, NodeConnectionPool> entry : this.pools.entrySet()) {
+			if (!keys.contains(entry.getKey())) {
+				this.close(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * 关闭tsnode的连接池
+	 *
+	 * @param tsnode
+	 */
+	@Override
+	public void evict(TSNode tsnode) {
+		String key = key(tsnode);
+		NodeConnectionPool pool = this.pools.get(key);
+		if (null != pool) {
+			this.close(key, pool);
+		}
+	}
+
+	/**
+	 * 关闭空闲超时的连接，补齐minIdle
+	 */
+	public void evictIdle() {
+		for (NodeConnectionPool pool : this.pools.values()) {
+			pool.evict();
+		}
+	}
+
+	/**
+	 * 关闭全部连接池，并取消空闲连接检查任务
+	 */
+	public void close() {
+		this.evictTask.cancel(false);
+		for (Entry<String, NodeConnectionPool> entry : this.pools.entrySet()) {
+			this.close(entry.getKey(), entry.getValue());
+		}
+	}
+
+	public ConnectionPoolConfig getConfig() {
+		return config;
+	}
+
+	private void close(String key, NodeConnectionPool pool) {
+		if (this.pools.remove(key, pool)) {
+			pool.close();
+			log.debug("close pool [{}], active : {}", key, pool.getActive());
+		}
+	}
+
+	private static String key(TSNode tsnode) {
+		return tsnode.getHost() + ":" + tsnode.getPort();
+	}
+}
@@ -7,7 +7,7 @@ public class DaemonThreadFactory implements ThreadFactory {
 
 	private final String name;
 	private final AtomicInteger index = new AtomicInteger();
-	protected DaemonThreadFactory(String name){
+	public DaemonThreadFactory(String name){
 		this.name = name;
 	}
 	
@@ -0,0 +1,30 @@
+package com.github.jerrysearch.tns.client.task;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.client.pool.ServiceConnectionPool;
+
+public class EvictConnectionTask implements Runnable {
+
+	private final ServiceConnectionPool connectionPool;
+	private static final Logger log = LoggerFactory.getLogger(EvictConnectionTask.class);
+
+	public EvictConnectionTask(ServiceConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
+	@Override
+	public void run() {
+		try {
+			this.connectionPool.evictIdle();
+		} catch (Exception e) {
+			log.warn("evict connection has one exception -> {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "EvictConnectionTask [config=" + connectionPool.getConfig() + "]";
+	}
+}
@@ -4,12 +4,15 @@ import java.util.List;
 
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.jerrysearch.tns.client.client.ServicePool;
 import com.github.jerrysearch.tns.client.cluster.ClusterPool;
+import com.github.jerrysearch.tns.client.conf.ClientConfig;
 import com.github.jerrysearch.tns.protocol.rpc.TCNode;
 import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
@@ -38,9 +41,12 @@ public class SysServiceListTask implements Runnable {
 		if (null == tcnode) {
 			return;
 		}
-		TSocket transport = null;
+		TTransport transport = null;
 		try {
 			transport = new TSocket(tcnode.getHost(), tcnode.getPort() + 1, 3000); // 默认超时3秒
+			if (ClientConfig.FRAMED) {
+				transport = new TFramedTransport(transport);
+			}
 			TProtocol protocol = new TBinaryProtocol(transport);
 			TNSRpc.Client client = new TNSRpc.Client(protocol);
 			transport.open();
@@ -1,7 +1,9 @@
 package com.github.jerrysearch.tns.client.task;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
@@ -15,14 +17,49 @@ public class TaskManager {
 	}
 
 	ScheduledExecutorService pool = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("TaskManager"));
+	/**
+	 * 每个watch任务独占一个线程
+	 */
+	ExecutorService watchPool = Executors.newCachedThreadPool(new DaemonThreadFactory("WatchTask"));
+	/**
+	 * 连接池的空闲连接检查，补齐minIdle时会阻塞在建立连接上，不与serviceList心跳共用线程
+	 */
+	ScheduledExecutorService evictPool = Executors.newScheduledThreadPool(1, new DaemonThreadFactory("EvictTask"));
 
-	public void submit(Runnable command, int heartbeat) {
+	/**
+	 * 
+	 * @param command
+	 * @param heartbeat
+	 * @return 用于取消任务
+	 */
+	public ScheduledFuture<?> submit(Runnable command, int heartbeat) {
 		/**
 		 * 启动时间随机，避免应用内所有task的heartbeat相同，导致所有task与cluster交互过于集中
 		 */
 		int start = ThreadLocalRandom.current().nextInt(heartbeat * 1000) / 1000;
-		this.pool.scheduleWithFixedDelay(command, start, heartbeat, TimeUnit.SECONDS);
+		ScheduledFuture<?> future = this.pool.scheduleWithFixedDelay(command, start, heartbeat,
+				TimeUnit.SECONDS);
 		log.debug("submit command : {} with heartbeat : {}", command.toString(), heartbeat);
+		return future;
+	}
+
+	/**
+	 * 
+	 * @param command
+	 * @param interval
+	 *            秒
+	 * @return 用于取消任务
+	 */
+	public ScheduledFuture<?> evict(Runnable command, int interval) {
+		ScheduledFuture<?> future = this.evictPool.scheduleWithFixedDelay(command, interval,
+				interval, TimeUnit.SECONDS);
+		log.debug("submit evict : {} with interval : {}", command.toString(), interval);
+		return future;
+	}
+
+	public void watch(WatchServiceListTask task) {
+		this.watchPool.execute(task);
+		log.debug("submit watch : {}", task.toString());
 	}
 
 	private static class proxy {
@@ -0,0 +1,105 @@
+package com.github.jerrysearch.tns.client.task;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.client.client.ServicePool;
+import com.github.jerrysearch.tns.client.cluster.ClusterPool;
+import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
+import com.github.jerrysearch.tns.protocol.rpc.TServiceList;
+
+/**
+ * 长轮询service列表，列表变化后立即重建索引
+ * 
+ * 连接cluster的watch端口（PORT + 2，TFramedTransport），出错时换一个cluster节点，并用SysServiceListTask轮询一次，
+ * 间隔heartbeat秒后重试，不支持watch的cluster退化为按heartbeat轮询
+ * 
+ * @author jerry
+ *
+ */
+public class WatchServiceListTask implements Runnable {
+
+	/**
+	 * 每次watch的等待时间
+	 */
+	private static final int WATCH_TIMEOUT_MILLIS = 30000;
+
+	private final ClusterPool clusterPool;
+	private final ServicePool servicePool;
+	private final String serviceName;
+	private final String clientId;
+	private final int heartbeat;
+	private final SysServiceListTask pollTask;
+	private long knownVersion = 0;
+	private static final Logger log = LoggerFactory.getLogger(WatchServiceListTask.class);
+
+	public WatchServiceListTask(ClusterPool clusterPool, ServicePool servicePool,
+			String serviceName, String clientId, int heartbeat) {
+		this.clusterPool = clusterPool;
+		this.servicePool = servicePool;
+		this.serviceName = serviceName;
+		this.clientId = clientId;
+		this.heartbeat = heartbeat;
+		this.pollTask = new SysServiceListTask(clusterPool, servicePool, serviceName, clientId);
+	}
+
+	@Override
+	public void run() {
+		while (!Thread.currentThread().isInterrupted()) {
+			TCNode tcnode = this.clusterPool.getOne();
+			if (null != tcnode) {
+				this.watch(tcnode);
+				this.pollTask.run();
+			}
+			try {
+				TimeUnit.SECONDS.sleep(this.heartbeat);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 在一个连接上持续watch，直到出错
+	 * 
+	 * @param tcnode
+	 */
+	private void watch(TCNode tcnode) {
+		TTransport transport = null;
+		try {
+			TSocket socket = new TSocket(tcnode.getHost(), tcnode.getPort() + 2,
+					WATCH_TIMEOUT_MILLIS + 5000);
+			transport = new TFramedTransport(socket);
+			TProtocol protocol = new TBinaryProtocol(transport);
+			TNSRpc.Client client = new TNSRpc.Client(protocol);
+			transport.open();
+			while (!Thread.currentThread().isInterrupted()) {
+				TServiceList result = client.watchServiceList(this.clientId, this.serviceName,
+						this.knownVersion, WATCH_TIMEOUT_MILLIS);
+				if (result.getVersion() != this.knownVersion) {
+					this.knownVersion = result.getVersion();
+					this.servicePool.rebuildIndex(result.getNodes());
+				}
+			}
+		} catch (Exception e) {
+			log.warn("watch [{}] has one exception -> {}", tcnode.toString(), e.getMessage());
+		} finally {
+			if (null != transport && transport.isOpen()) {
+				transport.close();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "WatchServiceListTask [serviceName=" + serviceName + ", clientId=" + clientId + "]";
+	}
+}
@@ -9,6 +9,12 @@ import com.github.jerrysearch.tns.protocol.rpc.TCNode;
 
 public class BaseClusterListTask {
 
+	/**
+	 * cluster的ClusterRpcServer使用selector模式（cluster.rpc.selector=true）时需要打开
+	 */
+	public static final boolean FRAMED = Boolean.parseBoolean(System.getProperty(
+			"cluster.rpc.selector", "false"));
+
 	private static final List<TCNode> list = new ArrayList<TCNode>();
 
 	protected static synchronized void updateAll(List<TCNode> dst) {
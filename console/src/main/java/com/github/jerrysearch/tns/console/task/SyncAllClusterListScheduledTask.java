@@ -6,7 +6,9 @@ import java.util.List;
 
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,7 +26,7 @@ public class SyncAllClusterListScheduledTask extends BaseClusterListTask impleme
 
 	@Override
 	public void run() {
-		TSocket transport = null;
+		TTransport transport = null;
 		try {
 			TCNode tcNode = super.selectOne();
 			if (tcNode == null) {
@@ -33,6 +35,9 @@ public class SyncAllClusterListScheduledTask extends BaseClusterListTask impleme
 			String host = tcNode.getHost();
 			int port = tcNode.getPort();
 			transport = new TSocket(host, port, 1000);
+			if (FRAMED) {
+				transport = new TFramedTransport(transport);
+			}
 			TProtocol protocol = new TBinaryProtocol(transport);
 			Cluster.Client client = new Cluster.Client(protocol);
 			transport.open();
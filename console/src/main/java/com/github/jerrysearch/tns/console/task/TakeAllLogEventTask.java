@@ -5,7 +5,9 @@ import java.util.List;
 
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TFramedTransport;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,12 +28,15 @@ public class TakeAllLogEventTask implements Runnable {
 
 	@Override
 	public void run() {
-		TSocket transport = null;
+		TTransport transport = null;
 		try {
 			String host = this.tcNode.getHost();
 			int port = this.tcNode.getPort();
 
 			transport = new TSocket(host, port, 1000);
+			if (BaseClusterListTask.FRAMED) {
+				transport = new TFramedTransport(transport);
+			}
 			TProtocol protocol = new TBinaryProtocol(transport);
 			Cluster.Client client = new Cluster.Client(protocol);
 			transport.open();
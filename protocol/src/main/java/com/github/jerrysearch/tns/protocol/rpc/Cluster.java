@@ -34,7 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2017-4-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-16")
 public class Cluster {
 
   public interface Iface {
@@ -54,6 +54,38 @@ public class Cluster {
      */
     public void pushClusterAndServiceList(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) throws org.apache.thrift.TException;
 
+    /**
+     * 增量推送tns、service节点列表，sList只包含版本号在(fromVersion, toVersion]之间变化的节点
+     * fromVersion为0表示全量，返回对方已确认的版本号，与toVersion不一致时需要全量推送
+     * 
+     * @param sourceId
+     * @param epoch
+     * @param fromVersion
+     * @param toVersion
+     * @param cList
+     * @param sList
+     */
+    public long pushDelta(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) throws org.apache.thrift.TException;
+
+    /**
+     * 按serviceName哈希分桶，返回每个桶的摘要
+     */
+    public List<Long> digestBuckets() throws org.apache.thrift.TException;
+
+    /**
+     * 返回指定桶中每个service的摘要
+     * 
+     * @param buckets
+     */
+    public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> serviceDigests(List<Integer> buckets) throws org.apache.thrift.TException;
+
+    /**
+     * 返回指定service的节点列表，不包括墓碑
+     * 
+     * @param serviceNames
+     */
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> serviceNodeList(List<String> serviceNames) throws org.apache.thrift.TException;
+
     /**
      * 获取所有service node列表
      * 
@@ -83,6 +115,14 @@ public class Cluster {
 
     public void pushClusterAndServiceList(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void pushDelta(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void digestBuckets(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void serviceDigests(List<Integer> buckets, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void serviceNodeList(List<String> serviceNames, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void allServiceList(String clientId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void clusterList(String clientId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -136,6 +176,102 @@ public class Cluster {
       sendBase("pushClusterAndServiceList", args);
     }
 
+    public long pushDelta(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) throws org.apache.thrift.TException
+    {
+      send_pushDelta(sourceId, epoch, fromVersion, toVersion, cList, sList);
+      return recv_pushDelta();
+    }
+
+    public void send_pushDelta(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) throws org.apache.thrift.TException
+    {
+      pushDelta_args args = new pushDelta_args();
+      args.setSourceId(sourceId);
+      args.setEpoch(epoch);
+      args.setFromVersion(fromVersion);
+      args.setToVersion(toVersion);
+      args.setCList(cList);
+      args.setSList(sList);
+      sendBase("pushDelta", args);
+    }
+
+    public long recv_pushDelta() throws org.apache.thrift.TException
+    {
+      pushDelta_result result = new pushDelta_result();
+      receiveBase(result, "pushDelta");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "pushDelta failed: unknown result");
+    }
+
+    public List<Long> digestBuckets() throws org.apache.thrift.TException
+    {
+      send_digestBuckets();
+      return recv_digestBuckets();
+    }
+
+    public void send_digestBuckets() throws org.apache.thrift.TException
+    {
+      digestBuckets_args args = new digestBuckets_args();
+      sendBase("digestBuckets", args);
+    }
+
+    public List<Long> recv_digestBuckets() throws org.apache.thrift.TException
+    {
+      digestBuckets_result result = new digestBuckets_result();
+      receiveBase(result, "digestBuckets");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "digestBuckets failed: unknown result");
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> serviceDigests(List<Integer> buckets) throws org.apache.thrift.TException
+    {
+      send_serviceDigests(buckets);
+      return recv_serviceDigests();
+    }
+
+    public void send_serviceDigests(List<Integer> buckets) throws org.apache.thrift.TException
+    {
+      serviceDigests_args args = new serviceDigests_args();
+      args.setBuckets(buckets);
+      sendBase("serviceDigests", args);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> recv_serviceDigests() throws org.apache.thrift.TException
+    {
+      serviceDigests_result result = new serviceDigests_result();
+      receiveBase(result, "serviceDigests");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "serviceDigests failed: unknown result");
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> serviceNodeList(List<String> serviceNames) throws org.apache.thrift.TException
+    {
+      send_serviceNodeList(serviceNames);
+      return recv_serviceNodeList();
+    }
+
+    public void send_serviceNodeList(List<String> serviceNames) throws org.apache.thrift.TException
+    {
+      serviceNodeList_args args = new serviceNodeList_args();
+      args.setServiceNames(serviceNames);
+      sendBase("serviceNodeList", args);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> recv_serviceNodeList() throws org.apache.thrift.TException
+    {
+      serviceNodeList_result result = new serviceNodeList_result();
+      receiveBase(result, "serviceNodeList");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "serviceNodeList failed: unknown result");
+    }
+
     public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> allServiceList(String clientId) throws org.apache.thrift.TException
     {
       send_allServiceList(clientId);
@@ -288,6 +424,146 @@ public class Cluster {
       }
     }
 
+    public void pushDelta(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      pushDelta_call method_call = new pushDelta_call(sourceId, epoch, fromVersion, toVersion, cList, sList, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class pushDelta_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long sourceId;
+      private long epoch;
+      private long fromVersion;
+      private long toVersion;
+      private List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList;
+      private List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList;
+      public pushDelta_call(long sourceId, long epoch, long fromVersion, long toVersion, List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.sourceId = sourceId;
+        this.epoch = epoch;
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.cList = cList;
+        this.sList = sList;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("pushDelta", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        pushDelta_args args = new pushDelta_args();
+        args.setSourceId(sourceId);
+        args.setEpoch(epoch);
+        args.setFromVersion(fromVersion);
+        args.setToVersion(toVersion);
+        args.setCList(cList);
+        args.setSList(sList);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public long getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_pushDelta();
+      }
+    }
+
+    public void digestBuckets(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      digestBuckets_call method_call = new digestBuckets_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class digestBuckets_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public digestBuckets_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("digestBuckets", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        digestBuckets_args args = new digestBuckets_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<Long> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_digestBuckets();
+      }
+    }
+
+    public void serviceDigests(List<Integer> buckets, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      serviceDigests_call method_call = new serviceDigests_call(buckets, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class serviceDigests_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Integer> buckets;
+      public serviceDigests_call(List<Integer> buckets, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.buckets = buckets;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("serviceDigests", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        serviceDigests_args args = new serviceDigests_args();
+        args.setBuckets(buckets);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_serviceDigests();
+      }
+    }
+
+    public void serviceNodeList(List<String> serviceNames, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      serviceNodeList_call method_call = new serviceNodeList_call(serviceNames, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class serviceNodeList_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> serviceNames;
+      public serviceNodeList_call(List<String> serviceNames, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.serviceNames = serviceNames;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("serviceNodeList", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        serviceNodeList_args args = new serviceNodeList_args();
+        args.setServiceNames(serviceNames);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_serviceNodeList();
+      }
+    }
+
     public void allServiceList(String clientId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       allServiceList_call method_call = new allServiceList_call(clientId, resultHandler, this, ___protocolFactory, ___transport);
@@ -399,6 +675,10 @@ public class Cluster {
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("up", new up());
       processMap.put("pushClusterAndServiceList", new pushClusterAndServiceList());
+      processMap.put("pushDelta", new pushDelta());
+      processMap.put("digestBuckets", new digestBuckets());
+      processMap.put("serviceDigests", new serviceDigests());
+      processMap.put("serviceNodeList", new serviceNodeList());
       processMap.put("allServiceList", new allServiceList());
       processMap.put("clusterList", new clusterList());
       processMap.put("takeAllLogEvent", new takeAllLogEvent());
@@ -443,6 +723,87 @@ public class Cluster {
       }
     }
 
+    public static class pushDelta<I extends Iface> extends org.apache.thrift.ProcessFunction<I, pushDelta_args> {
+      public pushDelta() {
+        super("pushDelta");
+      }
+
+      public pushDelta_args getEmptyArgsInstance() {
+        return new pushDelta_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public pushDelta_result getResult(I iface, pushDelta_args args) throws org.apache.thrift.TException {
+        pushDelta_result result = new pushDelta_result();
+        result.success = iface.pushDelta(args.sourceId, args.epoch, args.fromVersion, args.toVersion, args.cList, args.sList);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
+    public static class digestBuckets<I extends Iface> extends org.apache.thrift.ProcessFunction<I, digestBuckets_args> {
+      public digestBuckets() {
+        super("digestBuckets");
+      }
+
+      public digestBuckets_args getEmptyArgsInstance() {
+        return new digestBuckets_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public digestBuckets_result getResult(I iface, digestBuckets_args args) throws org.apache.thrift.TException {
+        digestBuckets_result result = new digestBuckets_result();
+        result.success = iface.digestBuckets();
+        return result;
+      }
+    }
+
+    public static class serviceDigests<I extends Iface> extends org.apache.thrift.ProcessFunction<I, serviceDigests_args> {
+      public serviceDigests() {
+        super("serviceDigests");
+      }
+
+      public serviceDigests_args getEmptyArgsInstance() {
+        return new serviceDigests_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public serviceDigests_result getResult(I iface, serviceDigests_args args) throws org.apache.thrift.TException {
+        serviceDigests_result result = new serviceDigests_result();
+        result.success = iface.serviceDigests(args.buckets);
+        return result;
+      }
+    }
+
+    public static class serviceNodeList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, serviceNodeList_args> {
+      public serviceNodeList() {
+        super("serviceNodeList");
+      }
+
+      public serviceNodeList_args getEmptyArgsInstance() {
+        return new serviceNodeList_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public serviceNodeList_result getResult(I iface, serviceNodeList_args args) throws org.apache.thrift.TException {
+        serviceNodeList_result result = new serviceNodeList_result();
+        result.success = iface.serviceNodeList(args.serviceNames);
+        return result;
+      }
+    }
+
     public static class allServiceList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, allServiceList_args> {
       public allServiceList() {
         super("allServiceList");
@@ -518,6 +879,10 @@ public class Cluster {
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("up", new up());
       processMap.put("pushClusterAndServiceList", new pushClusterAndServiceList());
+      processMap.put("pushDelta", new pushDelta());
+      processMap.put("digestBuckets", new digestBuckets());
+      processMap.put("serviceDigests", new serviceDigests());
+      processMap.put("serviceNodeList", new serviceNodeList());
       processMap.put("allServiceList", new allServiceList());
       processMap.put("clusterList", new clusterList());
       processMap.put("takeAllLogEvent", new takeAllLogEvent());
@@ -580,21 +945,22 @@ public class Cluster {
       }
     }
 
-    public static class allServiceList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, allServiceList_args, List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> {
-      public allServiceList() {
-        super("allServiceList");
+    public static class pushDelta<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, pushDelta_args, Long> {
+      public pushDelta() {
+        super("pushDelta");
       }
 
-      public allServiceList_args getEmptyArgsInstance() {
-        return new allServiceList_args();
+      public pushDelta_args getEmptyArgsInstance() {
+        return new pushDelta_args();
       }
 
-      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>>() { 
-          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> o) {
-            allServiceList_result result = new allServiceList_result();
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            pushDelta_result result = new pushDelta_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -606,7 +972,7 @@ public class Cluster {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            allServiceList_result result = new allServiceList_result();
+            pushDelta_result result = new pushDelta_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -626,25 +992,25 @@ public class Cluster {
         return false;
       }
 
-      public void start(I iface, allServiceList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> resultHandler) throws TException {
-        iface.allServiceList(args.clientId,resultHandler);
+      public void start(I iface, pushDelta_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.pushDelta(args.sourceId, args.epoch, args.fromVersion, args.toVersion, args.cList, args.sList,resultHandler);
       }
     }
 
-    public static class clusterList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clusterList_args, List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> {
-      public clusterList() {
-        super("clusterList");
+    public static class digestBuckets<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, digestBuckets_args, List<Long>> {
+      public digestBuckets() {
+        super("digestBuckets");
       }
 
-      public clusterList_args getEmptyArgsInstance() {
-        return new clusterList_args();
+      public digestBuckets_args getEmptyArgsInstance() {
+        return new digestBuckets_args();
       }
 
-      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<Long>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>>() { 
-          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> o) {
-            clusterList_result result = new clusterList_result();
+        return new AsyncMethodCallback<List<Long>>() { 
+          public void onComplete(List<Long> o) {
+            digestBuckets_result result = new digestBuckets_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -657,7 +1023,7 @@ public class Cluster {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            clusterList_result result = new clusterList_result();
+            digestBuckets_result result = new digestBuckets_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -677,25 +1043,25 @@ public class Cluster {
         return false;
       }
 
-      public void start(I iface, clusterList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> resultHandler) throws TException {
-        iface.clusterList(args.clientId,resultHandler);
+      public void start(I iface, digestBuckets_args args, org.apache.thrift.async.AsyncMethodCallback<List<Long>> resultHandler) throws TException {
+        iface.digestBuckets(resultHandler);
       }
     }
 
-    public static class takeAllLogEvent<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, takeAllLogEvent_args, List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> {
-      public takeAllLogEvent() {
-        super("takeAllLogEvent");
+    public static class serviceDigests<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, serviceDigests_args, List<com.github.jerrysearch.tns.protocol.rpc.TDigest>> {
+      public serviceDigests() {
+        super("serviceDigests");
       }
 
-      public takeAllLogEvent_args getEmptyArgsInstance() {
-        return new takeAllLogEvent_args();
+      public serviceDigests_args getEmptyArgsInstance() {
+        return new serviceDigests_args();
       }
 
-      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TDigest>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>>() { 
-          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent> o) {
-            takeAllLogEvent_result result = new takeAllLogEvent_result();
+        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TDigest>>() { 
+          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TDigest> o) {
+            serviceDigests_result result = new serviceDigests_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -708,7 +1074,7 @@ public class Cluster {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            takeAllLogEvent_result result = new takeAllLogEvent_result();
+            serviceDigests_result result = new serviceDigests_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -728,21 +1094,225 @@ public class Cluster {
         return false;
       }
 
-      public void start(I iface, takeAllLogEvent_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> resultHandler) throws TException {
-        iface.takeAllLogEvent(args.clientId,resultHandler);
+      public void start(I iface, serviceDigests_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TDigest>> resultHandler) throws TException {
+        iface.serviceDigests(args.buckets,resultHandler);
       }
     }
 
-  }
-
-  public static class up_args implements org.apache.thrift.TBase<up_args, up_args._Fields>, java.io.Serializable, Cloneable, Comparable<up_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("up_args");
+    public static class serviceNodeList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, serviceNodeList_args, List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> {
+      public serviceNodeList() {
+        super("serviceNodeList");
+      }
 
-    private static final org.apache.thrift.protocol.TField CNODE_FIELD_DESC = new org.apache.thrift.protocol.TField("cnode", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+      public serviceNodeList_args getEmptyArgsInstance() {
+        return new serviceNodeList_args();
+      }
 
-    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
-    static {
-      schemes.put(StandardScheme.class, new up_argsStandardSchemeFactory());
+      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>>() { 
+          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> o) {
+            serviceNodeList_result result = new serviceNodeList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            serviceNodeList_result result = new serviceNodeList_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, serviceNodeList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> resultHandler) throws TException {
+        iface.serviceNodeList(args.serviceNames,resultHandler);
+      }
+    }
+
+    public static class allServiceList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, allServiceList_args, List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> {
+      public allServiceList() {
+        super("allServiceList");
+      }
+
+      public allServiceList_args getEmptyArgsInstance() {
+        return new allServiceList_args();
+      }
+
+      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>>() { 
+          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> o) {
+            allServiceList_result result = new allServiceList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            allServiceList_result result = new allServiceList_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, allServiceList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TSNode>> resultHandler) throws TException {
+        iface.allServiceList(args.clientId,resultHandler);
+      }
+    }
+
+    public static class clusterList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clusterList_args, List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> {
+      public clusterList() {
+        super("clusterList");
+      }
+
+      public clusterList_args getEmptyArgsInstance() {
+        return new clusterList_args();
+      }
+
+      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>>() { 
+          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> o) {
+            clusterList_result result = new clusterList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            clusterList_result result = new clusterList_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, clusterList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> resultHandler) throws TException {
+        iface.clusterList(args.clientId,resultHandler);
+      }
+    }
+
+    public static class takeAllLogEvent<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, takeAllLogEvent_args, List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> {
+      public takeAllLogEvent() {
+        super("takeAllLogEvent");
+      }
+
+      public takeAllLogEvent_args getEmptyArgsInstance() {
+        return new takeAllLogEvent_args();
+      }
+
+      public AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>>() { 
+          public void onComplete(List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent> o) {
+            takeAllLogEvent_result result = new takeAllLogEvent_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            takeAllLogEvent_result result = new takeAllLogEvent_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, takeAllLogEvent_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>> resultHandler) throws TException {
+        iface.takeAllLogEvent(args.clientId,resultHandler);
+      }
+    }
+
+  }
+
+  public static class up_args implements org.apache.thrift.TBase<up_args, up_args._Fields>, java.io.Serializable, Cloneable, Comparable<up_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("up_args");
+
+    private static final org.apache.thrift.protocol.TField CNODE_FIELD_DESC = new org.apache.thrift.protocol.TField("cnode", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new up_argsStandardSchemeFactory());
       schemes.put(TupleScheme.class, new up_argsTupleSchemeFactory());
     }
 
@@ -1272,60 +1842,3797 @@ public class Cluster {
       }
     }
 
-    public int getSListSize() {
-      return (this.sList == null) ? 0 : this.sList.size();
+    public int getSListSize() {
+      return (this.sList == null) ? 0 : this.sList.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSListIterator() {
+      return (this.sList == null) ? null : this.sList.iterator();
+    }
+
+    public void addToSList(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+      if (this.sList == null) {
+        this.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+      }
+      this.sList.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSList() {
+      return this.sList;
+    }
+
+    public pushClusterAndServiceList_args setSList(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) {
+      this.sList = sList;
+      return this;
+    }
+
+    public void unsetSList() {
+      this.sList = null;
+    }
+
+    /** Returns true if field sList is set (has been assigned a value) and false otherwise */
+    public boolean isSetSList() {
+      return this.sList != null;
+    }
+
+    public void setSListIsSet(boolean value) {
+      if (!value) {
+        this.sList = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case C_LIST:
+        if (value == null) {
+          unsetCList();
+        } else {
+          setCList((List<com.github.jerrysearch.tns.protocol.rpc.TCNode>)value);
+        }
+        break;
+
+      case S_LIST:
+        if (value == null) {
+          unsetSList();
+        } else {
+          setSList((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case C_LIST:
+        return getCList();
+
+      case S_LIST:
+        return getSList();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case C_LIST:
+        return isSetCList();
+      case S_LIST:
+        return isSetSList();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof pushClusterAndServiceList_args)
+        return this.equals((pushClusterAndServiceList_args)that);
+      return false;
+    }
+
+    public boolean equals(pushClusterAndServiceList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_cList = true && this.isSetCList();
+      boolean that_present_cList = true && that.isSetCList();
+      if (this_present_cList || that_present_cList) {
+        if (!(this_present_cList && that_present_cList))
+          return false;
+        if (!this.cList.equals(that.cList))
+          return false;
+      }
+
+      boolean this_present_sList = true && this.isSetSList();
+      boolean that_present_sList = true && that.isSetSList();
+      if (this_present_sList || that_present_sList) {
+        if (!(this_present_sList && that_present_sList))
+          return false;
+        if (!this.sList.equals(that.sList))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_cList = true && (isSetCList());
+      list.add(present_cList);
+      if (present_cList)
+        list.add(cList);
+
+      boolean present_sList = true && (isSetSList());
+      list.add(present_sList);
+      if (present_sList)
+        list.add(sList);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(pushClusterAndServiceList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetCList()).compareTo(other.isSetCList());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCList()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cList, other.cList);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSList()).compareTo(other.isSetSList());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSList()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sList, other.sList);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("pushClusterAndServiceList_args(");
+      boolean first = true;
+
+      sb.append("cList:");
+      if (this.cList == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cList);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("sList:");
+      if (this.sList == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sList);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class pushClusterAndServiceList_argsStandardSchemeFactory implements SchemeFactory {
+      public pushClusterAndServiceList_argsStandardScheme getScheme() {
+        return new pushClusterAndServiceList_argsStandardScheme();
+      }
+    }
+
+    private static class pushClusterAndServiceList_argsStandardScheme extends StandardScheme<pushClusterAndServiceList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // C_LIST
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list0.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+                    _elem1.read(iprot);
+                    struct.cList.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setCListIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // S_LIST
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list3 = iprot.readListBegin();
+                  struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list3.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem4;
+                  for (int _i5 = 0; _i5 < _list3.size; ++_i5)
+                  {
+                    _elem4 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem4.read(iprot);
+                    struct.sList.add(_elem4);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSListIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.cList != null) {
+          oprot.writeFieldBegin(C_LIST_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.cList.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter6 : struct.cList)
+            {
+              _iter6.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.sList != null) {
+          oprot.writeFieldBegin(S_LIST_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.sList.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter7 : struct.sList)
+            {
+              _iter7.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class pushClusterAndServiceList_argsTupleSchemeFactory implements SchemeFactory {
+      public pushClusterAndServiceList_argsTupleScheme getScheme() {
+        return new pushClusterAndServiceList_argsTupleScheme();
+      }
+    }
+
+    private static class pushClusterAndServiceList_argsTupleScheme extends TupleScheme<pushClusterAndServiceList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetCList()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSList()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetCList()) {
+          {
+            oprot.writeI32(struct.cList.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter8 : struct.cList)
+            {
+              _iter8.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetSList()) {
+          {
+            oprot.writeI32(struct.sList.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter9 : struct.sList)
+            {
+              _iter9.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list10 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list10.size);
+            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem11;
+            for (int _i12 = 0; _i12 < _list10.size; ++_i12)
+            {
+              _elem11 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+              _elem11.read(iprot);
+              struct.cList.add(_elem11);
+            }
+          }
+          struct.setCListIsSet(true);
+        }
+        if (incoming.get(1)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list13.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem14.read(iprot);
+              struct.sList.add(_elem14);
+            }
+          }
+          struct.setSListIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class pushDelta_args implements org.apache.thrift.TBase<pushDelta_args, pushDelta_args._Fields>, java.io.Serializable, Cloneable, Comparable<pushDelta_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pushDelta_args");
+
+    private static final org.apache.thrift.protocol.TField SOURCE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("sourceId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField EPOCH_FIELD_DESC = new org.apache.thrift.protocol.TField("epoch", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField FROM_VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("fromVersion", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField TO_VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("toVersion", org.apache.thrift.protocol.TType.I64, (short)4);
+    private static final org.apache.thrift.protocol.TField C_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("cList", org.apache.thrift.protocol.TType.LIST, (short)5);
+    private static final org.apache.thrift.protocol.TField S_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("sList", org.apache.thrift.protocol.TType.LIST, (short)6);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new pushDelta_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new pushDelta_argsTupleSchemeFactory());
+    }
+
+    public long sourceId; // required
+    public long epoch; // required
+    public long fromVersion; // required
+    public long toVersion; // required
+    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList; // required
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SOURCE_ID((short)1, "sourceId"),
+      EPOCH((short)2, "epoch"),
+      FROM_VERSION((short)3, "fromVersion"),
+      TO_VERSION((short)4, "toVersion"),
+      C_LIST((short)5, "cList"),
+      S_LIST((short)6, "sList");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SOURCE_ID
+            return SOURCE_ID;
+          case 2: // EPOCH
+            return EPOCH;
+          case 3: // FROM_VERSION
+            return FROM_VERSION;
+          case 4: // TO_VERSION
+            return TO_VERSION;
+          case 5: // C_LIST
+            return C_LIST;
+          case 6: // S_LIST
+            return S_LIST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SOURCEID_ISSET_ID = 0;
+    private static final int __EPOCH_ISSET_ID = 1;
+    private static final int __FROMVERSION_ISSET_ID = 2;
+    private static final int __TOVERSION_ISSET_ID = 3;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SOURCE_ID, new org.apache.thrift.meta_data.FieldMetaData("sourceId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.EPOCH, new org.apache.thrift.meta_data.FieldMetaData("epoch", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.FROM_VERSION, new org.apache.thrift.meta_data.FieldMetaData("fromVersion", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TO_VERSION, new org.apache.thrift.meta_data.FieldMetaData("toVersion", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.C_LIST, new org.apache.thrift.meta_data.FieldMetaData("cList", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TCNode.class))));
+      tmpMap.put(_Fields.S_LIST, new org.apache.thrift.meta_data.FieldMetaData("sList", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TSNode.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pushDelta_args.class, metaDataMap);
+    }
+
+    public pushDelta_args() {
+    }
+
+    public pushDelta_args(
+      long sourceId,
+      long epoch,
+      long fromVersion,
+      long toVersion,
+      List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList,
+      List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList)
+    {
+      this();
+      this.sourceId = sourceId;
+      setSourceIdIsSet(true);
+      this.epoch = epoch;
+      setEpochIsSet(true);
+      this.fromVersion = fromVersion;
+      setFromVersionIsSet(true);
+      this.toVersion = toVersion;
+      setToVersionIsSet(true);
+      this.cList = cList;
+      this.sList = sList;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public pushDelta_args(pushDelta_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.sourceId = other.sourceId;
+      this.epoch = other.epoch;
+      this.fromVersion = other.fromVersion;
+      this.toVersion = other.toVersion;
+      if (other.isSetCList()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TCNode> __this__cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(other.cList.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TCNode other_element : other.cList) {
+          __this__cList.add(new com.github.jerrysearch.tns.protocol.rpc.TCNode(other_element));
+        }
+        this.cList = __this__cList;
+      }
+      if (other.isSetSList()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TSNode> __this__sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(other.sList.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TSNode other_element : other.sList) {
+          __this__sList.add(new com.github.jerrysearch.tns.protocol.rpc.TSNode(other_element));
+        }
+        this.sList = __this__sList;
+      }
+    }
+
+    public pushDelta_args deepCopy() {
+      return new pushDelta_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setSourceIdIsSet(false);
+      this.sourceId = 0;
+      setEpochIsSet(false);
+      this.epoch = 0;
+      setFromVersionIsSet(false);
+      this.fromVersion = 0;
+      setToVersionIsSet(false);
+      this.toVersion = 0;
+      this.cList = null;
+      this.sList = null;
+    }
+
+    public long getSourceId() {
+      return this.sourceId;
+    }
+
+    public pushDelta_args setSourceId(long sourceId) {
+      this.sourceId = sourceId;
+      setSourceIdIsSet(true);
+      return this;
+    }
+
+    public void unsetSourceId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SOURCEID_ISSET_ID);
+    }
+
+    /** Returns true if field sourceId is set (has been assigned a value) and false otherwise */
+    public boolean isSetSourceId() {
+      return EncodingUtils.testBit(__isset_bitfield, __SOURCEID_ISSET_ID);
+    }
+
+    public void setSourceIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SOURCEID_ISSET_ID, value);
+    }
+
+    public long getEpoch() {
+      return this.epoch;
+    }
+
+    public pushDelta_args setEpoch(long epoch) {
+      this.epoch = epoch;
+      setEpochIsSet(true);
+      return this;
+    }
+
+    public void unsetEpoch() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __EPOCH_ISSET_ID);
+    }
+
+    /** Returns true if field epoch is set (has been assigned a value) and false otherwise */
+    public boolean isSetEpoch() {
+      return EncodingUtils.testBit(__isset_bitfield, __EPOCH_ISSET_ID);
+    }
+
+    public void setEpochIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __EPOCH_ISSET_ID, value);
+    }
+
+    public long getFromVersion() {
+      return this.fromVersion;
+    }
+
+    public pushDelta_args setFromVersion(long fromVersion) {
+      this.fromVersion = fromVersion;
+      setFromVersionIsSet(true);
+      return this;
+    }
+
+    public void unsetFromVersion() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FROMVERSION_ISSET_ID);
+    }
+
+    /** Returns true if field fromVersion is set (has been assigned a value) and false otherwise */
+    public boolean isSetFromVersion() {
+      return EncodingUtils.testBit(__isset_bitfield, __FROMVERSION_ISSET_ID);
+    }
+
+    public void setFromVersionIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FROMVERSION_ISSET_ID, value);
+    }
+
+    public long getToVersion() {
+      return this.toVersion;
+    }
+
+    public pushDelta_args setToVersion(long toVersion) {
+      this.toVersion = toVersion;
+      setToVersionIsSet(true);
+      return this;
+    }
+
+    public void unsetToVersion() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TOVERSION_ISSET_ID);
+    }
+
+    /** Returns true if field toVersion is set (has been assigned a value) and false otherwise */
+    public boolean isSetToVersion() {
+      return EncodingUtils.testBit(__isset_bitfield, __TOVERSION_ISSET_ID);
+    }
+
+    public void setToVersionIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TOVERSION_ISSET_ID, value);
+    }
+
+    public int getCListSize() {
+      return (this.cList == null) ? 0 : this.cList.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TCNode> getCListIterator() {
+      return (this.cList == null) ? null : this.cList.iterator();
+    }
+
+    public void addToCList(com.github.jerrysearch.tns.protocol.rpc.TCNode elem) {
+      if (this.cList == null) {
+        this.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>();
+      }
+      this.cList.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> getCList() {
+      return this.cList;
+    }
+
+    public pushDelta_args setCList(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> cList) {
+      this.cList = cList;
+      return this;
+    }
+
+    public void unsetCList() {
+      this.cList = null;
+    }
+
+    /** Returns true if field cList is set (has been assigned a value) and false otherwise */
+    public boolean isSetCList() {
+      return this.cList != null;
+    }
+
+    public void setCListIsSet(boolean value) {
+      if (!value) {
+        this.cList = null;
+      }
+    }
+
+    public int getSListSize() {
+      return (this.sList == null) ? 0 : this.sList.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSListIterator() {
+      return (this.sList == null) ? null : this.sList.iterator();
+    }
+
+    public void addToSList(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+      if (this.sList == null) {
+        this.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+      }
+      this.sList.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSList() {
+      return this.sList;
+    }
+
+    public pushDelta_args setSList(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) {
+      this.sList = sList;
+      return this;
+    }
+
+    public void unsetSList() {
+      this.sList = null;
+    }
+
+    /** Returns true if field sList is set (has been assigned a value) and false otherwise */
+    public boolean isSetSList() {
+      return this.sList != null;
+    }
+
+    public void setSListIsSet(boolean value) {
+      if (!value) {
+        this.sList = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SOURCE_ID:
+        if (value == null) {
+          unsetSourceId();
+        } else {
+          setSourceId((Long)value);
+        }
+        break;
+
+      case EPOCH:
+        if (value == null) {
+          unsetEpoch();
+        } else {
+          setEpoch((Long)value);
+        }
+        break;
+
+      case FROM_VERSION:
+        if (value == null) {
+          unsetFromVersion();
+        } else {
+          setFromVersion((Long)value);
+        }
+        break;
+
+      case TO_VERSION:
+        if (value == null) {
+          unsetToVersion();
+        } else {
+          setToVersion((Long)value);
+        }
+        break;
+
+      case C_LIST:
+        if (value == null) {
+          unsetCList();
+        } else {
+          setCList((List<com.github.jerrysearch.tns.protocol.rpc.TCNode>)value);
+        }
+        break;
+
+      case S_LIST:
+        if (value == null) {
+          unsetSList();
+        } else {
+          setSList((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SOURCE_ID:
+        return Long.valueOf(getSourceId());
+
+      case EPOCH:
+        return Long.valueOf(getEpoch());
+
+      case FROM_VERSION:
+        return Long.valueOf(getFromVersion());
+
+      case TO_VERSION:
+        return Long.valueOf(getToVersion());
+
+      case C_LIST:
+        return getCList();
+
+      case S_LIST:
+        return getSList();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SOURCE_ID:
+        return isSetSourceId();
+      case EPOCH:
+        return isSetEpoch();
+      case FROM_VERSION:
+        return isSetFromVersion();
+      case TO_VERSION:
+        return isSetToVersion();
+      case C_LIST:
+        return isSetCList();
+      case S_LIST:
+        return isSetSList();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof pushDelta_args)
+        return this.equals((pushDelta_args)that);
+      return false;
+    }
+
+    public boolean equals(pushDelta_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_sourceId = true;
+      boolean that_present_sourceId = true;
+      if (this_present_sourceId || that_present_sourceId) {
+        if (!(this_present_sourceId && that_present_sourceId))
+          return false;
+        if (this.sourceId != that.sourceId)
+          return false;
+      }
+
+      boolean this_present_epoch = true;
+      boolean that_present_epoch = true;
+      if (this_present_epoch || that_present_epoch) {
+        if (!(this_present_epoch && that_present_epoch))
+          return false;
+        if (this.epoch != that.epoch)
+          return false;
+      }
+
+      boolean this_present_fromVersion = true;
+      boolean that_present_fromVersion = true;
+      if (this_present_fromVersion || that_present_fromVersion) {
+        if (!(this_present_fromVersion && that_present_fromVersion))
+          return false;
+        if (this.fromVersion != that.fromVersion)
+          return false;
+      }
+
+      boolean this_present_toVersion = true;
+      boolean that_present_toVersion = true;
+      if (this_present_toVersion || that_present_toVersion) {
+        if (!(this_present_toVersion && that_present_toVersion))
+          return false;
+        if (this.toVersion != that.toVersion)
+          return false;
+      }
+
+      boolean this_present_cList = true && this.isSetCList();
+      boolean that_present_cList = true && that.isSetCList();
+      if (this_present_cList || that_present_cList) {
+        if (!(this_present_cList && that_present_cList))
+          return false;
+        if (!this.cList.equals(that.cList))
+          return false;
+      }
+
+      boolean this_present_sList = true && this.isSetSList();
+      boolean that_present_sList = true && that.isSetSList();
+      if (this_present_sList || that_present_sList) {
+        if (!(this_present_sList && that_present_sList))
+          return false;
+        if (!this.sList.equals(that.sList))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_sourceId = true;
+      list.add(present_sourceId);
+      if (present_sourceId)
+        list.add(sourceId);
+
+      boolean present_epoch = true;
+      list.add(present_epoch);
+      if (present_epoch)
+        list.add(epoch);
+
+      boolean present_fromVersion = true;
+      list.add(present_fromVersion);
+      if (present_fromVersion)
+        list.add(fromVersion);
+
+      boolean present_toVersion = true;
+      list.add(present_toVersion);
+      if (present_toVersion)
+        list.add(toVersion);
+
+      boolean present_cList = true && (isSetCList());
+      list.add(present_cList);
+      if (present_cList)
+        list.add(cList);
+
+      boolean present_sList = true && (isSetSList());
+      list.add(present_sList);
+      if (present_sList)
+        list.add(sList);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(pushDelta_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSourceId()).compareTo(other.isSetSourceId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSourceId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sourceId, other.sourceId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEpoch()).compareTo(other.isSetEpoch());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEpoch()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.epoch, other.epoch);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFromVersion()).compareTo(other.isSetFromVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFromVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fromVersion, other.fromVersion);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetToVersion()).compareTo(other.isSetToVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetToVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.toVersion, other.toVersion);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetCList()).compareTo(other.isSetCList());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetCList()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cList, other.cList);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSList()).compareTo(other.isSetSList());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSList()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sList, other.sList);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("pushDelta_args(");
+      boolean first = true;
+
+      sb.append("sourceId:");
+      sb.append(this.sourceId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("epoch:");
+      sb.append(this.epoch);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fromVersion:");
+      sb.append(this.fromVersion);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("toVersion:");
+      sb.append(this.toVersion);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("cList:");
+      if (this.cList == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.cList);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("sList:");
+      if (this.sList == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sList);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class pushDelta_argsStandardSchemeFactory implements SchemeFactory {
+      public pushDelta_argsStandardScheme getScheme() {
+        return new pushDelta_argsStandardScheme();
+      }
+    }
+
+    private static class pushDelta_argsStandardScheme extends StandardScheme<pushDelta_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pushDelta_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SOURCE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.sourceId = iprot.readI64();
+                struct.setSourceIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // EPOCH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.epoch = iprot.readI64();
+                struct.setEpochIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // FROM_VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.fromVersion = iprot.readI64();
+                struct.setFromVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // TO_VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.toVersion = iprot.readI64();
+                struct.setToVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // C_LIST
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list16.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+                    _elem17.read(iprot);
+                    struct.cList.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setCListIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 6: // S_LIST
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list19 = iprot.readListBegin();
+                  struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list19.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem20;
+                  for (int _i21 = 0; _i21 < _list19.size; ++_i21)
+                  {
+                    _elem20 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem20.read(iprot);
+                    struct.sList.add(_elem20);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSListIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pushDelta_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SOURCE_ID_FIELD_DESC);
+        oprot.writeI64(struct.sourceId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(EPOCH_FIELD_DESC);
+        oprot.writeI64(struct.epoch);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(FROM_VERSION_FIELD_DESC);
+        oprot.writeI64(struct.fromVersion);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(TO_VERSION_FIELD_DESC);
+        oprot.writeI64(struct.toVersion);
+        oprot.writeFieldEnd();
+        if (struct.cList != null) {
+          oprot.writeFieldBegin(C_LIST_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.cList.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter22 : struct.cList)
+            {
+              _iter22.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.sList != null) {
+          oprot.writeFieldBegin(S_LIST_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.sList.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter23 : struct.sList)
+            {
+              _iter23.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class pushDelta_argsTupleSchemeFactory implements SchemeFactory {
+      public pushDelta_argsTupleScheme getScheme() {
+        return new pushDelta_argsTupleScheme();
+      }
+    }
+
+    private static class pushDelta_argsTupleScheme extends TupleScheme<pushDelta_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, pushDelta_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSourceId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEpoch()) {
+          optionals.set(1);
+        }
+        if (struct.isSetFromVersion()) {
+          optionals.set(2);
+        }
+        if (struct.isSetToVersion()) {
+          optionals.set(3);
+        }
+        if (struct.isSetCList()) {
+          optionals.set(4);
+        }
+        if (struct.isSetSList()) {
+          optionals.set(5);
+        }
+        oprot.writeBitSet(optionals, 6);
+        if (struct.isSetSourceId()) {
+          oprot.writeI64(struct.sourceId);
+        }
+        if (struct.isSetEpoch()) {
+          oprot.writeI64(struct.epoch);
+        }
+        if (struct.isSetFromVersion()) {
+          oprot.writeI64(struct.fromVersion);
+        }
+        if (struct.isSetToVersion()) {
+          oprot.writeI64(struct.toVersion);
+        }
+        if (struct.isSetCList()) {
+          {
+            oprot.writeI32(struct.cList.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter24 : struct.cList)
+            {
+              _iter24.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetSList()) {
+          {
+            oprot.writeI32(struct.sList.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter25 : struct.sList)
+            {
+              _iter25.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, pushDelta_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(6);
+        if (incoming.get(0)) {
+          struct.sourceId = iprot.readI64();
+          struct.setSourceIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.epoch = iprot.readI64();
+          struct.setEpochIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.fromVersion = iprot.readI64();
+          struct.setFromVersionIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.toVersion = iprot.readI64();
+          struct.setToVersionIsSet(true);
+        }
+        if (incoming.get(4)) {
+          {
+            org.apache.thrift.protocol.TList _list26 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list26.size);
+            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem27;
+            for (int _i28 = 0; _i28 < _list26.size; ++_i28)
+            {
+              _elem27 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+              _elem27.read(iprot);
+              struct.cList.add(_elem27);
+            }
+          }
+          struct.setCListIsSet(true);
+        }
+        if (incoming.get(5)) {
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list29.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem30.read(iprot);
+              struct.sList.add(_elem30);
+            }
+          }
+          struct.setSListIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class pushDelta_result implements org.apache.thrift.TBase<pushDelta_result, pushDelta_result._Fields>, java.io.Serializable, Cloneable, Comparable<pushDelta_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("pushDelta_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new pushDelta_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new pushDelta_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(pushDelta_result.class, metaDataMap);
+    }
+
+    public pushDelta_result() {
+    }
+
+    public pushDelta_result(
+      long success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public pushDelta_result(pushDelta_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public pushDelta_result deepCopy() {
+      return new pushDelta_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public pushDelta_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof pushDelta_result)
+        return this.equals((pushDelta_result)that);
+      return false;
+    }
+
+    public boolean equals(pushDelta_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(pushDelta_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("pushDelta_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class pushDelta_resultStandardSchemeFactory implements SchemeFactory {
+      public pushDelta_resultStandardScheme getScheme() {
+        return new pushDelta_resultStandardScheme();
+      }
+    }
+
+    private static class pushDelta_resultStandardScheme extends StandardScheme<pushDelta_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, pushDelta_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, pushDelta_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class pushDelta_resultTupleSchemeFactory implements SchemeFactory {
+      public pushDelta_resultTupleScheme getScheme() {
+        return new pushDelta_resultTupleScheme();
+      }
+    }
+
+    private static class pushDelta_resultTupleScheme extends TupleScheme<pushDelta_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, pushDelta_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, pushDelta_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class digestBuckets_args implements org.apache.thrift.TBase<digestBuckets_args, digestBuckets_args._Fields>, java.io.Serializable, Cloneable, Comparable<digestBuckets_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digestBuckets_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new digestBuckets_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digestBuckets_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digestBuckets_args.class, metaDataMap);
+    }
+
+    public digestBuckets_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public digestBuckets_args(digestBuckets_args other) {
+    }
+
+    public digestBuckets_args deepCopy() {
+      return new digestBuckets_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof digestBuckets_args)
+        return this.equals((digestBuckets_args)that);
+      return false;
+    }
+
+    public boolean equals(digestBuckets_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(digestBuckets_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("digestBuckets_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class digestBuckets_argsStandardSchemeFactory implements SchemeFactory {
+      public digestBuckets_argsStandardScheme getScheme() {
+        return new digestBuckets_argsStandardScheme();
+      }
+    }
+
+    private static class digestBuckets_argsStandardScheme extends StandardScheme<digestBuckets_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digestBuckets_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digestBuckets_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class digestBuckets_argsTupleSchemeFactory implements SchemeFactory {
+      public digestBuckets_argsTupleScheme getScheme() {
+        return new digestBuckets_argsTupleScheme();
+      }
+    }
+
+    private static class digestBuckets_argsTupleScheme extends TupleScheme<digestBuckets_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, digestBuckets_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, digestBuckets_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class digestBuckets_result implements org.apache.thrift.TBase<digestBuckets_result, digestBuckets_result._Fields>, java.io.Serializable, Cloneable, Comparable<digestBuckets_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("digestBuckets_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new digestBuckets_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new digestBuckets_resultTupleSchemeFactory());
+    }
+
+    public List<Long> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(digestBuckets_result.class, metaDataMap);
+    }
+
+    public digestBuckets_result() {
+    }
+
+    public digestBuckets_result(
+      List<Long> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public digestBuckets_result(digestBuckets_result other) {
+      if (other.isSetSuccess()) {
+        List<Long> __this__success = new ArrayList<Long>(other.success);
+        this.success = __this__success;
+      }
+    }
+
+    public digestBuckets_result deepCopy() {
+      return new digestBuckets_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Long> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(long elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Long>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Long> getSuccess() {
+      return this.success;
+    }
+
+    public digestBuckets_result setSuccess(List<Long> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<Long>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof digestBuckets_result)
+        return this.equals((digestBuckets_result)that);
+      return false;
+    }
+
+    public boolean equals(digestBuckets_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(digestBuckets_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("digestBuckets_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class digestBuckets_resultStandardSchemeFactory implements SchemeFactory {
+      public digestBuckets_resultStandardScheme getScheme() {
+        return new digestBuckets_resultStandardScheme();
+      }
+    }
+
+    private static class digestBuckets_resultStandardScheme extends StandardScheme<digestBuckets_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, digestBuckets_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.success = new ArrayList<Long>(_list32.size);
+                  long _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = iprot.readI64();
+                    struct.success.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, digestBuckets_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.success.size()));
+            for (long _iter35 : struct.success)
+            {
+              oprot.writeI64(_iter35);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class digestBuckets_resultTupleSchemeFactory implements SchemeFactory {
+      public digestBuckets_resultTupleScheme getScheme() {
+        return new digestBuckets_resultTupleScheme();
+      }
+    }
+
+    private static class digestBuckets_resultTupleScheme extends TupleScheme<digestBuckets_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, digestBuckets_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (long _iter36 : struct.success)
+            {
+              oprot.writeI64(_iter36);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, digestBuckets_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.success = new ArrayList<Long>(_list37.size);
+            long _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = iprot.readI64();
+              struct.success.add(_elem38);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class serviceDigests_args implements org.apache.thrift.TBase<serviceDigests_args, serviceDigests_args._Fields>, java.io.Serializable, Cloneable, Comparable<serviceDigests_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceDigests_args");
+
+    private static final org.apache.thrift.protocol.TField BUCKETS_FIELD_DESC = new org.apache.thrift.protocol.TField("buckets", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceDigests_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceDigests_argsTupleSchemeFactory());
+    }
+
+    public List<Integer> buckets; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BUCKETS((short)1, "buckets");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BUCKETS
+            return BUCKETS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BUCKETS, new org.apache.thrift.meta_data.FieldMetaData("buckets", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceDigests_args.class, metaDataMap);
+    }
+
+    public serviceDigests_args() {
+    }
+
+    public serviceDigests_args(
+      List<Integer> buckets)
+    {
+      this();
+      this.buckets = buckets;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceDigests_args(serviceDigests_args other) {
+      if (other.isSetBuckets()) {
+        List<Integer> __this__buckets = new ArrayList<Integer>(other.buckets);
+        this.buckets = __this__buckets;
+      }
+    }
+
+    public serviceDigests_args deepCopy() {
+      return new serviceDigests_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.buckets = null;
+    }
+
+    public int getBucketsSize() {
+      return (this.buckets == null) ? 0 : this.buckets.size();
+    }
+
+    public java.util.Iterator<Integer> getBucketsIterator() {
+      return (this.buckets == null) ? null : this.buckets.iterator();
+    }
+
+    public void addToBuckets(int elem) {
+      if (this.buckets == null) {
+        this.buckets = new ArrayList<Integer>();
+      }
+      this.buckets.add(elem);
+    }
+
+    public List<Integer> getBuckets() {
+      return this.buckets;
+    }
+
+    public serviceDigests_args setBuckets(List<Integer> buckets) {
+      this.buckets = buckets;
+      return this;
+    }
+
+    public void unsetBuckets() {
+      this.buckets = null;
+    }
+
+    /** Returns true if field buckets is set (has been assigned a value) and false otherwise */
+    public boolean isSetBuckets() {
+      return this.buckets != null;
+    }
+
+    public void setBucketsIsSet(boolean value) {
+      if (!value) {
+        this.buckets = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BUCKETS:
+        if (value == null) {
+          unsetBuckets();
+        } else {
+          setBuckets((List<Integer>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BUCKETS:
+        return getBuckets();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BUCKETS:
+        return isSetBuckets();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof serviceDigests_args)
+        return this.equals((serviceDigests_args)that);
+      return false;
+    }
+
+    public boolean equals(serviceDigests_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_buckets = true && this.isSetBuckets();
+      boolean that_present_buckets = true && that.isSetBuckets();
+      if (this_present_buckets || that_present_buckets) {
+        if (!(this_present_buckets && that_present_buckets))
+          return false;
+        if (!this.buckets.equals(that.buckets))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_buckets = true && (isSetBuckets());
+      list.add(present_buckets);
+      if (present_buckets)
+        list.add(buckets);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(serviceDigests_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBuckets()).compareTo(other.isSetBuckets());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBuckets()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.buckets, other.buckets);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("serviceDigests_args(");
+      boolean first = true;
+
+      sb.append("buckets:");
+      if (this.buckets == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.buckets);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class serviceDigests_argsStandardSchemeFactory implements SchemeFactory {
+      public serviceDigests_argsStandardScheme getScheme() {
+        return new serviceDigests_argsStandardScheme();
+      }
+    }
+
+    private static class serviceDigests_argsStandardScheme extends StandardScheme<serviceDigests_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceDigests_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BUCKETS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
+                  struct.buckets = new ArrayList<Integer>(_list40.size);
+                  int _elem41;
+                  for (int _i42 = 0; _i42 < _list40.size; ++_i42)
+                  {
+                    _elem41 = iprot.readI32();
+                    struct.buckets.add(_elem41);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBucketsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceDigests_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.buckets != null) {
+          oprot.writeFieldBegin(BUCKETS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.buckets.size()));
+            for (int _iter43 : struct.buckets)
+            {
+              oprot.writeI32(_iter43);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class serviceDigests_argsTupleSchemeFactory implements SchemeFactory {
+      public serviceDigests_argsTupleScheme getScheme() {
+        return new serviceDigests_argsTupleScheme();
+      }
+    }
+
+    private static class serviceDigests_argsTupleScheme extends TupleScheme<serviceDigests_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceDigests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBuckets()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBuckets()) {
+          {
+            oprot.writeI32(struct.buckets.size());
+            for (int _iter44 : struct.buckets)
+            {
+              oprot.writeI32(_iter44);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceDigests_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.buckets = new ArrayList<Integer>(_list45.size);
+            int _elem46;
+            for (int _i47 = 0; _i47 < _list45.size; ++_i47)
+            {
+              _elem46 = iprot.readI32();
+              struct.buckets.add(_elem46);
+            }
+          }
+          struct.setBucketsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class serviceDigests_result implements org.apache.thrift.TBase<serviceDigests_result, serviceDigests_result._Fields>, java.io.Serializable, Cloneable, Comparable<serviceDigests_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceDigests_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceDigests_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceDigests_resultTupleSchemeFactory());
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TDigest.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceDigests_result.class, metaDataMap);
+    }
+
+    public serviceDigests_result() {
+    }
+
+    public serviceDigests_result(
+      List<com.github.jerrysearch.tns.protocol.rpc.TDigest> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceDigests_result(serviceDigests_result other) {
+      if (other.isSetSuccess()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TDigest> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TDigest>(other.success.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TDigest other_element : other.success) {
+          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TDigest(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public serviceDigests_result deepCopy() {
+      return new serviceDigests_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TDigest> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TDigest elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TDigest>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TDigest> getSuccess() {
+      return this.success;
+    }
+
+    public serviceDigests_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TDigest> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TDigest>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof serviceDigests_result)
+        return this.equals((serviceDigests_result)that);
+      return false;
+    }
+
+    public boolean equals(serviceDigests_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(serviceDigests_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("serviceDigests_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class serviceDigests_resultStandardSchemeFactory implements SchemeFactory {
+      public serviceDigests_resultStandardScheme getScheme() {
+        return new serviceDigests_resultStandardScheme();
+      }
+    }
+
+    private static class serviceDigests_resultStandardScheme extends StandardScheme<serviceDigests_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceDigests_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TDigest>(_list48.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TDigest _elem49;
+                  for (int _i50 = 0; _i50 < _list48.size; ++_i50)
+                  {
+                    _elem49 = new com.github.jerrysearch.tns.protocol.rpc.TDigest();
+                    _elem49.read(iprot);
+                    struct.success.add(_elem49);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceDigests_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TDigest _iter51 : struct.success)
+            {
+              _iter51.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class serviceDigests_resultTupleSchemeFactory implements SchemeFactory {
+      public serviceDigests_resultTupleScheme getScheme() {
+        return new serviceDigests_resultTupleScheme();
+      }
+    }
+
+    private static class serviceDigests_resultTupleScheme extends TupleScheme<serviceDigests_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceDigests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TDigest _iter52 : struct.success)
+            {
+              _iter52.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceDigests_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TDigest>(_list53.size);
+            com.github.jerrysearch.tns.protocol.rpc.TDigest _elem54;
+            for (int _i55 = 0; _i55 < _list53.size; ++_i55)
+            {
+              _elem54 = new com.github.jerrysearch.tns.protocol.rpc.TDigest();
+              _elem54.read(iprot);
+              struct.success.add(_elem54);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class serviceNodeList_args implements org.apache.thrift.TBase<serviceNodeList_args, serviceNodeList_args._Fields>, java.io.Serializable, Cloneable, Comparable<serviceNodeList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceNodeList_args");
+
+    private static final org.apache.thrift.protocol.TField SERVICE_NAMES_FIELD_DESC = new org.apache.thrift.protocol.TField("serviceNames", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceNodeList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceNodeList_argsTupleSchemeFactory());
+    }
+
+    public List<String> serviceNames; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SERVICE_NAMES((short)1, "serviceNames");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SERVICE_NAMES
+            return SERVICE_NAMES;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SERVICE_NAMES, new org.apache.thrift.meta_data.FieldMetaData("serviceNames", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceNodeList_args.class, metaDataMap);
+    }
+
+    public serviceNodeList_args() {
+    }
+
+    public serviceNodeList_args(
+      List<String> serviceNames)
+    {
+      this();
+      this.serviceNames = serviceNames;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceNodeList_args(serviceNodeList_args other) {
+      if (other.isSetServiceNames()) {
+        List<String> __this__serviceNames = new ArrayList<String>(other.serviceNames);
+        this.serviceNames = __this__serviceNames;
+      }
+    }
+
+    public serviceNodeList_args deepCopy() {
+      return new serviceNodeList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.serviceNames = null;
+    }
+
+    public int getServiceNamesSize() {
+      return (this.serviceNames == null) ? 0 : this.serviceNames.size();
+    }
+
+    public java.util.Iterator<String> getServiceNamesIterator() {
+      return (this.serviceNames == null) ? null : this.serviceNames.iterator();
+    }
+
+    public void addToServiceNames(String elem) {
+      if (this.serviceNames == null) {
+        this.serviceNames = new ArrayList<String>();
+      }
+      this.serviceNames.add(elem);
+    }
+
+    public List<String> getServiceNames() {
+      return this.serviceNames;
+    }
+
+    public serviceNodeList_args setServiceNames(List<String> serviceNames) {
+      this.serviceNames = serviceNames;
+      return this;
+    }
+
+    public void unsetServiceNames() {
+      this.serviceNames = null;
+    }
+
+    /** Returns true if field serviceNames is set (has been assigned a value) and false otherwise */
+    public boolean isSetServiceNames() {
+      return this.serviceNames != null;
+    }
+
+    public void setServiceNamesIsSet(boolean value) {
+      if (!value) {
+        this.serviceNames = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SERVICE_NAMES:
+        if (value == null) {
+          unsetServiceNames();
+        } else {
+          setServiceNames((List<String>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SERVICE_NAMES:
+        return getServiceNames();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SERVICE_NAMES:
+        return isSetServiceNames();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof serviceNodeList_args)
+        return this.equals((serviceNodeList_args)that);
+      return false;
+    }
+
+    public boolean equals(serviceNodeList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_serviceNames = true && this.isSetServiceNames();
+      boolean that_present_serviceNames = true && that.isSetServiceNames();
+      if (this_present_serviceNames || that_present_serviceNames) {
+        if (!(this_present_serviceNames && that_present_serviceNames))
+          return false;
+        if (!this.serviceNames.equals(that.serviceNames))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_serviceNames = true && (isSetServiceNames());
+      list.add(present_serviceNames);
+      if (present_serviceNames)
+        list.add(serviceNames);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(serviceNodeList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetServiceNames()).compareTo(other.isSetServiceNames());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetServiceNames()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.serviceNames, other.serviceNames);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("serviceNodeList_args(");
+      boolean first = true;
+
+      sb.append("serviceNames:");
+      if (this.serviceNames == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.serviceNames);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class serviceNodeList_argsStandardSchemeFactory implements SchemeFactory {
+      public serviceNodeList_argsStandardScheme getScheme() {
+        return new serviceNodeList_argsStandardScheme();
+      }
+    }
+
+    private static class serviceNodeList_argsStandardScheme extends StandardScheme<serviceNodeList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceNodeList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SERVICE_NAMES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
+                  struct.serviceNames = new ArrayList<String>(_list56.size);
+                  String _elem57;
+                  for (int _i58 = 0; _i58 < _list56.size; ++_i58)
+                  {
+                    _elem57 = iprot.readString();
+                    struct.serviceNames.add(_elem57);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setServiceNamesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceNodeList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.serviceNames != null) {
+          oprot.writeFieldBegin(SERVICE_NAMES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.serviceNames.size()));
+            for (String _iter59 : struct.serviceNames)
+            {
+              oprot.writeString(_iter59);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class serviceNodeList_argsTupleSchemeFactory implements SchemeFactory {
+      public serviceNodeList_argsTupleScheme getScheme() {
+        return new serviceNodeList_argsTupleScheme();
+      }
+    }
+
+    private static class serviceNodeList_argsTupleScheme extends TupleScheme<serviceNodeList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceNodeList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetServiceNames()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetServiceNames()) {
+          {
+            oprot.writeI32(struct.serviceNames.size());
+            for (String _iter60 : struct.serviceNames)
+            {
+              oprot.writeString(_iter60);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceNodeList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.serviceNames = new ArrayList<String>(_list61.size);
+            String _elem62;
+            for (int _i63 = 0; _i63 < _list61.size; ++_i63)
+            {
+              _elem62 = iprot.readString();
+              struct.serviceNames.add(_elem62);
+            }
+          }
+          struct.setServiceNamesIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class serviceNodeList_result implements org.apache.thrift.TBase<serviceNodeList_result, serviceNodeList_result._Fields>, java.io.Serializable, Cloneable, Comparable<serviceNodeList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceNodeList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceNodeList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceNodeList_resultTupleSchemeFactory());
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TSNode.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceNodeList_result.class, metaDataMap);
+    }
+
+    public serviceNodeList_result() {
+    }
+
+    public serviceNodeList_result(
+      List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceNodeList_result(serviceNodeList_result other) {
+      if (other.isSetSuccess()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TSNode> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(other.success.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TSNode other_element : other.success) {
+          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TSNode(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public serviceNodeList_result deepCopy() {
+      return new serviceNodeList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSListIterator() {
-      return (this.sList == null) ? null : this.sList.iterator();
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSList(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
-      if (this.sList == null) {
-        this.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
       }
-      this.sList.add(elem);
+      this.success.add(elem);
     }
 
-    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSList() {
-      return this.sList;
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccess() {
+      return this.success;
     }
 
-    public pushClusterAndServiceList_args setSList(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> sList) {
-      this.sList = sList;
+    public serviceNodeList_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetSList() {
-      this.sList = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field sList is set (has been assigned a value) and false otherwise */
-    public boolean isSetSList() {
-      return this.sList != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setSListIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.sList = null;
+        this.success = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case C_LIST:
-        if (value == null) {
-          unsetCList();
-        } else {
-          setCList((List<com.github.jerrysearch.tns.protocol.rpc.TCNode>)value);
-        }
-        break;
-
-      case S_LIST:
+      case SUCCESS:
         if (value == null) {
-          unsetSList();
+          unsetSuccess();
         } else {
-          setSList((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
+          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
         }
         break;
 
@@ -1334,11 +5641,8 @@ public class Cluster {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case C_LIST:
-        return getCList();
-
-      case S_LIST:
-        return getSList();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -1351,10 +5655,8 @@ public class Cluster {
       }
 
       switch (field) {
-      case C_LIST:
-        return isSetCList();
-      case S_LIST:
-        return isSetSList();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -1363,30 +5665,21 @@ public class Cluster {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof pushClusterAndServiceList_args)
-        return this.equals((pushClusterAndServiceList_args)that);
+      if (that instanceof serviceNodeList_result)
+        return this.equals((serviceNodeList_result)that);
       return false;
     }
 
-    public boolean equals(pushClusterAndServiceList_args that) {
+    public boolean equals(serviceNodeList_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_cList = true && this.isSetCList();
-      boolean that_present_cList = true && that.isSetCList();
-      if (this_present_cList || that_present_cList) {
-        if (!(this_present_cList && that_present_cList))
-          return false;
-        if (!this.cList.equals(that.cList))
-          return false;
-      }
-
-      boolean this_present_sList = true && this.isSetSList();
-      boolean that_present_sList = true && that.isSetSList();
-      if (this_present_sList || that_present_sList) {
-        if (!(this_present_sList && that_present_sList))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.sList.equals(that.sList))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -1397,43 +5690,28 @@ public class Cluster {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_cList = true && (isSetCList());
-      list.add(present_cList);
-      if (present_cList)
-        list.add(cList);
-
-      boolean present_sList = true && (isSetSList());
-      list.add(present_sList);
-      if (present_sList)
-        list.add(sList);
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(pushClusterAndServiceList_args other) {
+    public int compareTo(serviceNodeList_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetCList()).compareTo(other.isSetCList());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetCList()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.cList, other.cList);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetSList()).compareTo(other.isSetSList());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSList()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sList, other.sList);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1451,26 +5729,18 @@ public class Cluster {
 
     public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
       schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
-    }
+      }
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("pushClusterAndServiceList_args(");
+      StringBuilder sb = new StringBuilder("serviceNodeList_result(");
       boolean first = true;
 
-      sb.append("cList:");
-      if (this.cList == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.cList);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("sList:");
-      if (this.sList == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.sList);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -1498,15 +5768,15 @@ public class Cluster {
       }
     }
 
-    private static class pushClusterAndServiceList_argsStandardSchemeFactory implements SchemeFactory {
-      public pushClusterAndServiceList_argsStandardScheme getScheme() {
-        return new pushClusterAndServiceList_argsStandardScheme();
+    private static class serviceNodeList_resultStandardSchemeFactory implements SchemeFactory {
+      public serviceNodeList_resultStandardScheme getScheme() {
+        return new serviceNodeList_resultStandardScheme();
       }
     }
 
-    private static class pushClusterAndServiceList_argsStandardScheme extends StandardScheme<pushClusterAndServiceList_args> {
+    private static class serviceNodeList_resultStandardScheme extends StandardScheme<serviceNodeList_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceNodeList_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1516,40 +5786,21 @@ public class Cluster {
             break;
           }
           switch (schemeField.id) {
-            case 1: // C_LIST
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list0.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
-                  {
-                    _elem1 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-                    _elem1.read(iprot);
-                    struct.cList.add(_elem1);
-                  }
-                  iprot.readListEnd();
-                }
-                struct.setCListIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // S_LIST
+            case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list3 = iprot.readListBegin();
-                  struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list3.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem4;
-                  for (int _i5 = 0; _i5 < _list3.size; ++_i5)
+                  org.apache.thrift.protocol.TList _list64 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list64.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem65;
+                  for (int _i66 = 0; _i66 < _list64.size; ++_i66)
                   {
-                    _elem4 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-                    _elem4.read(iprot);
-                    struct.sList.add(_elem4);
+                    _elem65 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem65.read(iprot);
+                    struct.success.add(_elem65);
                   }
                   iprot.readListEnd();
                 }
-                struct.setSListIsSet(true);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1565,29 +5816,17 @@ public class Cluster {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceNodeList_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.cList != null) {
-          oprot.writeFieldBegin(C_LIST_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.cList.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter6 : struct.cList)
-            {
-              _iter6.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.sList != null) {
-          oprot.writeFieldBegin(S_LIST_FIELD_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.sList.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter7 : struct.sList)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter67 : struct.success)
             {
-              _iter7.write(oprot);
+              _iter67.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -1599,76 +5838,50 @@ public class Cluster {
 
     }
 
-    private static class pushClusterAndServiceList_argsTupleSchemeFactory implements SchemeFactory {
-      public pushClusterAndServiceList_argsTupleScheme getScheme() {
-        return new pushClusterAndServiceList_argsTupleScheme();
+    private static class serviceNodeList_resultTupleSchemeFactory implements SchemeFactory {
+      public serviceNodeList_resultTupleScheme getScheme() {
+        return new serviceNodeList_resultTupleScheme();
       }
     }
 
-    private static class pushClusterAndServiceList_argsTupleScheme extends TupleScheme<pushClusterAndServiceList_args> {
+    private static class serviceNodeList_resultTupleScheme extends TupleScheme<serviceNodeList_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceNodeList_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetCList()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetSList()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetCList()) {
-          {
-            oprot.writeI32(struct.cList.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter8 : struct.cList)
-            {
-              _iter8.write(oprot);
-            }
-          }
-        }
-        if (struct.isSetSList()) {
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
           {
-            oprot.writeI32(struct.sList.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter9 : struct.sList)
+            oprot.writeI32(struct.success.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter68 : struct.success)
             {
-              _iter9.write(oprot);
+              _iter68.write(oprot);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, pushClusterAndServiceList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceNodeList_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list10 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.cList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list10.size);
-            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem11;
-            for (int _i12 = 0; _i12 < _list10.size; ++_i12)
-            {
-              _elem11 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-              _elem11.read(iprot);
-              struct.cList.add(_elem11);
-            }
-          }
-          struct.setCListIsSet(true);
-        }
-        if (incoming.get(1)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.sList = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list13.size);
-            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            org.apache.thrift.protocol.TList _list69 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list69.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem70;
+            for (int _i71 = 0; _i71 < _list69.size; ++_i71)
             {
-              _elem14 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-              _elem14.read(iprot);
-              struct.sList.add(_elem14);
+              _elem70 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem70.read(iprot);
+              struct.success.add(_elem70);
             }
           }
-          struct.setSListIsSet(true);
+          struct.setSuccessIsSet(true);
         }
       }
     }
@@ -2352,14 +6565,14 @@ public class Cluster {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
-                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list16.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem17;
-                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  org.apache.thrift.protocol.TList _list72 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list72.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem73;
+                  for (int _i74 = 0; _i74 < _list72.size; ++_i74)
                   {
-                    _elem17 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-                    _elem17.read(iprot);
-                    struct.success.add(_elem17);
+                    _elem73 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem73.read(iprot);
+                    struct.success.add(_elem73);
                   }
                   iprot.readListEnd();
                 }
@@ -2387,9 +6600,9 @@ public class Cluster {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter19 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter75 : struct.success)
             {
-              _iter19.write(oprot);
+              _iter75.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -2420,9 +6633,9 @@ public class Cluster {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter20 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter76 : struct.success)
             {
-              _iter20.write(oprot);
+              _iter76.write(oprot);
             }
           }
         }
@@ -2434,14 +6647,14 @@ public class Cluster {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list21.size);
-            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem22;
-            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            org.apache.thrift.protocol.TList _list77 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list77.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem78;
+            for (int _i79 = 0; _i79 < _list77.size; ++_i79)
             {
-              _elem22 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-              _elem22.read(iprot);
-              struct.success.add(_elem22);
+              _elem78 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem78.read(iprot);
+              struct.success.add(_elem78);
             }
           }
           struct.setSuccessIsSet(true);
@@ -3128,14 +7341,14 @@ public class Cluster {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
-                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list24.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem25;
-                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  org.apache.thrift.protocol.TList _list80 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list80.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem81;
+                  for (int _i82 = 0; _i82 < _list80.size; ++_i82)
                   {
-                    _elem25 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-                    _elem25.read(iprot);
-                    struct.success.add(_elem25);
+                    _elem81 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+                    _elem81.read(iprot);
+                    struct.success.add(_elem81);
                   }
                   iprot.readListEnd();
                 }
@@ -3163,9 +7376,9 @@ public class Cluster {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter27 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter83 : struct.success)
             {
-              _iter27.write(oprot);
+              _iter83.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -3196,9 +7409,9 @@ public class Cluster {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter28 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter84 : struct.success)
             {
-              _iter28.write(oprot);
+              _iter84.write(oprot);
             }
           }
         }
@@ -3210,14 +7423,14 @@ public class Cluster {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list29.size);
-            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem30;
-            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            org.apache.thrift.protocol.TList _list85 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list85.size);
+            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem86;
+            for (int _i87 = 0; _i87 < _list85.size; ++_i87)
             {
-              _elem30 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-              _elem30.read(iprot);
-              struct.success.add(_elem30);
+              _elem86 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+              _elem86.read(iprot);
+              struct.success.add(_elem86);
             }
           }
           struct.setSuccessIsSet(true);
@@ -3904,14 +8117,14 @@ public class Cluster {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
-                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>(_list32.size);
-                  com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _elem33;
-                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  org.apache.thrift.protocol.TList _list88 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>(_list88.size);
+                  com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _elem89;
+                  for (int _i90 = 0; _i90 < _list88.size; ++_i90)
                   {
-                    _elem33 = new com.github.jerrysearch.tns.protocol.rpc.event.LogEvent();
-                    _elem33.read(iprot);
-                    struct.success.add(_elem33);
+                    _elem89 = new com.github.jerrysearch.tns.protocol.rpc.event.LogEvent();
+                    _elem89.read(iprot);
+                    struct.success.add(_elem89);
                   }
                   iprot.readListEnd();
                 }
@@ -3939,9 +8152,9 @@ public class Cluster {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _iter35 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _iter91 : struct.success)
             {
-              _iter35.write(oprot);
+              _iter91.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -3972,9 +8185,9 @@ public class Cluster {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _iter36 : struct.success)
+            for (com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _iter92 : struct.success)
             {
-              _iter36.write(oprot);
+              _iter92.write(oprot);
             }
           }
         }
@@ -3986,14 +8199,14 @@ public class Cluster {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>(_list37.size);
-            com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _elem38;
-            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            org.apache.thrift.protocol.TList _list93 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.event.LogEvent>(_list93.size);
+            com.github.jerrysearch.tns.protocol.rpc.event.LogEvent _elem94;
+            for (int _i95 = 0; _i95 < _list93.size; ++_i95)
             {
-              _elem38 = new com.github.jerrysearch.tns.protocol.rpc.event.LogEvent();
-              _elem38.read(iprot);
-              struct.success.add(_elem38);
+              _elem94 = new com.github.jerrysearch.tns.protocol.rpc.event.LogEvent();
+              _elem94.read(iprot);
+              struct.success.add(_elem94);
             }
           }
           struct.setSuccessIsSet(true);
@@ -34,7 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2017-4-5")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.2)", date = "2026-10-16")
 public class TNSRpc {
 
   public interface Iface {
@@ -47,6 +47,16 @@ public class TNSRpc {
      */
     public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> serviceList(String clientId, String serviceName) throws org.apache.thrift.TException;
 
+    /**
+     * 等待service列表变化，版本号与knownVersion不一致时立即返回，否则最多等待timeoutMs后返回当前列表
+     * 
+     * @param clientId
+     * @param serviceName
+     * @param knownVersion
+     * @param timeoutMs
+     */
+    public com.github.jerrysearch.tns.protocol.rpc.TServiceList watchServiceList(String clientId, String serviceName, long knownVersion, int timeoutMs) throws org.apache.thrift.TException;
+
     /**
      * 获取可用的cluster node列表
      * 
@@ -54,14 +64,37 @@ public class TNSRpc {
      */
     public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> clusterList(String clientId) throws org.apache.thrift.TException;
 
+    /**
+     * 批量注册节点，使用serviceName、host、port、pingFrequency，id大于0时使用该id，否则由服务端生成，返回与nodes顺序一致的id，缺少serviceName或host的节点不注册，返回-1；id已存在时不覆盖，host:port相同且在线的返回该id，否则返回-1
+     * 
+     * @param clientId
+     * @param nodes
+     */
+    public List<Long> register(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes) throws org.apache.thrift.TException;
+
+    /**
+     * 批量下线某个service下的节点，返回下线的个数
+     * 
+     * @param clientId
+     * @param serviceName
+     * @param ids
+     */
+    public int deregister(String clientId, String serviceName, List<Long> ids) throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
 
     public void serviceList(String clientId, String serviceName, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void watchServiceList(String clientId, String serviceName, long knownVersion, int timeoutMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void clusterList(String clientId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void register(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void deregister(String clientId, String serviceName, List<Long> ids, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -108,6 +141,32 @@ public class TNSRpc {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "serviceList failed: unknown result");
     }
 
+    public com.github.jerrysearch.tns.protocol.rpc.TServiceList watchServiceList(String clientId, String serviceName, long knownVersion, int timeoutMs) throws org.apache.thrift.TException
+    {
+      send_watchServiceList(clientId, serviceName, knownVersion, timeoutMs);
+      return recv_watchServiceList();
+    }
+
+    public void send_watchServiceList(String clientId, String serviceName, long knownVersion, int timeoutMs) throws org.apache.thrift.TException
+    {
+      watchServiceList_args args = new watchServiceList_args();
+      args.setClientId(clientId);
+      args.setServiceName(serviceName);
+      args.setKnownVersion(knownVersion);
+      args.setTimeoutMs(timeoutMs);
+      sendBase("watchServiceList", args);
+    }
+
+    public com.github.jerrysearch.tns.protocol.rpc.TServiceList recv_watchServiceList() throws org.apache.thrift.TException
+    {
+      watchServiceList_result result = new watchServiceList_result();
+      receiveBase(result, "watchServiceList");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "watchServiceList failed: unknown result");
+    }
+
     public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> clusterList(String clientId) throws org.apache.thrift.TException
     {
       send_clusterList(clientId);
@@ -131,6 +190,55 @@ public class TNSRpc {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "clusterList failed: unknown result");
     }
 
+    public List<Long> register(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes) throws org.apache.thrift.TException
+    {
+      send_register(clientId, nodes);
+      return recv_register();
+    }
+
+    public void send_register(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes) throws org.apache.thrift.TException
+    {
+      register_args args = new register_args();
+      args.setClientId(clientId);
+      args.setNodes(nodes);
+      sendBase("register", args);
+    }
+
+    public List<Long> recv_register() throws org.apache.thrift.TException
+    {
+      register_result result = new register_result();
+      receiveBase(result, "register");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "register failed: unknown result");
+    }
+
+    public int deregister(String clientId, String serviceName, List<Long> ids) throws org.apache.thrift.TException
+    {
+      send_deregister(clientId, serviceName, ids);
+      return recv_deregister();
+    }
+
+    public void send_deregister(String clientId, String serviceName, List<Long> ids) throws org.apache.thrift.TException
+    {
+      deregister_args args = new deregister_args();
+      args.setClientId(clientId);
+      args.setServiceName(serviceName);
+      args.setIds(ids);
+      sendBase("deregister", args);
+    }
+
+    public int recv_deregister() throws org.apache.thrift.TException
+    {
+      deregister_result result = new deregister_result();
+      receiveBase(result, "deregister");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "deregister failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -184,6 +292,47 @@ public class TNSRpc {
       }
     }
 
+    public void watchServiceList(String clientId, String serviceName, long knownVersion, int timeoutMs, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      watchServiceList_call method_call = new watchServiceList_call(clientId, serviceName, knownVersion, timeoutMs, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class watchServiceList_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String clientId;
+      private String serviceName;
+      private long knownVersion;
+      private int timeoutMs;
+      public watchServiceList_call(String clientId, String serviceName, long knownVersion, int timeoutMs, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.clientId = clientId;
+        this.serviceName = serviceName;
+        this.knownVersion = knownVersion;
+        this.timeoutMs = timeoutMs;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("watchServiceList", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        watchServiceList_args args = new watchServiceList_args();
+        args.setClientId(clientId);
+        args.setServiceName(serviceName);
+        args.setKnownVersion(knownVersion);
+        args.setTimeoutMs(timeoutMs);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public com.github.jerrysearch.tns.protocol.rpc.TServiceList getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_watchServiceList();
+      }
+    }
+
     public void clusterList(String clientId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       clusterList_call method_call = new clusterList_call(clientId, resultHandler, this, ___protocolFactory, ___transport);
@@ -216,6 +365,79 @@ public class TNSRpc {
       }
     }
 
+    public void register(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      register_call method_call = new register_call(clientId, nodes, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class register_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String clientId;
+      private List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes;
+      public register_call(String clientId, List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.clientId = clientId;
+        this.nodes = nodes;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("register", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        register_args args = new register_args();
+        args.setClientId(clientId);
+        args.setNodes(nodes);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public List<Long> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_register();
+      }
+    }
+
+    public void deregister(String clientId, String serviceName, List<Long> ids, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      deregister_call method_call = new deregister_call(clientId, serviceName, ids, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class deregister_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String clientId;
+      private String serviceName;
+      private List<Long> ids;
+      public deregister_call(String clientId, String serviceName, List<Long> ids, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.clientId = clientId;
+        this.serviceName = serviceName;
+        this.ids = ids;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("deregister", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        deregister_args args = new deregister_args();
+        args.setClientId(clientId);
+        args.setServiceName(serviceName);
+        args.setIds(ids);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public int getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_deregister();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -230,7 +452,10 @@ public class TNSRpc {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("serviceList", new serviceList());
+      processMap.put("watchServiceList", new watchServiceList());
       processMap.put("clusterList", new clusterList());
+      processMap.put("register", new register());
+      processMap.put("deregister", new deregister());
       return processMap;
     }
 
@@ -254,6 +479,26 @@ public class TNSRpc {
       }
     }
 
+    public static class watchServiceList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, watchServiceList_args> {
+      public watchServiceList() {
+        super("watchServiceList");
+      }
+
+      public watchServiceList_args getEmptyArgsInstance() {
+        return new watchServiceList_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public watchServiceList_result getResult(I iface, watchServiceList_args args) throws org.apache.thrift.TException {
+        watchServiceList_result result = new watchServiceList_result();
+        result.success = iface.watchServiceList(args.clientId, args.serviceName, args.knownVersion, args.timeoutMs);
+        return result;
+      }
+    }
+
     public static class clusterList<I extends Iface> extends org.apache.thrift.ProcessFunction<I, clusterList_args> {
       public clusterList() {
         super("clusterList");
@@ -274,6 +519,47 @@ public class TNSRpc {
       }
     }
 
+    public static class register<I extends Iface> extends org.apache.thrift.ProcessFunction<I, register_args> {
+      public register() {
+        super("register");
+      }
+
+      public register_args getEmptyArgsInstance() {
+        return new register_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public register_result getResult(I iface, register_args args) throws org.apache.thrift.TException {
+        register_result result = new register_result();
+        result.success = iface.register(args.clientId, args.nodes);
+        return result;
+      }
+    }
+
+    public static class deregister<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deregister_args> {
+      public deregister() {
+        super("deregister");
+      }
+
+      public deregister_args getEmptyArgsInstance() {
+        return new deregister_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public deregister_result getResult(I iface, deregister_args args) throws org.apache.thrift.TException {
+        deregister_result result = new deregister_result();
+        result.success = iface.deregister(args.clientId, args.serviceName, args.ids);
+        result.setSuccessIsSet(true);
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
@@ -288,7 +574,10 @@ public class TNSRpc {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("serviceList", new serviceList());
+      processMap.put("watchServiceList", new watchServiceList());
       processMap.put("clusterList", new clusterList());
+      processMap.put("register", new register());
+      processMap.put("deregister", new deregister());
       return processMap;
     }
 
@@ -343,6 +632,57 @@ public class TNSRpc {
       }
     }
 
+    public static class watchServiceList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, watchServiceList_args, com.github.jerrysearch.tns.protocol.rpc.TServiceList> {
+      public watchServiceList() {
+        super("watchServiceList");
+      }
+
+      public watchServiceList_args getEmptyArgsInstance() {
+        return new watchServiceList_args();
+      }
+
+      public AsyncMethodCallback<com.github.jerrysearch.tns.protocol.rpc.TServiceList> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<com.github.jerrysearch.tns.protocol.rpc.TServiceList>() { 
+          public void onComplete(com.github.jerrysearch.tns.protocol.rpc.TServiceList o) {
+            watchServiceList_result result = new watchServiceList_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            watchServiceList_result result = new watchServiceList_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, watchServiceList_args args, org.apache.thrift.async.AsyncMethodCallback<com.github.jerrysearch.tns.protocol.rpc.TServiceList> resultHandler) throws TException {
+        iface.watchServiceList(args.clientId, args.serviceName, args.knownVersion, args.timeoutMs,resultHandler);
+      }
+    }
+
     public static class clusterList<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, clusterList_args, List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> {
       public clusterList() {
         super("clusterList");
@@ -380,41 +720,2835 @@ public class TNSRpc {
             } catch (Exception ex) {
               LOGGER.error("Exception writing to internal frame buffer", ex);
             }
-            fb.close();
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, clusterList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> resultHandler) throws TException {
+        iface.clusterList(args.clientId,resultHandler);
+      }
+    }
+
+    public static class register<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, register_args, List<Long>> {
+      public register() {
+        super("register");
+      }
+
+      public register_args getEmptyArgsInstance() {
+        return new register_args();
+      }
+
+      public AsyncMethodCallback<List<Long>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<Long>>() { 
+          public void onComplete(List<Long> o) {
+            register_result result = new register_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            register_result result = new register_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, register_args args, org.apache.thrift.async.AsyncMethodCallback<List<Long>> resultHandler) throws TException {
+        iface.register(args.clientId, args.nodes,resultHandler);
+      }
+    }
+
+    public static class deregister<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deregister_args, Integer> {
+      public deregister() {
+        super("deregister");
+      }
+
+      public deregister_args getEmptyArgsInstance() {
+        return new deregister_args();
+      }
+
+      public AsyncMethodCallback<Integer> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Integer>() { 
+          public void onComplete(Integer o) {
+            deregister_result result = new deregister_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            deregister_result result = new deregister_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, deregister_args args, org.apache.thrift.async.AsyncMethodCallback<Integer> resultHandler) throws TException {
+        iface.deregister(args.clientId, args.serviceName, args.ids,resultHandler);
+      }
+    }
+
+  }
+
+  public static class serviceList_args implements org.apache.thrift.TBase<serviceList_args, serviceList_args._Fields>, java.io.Serializable, Cloneable, Comparable<serviceList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceList_args");
+
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SERVICE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("serviceName", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceList_argsTupleSchemeFactory());
+    }
+
+    public String clientId; // required
+    public String serviceName; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CLIENT_ID((short)1, "clientId"),
+      SERVICE_NAME((short)2, "serviceName");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CLIENT_ID
+            return CLIENT_ID;
+          case 2: // SERVICE_NAME
+            return SERVICE_NAME;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SERVICE_NAME, new org.apache.thrift.meta_data.FieldMetaData("serviceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceList_args.class, metaDataMap);
+    }
+
+    public serviceList_args() {
+    }
+
+    public serviceList_args(
+      String clientId,
+      String serviceName)
+    {
+      this();
+      this.clientId = clientId;
+      this.serviceName = serviceName;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceList_args(serviceList_args other) {
+      if (other.isSetClientId()) {
+        this.clientId = other.clientId;
+      }
+      if (other.isSetServiceName()) {
+        this.serviceName = other.serviceName;
+      }
+    }
+
+    public serviceList_args deepCopy() {
+      return new serviceList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.clientId = null;
+      this.serviceName = null;
+    }
+
+    public String getClientId() {
+      return this.clientId;
+    }
+
+    public serviceList_args setClientId(String clientId) {
+      this.clientId = clientId;
+      return this;
+    }
+
+    public void unsetClientId() {
+      this.clientId = null;
+    }
+
+    /** Returns true if field clientId is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientId() {
+      return this.clientId != null;
+    }
+
+    public void setClientIdIsSet(boolean value) {
+      if (!value) {
+        this.clientId = null;
+      }
+    }
+
+    public String getServiceName() {
+      return this.serviceName;
+    }
+
+    public serviceList_args setServiceName(String serviceName) {
+      this.serviceName = serviceName;
+      return this;
+    }
+
+    public void unsetServiceName() {
+      this.serviceName = null;
+    }
+
+    /** Returns true if field serviceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetServiceName() {
+      return this.serviceName != null;
+    }
+
+    public void setServiceNameIsSet(boolean value) {
+      if (!value) {
+        this.serviceName = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientId();
+        } else {
+          setClientId((String)value);
+        }
+        break;
+
+      case SERVICE_NAME:
+        if (value == null) {
+          unsetServiceName();
+        } else {
+          setServiceName((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CLIENT_ID:
+        return getClientId();
+
+      case SERVICE_NAME:
+        return getServiceName();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CLIENT_ID:
+        return isSetClientId();
+      case SERVICE_NAME:
+        return isSetServiceName();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof serviceList_args)
+        return this.equals((serviceList_args)that);
+      return false;
+    }
+
+    public boolean equals(serviceList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_clientId = true && this.isSetClientId();
+      boolean that_present_clientId = true && that.isSetClientId();
+      if (this_present_clientId || that_present_clientId) {
+        if (!(this_present_clientId && that_present_clientId))
+          return false;
+        if (!this.clientId.equals(that.clientId))
+          return false;
+      }
+
+      boolean this_present_serviceName = true && this.isSetServiceName();
+      boolean that_present_serviceName = true && that.isSetServiceName();
+      if (this_present_serviceName || that_present_serviceName) {
+        if (!(this_present_serviceName && that_present_serviceName))
+          return false;
+        if (!this.serviceName.equals(that.serviceName))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_clientId = true && (isSetClientId());
+      list.add(present_clientId);
+      if (present_clientId)
+        list.add(clientId);
+
+      boolean present_serviceName = true && (isSetServiceName());
+      list.add(present_serviceName);
+      if (present_serviceName)
+        list.add(serviceName);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(serviceList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetClientId()).compareTo(other.isSetClientId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientId, other.clientId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetServiceName()).compareTo(other.isSetServiceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetServiceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.serviceName, other.serviceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("serviceList_args(");
+      boolean first = true;
+
+      sb.append("clientId:");
+      if (this.clientId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("serviceName:");
+      if (this.serviceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.serviceName);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class serviceList_argsStandardSchemeFactory implements SchemeFactory {
+      public serviceList_argsStandardScheme getScheme() {
+        return new serviceList_argsStandardScheme();
+      }
+    }
+
+    private static class serviceList_argsStandardScheme extends StandardScheme<serviceList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientId = iprot.readString();
+                struct.setClientIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SERVICE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.serviceName = iprot.readString();
+                struct.setServiceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.clientId != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.serviceName != null) {
+          oprot.writeFieldBegin(SERVICE_NAME_FIELD_DESC);
+          oprot.writeString(struct.serviceName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class serviceList_argsTupleSchemeFactory implements SchemeFactory {
+      public serviceList_argsTupleScheme getScheme() {
+        return new serviceList_argsTupleScheme();
+      }
+    }
+
+    private static class serviceList_argsTupleScheme extends TupleScheme<serviceList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetClientId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetServiceName()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetClientId()) {
+          oprot.writeString(struct.clientId);
+        }
+        if (struct.isSetServiceName()) {
+          oprot.writeString(struct.serviceName);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.clientId = iprot.readString();
+          struct.setClientIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.serviceName = iprot.readString();
+          struct.setServiceNameIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class serviceList_result implements org.apache.thrift.TBase<serviceList_result, serviceList_result._Fields>, java.io.Serializable, Cloneable, Comparable<serviceList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new serviceList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new serviceList_resultTupleSchemeFactory());
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TSNode.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceList_result.class, metaDataMap);
+    }
+
+    public serviceList_result() {
+    }
+
+    public serviceList_result(
+      List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public serviceList_result(serviceList_result other) {
+      if (other.isSetSuccess()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TSNode> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(other.success.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TSNode other_element : other.success) {
+          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TSNode(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public serviceList_result deepCopy() {
+      return new serviceList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccess() {
+      return this.success;
+    }
+
+    public serviceList_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof serviceList_result)
+        return this.equals((serviceList_result)that);
+      return false;
+    }
+
+    public boolean equals(serviceList_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(serviceList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("serviceList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class serviceList_resultStandardSchemeFactory implements SchemeFactory {
+      public serviceList_resultStandardScheme getScheme() {
+        return new serviceList_resultStandardScheme();
+      }
+    }
+
+    private static class serviceList_resultStandardScheme extends StandardScheme<serviceList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list0.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem1.read(iprot);
+                    struct.success.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter3 : struct.success)
+            {
+              _iter3.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class serviceList_resultTupleSchemeFactory implements SchemeFactory {
+      public serviceList_resultTupleScheme getScheme() {
+        return new serviceList_resultTupleScheme();
+      }
+    }
+
+    private static class serviceList_resultTupleScheme extends TupleScheme<serviceList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, serviceList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter4 : struct.success)
+            {
+              _iter4.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, serviceList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list5.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem6.read(iprot);
+              struct.success.add(_elem6);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class watchServiceList_args implements org.apache.thrift.TBase<watchServiceList_args, watchServiceList_args._Fields>, java.io.Serializable, Cloneable, Comparable<watchServiceList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("watchServiceList_args");
+
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SERVICE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("serviceName", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField KNOWN_VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("knownVersion", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField TIMEOUT_MS_FIELD_DESC = new org.apache.thrift.protocol.TField("timeoutMs", org.apache.thrift.protocol.TType.I32, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new watchServiceList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new watchServiceList_argsTupleSchemeFactory());
+    }
+
+    public String clientId; // required
+    public String serviceName; // required
+    public long knownVersion; // required
+    public int timeoutMs; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CLIENT_ID((short)1, "clientId"),
+      SERVICE_NAME((short)2, "serviceName"),
+      KNOWN_VERSION((short)3, "knownVersion"),
+      TIMEOUT_MS((short)4, "timeoutMs");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CLIENT_ID
+            return CLIENT_ID;
+          case 2: // SERVICE_NAME
+            return SERVICE_NAME;
+          case 3: // KNOWN_VERSION
+            return KNOWN_VERSION;
+          case 4: // TIMEOUT_MS
+            return TIMEOUT_MS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __KNOWNVERSION_ISSET_ID = 0;
+    private static final int __TIMEOUTMS_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SERVICE_NAME, new org.apache.thrift.meta_data.FieldMetaData("serviceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.KNOWN_VERSION, new org.apache.thrift.meta_data.FieldMetaData("knownVersion", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TIMEOUT_MS, new org.apache.thrift.meta_data.FieldMetaData("timeoutMs", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(watchServiceList_args.class, metaDataMap);
+    }
+
+    public watchServiceList_args() {
+    }
+
+    public watchServiceList_args(
+      String clientId,
+      String serviceName,
+      long knownVersion,
+      int timeoutMs)
+    {
+      this();
+      this.clientId = clientId;
+      this.serviceName = serviceName;
+      this.knownVersion = knownVersion;
+      setKnownVersionIsSet(true);
+      this.timeoutMs = timeoutMs;
+      setTimeoutMsIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public watchServiceList_args(watchServiceList_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetClientId()) {
+        this.clientId = other.clientId;
+      }
+      if (other.isSetServiceName()) {
+        this.serviceName = other.serviceName;
+      }
+      this.knownVersion = other.knownVersion;
+      this.timeoutMs = other.timeoutMs;
+    }
+
+    public watchServiceList_args deepCopy() {
+      return new watchServiceList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.clientId = null;
+      this.serviceName = null;
+      setKnownVersionIsSet(false);
+      this.knownVersion = 0;
+      setTimeoutMsIsSet(false);
+      this.timeoutMs = 0;
+    }
+
+    public String getClientId() {
+      return this.clientId;
+    }
+
+    public watchServiceList_args setClientId(String clientId) {
+      this.clientId = clientId;
+      return this;
+    }
+
+    public void unsetClientId() {
+      this.clientId = null;
+    }
+
+    /** Returns true if field clientId is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientId() {
+      return this.clientId != null;
+    }
+
+    public void setClientIdIsSet(boolean value) {
+      if (!value) {
+        this.clientId = null;
+      }
+    }
+
+    public String getServiceName() {
+      return this.serviceName;
+    }
+
+    public watchServiceList_args setServiceName(String serviceName) {
+      this.serviceName = serviceName;
+      return this;
+    }
+
+    public void unsetServiceName() {
+      this.serviceName = null;
+    }
+
+    /** Returns true if field serviceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetServiceName() {
+      return this.serviceName != null;
+    }
+
+    public void setServiceNameIsSet(boolean value) {
+      if (!value) {
+        this.serviceName = null;
+      }
+    }
+
+    public long getKnownVersion() {
+      return this.knownVersion;
+    }
+
+    public watchServiceList_args setKnownVersion(long knownVersion) {
+      this.knownVersion = knownVersion;
+      setKnownVersionIsSet(true);
+      return this;
+    }
+
+    public void unsetKnownVersion() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __KNOWNVERSION_ISSET_ID);
+    }
+
+    /** Returns true if field knownVersion is set (has been assigned a value) and false otherwise */
+    public boolean isSetKnownVersion() {
+      return EncodingUtils.testBit(__isset_bitfield, __KNOWNVERSION_ISSET_ID);
+    }
+
+    public void setKnownVersionIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __KNOWNVERSION_ISSET_ID, value);
+    }
+
+    public int getTimeoutMs() {
+      return this.timeoutMs;
+    }
+
+    public watchServiceList_args setTimeoutMs(int timeoutMs) {
+      this.timeoutMs = timeoutMs;
+      setTimeoutMsIsSet(true);
+      return this;
+    }
+
+    public void unsetTimeoutMs() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TIMEOUTMS_ISSET_ID);
+    }
+
+    /** Returns true if field timeoutMs is set (has been assigned a value) and false otherwise */
+    public boolean isSetTimeoutMs() {
+      return EncodingUtils.testBit(__isset_bitfield, __TIMEOUTMS_ISSET_ID);
+    }
+
+    public void setTimeoutMsIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TIMEOUTMS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientId();
+        } else {
+          setClientId((String)value);
+        }
+        break;
+
+      case SERVICE_NAME:
+        if (value == null) {
+          unsetServiceName();
+        } else {
+          setServiceName((String)value);
+        }
+        break;
+
+      case KNOWN_VERSION:
+        if (value == null) {
+          unsetKnownVersion();
+        } else {
+          setKnownVersion((Long)value);
+        }
+        break;
+
+      case TIMEOUT_MS:
+        if (value == null) {
+          unsetTimeoutMs();
+        } else {
+          setTimeoutMs((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CLIENT_ID:
+        return getClientId();
+
+      case SERVICE_NAME:
+        return getServiceName();
+
+      case KNOWN_VERSION:
+        return Long.valueOf(getKnownVersion());
+
+      case TIMEOUT_MS:
+        return Integer.valueOf(getTimeoutMs());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CLIENT_ID:
+        return isSetClientId();
+      case SERVICE_NAME:
+        return isSetServiceName();
+      case KNOWN_VERSION:
+        return isSetKnownVersion();
+      case TIMEOUT_MS:
+        return isSetTimeoutMs();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof watchServiceList_args)
+        return this.equals((watchServiceList_args)that);
+      return false;
+    }
+
+    public boolean equals(watchServiceList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_clientId = true && this.isSetClientId();
+      boolean that_present_clientId = true && that.isSetClientId();
+      if (this_present_clientId || that_present_clientId) {
+        if (!(this_present_clientId && that_present_clientId))
+          return false;
+        if (!this.clientId.equals(that.clientId))
+          return false;
+      }
+
+      boolean this_present_serviceName = true && this.isSetServiceName();
+      boolean that_present_serviceName = true && that.isSetServiceName();
+      if (this_present_serviceName || that_present_serviceName) {
+        if (!(this_present_serviceName && that_present_serviceName))
+          return false;
+        if (!this.serviceName.equals(that.serviceName))
+          return false;
+      }
+
+      boolean this_present_knownVersion = true;
+      boolean that_present_knownVersion = true;
+      if (this_present_knownVersion || that_present_knownVersion) {
+        if (!(this_present_knownVersion && that_present_knownVersion))
+          return false;
+        if (this.knownVersion != that.knownVersion)
+          return false;
+      }
+
+      boolean this_present_timeoutMs = true;
+      boolean that_present_timeoutMs = true;
+      if (this_present_timeoutMs || that_present_timeoutMs) {
+        if (!(this_present_timeoutMs && that_present_timeoutMs))
+          return false;
+        if (this.timeoutMs != that.timeoutMs)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_clientId = true && (isSetClientId());
+      list.add(present_clientId);
+      if (present_clientId)
+        list.add(clientId);
+
+      boolean present_serviceName = true && (isSetServiceName());
+      list.add(present_serviceName);
+      if (present_serviceName)
+        list.add(serviceName);
+
+      boolean present_knownVersion = true;
+      list.add(present_knownVersion);
+      if (present_knownVersion)
+        list.add(knownVersion);
+
+      boolean present_timeoutMs = true;
+      list.add(present_timeoutMs);
+      if (present_timeoutMs)
+        list.add(timeoutMs);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(watchServiceList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetClientId()).compareTo(other.isSetClientId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientId, other.clientId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetServiceName()).compareTo(other.isSetServiceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetServiceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.serviceName, other.serviceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetKnownVersion()).compareTo(other.isSetKnownVersion());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetKnownVersion()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.knownVersion, other.knownVersion);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetTimeoutMs()).compareTo(other.isSetTimeoutMs());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTimeoutMs()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.timeoutMs, other.timeoutMs);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("watchServiceList_args(");
+      boolean first = true;
+
+      sb.append("clientId:");
+      if (this.clientId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientId);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("serviceName:");
+      if (this.serviceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.serviceName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("knownVersion:");
+      sb.append(this.knownVersion);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("timeoutMs:");
+      sb.append(this.timeoutMs);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class watchServiceList_argsStandardSchemeFactory implements SchemeFactory {
+      public watchServiceList_argsStandardScheme getScheme() {
+        return new watchServiceList_argsStandardScheme();
+      }
+    }
+
+    private static class watchServiceList_argsStandardScheme extends StandardScheme<watchServiceList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, watchServiceList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientId = iprot.readString();
+                struct.setClientIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // SERVICE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.serviceName = iprot.readString();
+                struct.setServiceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // KNOWN_VERSION
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.knownVersion = iprot.readI64();
+                struct.setKnownVersionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // TIMEOUT_MS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.timeoutMs = iprot.readI32();
+                struct.setTimeoutMsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, watchServiceList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.clientId != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientId);
+          oprot.writeFieldEnd();
+        }
+        if (struct.serviceName != null) {
+          oprot.writeFieldBegin(SERVICE_NAME_FIELD_DESC);
+          oprot.writeString(struct.serviceName);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(KNOWN_VERSION_FIELD_DESC);
+        oprot.writeI64(struct.knownVersion);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(TIMEOUT_MS_FIELD_DESC);
+        oprot.writeI32(struct.timeoutMs);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class watchServiceList_argsTupleSchemeFactory implements SchemeFactory {
+      public watchServiceList_argsTupleScheme getScheme() {
+        return new watchServiceList_argsTupleScheme();
+      }
+    }
+
+    private static class watchServiceList_argsTupleScheme extends TupleScheme<watchServiceList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, watchServiceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetClientId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetServiceName()) {
+          optionals.set(1);
+        }
+        if (struct.isSetKnownVersion()) {
+          optionals.set(2);
+        }
+        if (struct.isSetTimeoutMs()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetClientId()) {
+          oprot.writeString(struct.clientId);
+        }
+        if (struct.isSetServiceName()) {
+          oprot.writeString(struct.serviceName);
+        }
+        if (struct.isSetKnownVersion()) {
+          oprot.writeI64(struct.knownVersion);
+        }
+        if (struct.isSetTimeoutMs()) {
+          oprot.writeI32(struct.timeoutMs);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, watchServiceList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.clientId = iprot.readString();
+          struct.setClientIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.serviceName = iprot.readString();
+          struct.setServiceNameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.knownVersion = iprot.readI64();
+          struct.setKnownVersionIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.timeoutMs = iprot.readI32();
+          struct.setTimeoutMsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class watchServiceList_result implements org.apache.thrift.TBase<watchServiceList_result, watchServiceList_result._Fields>, java.io.Serializable, Cloneable, Comparable<watchServiceList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("watchServiceList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new watchServiceList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new watchServiceList_resultTupleSchemeFactory());
+    }
+
+    public com.github.jerrysearch.tns.protocol.rpc.TServiceList success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TServiceList.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(watchServiceList_result.class, metaDataMap);
+    }
+
+    public watchServiceList_result() {
+    }
+
+    public watchServiceList_result(
+      com.github.jerrysearch.tns.protocol.rpc.TServiceList success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public watchServiceList_result(watchServiceList_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new com.github.jerrysearch.tns.protocol.rpc.TServiceList(other.success);
+      }
+    }
+
+    public watchServiceList_result deepCopy() {
+      return new watchServiceList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public com.github.jerrysearch.tns.protocol.rpc.TServiceList getSuccess() {
+      return this.success;
+    }
+
+    public watchServiceList_result setSuccess(com.github.jerrysearch.tns.protocol.rpc.TServiceList success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((com.github.jerrysearch.tns.protocol.rpc.TServiceList)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof watchServiceList_result)
+        return this.equals((watchServiceList_result)that);
+      return false;
+    }
+
+    public boolean equals(watchServiceList_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(watchServiceList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("watchServiceList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class watchServiceList_resultStandardSchemeFactory implements SchemeFactory {
+      public watchServiceList_resultStandardScheme getScheme() {
+        return new watchServiceList_resultStandardScheme();
+      }
+    }
+
+    private static class watchServiceList_resultStandardScheme extends StandardScheme<watchServiceList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, watchServiceList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new com.github.jerrysearch.tns.protocol.rpc.TServiceList();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, watchServiceList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class watchServiceList_resultTupleSchemeFactory implements SchemeFactory {
+      public watchServiceList_resultTupleScheme getScheme() {
+        return new watchServiceList_resultTupleScheme();
+      }
+    }
+
+    private static class watchServiceList_resultTupleScheme extends TupleScheme<watchServiceList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, watchServiceList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, watchServiceList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new com.github.jerrysearch.tns.protocol.rpc.TServiceList();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class clusterList_args implements org.apache.thrift.TBase<clusterList_args, clusterList_args._Fields>, java.io.Serializable, Cloneable, Comparable<clusterList_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("clusterList_args");
+
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientId", org.apache.thrift.protocol.TType.STRING, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new clusterList_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new clusterList_argsTupleSchemeFactory());
+    }
+
+    public String clientId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      CLIENT_ID((short)1, "clientId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // CLIENT_ID
+            return CLIENT_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(clusterList_args.class, metaDataMap);
+    }
+
+    public clusterList_args() {
+    }
+
+    public clusterList_args(
+      String clientId)
+    {
+      this();
+      this.clientId = clientId;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public clusterList_args(clusterList_args other) {
+      if (other.isSetClientId()) {
+        this.clientId = other.clientId;
+      }
+    }
+
+    public clusterList_args deepCopy() {
+      return new clusterList_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.clientId = null;
+    }
+
+    public String getClientId() {
+      return this.clientId;
+    }
+
+    public clusterList_args setClientId(String clientId) {
+      this.clientId = clientId;
+      return this;
+    }
+
+    public void unsetClientId() {
+      this.clientId = null;
+    }
+
+    /** Returns true if field clientId is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientId() {
+      return this.clientId != null;
+    }
+
+    public void setClientIdIsSet(boolean value) {
+      if (!value) {
+        this.clientId = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientId();
+        } else {
+          setClientId((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case CLIENT_ID:
+        return getClientId();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case CLIENT_ID:
+        return isSetClientId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof clusterList_args)
+        return this.equals((clusterList_args)that);
+      return false;
+    }
+
+    public boolean equals(clusterList_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_clientId = true && this.isSetClientId();
+      boolean that_present_clientId = true && that.isSetClientId();
+      if (this_present_clientId || that_present_clientId) {
+        if (!(this_present_clientId && that_present_clientId))
+          return false;
+        if (!this.clientId.equals(that.clientId))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_clientId = true && (isSetClientId());
+      list.add(present_clientId);
+      if (present_clientId)
+        list.add(clientId);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(clusterList_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetClientId()).compareTo(other.isSetClientId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientId, other.clientId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("clusterList_args(");
+      boolean first = true;
+
+      sb.append("clientId:");
+      if (this.clientId == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientId);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class clusterList_argsStandardSchemeFactory implements SchemeFactory {
+      public clusterList_argsStandardScheme getScheme() {
+        return new clusterList_argsStandardScheme();
+      }
+    }
+
+    private static class clusterList_argsStandardScheme extends StandardScheme<clusterList_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, clusterList_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientId = iprot.readString();
+                struct.setClientIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, clusterList_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.clientId != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientId);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class clusterList_argsTupleSchemeFactory implements SchemeFactory {
+      public clusterList_argsTupleScheme getScheme() {
+        return new clusterList_argsTupleScheme();
+      }
+    }
+
+    private static class clusterList_argsTupleScheme extends TupleScheme<clusterList_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, clusterList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetClientId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetClientId()) {
+          oprot.writeString(struct.clientId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, clusterList_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.clientId = iprot.readString();
+          struct.setClientIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class clusterList_result implements org.apache.thrift.TBase<clusterList_result, clusterList_result._Fields>, java.io.Serializable, Cloneable, Comparable<clusterList_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("clusterList_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new clusterList_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new clusterList_resultTupleSchemeFactory());
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TCNode.class))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(clusterList_result.class, metaDataMap);
+    }
+
+    public clusterList_result() {
+    }
+
+    public clusterList_result(
+      List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public clusterList_result(clusterList_result other) {
+      if (other.isSetSuccess()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TCNode> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(other.success.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TCNode other_element : other.success) {
+          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TCNode(other_element));
+        }
+        this.success = __this__success;
+      }
+    }
+
+    public clusterList_result deepCopy() {
+      return new clusterList_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TCNode> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TCNode elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> getSuccess() {
+      return this.success;
+    }
+
+    public clusterList_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TCNode>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof clusterList_result)
+        return this.equals((clusterList_result)that);
+      return false;
+    }
+
+    public boolean equals(clusterList_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(clusterList_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("clusterList_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class clusterList_resultStandardSchemeFactory implements SchemeFactory {
+      public clusterList_resultStandardScheme getScheme() {
+        return new clusterList_resultStandardScheme();
+      }
+    }
+
+    private static class clusterList_resultStandardScheme extends StandardScheme<clusterList_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, clusterList_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list8.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+                    _elem9.read(iprot);
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, clusterList_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class clusterList_resultTupleSchemeFactory implements SchemeFactory {
+      public clusterList_resultTupleScheme getScheme() {
+        return new clusterList_resultTupleScheme();
+      }
+    }
+
+    private static class clusterList_resultTupleScheme extends TupleScheme<clusterList_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, clusterList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, clusterList_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list13.size);
+            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
+              _elem14.read(iprot);
+              struct.success.add(_elem14);
+            }
           }
-        };
-      }
-
-      protected boolean isOneway() {
-        return false;
-      }
-
-      public void start(I iface, clusterList_args args, org.apache.thrift.async.AsyncMethodCallback<List<com.github.jerrysearch.tns.protocol.rpc.TCNode>> resultHandler) throws TException {
-        iface.clusterList(args.clientId,resultHandler);
+          struct.setSuccessIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class serviceList_args implements org.apache.thrift.TBase<serviceList_args, serviceList_args._Fields>, java.io.Serializable, Cloneable, Comparable<serviceList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceList_args");
+  public static class register_args implements org.apache.thrift.TBase<register_args, register_args._Fields>, java.io.Serializable, Cloneable, Comparable<register_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("register_args");
 
     private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientId", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField SERVICE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("serviceName", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("nodes", org.apache.thrift.protocol.TType.LIST, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new serviceList_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new serviceList_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new register_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new register_argsTupleSchemeFactory());
     }
 
     public String clientId; // required
-    public String serviceName; // required
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       CLIENT_ID((short)1, "clientId"),
-      SERVICE_NAME((short)2, "serviceName");
+      NODES((short)2, "nodes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -431,8 +3565,8 @@ public class TNSRpc {
         switch(fieldId) {
           case 1: // CLIENT_ID
             return CLIENT_ID;
-          case 2: // SERVICE_NAME
-            return SERVICE_NAME;
+          case 2: // NODES
+            return NODES;
           default:
             return null;
         }
@@ -478,51 +3612,56 @@ public class TNSRpc {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.SERVICE_NAME, new org.apache.thrift.meta_data.FieldMetaData("serviceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.NODES, new org.apache.thrift.meta_data.FieldMetaData("nodes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TSNode.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(register_args.class, metaDataMap);
     }
 
-    public serviceList_args() {
+    public register_args() {
     }
 
-    public serviceList_args(
+    public register_args(
       String clientId,
-      String serviceName)
+      List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes)
     {
       this();
       this.clientId = clientId;
-      this.serviceName = serviceName;
+      this.nodes = nodes;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public serviceList_args(serviceList_args other) {
+    public register_args(register_args other) {
       if (other.isSetClientId()) {
         this.clientId = other.clientId;
       }
-      if (other.isSetServiceName()) {
-        this.serviceName = other.serviceName;
+      if (other.isSetNodes()) {
+        List<com.github.jerrysearch.tns.protocol.rpc.TSNode> __this__nodes = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(other.nodes.size());
+        for (com.github.jerrysearch.tns.protocol.rpc.TSNode other_element : other.nodes) {
+          __this__nodes.add(new com.github.jerrysearch.tns.protocol.rpc.TSNode(other_element));
+        }
+        this.nodes = __this__nodes;
       }
     }
 
-    public serviceList_args deepCopy() {
-      return new serviceList_args(this);
+    public register_args deepCopy() {
+      return new register_args(this);
     }
 
     @Override
     public void clear() {
       this.clientId = null;
-      this.serviceName = null;
+      this.nodes = null;
     }
 
     public String getClientId() {
       return this.clientId;
     }
 
-    public serviceList_args setClientId(String clientId) {
+    public register_args setClientId(String clientId) {
       this.clientId = clientId;
       return this;
     }
@@ -542,27 +3681,42 @@ public class TNSRpc {
       }
     }
 
-    public String getServiceName() {
-      return this.serviceName;
+    public int getNodesSize() {
+      return (this.nodes == null) ? 0 : this.nodes.size();
     }
 
-    public serviceList_args setServiceName(String serviceName) {
-      this.serviceName = serviceName;
+    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getNodesIterator() {
+      return (this.nodes == null) ? null : this.nodes.iterator();
+    }
+
+    public void addToNodes(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+      if (this.nodes == null) {
+        this.nodes = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+      }
+      this.nodes.add(elem);
+    }
+
+    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getNodes() {
+      return this.nodes;
+    }
+
+    public register_args setNodes(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> nodes) {
+      this.nodes = nodes;
       return this;
     }
 
-    public void unsetServiceName() {
-      this.serviceName = null;
+    public void unsetNodes() {
+      this.nodes = null;
     }
 
-    /** Returns true if field serviceName is set (has been assigned a value) and false otherwise */
-    public boolean isSetServiceName() {
-      return this.serviceName != null;
+    /** Returns true if field nodes is set (has been assigned a value) and false otherwise */
+    public boolean isSetNodes() {
+      return this.nodes != null;
     }
 
-    public void setServiceNameIsSet(boolean value) {
+    public void setNodesIsSet(boolean value) {
       if (!value) {
-        this.serviceName = null;
+        this.nodes = null;
       }
     }
 
@@ -576,11 +3730,11 @@ public class TNSRpc {
         }
         break;
 
-      case SERVICE_NAME:
+      case NODES:
         if (value == null) {
-          unsetServiceName();
+          unsetNodes();
         } else {
-          setServiceName((String)value);
+          setNodes((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
         }
         break;
 
@@ -592,8 +3746,8 @@ public class TNSRpc {
       case CLIENT_ID:
         return getClientId();
 
-      case SERVICE_NAME:
-        return getServiceName();
+      case NODES:
+        return getNodes();
 
       }
       throw new IllegalStateException();
@@ -608,8 +3762,8 @@ public class TNSRpc {
       switch (field) {
       case CLIENT_ID:
         return isSetClientId();
-      case SERVICE_NAME:
-        return isSetServiceName();
+      case NODES:
+        return isSetNodes();
       }
       throw new IllegalStateException();
     }
@@ -618,12 +3772,12 @@ public class TNSRpc {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof serviceList_args)
-        return this.equals((serviceList_args)that);
+      if (that instanceof register_args)
+        return this.equals((register_args)that);
       return false;
     }
 
-    public boolean equals(serviceList_args that) {
+    public boolean equals(register_args that) {
       if (that == null)
         return false;
 
@@ -636,12 +3790,12 @@ public class TNSRpc {
           return false;
       }
 
-      boolean this_present_serviceName = true && this.isSetServiceName();
-      boolean that_present_serviceName = true && that.isSetServiceName();
-      if (this_present_serviceName || that_present_serviceName) {
-        if (!(this_present_serviceName && that_present_serviceName))
+      boolean this_present_nodes = true && this.isSetNodes();
+      boolean that_present_nodes = true && that.isSetNodes();
+      if (this_present_nodes || that_present_nodes) {
+        if (!(this_present_nodes && that_present_nodes))
           return false;
-        if (!this.serviceName.equals(that.serviceName))
+        if (!this.nodes.equals(that.nodes))
           return false;
       }
 
@@ -657,16 +3811,16 @@ public class TNSRpc {
       if (present_clientId)
         list.add(clientId);
 
-      boolean present_serviceName = true && (isSetServiceName());
-      list.add(present_serviceName);
-      if (present_serviceName)
-        list.add(serviceName);
+      boolean present_nodes = true && (isSetNodes());
+      list.add(present_nodes);
+      if (present_nodes)
+        list.add(nodes);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(serviceList_args other) {
+    public int compareTo(register_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -683,12 +3837,12 @@ public class TNSRpc {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetServiceName()).compareTo(other.isSetServiceName());
+      lastComparison = Boolean.valueOf(isSetNodes()).compareTo(other.isSetNodes());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetServiceName()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.serviceName, other.serviceName);
+      if (isSetNodes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nodes, other.nodes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -710,7 +3864,7 @@ public class TNSRpc {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("serviceList_args(");
+      StringBuilder sb = new StringBuilder("register_args(");
       boolean first = true;
 
       sb.append("clientId:");
@@ -721,11 +3875,11 @@ public class TNSRpc {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("serviceName:");
-      if (this.serviceName == null) {
+      sb.append("nodes:");
+      if (this.nodes == null) {
         sb.append("null");
       } else {
-        sb.append(this.serviceName);
+        sb.append(this.nodes);
       }
       first = false;
       sb.append(")");
@@ -753,15 +3907,15 @@ public class TNSRpc {
       }
     }
 
-    private static class serviceList_argsStandardSchemeFactory implements SchemeFactory {
-      public serviceList_argsStandardScheme getScheme() {
-        return new serviceList_argsStandardScheme();
+    private static class register_argsStandardSchemeFactory implements SchemeFactory {
+      public register_argsStandardScheme getScheme() {
+        return new register_argsStandardScheme();
       }
     }
 
-    private static class serviceList_argsStandardScheme extends StandardScheme<serviceList_args> {
+    private static class register_argsStandardScheme extends StandardScheme<register_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, register_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -779,10 +3933,21 @@ public class TNSRpc {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // SERVICE_NAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.serviceName = iprot.readString();
-                struct.setServiceNameIsSet(true);
+            case 2: // NODES
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.nodes = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list16.size);
+                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+                    _elem17.read(iprot);
+                    struct.nodes.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setNodesIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -798,7 +3963,7 @@ public class TNSRpc {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, register_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -807,9 +3972,16 @@ public class TNSRpc {
           oprot.writeString(struct.clientId);
           oprot.writeFieldEnd();
         }
-        if (struct.serviceName != null) {
-          oprot.writeFieldBegin(SERVICE_NAME_FIELD_DESC);
-          oprot.writeString(struct.serviceName);
+        if (struct.nodes != null) {
+          oprot.writeFieldBegin(NODES_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.nodes.size()));
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter19 : struct.nodes)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -818,35 +3990,41 @@ public class TNSRpc {
 
     }
 
-    private static class serviceList_argsTupleSchemeFactory implements SchemeFactory {
-      public serviceList_argsTupleScheme getScheme() {
-        return new serviceList_argsTupleScheme();
+    private static class register_argsTupleSchemeFactory implements SchemeFactory {
+      public register_argsTupleScheme getScheme() {
+        return new register_argsTupleScheme();
       }
     }
 
-    private static class serviceList_argsTupleScheme extends TupleScheme<serviceList_args> {
+    private static class register_argsTupleScheme extends TupleScheme<register_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, serviceList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, register_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetClientId()) {
           optionals.set(0);
         }
-        if (struct.isSetServiceName()) {
+        if (struct.isSetNodes()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetClientId()) {
           oprot.writeString(struct.clientId);
         }
-        if (struct.isSetServiceName()) {
-          oprot.writeString(struct.serviceName);
+        if (struct.isSetNodes()) {
+          {
+            oprot.writeI32(struct.nodes.size());
+            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter20 : struct.nodes)
+            {
+              _iter20.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, serviceList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, register_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -854,26 +4032,36 @@ public class TNSRpc {
           struct.setClientIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.serviceName = iprot.readString();
-          struct.setServiceNameIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.nodes = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list21.size);
+            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem22;
+            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            {
+              _elem22 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
+              _elem22.read(iprot);
+              struct.nodes.add(_elem22);
+            }
+          }
+          struct.setNodesIsSet(true);
         }
       }
     }
 
   }
 
-  public static class serviceList_result implements org.apache.thrift.TBase<serviceList_result, serviceList_result._Fields>, java.io.Serializable, Cloneable, Comparable<serviceList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("serviceList_result");
+  public static class register_result implements org.apache.thrift.TBase<register_result, register_result._Fields>, java.io.Serializable, Cloneable, Comparable<register_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("register_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new serviceList_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new serviceList_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new register_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new register_resultTupleSchemeFactory());
     }
 
-    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success; // required
+    public List<Long> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -939,16 +4127,16 @@ public class TNSRpc {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TSNode.class))));
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(serviceList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(register_result.class, metaDataMap);
     }
 
-    public serviceList_result() {
+    public register_result() {
     }
 
-    public serviceList_result(
-      List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success)
+    public register_result(
+      List<Long> success)
     {
       this();
       this.success = success;
@@ -957,18 +4145,15 @@ public class TNSRpc {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public serviceList_result(serviceList_result other) {
+    public register_result(register_result other) {
       if (other.isSetSuccess()) {
-        List<com.github.jerrysearch.tns.protocol.rpc.TSNode> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(other.success.size());
-        for (com.github.jerrysearch.tns.protocol.rpc.TSNode other_element : other.success) {
-          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TSNode(other_element));
-        }
+        List<Long> __this__success = new ArrayList<Long>(other.success);
         this.success = __this__success;
       }
     }
 
-    public serviceList_result deepCopy() {
-      return new serviceList_result(this);
+    public register_result deepCopy() {
+      return new register_result(this);
     }
 
     @Override
@@ -980,22 +4165,22 @@ public class TNSRpc {
       return (this.success == null) ? 0 : this.success.size();
     }
 
-    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccessIterator() {
+    public java.util.Iterator<Long> getSuccessIterator() {
       return (this.success == null) ? null : this.success.iterator();
     }
 
-    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TSNode elem) {
+    public void addToSuccess(long elem) {
       if (this.success == null) {
-        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>();
+        this.success = new ArrayList<Long>();
       }
       this.success.add(elem);
     }
 
-    public List<com.github.jerrysearch.tns.protocol.rpc.TSNode> getSuccess() {
+    public List<Long> getSuccess() {
       return this.success;
     }
 
-    public serviceList_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TSNode> success) {
+    public register_result setSuccess(List<Long> success) {
       this.success = success;
       return this;
     }
@@ -1021,7 +4206,7 @@ public class TNSRpc {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TSNode>)value);
+          setSuccess((List<Long>)value);
         }
         break;
 
@@ -1054,12 +4239,12 @@ public class TNSRpc {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof serviceList_result)
-        return this.equals((serviceList_result)that);
+      if (that instanceof register_result)
+        return this.equals((register_result)that);
       return false;
     }
 
-    public boolean equals(serviceList_result that) {
+    public boolean equals(register_result that) {
       if (that == null)
         return false;
 
@@ -1088,7 +4273,7 @@ public class TNSRpc {
     }
 
     @Override
-    public int compareTo(serviceList_result other) {
+    public int compareTo(register_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1122,7 +4307,7 @@ public class TNSRpc {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("serviceList_result(");
+      StringBuilder sb = new StringBuilder("register_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -1157,15 +4342,15 @@ public class TNSRpc {
       }
     }
 
-    private static class serviceList_resultStandardSchemeFactory implements SchemeFactory {
-      public serviceList_resultStandardScheme getScheme() {
-        return new serviceList_resultStandardScheme();
+    private static class register_resultStandardSchemeFactory implements SchemeFactory {
+      public register_resultStandardScheme getScheme() {
+        return new register_resultStandardScheme();
       }
     }
 
-    private static class serviceList_resultStandardScheme extends StandardScheme<serviceList_result> {
+    private static class register_resultStandardScheme extends StandardScheme<register_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, serviceList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, register_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1178,14 +4363,13 @@ public class TNSRpc {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
-                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list0.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TSNode _elem1;
-                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.success = new ArrayList<Long>(_list24.size);
+                  long _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
                   {
-                    _elem1 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-                    _elem1.read(iprot);
-                    struct.success.add(_elem1);
+                    _elem25 = iprot.readI64();
+                    struct.success.add(_elem25);
                   }
                   iprot.readListEnd();
                 }
@@ -1205,17 +4389,17 @@ public class TNSRpc {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, serviceList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, register_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter3 : struct.success)
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.success.size()));
+            for (long _iter27 : struct.success)
             {
-              _iter3.write(oprot);
+              oprot.writeI64(_iter27);
             }
             oprot.writeListEnd();
           }
@@ -1227,16 +4411,16 @@ public class TNSRpc {
 
     }
 
-    private static class serviceList_resultTupleSchemeFactory implements SchemeFactory {
-      public serviceList_resultTupleScheme getScheme() {
-        return new serviceList_resultTupleScheme();
+    private static class register_resultTupleSchemeFactory implements SchemeFactory {
+      public register_resultTupleScheme getScheme() {
+        return new register_resultTupleScheme();
       }
     }
 
-    private static class serviceList_resultTupleScheme extends TupleScheme<serviceList_result> {
+    private static class register_resultTupleScheme extends TupleScheme<register_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, serviceList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, register_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -1246,28 +4430,27 @@ public class TNSRpc {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TSNode _iter4 : struct.success)
+            for (long _iter28 : struct.success)
             {
-              _iter4.write(oprot);
+              oprot.writeI64(_iter28);
             }
           }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, serviceList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, register_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TSNode>(_list5.size);
-            com.github.jerrysearch.tns.protocol.rpc.TSNode _elem6;
-            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.success = new ArrayList<Long>(_list29.size);
+            long _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
             {
-              _elem6 = new com.github.jerrysearch.tns.protocol.rpc.TSNode();
-              _elem6.read(iprot);
-              struct.success.add(_elem6);
+              _elem30 = iprot.readI64();
+              struct.success.add(_elem30);
             }
           }
           struct.setSuccessIsSet(true);
@@ -1277,22 +4460,28 @@ public class TNSRpc {
 
   }
 
-  public static class clusterList_args implements org.apache.thrift.TBase<clusterList_args, clusterList_args._Fields>, java.io.Serializable, Cloneable, Comparable<clusterList_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("clusterList_args");
+  public static class deregister_args implements org.apache.thrift.TBase<deregister_args, deregister_args._Fields>, java.io.Serializable, Cloneable, Comparable<deregister_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deregister_args");
 
     private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientId", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField SERVICE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("serviceName", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("ids", org.apache.thrift.protocol.TType.LIST, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new clusterList_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new clusterList_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deregister_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deregister_argsTupleSchemeFactory());
     }
 
     public String clientId; // required
+    public String serviceName; // required
+    public List<Long> ids; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      CLIENT_ID((short)1, "clientId");
+      CLIENT_ID((short)1, "clientId"),
+      SERVICE_NAME((short)2, "serviceName"),
+      IDS((short)3, "ids");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1309,6 +4498,10 @@ public class TNSRpc {
         switch(fieldId) {
           case 1: // CLIENT_ID
             return CLIENT_ID;
+          case 2: // SERVICE_NAME
+            return SERVICE_NAME;
+          case 3: // IDS
+            return IDS;
           default:
             return null;
         }
@@ -1354,43 +4547,61 @@ public class TNSRpc {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SERVICE_NAME, new org.apache.thrift.meta_data.FieldMetaData("serviceName", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.IDS, new org.apache.thrift.meta_data.FieldMetaData("ids", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(clusterList_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deregister_args.class, metaDataMap);
     }
 
-    public clusterList_args() {
+    public deregister_args() {
     }
 
-    public clusterList_args(
-      String clientId)
+    public deregister_args(
+      String clientId,
+      String serviceName,
+      List<Long> ids)
     {
       this();
       this.clientId = clientId;
+      this.serviceName = serviceName;
+      this.ids = ids;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public clusterList_args(clusterList_args other) {
+    public deregister_args(deregister_args other) {
       if (other.isSetClientId()) {
         this.clientId = other.clientId;
       }
+      if (other.isSetServiceName()) {
+        this.serviceName = other.serviceName;
+      }
+      if (other.isSetIds()) {
+        List<Long> __this__ids = new ArrayList<Long>(other.ids);
+        this.ids = __this__ids;
+      }
     }
 
-    public clusterList_args deepCopy() {
-      return new clusterList_args(this);
+    public deregister_args deepCopy() {
+      return new deregister_args(this);
     }
 
     @Override
     public void clear() {
       this.clientId = null;
+      this.serviceName = null;
+      this.ids = null;
     }
 
     public String getClientId() {
       return this.clientId;
     }
 
-    public clusterList_args setClientId(String clientId) {
+    public deregister_args setClientId(String clientId) {
       this.clientId = clientId;
       return this;
     }
@@ -1404,9 +4615,72 @@ public class TNSRpc {
       return this.clientId != null;
     }
 
-    public void setClientIdIsSet(boolean value) {
+    public void setClientIdIsSet(boolean value) {
+      if (!value) {
+        this.clientId = null;
+      }
+    }
+
+    public String getServiceName() {
+      return this.serviceName;
+    }
+
+    public deregister_args setServiceName(String serviceName) {
+      this.serviceName = serviceName;
+      return this;
+    }
+
+    public void unsetServiceName() {
+      this.serviceName = null;
+    }
+
+    /** Returns true if field serviceName is set (has been assigned a value) and false otherwise */
+    public boolean isSetServiceName() {
+      return this.serviceName != null;
+    }
+
+    public void setServiceNameIsSet(boolean value) {
+      if (!value) {
+        this.serviceName = null;
+      }
+    }
+
+    public int getIdsSize() {
+      return (this.ids == null) ? 0 : this.ids.size();
+    }
+
+    public java.util.Iterator<Long> getIdsIterator() {
+      return (this.ids == null) ? null : this.ids.iterator();
+    }
+
+    public void addToIds(long elem) {
+      if (this.ids == null) {
+        this.ids = new ArrayList<Long>();
+      }
+      this.ids.add(elem);
+    }
+
+    public List<Long> getIds() {
+      return this.ids;
+    }
+
+    public deregister_args setIds(List<Long> ids) {
+      this.ids = ids;
+      return this;
+    }
+
+    public void unsetIds() {
+      this.ids = null;
+    }
+
+    /** Returns true if field ids is set (has been assigned a value) and false otherwise */
+    public boolean isSetIds() {
+      return this.ids != null;
+    }
+
+    public void setIdsIsSet(boolean value) {
       if (!value) {
-        this.clientId = null;
+        this.ids = null;
       }
     }
 
@@ -1420,6 +4694,22 @@ public class TNSRpc {
         }
         break;
 
+      case SERVICE_NAME:
+        if (value == null) {
+          unsetServiceName();
+        } else {
+          setServiceName((String)value);
+        }
+        break;
+
+      case IDS:
+        if (value == null) {
+          unsetIds();
+        } else {
+          setIds((List<Long>)value);
+        }
+        break;
+
       }
     }
 
@@ -1428,6 +4718,12 @@ public class TNSRpc {
       case CLIENT_ID:
         return getClientId();
 
+      case SERVICE_NAME:
+        return getServiceName();
+
+      case IDS:
+        return getIds();
+
       }
       throw new IllegalStateException();
     }
@@ -1441,6 +4737,10 @@ public class TNSRpc {
       switch (field) {
       case CLIENT_ID:
         return isSetClientId();
+      case SERVICE_NAME:
+        return isSetServiceName();
+      case IDS:
+        return isSetIds();
       }
       throw new IllegalStateException();
     }
@@ -1449,12 +4749,12 @@ public class TNSRpc {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof clusterList_args)
-        return this.equals((clusterList_args)that);
+      if (that instanceof deregister_args)
+        return this.equals((deregister_args)that);
       return false;
     }
 
-    public boolean equals(clusterList_args that) {
+    public boolean equals(deregister_args that) {
       if (that == null)
         return false;
 
@@ -1467,6 +4767,24 @@ public class TNSRpc {
           return false;
       }
 
+      boolean this_present_serviceName = true && this.isSetServiceName();
+      boolean that_present_serviceName = true && that.isSetServiceName();
+      if (this_present_serviceName || that_present_serviceName) {
+        if (!(this_present_serviceName && that_present_serviceName))
+          return false;
+        if (!this.serviceName.equals(that.serviceName))
+          return false;
+      }
+
+      boolean this_present_ids = true && this.isSetIds();
+      boolean that_present_ids = true && that.isSetIds();
+      if (this_present_ids || that_present_ids) {
+        if (!(this_present_ids && that_present_ids))
+          return false;
+        if (!this.ids.equals(that.ids))
+          return false;
+      }
+
       return true;
     }
 
@@ -1479,11 +4797,21 @@ public class TNSRpc {
       if (present_clientId)
         list.add(clientId);
 
+      boolean present_serviceName = true && (isSetServiceName());
+      list.add(present_serviceName);
+      if (present_serviceName)
+        list.add(serviceName);
+
+      boolean present_ids = true && (isSetIds());
+      list.add(present_ids);
+      if (present_ids)
+        list.add(ids);
+
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(clusterList_args other) {
+    public int compareTo(deregister_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1500,6 +4828,26 @@ public class TNSRpc {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetServiceName()).compareTo(other.isSetServiceName());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetServiceName()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.serviceName, other.serviceName);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetIds()).compareTo(other.isSetIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ids, other.ids);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -1517,7 +4865,7 @@ public class TNSRpc {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("clusterList_args(");
+      StringBuilder sb = new StringBuilder("deregister_args(");
       boolean first = true;
 
       sb.append("clientId:");
@@ -1527,6 +4875,22 @@ public class TNSRpc {
         sb.append(this.clientId);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("serviceName:");
+      if (this.serviceName == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.serviceName);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ids:");
+      if (this.ids == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ids);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -1552,15 +4916,15 @@ public class TNSRpc {
       }
     }
 
-    private static class clusterList_argsStandardSchemeFactory implements SchemeFactory {
-      public clusterList_argsStandardScheme getScheme() {
-        return new clusterList_argsStandardScheme();
+    private static class deregister_argsStandardSchemeFactory implements SchemeFactory {
+      public deregister_argsStandardScheme getScheme() {
+        return new deregister_argsStandardScheme();
       }
     }
 
-    private static class clusterList_argsStandardScheme extends StandardScheme<clusterList_args> {
+    private static class deregister_argsStandardScheme extends StandardScheme<deregister_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, clusterList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deregister_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1578,6 +4942,32 @@ public class TNSRpc {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // SERVICE_NAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.serviceName = iprot.readString();
+                struct.setServiceNameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list32 = iprot.readListBegin();
+                  struct.ids = new ArrayList<Long>(_list32.size);
+                  long _elem33;
+                  for (int _i34 = 0; _i34 < _list32.size; ++_i34)
+                  {
+                    _elem33 = iprot.readI64();
+                    struct.ids.add(_elem33);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -1589,7 +4979,7 @@ public class TNSRpc {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, clusterList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deregister_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -1598,58 +4988,110 @@ public class TNSRpc {
           oprot.writeString(struct.clientId);
           oprot.writeFieldEnd();
         }
+        if (struct.serviceName != null) {
+          oprot.writeFieldBegin(SERVICE_NAME_FIELD_DESC);
+          oprot.writeString(struct.serviceName);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ids != null) {
+          oprot.writeFieldBegin(IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.ids.size()));
+            for (long _iter35 : struct.ids)
+            {
+              oprot.writeI64(_iter35);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class clusterList_argsTupleSchemeFactory implements SchemeFactory {
-      public clusterList_argsTupleScheme getScheme() {
-        return new clusterList_argsTupleScheme();
+    private static class deregister_argsTupleSchemeFactory implements SchemeFactory {
+      public deregister_argsTupleScheme getScheme() {
+        return new deregister_argsTupleScheme();
       }
     }
 
-    private static class clusterList_argsTupleScheme extends TupleScheme<clusterList_args> {
+    private static class deregister_argsTupleScheme extends TupleScheme<deregister_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, clusterList_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deregister_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetClientId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetServiceName()) {
+          optionals.set(1);
+        }
+        if (struct.isSetIds()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetClientId()) {
           oprot.writeString(struct.clientId);
         }
+        if (struct.isSetServiceName()) {
+          oprot.writeString(struct.serviceName);
+        }
+        if (struct.isSetIds()) {
+          {
+            oprot.writeI32(struct.ids.size());
+            for (long _iter36 : struct.ids)
+            {
+              oprot.writeI64(_iter36);
+            }
+          }
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, clusterList_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deregister_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.clientId = iprot.readString();
           struct.setClientIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.serviceName = iprot.readString();
+          struct.setServiceNameIsSet(true);
+        }
+        if (incoming.get(2)) {
+          {
+            org.apache.thrift.protocol.TList _list37 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.ids = new ArrayList<Long>(_list37.size);
+            long _elem38;
+            for (int _i39 = 0; _i39 < _list37.size; ++_i39)
+            {
+              _elem38 = iprot.readI64();
+              struct.ids.add(_elem38);
+            }
+          }
+          struct.setIdsIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class clusterList_result implements org.apache.thrift.TBase<clusterList_result, clusterList_result._Fields>, java.io.Serializable, Cloneable, Comparable<clusterList_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("clusterList_result");
+  public static class deregister_result implements org.apache.thrift.TBase<deregister_result, deregister_result._Fields>, java.io.Serializable, Cloneable, Comparable<deregister_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deregister_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new clusterList_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new clusterList_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new deregister_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deregister_resultTupleSchemeFactory());
     }
 
-    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success; // required
+    public int success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -1710,85 +5152,67 @@ public class TNSRpc {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, com.github.jerrysearch.tns.protocol.rpc.TCNode.class))));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(clusterList_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deregister_result.class, metaDataMap);
     }
 
-    public clusterList_result() {
+    public deregister_result() {
     }
 
-    public clusterList_result(
-      List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success)
+    public deregister_result(
+      int success)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public clusterList_result(clusterList_result other) {
-      if (other.isSetSuccess()) {
-        List<com.github.jerrysearch.tns.protocol.rpc.TCNode> __this__success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(other.success.size());
-        for (com.github.jerrysearch.tns.protocol.rpc.TCNode other_element : other.success) {
-          __this__success.add(new com.github.jerrysearch.tns.protocol.rpc.TCNode(other_element));
-        }
-        this.success = __this__success;
-      }
+    public deregister_result(deregister_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public clusterList_result deepCopy() {
-      return new clusterList_result(this);
+    public deregister_result deepCopy() {
+      return new deregister_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<com.github.jerrysearch.tns.protocol.rpc.TCNode> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(com.github.jerrysearch.tns.protocol.rpc.TCNode elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>();
-      }
-      this.success.add(elem);
+      setSuccessIsSet(false);
+      this.success = 0;
     }
 
-    public List<com.github.jerrysearch.tns.protocol.rpc.TCNode> getSuccess() {
+    public int getSuccess() {
       return this.success;
     }
 
-    public clusterList_result setSuccess(List<com.github.jerrysearch.tns.protocol.rpc.TCNode> success) {
+    public deregister_result setSuccess(int success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -1797,7 +5221,7 @@ public class TNSRpc {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<com.github.jerrysearch.tns.protocol.rpc.TCNode>)value);
+          setSuccess((Integer)value);
         }
         break;
 
@@ -1807,7 +5231,7 @@ public class TNSRpc {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Integer.valueOf(getSuccess());
 
       }
       throw new IllegalStateException();
@@ -1830,21 +5254,21 @@ public class TNSRpc {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof clusterList_result)
-        return this.equals((clusterList_result)that);
+      if (that instanceof deregister_result)
+        return this.equals((deregister_result)that);
       return false;
     }
 
-    public boolean equals(clusterList_result that) {
+    public boolean equals(deregister_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -1855,7 +5279,7 @@ public class TNSRpc {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
+      boolean present_success = true;
       list.add(present_success);
       if (present_success)
         list.add(success);
@@ -1864,7 +5288,7 @@ public class TNSRpc {
     }
 
     @Override
-    public int compareTo(clusterList_result other) {
+    public int compareTo(deregister_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -1898,15 +5322,11 @@ public class TNSRpc {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("clusterList_result(");
+      StringBuilder sb = new StringBuilder("deregister_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1927,21 +5347,23 @@ public class TNSRpc {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class clusterList_resultStandardSchemeFactory implements SchemeFactory {
-      public clusterList_resultStandardScheme getScheme() {
-        return new clusterList_resultStandardScheme();
+    private static class deregister_resultStandardSchemeFactory implements SchemeFactory {
+      public deregister_resultStandardScheme getScheme() {
+        return new deregister_resultStandardScheme();
       }
     }
 
-    private static class clusterList_resultStandardScheme extends StandardScheme<clusterList_result> {
+    private static class deregister_resultStandardScheme extends StandardScheme<deregister_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, clusterList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deregister_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1952,19 +5374,8 @@ public class TNSRpc {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
-                  struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list8.size);
-                  com.github.jerrysearch.tns.protocol.rpc.TCNode _elem9;
-                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
-                  {
-                    _elem9 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-                    _elem9.read(iprot);
-                    struct.success.add(_elem9);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -1981,20 +5392,13 @@ public class TNSRpc {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, clusterList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deregister_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter11 : struct.success)
-            {
-              _iter11.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
+          oprot.writeI32(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -2003,16 +5407,16 @@ public class TNSRpc {
 
     }
 
-    private static class clusterList_resultTupleSchemeFactory implements SchemeFactory {
-      public clusterList_resultTupleScheme getScheme() {
-        return new clusterList_resultTupleScheme();
+    private static class deregister_resultTupleSchemeFactory implements SchemeFactory {
+      public deregister_resultTupleScheme getScheme() {
+        return new deregister_resultTupleScheme();
       }
     }
 
-    private static class clusterList_resultTupleScheme extends TupleScheme<clusterList_result> {
+    private static class deregister_resultTupleScheme extends TupleScheme<deregister_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, clusterList_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, deregister_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -2020,32 +5424,16 @@ public class TNSRpc {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (com.github.jerrysearch.tns.protocol.rpc.TCNode _iter12 : struct.success)
-            {
-              _iter12.write(oprot);
-            }
-          }
+          oprot.writeI32(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, clusterList_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, deregister_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<com.github.jerrysearch.tns.protocol.rpc.TCNode>(_list13.size);
-            com.github.jerrysearch.tns.protocol.rpc.TCNode _elem14;
-            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
-            {
-              _elem14 = new com.github.jerrysearch.tns.protocol.rpc.TCNode();
-              _elem14.read(iprot);
-              struct.success.add(_elem14);
-            }
-          }
+          struct.success = iprot.readI32();
           struct.setSuccessIsSet(true);
         }
       }
@@ -15,6 +15,27 @@ service Cluster {
 	*/
 	oneway void pushClusterAndServiceList(1: list<struct.TCNode> cList, 2: list<struct.TSNode> sList),
 	
+	/**
+	*	增量推送tns、service节点列表，sList只包含版本号在(fromVersion, toVersion]之间变化的节点
+	*	fromVersion为0表示全量，返回对方已确认的版本号，与toVersion不一致时需要全量推送
+	*/
+	i64 pushDelta(1: i64 sourceId, 2: i64 epoch, 3: i64 fromVersion, 4: i64 toVersion, 5: list<struct.TCNode> cList, 6: list<struct.TSNode> sList),
+	
+	/**
+	*	按serviceName哈希分桶，返回每个桶的摘要
+	*/
+	list<i64> digestBuckets(),
+	
+	/**
+	*	返回指定桶中每个service的摘要
+	*/
+	list<struct.TDigest> serviceDigests(1: list<i32> buckets),
+	
+	/**
+	*	返回指定service的节点列表，不包括墓碑
+	*/
+	list<struct.TSNode> serviceNodeList(1: list<string> serviceNames),
+	
 	/**
 	*	获取所有service node列表
 	*/
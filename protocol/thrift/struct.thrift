@@ -34,4 +34,14 @@ struct TSNode {
   6: string serviceName,
   7: State state,
   8: i64 timestamp
+}
+
+struct TDigest {
+  1: string serviceName,
+  2: i64 digest
+}
+
+struct TServiceList {
+  1: i64 version,
+  2: list<TSNode> nodes
 }
\ No newline at end of file
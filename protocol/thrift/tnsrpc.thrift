@@ -9,8 +9,23 @@ service TNSRpc {
 	*/
 	list<struct.TSNode> serviceList(1: string clientId, 2: string serviceName),
 	
+	/**
+	*	等待service列表变化，版本号与knownVersion不一致时立即返回，否则最多等待timeoutMs后返回当前列表
+	*/
+	struct.TServiceList watchServiceList(1: string clientId, 2: string serviceName, 3: i64 knownVersion, 4: i32 timeoutMs),
+	
 	/**
 	*	获取可用的cluster node列表
 	*/
-	list<struct.TCNode> clusterList(1: string clientId)
+	list<struct.TCNode> clusterList(1: string clientId),
+	
+	/**
+	*	批量注册节点，使用serviceName、host、port、pingFrequency，id大于0时使用该id，否则由服务端生成，返回与nodes顺序一致的id，缺少serviceName或host的节点不注册，返回-1；id已存在时不覆盖，host:port相同且在线的返回该id，否则返回-1
+	*/
+	list<i64> register(1: string clientId, 2: list<struct.TSNode> nodes),
+	
+	/**
+	*	批量下线某个service下的节点，返回下线的个数
+	*/
+	i32 deregister(1: string clientId, 2: string serviceName, 3: list<i64> ids)
 }
\ No newline at end of file
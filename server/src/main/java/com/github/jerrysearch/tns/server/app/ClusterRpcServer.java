@@ -8,12 +8,15 @@ import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.jerrysearch.tns.protocol.rpc.Cluster;
 import com.github.jerrysearch.tns.protocol.rpc.Cluster.Iface;
+import com.github.jerrysearch.tns.server.conf.Config;
 import com.github.jerrysearch.tns.server.rpc.impl.ClusterRpcImpl;
 import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
 
@@ -27,14 +30,26 @@ public class ClusterRpcServer {
 				try {
 					TProcessor tprocessor = new Cluster.Processor<Iface>(new ClusterRpcImpl());
 					InetSocketAddress address = new InetSocketAddress(host, port);
-					TServerSocket transport = new TServerSocket(address);
-					TThreadPoolServer.Args ttArgs = new TThreadPoolServer.Args(transport);
-					ttArgs.processor(tprocessor);
-					ttArgs.protocolFactory(new TBinaryProtocol.Factory());
-					ExecutorService executorService = Executors.newFixedThreadPool(2,
-							new NamedThreadFactory("ClusterRpcServer", false));
-					ttArgs.executorService(executorService);
-					TServer server = new TThreadPoolServer(ttArgs);
+					ExecutorService executorService = Executors.newFixedThreadPool(
+							Config.clusterRpcWorkers, new NamedThreadFactory("ClusterRpcServer", false));
+					TServer server;
+					if (Config.clusterRpcSelector) {
+						TNonblockingServerSocket transport = new TNonblockingServerSocket(address);
+						TThreadedSelectorServer.Args ttArgs = new TThreadedSelectorServer.Args(
+								transport);
+						ttArgs.processor(tprocessor);
+						ttArgs.protocolFactory(new TBinaryProtocol.Factory());
+						ttArgs.selectorThreads(Config.rpcSelectorThreads);
+						ttArgs.executorService(executorService);
+						server = new TThreadedSelectorServer(ttArgs);
+					} else {
+						TServerSocket transport = new TServerSocket(address);
+						TThreadPoolServer.Args ttArgs = new TThreadPoolServer.Args(transport);
+						ttArgs.processor(tprocessor);
+						ttArgs.protocolFactory(new TBinaryProtocol.Factory());
+						ttArgs.executorService(executorService);
+						server = new TThreadPoolServer(ttArgs);
+					}
 					server.serve();
 				} catch (Exception e) {
 					log.error("cluster rpc serve", e);
@@ -6,6 +6,8 @@ import java.util.concurrent.TimeUnit;
 
 import com.github.jerrysearch.tns.server.cluster.CheckAndRemoveServiceTombstoneTask;
 import com.github.jerrysearch.tns.server.cluster.PushTnsAndServiceTask;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.store.RegistrySnapshotTask;
 import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
 
 public class ClusterScheduleServer {
@@ -20,6 +22,17 @@ public class ClusterScheduleServer {
 						true));
 		pool.scheduleWithFixedDelay(task_1, 5, 5, TimeUnit.SECONDS);
 
-		pool.scheduleWithFixedDelay(task_2, 10, 10, TimeUnit.MINUTES);
+		/**
+		 * 开启service.tombstone.timer时由SNodeManager中的到期事件处理
+		 */
+		if (!Config.serviceTombstoneTimer) {
+			pool.scheduleWithFixedDelay(task_2, 10, 10, TimeUnit.MINUTES);
+		}
+
+		if (Config.registryWal) {
+			Runnable task_3 = new RegistrySnapshotTask();
+			pool.scheduleWithFixedDelay(task_3, Config.registrySnapshotSeconds,
+					Config.registrySnapshotSeconds, TimeUnit.SECONDS);
+		}
 	}
 }
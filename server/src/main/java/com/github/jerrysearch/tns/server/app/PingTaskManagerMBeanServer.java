@@ -0,0 +1,27 @@
+package com.github.jerrysearch.tns.server.app;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.server.service.PingTaskManager;
+import com.github.jerrysearch.tns.server.service.PingTaskManagerMBean;
+
+public class PingTaskManagerMBeanServer {
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public void start() {
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		PingTaskManagerMBean pingTaskManagerMBean = PingTaskManager.getInstance();
+		try {
+			mbs.registerMBean(pingTaskManagerMBean, new ObjectName(
+					"PingTaskManagerMBean:name=pingTaskManagerMBean"));
+		} catch (Exception e) {
+			log.error("start fail !", e);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.github.jerrysearch.tns.server.app;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.server.rpc.cache.ServiceListResponseCache;
+import com.github.jerrysearch.tns.server.rpc.cache.ServiceListResponseCacheMBean;
+
+public class ServiceListResponseCacheMBeanServer {
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public void start() {
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ServiceListResponseCacheMBean cacheMBean = ServiceListResponseCache.getInstance();
+		try {
+			mbs.registerMBean(cacheMBean, new ObjectName(
+					"ServiceListResponseCacheMBean:name=serviceListResponseCacheMBean"));
+		} catch (Exception e) {
+			log.error("start fail !", e);
+		}
+	}
+}
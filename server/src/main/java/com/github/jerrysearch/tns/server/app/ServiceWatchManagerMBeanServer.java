@@ -0,0 +1,27 @@
+package com.github.jerrysearch.tns.server.app;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.server.rpc.watch.ServiceWatchManager;
+import com.github.jerrysearch.tns.server.rpc.watch.ServiceWatchManagerMBean;
+
+public class ServiceWatchManagerMBeanServer {
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public void start() {
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ServiceWatchManagerMBean watchMBean = ServiceWatchManager.getInstance();
+		try {
+			mbs.registerMBean(watchMBean, new ObjectName(
+					"ServiceWatchManagerMBean:name=serviceWatchManagerMBean"));
+		} catch (Exception e) {
+			log.error("start fail !", e);
+		}
+	}
+}
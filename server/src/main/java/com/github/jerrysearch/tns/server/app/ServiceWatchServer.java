@@ -0,0 +1,50 @@
+package com.github.jerrysearch.tns.server.app;
+
+import java.net.InetSocketAddress;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TNonblockingServer;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
+import com.github.jerrysearch.tns.server.rpc.impl.TNSRpcAsyncImpl;
+
+/**
+ * 提供watchServiceList的TNSRpc，非阻塞server + AsyncProcessor，等待中的请求不占用线程
+ * 
+ * 使用TFramedTransport，与TNSRpcServer分开端口，不影响已有的客户端
+ * 
+ * @author jerry
+ *
+ */
+public class ServiceWatchServer {
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	public void start(final String host, final int port) {
+		Runnable runnable = new Runnable() {
+			@Override
+			public void run() {
+				try {
+					TNSRpc.AsyncProcessor<TNSRpcAsyncImpl> tprocessor = new TNSRpc.AsyncProcessor<TNSRpcAsyncImpl>(
+							new TNSRpcAsyncImpl());
+					InetSocketAddress address = new InetSocketAddress(host, port);
+					TNonblockingServerSocket transport = new TNonblockingServerSocket(address);
+					TNonblockingServer.Args ttArgs = new TNonblockingServer.Args(transport);
+					ttArgs.processor(tprocessor);
+					ttArgs.protocolFactory(new TBinaryProtocol.Factory());
+					TServer server = new TNonblockingServer(ttArgs);
+					server.serve();
+				} catch (Exception e) {
+					log.error("service watch serve", e);
+				}
+			}
+		};
+
+		Thread t = new Thread(runnable);
+		t.setName("ServiceWatchServer_Main");
+		t.start();
+	}
+}
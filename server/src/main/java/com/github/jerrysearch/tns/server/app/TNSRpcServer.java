@@ -8,12 +8,16 @@ import org.apache.thrift.TProcessor;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
 import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
 import org.apache.thrift.transport.TServerSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
 import com.github.jerrysearch.tns.protocol.rpc.TNSRpc.Iface;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.rpc.cache.CachedTNSRpcProcessor;
 import com.github.jerrysearch.tns.server.rpc.impl.TNSRpcImpl;
 import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
 
@@ -25,16 +29,33 @@ public class TNSRpcServer {
 			@Override
 			public void run() {
 				try {
-					TProcessor tprocessor = new TNSRpc.Processor<Iface>(new TNSRpcImpl());
+					TProcessor tprocessor;
+					if (Config.serviceListCache) {
+						tprocessor = new CachedTNSRpcProcessor(new TNSRpcImpl());
+					} else {
+						tprocessor = new TNSRpc.Processor<Iface>(new TNSRpcImpl());
+					}
 					InetSocketAddress address = new InetSocketAddress(host, port);
-					TServerSocket transport = new TServerSocket(address);
-					TThreadPoolServer.Args ttArgs = new TThreadPoolServer.Args(transport);
-					ttArgs.processor(tprocessor);
-					ttArgs.protocolFactory(new TBinaryProtocol.Factory());
-					ExecutorService executorService = Executors.newFixedThreadPool(4,
-							new NamedThreadFactory("TNSRpcServer", false));
-					ttArgs.executorService(executorService);
-					TServer server = new TThreadPoolServer(ttArgs);
+					ExecutorService executorService = Executors.newFixedThreadPool(
+							Config.tnsRpcWorkers, new NamedThreadFactory("TNSRpcServer", false));
+					TServer server;
+					if (Config.tnsRpcSelector) {
+						TNonblockingServerSocket transport = new TNonblockingServerSocket(address);
+						TThreadedSelectorServer.Args ttArgs = new TThreadedSelectorServer.Args(
+								transport);
+						ttArgs.processor(tprocessor);
+						ttArgs.protocolFactory(new TBinaryProtocol.Factory());
+						ttArgs.selectorThreads(Config.rpcSelectorThreads);
+						ttArgs.executorService(executorService);
+						server = new TThreadedSelectorServer(ttArgs);
+					} else {
+						TServerSocket transport = new TServerSocket(address);
+						TThreadPoolServer.Args ttArgs = new TThreadPoolServer.Args(transport);
+						ttArgs.processor(tprocessor);
+						ttArgs.protocolFactory(new TBinaryProtocol.Factory());
+						ttArgs.executorService(executorService);
+						server = new TThreadPoolServer(ttArgs);
+					}
 					server.serve();
 				} catch (Exception e) {
 					log.error("tns rpc serve", e);
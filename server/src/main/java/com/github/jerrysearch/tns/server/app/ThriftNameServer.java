@@ -1,18 +1,29 @@
 package com.github.jerrysearch.tns.server.app;
 
+import java.io.IOException;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.jerrysearch.tns.protocol.rpc.structConstants;
 import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.store.RegistryStore;
 
 public class ThriftNameServer {
-	public static void main(String[] args) {
+	public static void main(String[] args) throws IOException {
 		Logger log = LoggerFactory.getLogger(ThriftNameServer.class);
 		log.info("--------------------------------------");
 		log.info("ThriftNameServer start begin");
 		log.info("--------------------------------------");
 		String host = Config.HOSTNAME;
+		/**
+		 * 恢复注册表，先于rpc server，启动后即可返回serviceList（warm start时先由快照镜像提供）
+		 */
+		if (Config.registryWal) {
+			RegistryStore.getInstance().recover();
+			log.info("RegistryStore recover Ok! dir : {}", Config.registryDir);
+		}
+
 		/**
 		 * cluster rpc
 		 */
@@ -27,6 +38,20 @@ public class ThriftNameServer {
 		tnsRpcServer.start(host, structConstants.PORT + 1);
 		log.info("TNSRpcServer start Ok! host : {}, port : {}", host, structConstants.PORT + 1);
 
+		/**
+		 * service watch rpc
+		 */
+		if (Config.serviceWatch) {
+			ServiceWatchServer serviceWatchServer = new ServiceWatchServer();
+			serviceWatchServer.start(host, structConstants.PORT + 2);
+			log.info("ServiceWatchServer start Ok! host : {}, port : {}", host,
+					structConstants.PORT + 2);
+
+			ServiceWatchManagerMBeanServer serviceWatchManagerMBeanServer = new ServiceWatchManagerMBeanServer();
+			serviceWatchManagerMBeanServer.start();
+			log.info("ServiceWatchManagerMBeanServer start Ok!");
+		}
+
 		/**
 		 * sNodeManagerMBeanServer
 		 */
@@ -41,6 +66,20 @@ public class ThriftNameServer {
 		cNodeManagerMBeanServer.start();
 		log.info("CNodeManagerMBeanServer start Ok!");
 
+		/**
+		 * serviceListResponseCacheMBeanServer
+		 */
+		ServiceListResponseCacheMBeanServer serviceListResponseCacheMBeanServer = new ServiceListResponseCacheMBeanServer();
+		serviceListResponseCacheMBeanServer.start();
+		log.info("ServiceListResponseCacheMBeanServer start Ok!");
+
+		/**
+		 * pingTaskManagerMBeanServer
+		 */
+		PingTaskManagerMBeanServer pingTaskManagerMBeanServer = new PingTaskManagerMBeanServer();
+		pingTaskManagerMBeanServer.start();
+		log.info("PingTaskManagerMBeanServer start Ok!");
+
 		/**
 		 * clusterScheduleServer
 		 */
@@ -4,12 +4,13 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 
 import com.github.jerrysearch.tns.protocol.rpc.Cluster;
 import com.github.jerrysearch.tns.protocol.rpc.State;
@@ -17,6 +18,7 @@ import com.github.jerrysearch.tns.protocol.rpc.TCNode;
 import com.github.jerrysearch.tns.protocol.rpc.structConstants;
 import com.github.jerrysearch.tns.server.conf.Config;
 import com.github.jerrysearch.tns.server.util.DateUtil;
+import com.github.jerrysearch.tns.server.util.TransportUtil;
 import com.jcabi.aspects.Loggable;
 
 public class CNodeManager implements CNodeManagerMBean {
@@ -27,6 +29,10 @@ public class CNodeManager implements CNodeManagerMBean {
 	private final Lock writeLock = lock.writeLock();
 
 	private final long myId = Config.TNSID;
+	/**
+	 * cluster成员或其状态可能发生变化时递增，PingOwnership据此重建哈希环
+	 */
+	private final AtomicLong memberVersion = new AtomicLong();
 
 	private CNodeManager() {
 
@@ -42,6 +48,17 @@ public class CNodeManager implements CNodeManagerMBean {
 		this.cMap.put(myId, me);
 	}
 
+	public long getMemberVersion() {
+		return this.memberVersion.get();
+	}
+
+	/**
+	 * 在cMap之外修改了节点状态
+	 */
+	public void membersChanged() {
+		this.memberVersion.incrementAndGet();
+	}
+
 	private TCNode getMe() {
 		return this.cMap.get(this.myId);
 	}
@@ -93,6 +110,24 @@ public class CNodeManager implements CNodeManagerMBean {
 		}
 	}
 
+	/**
+	 * 参与ping分片的cluster id列表（有序）：自己以及状态为UP的其它节点
+	 * 
+	 * @param list
+	 */
+	public void toPingMemberIdList(List<Long> list) {
+		try {
+			this.readLock.lock();
+			for (TCNode tcnode : this.cMap.values()) {
+				if (tcnode.getId() == this.myId || tcnode.getState() == State.UP) {
+					list.add(tcnode.getId());
+				}
+			}
+		} finally {
+			this.readLock.unlock();
+		}
+	}
+
 	private TCNode getNext(long id) {
 		Long key = this.cMap.higherKey(id);
 		if (null == key) {
@@ -126,7 +161,7 @@ public class CNodeManager implements CNodeManagerMBean {
 	@Override
 	@Loggable
 	public String meet(String host) {
-		TSocket transport = new TSocket(host, structConstants.PORT, 2000);
+		TTransport transport = TransportUtil.cluster(host, structConstants.PORT, 2000);
 		TProtocol protocol = new TBinaryProtocol(transport);
 		Cluster.Client client = new Cluster.Client(protocol);
 		try {
@@ -155,6 +190,7 @@ public class CNodeManager implements CNodeManagerMBean {
 		} finally {
 			this.writeLock.unlock();
 		}
+		this.membersChanged();
 
 	}
 
@@ -214,6 +250,7 @@ public class CNodeManager implements CNodeManagerMBean {
 		} finally {
 			this.writeLock.unlock();
 		}
+		this.membersChanged();
 	}
 
 	@Override
@@ -0,0 +1,133 @@
+package com.github.jerrysearch.tns.server.cluster;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+
+/**
+ * 增量同步的版本记录
+ *
+ * 发送方：记录每个peer已确认的版本号，只推送之后变化的节点；接收方：记录每个来源已应用的版本号，
+ * 版本不连续（对方或自己重启、丢失确认）时拒绝增量，由发送方改为全量推送
+ *
+ * @author jerry
+ *
+ */
+public class DeltaGossip {
+
+	/**
+	 * 本进程的标识，重启后发生变化，对方据此丢弃旧的版本记录
+	 */
+	private final long epoch = System.currentTimeMillis();
+	/**
+	 * peer id -> 对方已确认的版本号
+	 */
+	private final ConcurrentHashMap<Long, Long> ackedMap = new ConcurrentHashMap<Long, Long>();
+	/**
+	 * peer id -> 上次全量之后增量推送的次数，达到Config.clusterDeltaFullRounds后做一次全量
+	 */
+	private final ConcurrentHashMap<Long, Integer> roundsMap = new ConcurrentHashMap<Long, Integer>();
+	/**
+	 * source id -> 已应用的版本号
+	 */
+	private final ConcurrentHashMap<Long, Applied> appliedMap = new ConcurrentHashMap<Long, Applied>();
+	private final CNodeManager cNodeManager = CNodeManager.getInstance();
+	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private DeltaGossip() {
+	}
+
+	public long getEpoch() {
+		return epoch;
+	}
+
+	/**
+	 * peer已确认的版本号，0表示需要全量
+	 *
+	 * @param peerId
+	 * @return
+	 */
+	public long getAcked(long peerId) {
+		Long acked = this.ackedMap.get(peerId);
+		return null == acked ? 0 : acked;
+	}
+
+	public void setAcked(long peerId, long version) {
+		this.ackedMap.put(peerId, version);
+	}
+
+	/**
+	 * 记一次对peer的增量推送
+	 *
+	 * @param peerId
+	 * @return 是否应改为全量推送
+	 */
+	public boolean nextRound(long peerId) {
+		Integer rounds = this.roundsMap.get(peerId);
+		int next = null == rounds ? 1 : rounds + 1;
+		this.roundsMap.put(peerId, next);
+		return next >= Config.clusterDeltaFullRounds;
+	}
+
+	/**
+	 * 对peer做了一次全量推送，重新计数
+	 *
+	 * @param peerId
+	 */
+	public void resetRounds(long peerId) {
+		this.roundsMap.remove(peerId);
+	}
+
+	/**
+	 * 接收一次推送
+	 *
+	 * @return 已应用的版本号，与toVersion不一致表示没有应用
+	 */
+	public long receive(long sourceId, long epoch, long fromVersion, long toVersion,
+			List<TCNode> cList, List<TSNode> sList) {
+		synchronized (this.appliedMap) {
+			Applied applied = this.appliedMap.get(sourceId);
+			if (fromVersion != 0) {
+				if (null == applied || applied.epoch != epoch) {
+					this.log.info("reject delta from [{}], unknown epoch [{}]", sourceId, epoch);
+					return 0;
+				}
+				if (applied.version != fromVersion) {
+					this.log.info("reject delta from [{}], fromVersion [{}] but applied [{}]",
+							sourceId, fromVersion, applied.version);
+					return applied.version;
+				}
+			}
+			this.cNodeManager.pushClusterList(cList);
+			this.sNodeManager.pushServiceList(sList);
+			this.appliedMap.put(sourceId, new Applied(epoch, toVersion));
+			return toVersion;
+		}
+	}
+
+	private static class Applied {
+		private final long epoch;
+		private final long version;
+
+		private Applied(long epoch, long version) {
+			this.epoch = epoch;
+			this.version = version;
+		}
+	}
+
+	private static class proxy {
+		private static DeltaGossip instance = new DeltaGossip();
+	}
+
+	public static DeltaGossip getInstance() {
+		return proxy.instance;
+	}
+}
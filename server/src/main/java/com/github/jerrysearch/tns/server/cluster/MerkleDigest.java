@@ -0,0 +1,179 @@
+package com.github.jerrysearch.tns.server.cluster;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TDigest;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+
+/**
+ * service注册表的两层摘要树：桶 -> service -> 节点
+ *
+ * cluster间先比较桶摘要，再比较差异桶中每个service的摘要，最后只交换摘要不同的service的节点。
+ * 摘要是节点摘要之和，与遍历顺序无关
+ *
+ * @author jerry
+ *
+ */
+public class MerkleDigest {
+
+	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+
+	private MerkleDigest() {
+	}
+
+	/**
+	 * 节点摘要，只包含会在cluster间收敛的字段：
+	 * 
+	 * id、host、port；Leaving的状态；开启ping分片时，ping状态及vNodes以owner为准，也参与，否则由各节点独立ping得出，
+	 * 不参与。时间戳不参与：各节点写入的时间不同，状态相同时也不相等
+	 * 
+	 * @param tsnode
+	 * @return
+	 */
+	public static long nodeDigest(TSNode tsnode) {
+		return nodeDigest(tsnode.getId(), tsnode.getHost(), tsnode.getPort(), tsnode.getState(),
+				tsnode.getVNodes());
+	}
+
+	/**
+	 * 节点摘要，直接使用节点表中的字段
+	 * 
+	 * @see #nodeDigest(TSNode)
+	 */
+	public static long nodeDigest(long id, String host, int port, State state, int vNodes) {
+		long h = mix(id);
+		h = mix(h + (null == host ? 0 : host.hashCode()));
+		h = mix(h + port);
+		if (state == State.Leaving) {
+			h = mix(h + state.getValue());
+		} else if (Config.pingSharding) {
+			h = mix(h + state.getValue());
+			h = mix(h + vNodes);
+		}
+		return h;
+	}
+
+	/**
+	 * serviceName所在的桶，String.hashCode在各jvm中一致
+	 */
+	public static int bucket(String serviceName, int buckets) {
+		return (serviceName.hashCode() & Integer.MAX_VALUE) % buckets;
+	}
+
+	/**
+	 * 每个桶的摘要，桶数由Config.clusterMerkleBuckets决定
+	 * 
+	 * @return
+	 */
+	public List<Long> digestBuckets() {
+		int buckets = Config.clusterMerkleBuckets;
+		long[] digests = new long[buckets];
+		List<TDigest> list = new LinkedList<TDigest>();
+		this.sNodeManager.toServiceDigestList(list);
+		for (TDigest digest : list) {
+			String serviceName = digest.getServiceName();
+			digests[bucket(serviceName, buckets)] += mix(mix(serviceName.hashCode())
+					+ digest.getDigest());
+		}
+		List<Long> result = new ArrayList<Long>(buckets);
+		for (long digest : digests) {
+			result.add(digest);
+		}
+		return result;
+	}
+
+	/**
+	 * 指定桶中每个service的摘要
+	 * 
+	 * @param buckets
+	 * @return
+	 */
+	public List<TDigest> serviceDigests(List<Integer> buckets) {
+		Set<Integer> set = new HashSet<Integer>(buckets);
+		List<String> serviceNames = new LinkedList<String>();
+		this.sNodeManager.toServiceNameList(serviceNames);
+		List<String> selected = new LinkedList<String>();
+		for (String serviceName : serviceNames) {
+			if (set.contains(bucket(serviceName, Config.clusterMerkleBuckets))) {
+				selected.add(serviceName);
+			}
+		}
+		List<TDigest> list = new LinkedList<TDigest>();
+		this.sNodeManager.toServiceDigestList(selected, list);
+		return list;
+	}
+
+	/**
+	 * 指定service的节点列表，不包括墓碑
+	 * 
+	 * @param serviceNames
+	 * @return
+	 */
+	public List<TSNode> serviceNodeList(List<String> serviceNames) {
+		List<TSNode> list = new LinkedList<TSNode>();
+		this.sNodeManager.toServiceNodeList(serviceNames, list);
+		return list;
+	}
+
+	/**
+	 * 摘要不同的桶，桶数不一致时返回null
+	 */
+	public static List<Integer> diffBuckets(List<Long> local, List<Long> remote) {
+		if (local.size() != remote.size()) {
+			return null;
+		}
+		List<Integer> list = new LinkedList<Integer>();
+		for (int i = 0; i < local.size(); i++) {
+			if (!local.get(i).equals(remote.get(i))) {
+				list.add(i);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 摘要不同或只在一方存在的service
+	 */
+	public static List<String> diffServiceNames(List<TDigest> local, List<TDigest> remote) {
+		Map<String, Long> map = new HashMap<String, Long>();
+		for (TDigest digest : remote) {
+			map.put(digest.getServiceName(), digest.getDigest());
+		}
+		List<String> list = new LinkedList<String>();
+		for (TDigest digest : local) {
+			Long other = map.remove(digest.getServiceName());
+			if (null == other || other != digest.getDigest()) {
+				list.add(digest.getServiceName());
+			}
+		}
+		list.addAll(map.keySet());
+		return list;
+	}
+
+	/**
+	 * splitmix64
+	 */
+	private static long mix(long z) {
+		z += 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	private static class proxy {
+		private static MerkleDigest instance = new MerkleDigest();
+	}
+
+	public static MerkleDigest getInstance() {
+		return proxy.instance;
+	}
+}
@@ -0,0 +1,198 @@
+package com.github.jerrysearch.tns.server.cluster;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+
+/**
+ * ping分片：用一致性哈希把每个service节点分配给一个cluster节点，只有owner执行ping，结果通过push同步给其它节点
+ * 
+ * cluster成员（自己 + UP状态的节点）变化时重建哈希环，节点DOWN或Leaving后其负责的service节点自动迁移。
+ * 哈希环缓存到CNodeManager的成员版本号变化为止
+ * 
+ * @author jerry
+ *
+ */
+public class PingOwnership {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final ThreadLocal<MessageDigest> MD5 = new ThreadLocal<MessageDigest>() {
+
+		@Override
+		protected MessageDigest initialValue() {
+			try {
+				return MessageDigest.getInstance("MD5");
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+	private final CNodeManager cNodeManager = CNodeManager.getInstance();
+	private final long myId = Config.TNSID;
+	private final int replicas;
+	private volatile Ring ring = new Ring(Collections.<Long> emptyList(), 0, -1);
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private PingOwnership(int replicas) {
+		this.replicas = replicas;
+	}
+
+	/**
+	 * 本节点是否负责ping该service节点
+	 * 
+	 * @param tsnode
+	 * @return
+	 */
+	public boolean isOwner(TSNode tsnode) {
+		return this.isOwner(tsnode.getServiceName(), tsnode.getId());
+	}
+
+	/**
+	 * 本节点是否负责ping该service节点
+	 * 
+	 * @param serviceName
+	 * @param id
+	 * @return
+	 */
+	public boolean isOwner(String serviceName, long id) {
+		return this.owner(serviceName, id) == this.myId;
+	}
+
+	/**
+	 * 负责ping该service节点的cluster id
+	 * 
+	 * @param tsnode
+	 * @return
+	 */
+	public long owner(TSNode tsnode) {
+		return this.owner(tsnode.getServiceName(), tsnode.getId());
+	}
+
+	/**
+	 * 负责ping该service节点的cluster id
+	 * 
+	 * @param serviceName
+	 * @param id
+	 * @return
+	 */
+	public long owner(String serviceName, long id) {
+		Ring ring = this.ring;
+		long version = this.cNodeManager.getMemberVersion();
+		if (ring.version != version) {
+			ring = this.rebuild(version);
+		}
+		byte[] digest = md5(serviceName + "#" + id);
+		return ring.owner(hash(digest, 0));
+	}
+
+	/**
+	 * 先取版本号再取成员列表，之后的变化会使版本号再次不一致
+	 */
+	private synchronized Ring rebuild(long version) {
+		Ring ring = this.ring;
+		if (ring.version == version) {
+			return ring;
+		}
+		List<Long> members = new ArrayList<Long>();
+		this.cNodeManager.toPingMemberIdList(members);
+		if (ring.members.equals(members)) {
+			ring = new Ring(ring, version);
+		} else {
+			ring = new Ring(members, this.replicas, version);
+			this.log.info("ping members changed to {}", members);
+		}
+		this.ring = ring;
+		return ring;
+	}
+
+	/**
+	 * 哈希环，每个cluster节点replicas个虚拟点
+	 */
+	private static class Ring {
+		private final List<Long> members;
+		private final long[] points;
+		private final long[] owners;
+		/**
+		 * 构建时CNodeManager的成员版本号
+		 */
+		private final long version;
+
+		/**
+		 * 成员未变，只更新版本号
+		 */
+		private Ring(Ring ring, long version) {
+			this.members = ring.members;
+			this.points = ring.points;
+			this.owners = ring.owners;
+			this.version = version;
+		}
+
+		private Ring(List<Long> members, int replicas, long version) {
+			this.members = members;
+			this.version = version;
+			TreeMap<Long, Long> treeMap = new TreeMap<Long, Long>();
+			for (Long id : members) {
+				for (int i = 0; i < replicas / 4; i++) {
+					byte[] digest = md5(id + "-" + i);
+					for (int h = 0; h < 4; h++) {
+						treeMap.put(hash(digest, h), id);
+					}
+				}
+			}
+			this.points = new long[treeMap.size()];
+			this.owners = new long[treeMap.size()];
+			int i = 0;
+			for (Map.Entry<Long, Long> entry : treeMap.entrySet()) {
+				this.points[i] = entry.getKey();
+				this.owners[i] = entry.getValue();
+				i++;
+			}
+		}
+
+		private long owner(long hash) {
+			if (this.points.length == 0) {
+				return Long.MIN_VALUE;
+			}
+			int i = Arrays.binarySearch(this.points, hash);
+			if (i < 0) {
+				i = -i - 1;
+			}
+			if (i == this.points.length) {
+				i = 0;
+			}
+			return this.owners[i];
+		}
+	}
+
+	private static byte[] md5(String key) {
+		return MD5.get().digest(key.getBytes(UTF8));
+	}
+
+	/**
+	 * ketama：一个md5摘要取4个32位哈希值
+	 */
+	private static long hash(byte[] digest, int h) {
+		return ((long) (digest[3 + h * 4] & 0xFF) << 24) | ((long) (digest[2 + h * 4] & 0xFF) << 16)
+				| ((long) (digest[1 + h * 4] & 0xFF) << 8) | (digest[h * 4] & 0xFF);
+	}
+
+	private static class proxy {
+		private static PingOwnership instance = new PingOwnership(Config.pingShardingReplicas);
+	}
+
+	public static PingOwnership getInstance() {
+		return proxy.instance;
+	}
+}
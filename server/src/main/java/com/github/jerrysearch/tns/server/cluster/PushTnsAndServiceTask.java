@@ -9,12 +9,16 @@ import org.slf4j.LoggerFactory;
 import com.github.jerrysearch.tns.protocol.rpc.State;
 import com.github.jerrysearch.tns.protocol.rpc.TCNode;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.command.push.ThriftMerkleSyncCommand;
 import com.github.jerrysearch.tns.server.command.push.ThriftPushCNodeAndSNodeListCommand;
+import com.github.jerrysearch.tns.server.command.push.ThriftPushDeltaCommand;
+import com.github.jerrysearch.tns.server.conf.Config;
 import com.github.jerrysearch.tns.server.service.SNodeManager;
 
 public class PushTnsAndServiceTask implements Runnable {
 	private final CNodeManager cNodeManager = CNodeManager.getInstance();
 	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+	private final DeltaGossip deltaGossip = DeltaGossip.getInstance();
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
 	@Override
@@ -27,21 +31,88 @@ public class PushTnsAndServiceTask implements Runnable {
 		List<TCNode> cList = new LinkedList<TCNode>();
 		cNodeManager.toAllClusterNodeList(cList);
 
-		List<TSNode> sList = new LinkedList<TSNode>();
-		sNodeManager.toAllServiceNodeList(sList);
-		ThriftPushCNodeAndSNodeListCommand command = new ThriftPushCNodeAndSNodeListCommand(tcnode,
-				cList, sList);
-		State state = command.push();
+		State state;
+		if (Config.clusterDelta) {
+			state = this.pushDelta(tcnode, cList);
+		} else if (Config.clusterMerkle) {
+			state = new ThriftMerkleSyncCommand(tcnode, cList).push();
+		} else {
+			List<TSNode> sList = new LinkedList<TSNode>();
+			sNodeManager.toAllServiceNodeList(sList);
+			ThriftPushCNodeAndSNodeListCommand command = new ThriftPushCNodeAndSNodeListCommand(
+					tcnode, cList, sList);
+			state = command.push();
+		}
 		/**
 		 * 更新节点tcnode状态
 		 */
 		if (state == State.DOWN) {
 			log.error("node [{}] state changed to DOWN !", tcnode.toString());
 		}
-		tcnode.setState(state);
+		if (tcnode.getState() != state) {
+			tcnode.setState(state);
+			cNodeManager.membersChanged();
+		}
 		long version = tcnode.getVersion();
 		tcnode.setVersion(version + 1);
 		tcnode.setTimestamp(System.currentTimeMillis());
 	}
 
+	/**
+	 * 只推送对方确认过的版本之后变化的service节点，对方拒绝时立即改为全量推送
+	 */
+	private State pushDelta(TCNode tcnode, List<TCNode> cList) {
+		/**
+		 * 先取版本号再取节点，之后的变化最多被重复推送，不会遗漏
+		 */
+		long toVersion = sNodeManager.currentVersion();
+		long acked = deltaGossip.getAcked(tcnode.getId());
+		if (acked == 0 || acked > toVersion || deltaGossip.nextRound(tcnode.getId())) {
+			return this.pushFull(tcnode, cList, toVersion);
+		}
+		List<TSNode> sList = new LinkedList<TSNode>();
+		sNodeManager.toChangedServiceNodeList(acked, sList);
+		if (sList.size() > Config.clusterDeltaMax) {
+			return this.pushFull(tcnode, cList, toVersion);
+		}
+
+		ThriftPushDeltaCommand command = new ThriftPushDeltaCommand(tcnode,
+				deltaGossip.getEpoch(), acked, toVersion, cList, sList);
+		State state = command.push();
+		if (state != State.UP) {
+			return state;
+		}
+		if (command.getAcked() == toVersion) {
+			deltaGossip.setAcked(tcnode.getId(), toVersion);
+			return state;
+		}
+		log.info("delta to [{}] rejected, acked [{}], push full list", tcnode.getHost(),
+				command.getAcked());
+		return this.pushFull(tcnode, cList, toVersion);
+	}
+
+	/**
+	 * 全量同步，并让对方把版本号记为toVersion
+	 * 
+	 * 开启摘要比较时先只交换有差异的service，再推送一个空的全量来确认版本号
+	 */
+	private State pushFull(TCNode tcnode, List<TCNode> cList, long toVersion) {
+		deltaGossip.resetRounds(tcnode.getId());
+		List<TSNode> sList = new LinkedList<TSNode>();
+		if (Config.clusterMerkle) {
+			State state = new ThriftMerkleSyncCommand(tcnode, cList).push();
+			if (state != State.UP) {
+				return state;
+			}
+		} else {
+			sNodeManager.toAllServiceNodeList(sList);
+		}
+		ThriftPushDeltaCommand command = new ThriftPushDeltaCommand(tcnode,
+				deltaGossip.getEpoch(), 0, toVersion, cList, sList);
+		State state = command.push();
+		if (state == State.UP && command.getAcked() == toVersion) {
+			deltaGossip.setAcked(tcnode.getId(), toVersion);
+		}
+		return state;
+	}
 }
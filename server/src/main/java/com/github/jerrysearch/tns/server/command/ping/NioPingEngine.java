@@ -0,0 +1,349 @@
+package com.github.jerrysearch.tns.server.command.ping;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.PoolAble;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.PingTaskManager;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
+
+/**
+ * 基于selector的非阻塞ping
+ *
+ * 少量线程同时维持大量进行中的PoolAble.ping()调用，每个调用有独立的超时时间。
+ * 与ThriftPingCommand一样使用非framed的TBinaryProtocol，对服务端透明
+ *
+ * @author jerry
+ *
+ */
+public class NioPingEngine {
+
+	private static final Logger log = LoggerFactory.getLogger(NioPingEngine.class);
+	private static final int SEQID = 1;
+	/**
+	 * ping的返回很小，超过该长度认为是错误的返回
+	 */
+	private static final int MAX_RESPONSE_LENGTH = 64 * 1024;
+
+	/**
+	 * 预先编码好的ping请求，所有调用共用
+	 */
+	private final byte[] request;
+	private final long timeoutNanos;
+	private final Worker[] workers;
+	private final AtomicInteger index = new AtomicInteger();
+
+	private NioPingEngine(int threads, int timeoutMillis) {
+		this.request = encodeRequest();
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		this.workers = new Worker[threads];
+		NamedThreadFactory threadFactory = new NamedThreadFactory("NioPingEngine", true);
+		for (int i = 0; i < threads; i++) {
+			try {
+				this.workers[i] = new Worker(Selector.open());
+			} catch (IOException e) {
+				throw new IllegalStateException("open selector fail", e);
+			}
+			threadFactory.newThread(this.workers[i]).start();
+		}
+	}
+
+	private static byte[] encodeRequest() {
+		try {
+			TMemoryBuffer buffer = new TMemoryBuffer(64);
+			TBinaryProtocol protocol = new TBinaryProtocol(buffer);
+			protocol.writeMessageBegin(new TMessage("ping", TMessageType.CALL, SEQID));
+			new PoolAble.ping_args().write(protocol);
+			protocol.writeMessageEnd();
+			return Arrays.copyOf(buffer.getArray(), buffer.length());
+		} catch (TException e) {
+			throw new IllegalStateException("encode ping request fail", e);
+		}
+	}
+
+	/**
+	 * 提交一次ping，立即返回，结果通过callback通知
+	 *
+	 * @param tsnode
+	 * @param callback
+	 *            在PingTaskManager的线程中执行，selector线程只做读写
+	 */
+	public void ping(TSNode tsnode, PingCallback callback) {
+		long now = System.nanoTime();
+		PingCall call = new PingCall(tsnode, callback, now, now + this.timeoutNanos);
+		/**
+		 * 域名解析可能阻塞，放在提交线程中完成
+		 */
+		InetSocketAddress address = new InetSocketAddress(tsnode.getHost(), tsnode.getPort());
+		if (address.isUnresolved()) {
+			this.finish(call, -1, "unresolved host");
+			return;
+		}
+		call.address = address;
+		int i = (this.index.getAndIncrement() & Integer.MAX_VALUE) % this.workers.length;
+		this.workers[i].submit(call);
+	}
+
+	private void finish(final PingCall call, final int vNodes, final String cause) {
+		if (call.done) {
+			return;
+		}
+		call.done = true;
+		if (null != call.channel) {
+			try {
+				call.channel.close();
+			} catch (IOException e) {
+				log.debug("close channel", e);
+			}
+		}
+		final long end = System.nanoTime();
+		/**
+		 * 回调会加service写锁、重建快照、写日志，交给PingTaskManager执行，不阻塞selector上的其它ping
+		 */
+		PingTaskManager.getInstance().execute(new Runnable() {
+
+			@Override
+			public void run() {
+				if (vNodes < 0) {
+					log.warn("ping [{}] fail -> {}", call.tsnode, cause);
+				}
+				long rpcNanos = -1;
+				if (call.connectNanos >= 0 && vNodes >= 0) {
+					rpcNanos = end - call.start - call.connectNanos;
+				}
+				ThriftPingCommand.summaryServicePing(call.tsnode, vNodes,
+						(end - call.start) * 0.000001F, call.connectNanos, rpcNanos);
+				try {
+					call.callback.onPing(call.tsnode, vNodes);
+				} catch (Exception e) {
+					log.error("ping callback", e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 尝试从已读到的数据中解析ping返回
+	 *
+	 * @return vNodes，数据不完整时返回null
+	 */
+	private Integer decode(ByteBuffer response) throws TException {
+		TMemoryInputTransport transport = new TMemoryInputTransport(response.array(), 0,
+				response.position());
+		TBinaryProtocol protocol = new TBinaryProtocol(transport);
+		try {
+			TMessage msg = protocol.readMessageBegin();
+			if (msg.type == TMessageType.EXCEPTION) {
+				throw TApplicationException.read(protocol);
+			}
+			if (msg.seqid != SEQID) {
+				throw new TApplicationException(TApplicationException.BAD_SEQUENCE_ID,
+						"ping failed: out of sequence response");
+			}
+			PoolAble.ping_result result = new PoolAble.ping_result();
+			result.read(protocol);
+			protocol.readMessageEnd();
+			if (result.isSetSuccess()) {
+				return result.getSuccess();
+			}
+			throw new TApplicationException(TApplicationException.MISSING_RESULT,
+					"ping failed: unknown result");
+		} catch (TTransportException e) {
+			return null; // 数据还没有读完
+		}
+	}
+
+	private static class PingCall {
+		private final TSNode tsnode;
+		private final PingCallback callback;
+		private final long start;
+		private final long deadline;
+		/**
+		 * 建立连接的耗时，-1表示尚未建立
+		 */
+		private long connectNanos = -1;
+		private InetSocketAddress address;
+		private ByteBuffer response = ByteBuffer.allocate(64);
+		private ByteBuffer request;
+		private SocketChannel channel;
+		private boolean done = false;
+
+		private PingCall(TSNode tsnode, PingCallback callback, long start, long deadline) {
+			this.tsnode = tsnode;
+			this.callback = callback;
+			this.start = start;
+			this.deadline = deadline;
+		}
+	}
+
+	private class Worker implements Runnable {
+		private final Selector selector;
+		private final ConcurrentLinkedQueue<PingCall> pending = new ConcurrentLinkedQueue<PingCall>();
+		/**
+		 * 超时时间相同，提交顺序即超时顺序
+		 */
+		private final ArrayDeque<PingCall> deadlines = new ArrayDeque<PingCall>();
+
+		private Worker(Selector selector) {
+			this.selector = selector;
+		}
+
+		private void submit(PingCall call) {
+			this.pending.offer(call);
+			this.selector.wakeup();
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				try {
+					this.register();
+					this.selector.select(this.selectTimeout());
+					this.handleSelectedKeys();
+					this.expire();
+				} catch (Throwable e) {
+					log.error("select", e);
+				}
+			}
+		}
+
+		private void register() {
+			while (true) {
+				PingCall call = this.pending.poll();
+				if (null == call) {
+					return;
+				}
+				this.deadlines.add(call);
+				try {
+					SocketChannel channel = SocketChannel.open();
+					call.channel = channel;
+					channel.configureBlocking(false);
+					channel.socket().setTcpNoDelay(true);
+					call.request = ByteBuffer.wrap(NioPingEngine.this.request);
+					if (channel.connect(call.address)) {
+						call.connectNanos = System.nanoTime() - call.start;
+						channel.register(this.selector, SelectionKey.OP_WRITE, call);
+					} else {
+						channel.register(this.selector, SelectionKey.OP_CONNECT, call);
+					}
+				} catch (IOException e) {
+					finish(call, -1, e.toString());
+				}
+			}
+		}
+
+		/**
+		 * 距离最近一个超时的毫秒数，没有进行中的调用时返回0（一直等待）
+		 */
+		private long selectTimeout() {
+			while (!this.deadlines.isEmpty()) {
+				PingCall call = this.deadlines.peek();
+				if (call.done) {
+					this.deadlines.poll();
+					continue;
+				}
+				long millis = TimeUnit.NANOSECONDS.toMillis(call.deadline - System.nanoTime());
+				return Math.max(millis, 1);
+			}
+			return 0;
+		}
+
+		private void handleSelectedKeys() {
+			Iterator<SelectionKey> iterator = this.selector.selectedKeys().iterator();
+			while (iterator.hasNext()) {
+				SelectionKey key = iterator.next();
+				iterator.remove();
+				PingCall call = (PingCall) key.attachment();
+				try {
+					this.handle(key, call);
+				} catch (Exception e) {
+					finish(call, -1, e.toString());
+				}
+			}
+		}
+
+		private void handle(SelectionKey key, PingCall call) throws IOException, TException {
+			if (!key.isValid() || call.done) {
+				return;
+			}
+			if (key.isConnectable()) {
+				if (call.channel.finishConnect()) {
+					call.connectNanos = System.nanoTime() - call.start;
+					key.interestOps(SelectionKey.OP_WRITE);
+				}
+			} else if (key.isWritable()) {
+				call.channel.write(call.request);
+				if (!call.request.hasRemaining()) {
+					key.interestOps(SelectionKey.OP_READ);
+				}
+			} else if (key.isReadable()) {
+				if (call.channel.read(call.response) < 0) {
+					finish(call, -1, "connection closed by peer");
+					return;
+				}
+				Integer vNodes = decode(call.response);
+				if (null != vNodes) {
+					finish(call, vNodes, null);
+				} else if (!call.response.hasRemaining()) {
+					this.grow(call);
+				}
+			}
+		}
+
+		private void grow(PingCall call) {
+			int capacity = call.response.capacity() * 2;
+			if (capacity > MAX_RESPONSE_LENGTH) {
+				finish(call, -1, "response too large");
+				return;
+			}
+			ByteBuffer response = ByteBuffer.allocate(capacity);
+			call.response.flip();
+			response.put(call.response);
+			call.response = response;
+		}
+
+		private void expire() {
+			long now = System.nanoTime();
+			while (!this.deadlines.isEmpty()) {
+				PingCall call = this.deadlines.peek();
+				if (!call.done && call.deadline - now > 0) {
+					return;
+				}
+				this.deadlines.poll();
+				finish(call, -1, "timeout");
+			}
+		}
+	}
+
+	private static class proxy {
+		private static NioPingEngine instance = new NioPingEngine(Config.pingNioThreads,
+				Config.pingTimeoutMillis);
+	}
+
+	public static NioPingEngine getInstance() {
+		return proxy.instance;
+	}
+}
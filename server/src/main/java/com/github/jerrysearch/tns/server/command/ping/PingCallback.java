@@ -0,0 +1,21 @@
+package com.github.jerrysearch.tns.server.command.ping;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 异步ping结果回调
+ * 
+ * @author jerry
+ *
+ */
+public interface PingCallback {
+
+	/**
+	 * ping完成（成功、失败或超时）
+	 * 
+	 * @param tsnode
+	 * @param vNodes
+	 *            失败或超时为-1
+	 */
+	public void onPing(TSNode tsnode, int vNodes);
+}
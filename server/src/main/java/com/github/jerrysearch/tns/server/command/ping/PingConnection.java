@@ -0,0 +1,86 @@
+package com.github.jerrysearch.tns.server.command.ping;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import com.github.jerrysearch.tns.protocol.rpc.PoolAble;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 某个节点的长连接，用于健康检查
+ * 
+ * ping失败或超时后标记为broken，下一次ping时重新连接
+ * 
+ * @author jerry
+ *
+ */
+public class PingConnection {
+
+	private final TSNode tsnode;
+	private final boolean framed;
+	private TTransport transport;
+	private PoolAble.Client client;
+	private volatile boolean broken = false;
+
+	public PingConnection(TSNode tsnode, boolean framed) {
+		this.tsnode = tsnode;
+		this.framed = framed;
+	}
+
+	/**
+	 * 确保连接可用
+	 * 
+	 * @return 建立连接的耗时（纳秒），复用已有连接时返回0
+	 * @throws TTransportException
+	 */
+	public synchronized long connect() throws TTransportException {
+		if (this.broken) {
+			this.closeTransport();
+			this.broken = false;
+		}
+		if (null != this.transport && this.transport.isOpen()) {
+			return 0;
+		}
+		long start = System.nanoTime();
+		TTransport transport = new TSocket(this.tsnode.getHost(), this.tsnode.getPort(), 1000);
+		if (this.framed) {
+			transport = new TFramedTransport(transport);
+		}
+		transport.open();
+		this.transport = transport;
+		this.client = new PoolAble.Client(new TBinaryProtocol(transport));
+		return System.nanoTime() - start;
+	}
+
+	public synchronized int ping() throws TException {
+		try {
+			return this.client.ping();
+		} catch (TException e) {
+			this.closeTransport();
+			throw e;
+		}
+	}
+
+	/**
+	 * 标记连接损坏，不阻塞正在进行的ping
+	 */
+	public void broken() {
+		this.broken = true;
+	}
+
+	public synchronized void close() {
+		this.closeTransport();
+	}
+
+	private void closeTransport() {
+		if (null != this.transport && this.transport.isOpen()) {
+			this.transport.close();
+		}
+		this.transport = null;
+		this.client = null;
+	}
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
 
 import com.github.jerrysearch.tns.protocol.rpc.PoolAble;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
@@ -20,10 +21,24 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 
 	private static final String CLUSTER_ID = Config.CLUSTER_ID;
 	private final TSNode tsnode;
+	/**
+	 * 长连接，为null时每次ping新建连接
+	 */
+	private final PingConnection connection;
+	/**
+	 * 建立连接、rpc调用的耗时（纳秒），-1表示未完成
+	 */
+	private volatile long connectNanos = -1;
+	private volatile long rpcNanos = -1;
 
 	public ThriftPingCommand(TSNode tsnode) {
+		this(tsnode, null);
+	}
+
+	public ThriftPingCommand(TSNode tsnode, PingConnection connection) {
 		super();
 		this.tsnode = tsnode;
+		this.connection = connection;
 	}
 
 	@Loggable
@@ -35,12 +50,16 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 		long start = System.nanoTime();
 		int vNodes = this.ping(this.tsnode);
 		long end = System.nanoTime();
-		this.summaryServicePing(tsnode, vNodes, (end - start) * 0.000001F);
+		summaryServicePing(tsnode, vNodes, (end - start) * 0.000001F, this.connectNanos,
+				this.rpcNanos);
 		return vNodes;
 	}
 
 	@Override
 	protected Integer run() throws Exception {
+		if (null != this.connection) {
+			return this.runWithConnection();
+		}
 		String host = this.tsnode.getHost();
 		int port = this.tsnode.getPort();
 
@@ -49,8 +68,12 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 		PoolAble.Client client = new PoolAble.Client(protocol);
 		int vNodes = -1;
 		try {
+			long start = System.nanoTime();
 			transport.open();
+			long connected = System.nanoTime();
+			this.connectNanos = connected - start;
 			vNodes = client.ping();
+			this.rpcNanos = System.nanoTime() - connected;
 		} finally {
 			if (transport.isOpen()) {
 				transport.close();
@@ -59,8 +82,39 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 		return vNodes;
 	}
 
+	/**
+	 * 使用长连接ping，连接断开时重连
+	 * 
+	 * @return
+	 * @throws Exception
+	 */
+	private Integer runWithConnection() throws Exception {
+		long connectNanos = this.connection.connect();
+		this.connectNanos = connectNanos;
+		long start = System.nanoTime();
+		int vNodes;
+		try {
+			vNodes = this.connection.ping();
+		} catch (TTransportException e) {
+			if (connectNanos > 0) {
+				throw e;
+			}
+			/**
+			 * 复用的连接可能已被对方关闭，重连后再试一次，避免误判为DOWN
+			 */
+			this.connectNanos = this.connection.connect();
+			start = System.nanoTime();
+			vNodes = this.connection.ping();
+		}
+		this.rpcNanos = System.nanoTime() - start;
+		return vNodes;
+	}
+
 	@Override
 	protected Integer getFallback() {
+		if (null != this.connection) {
+			this.connection.broken(); // 超时的连接可能还有未读的返回，下次重连
+		}
 		return this.getFallback(this.tsnode);
 	}
 
@@ -73,9 +127,16 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 	 * 汇总service节点ping数据
 	 * 
 	 * @param tsnode
-	 * @param timeConsuming
+	 * @param vNodes
+	 * @param consume
+	 *            总耗时（毫秒）
+	 * @param connectNanos
+	 *            建立连接耗时，-1表示未知
+	 * @param rpcNanos
+	 *            rpc调用耗时，-1表示未知
 	 */
-	private void summaryServicePing(TSNode tsnode, int vNodes, float consume) {
+	static void summaryServicePing(TSNode tsnode, int vNodes, float consume, long connectNanos,
+			long rpcNanos) {
 		LogEvent event = new LogEvent();
 		event.setSource(CLUSTER_ID);
 		event.setOperation(Operation.PING_SERVICE);
@@ -86,6 +147,12 @@ public class ThriftPingCommand extends BaseSysCommand<Integer> {
 		attributes.add("frequency=" + tsnode.getPingFrequency());
 		attributes.add("vNodes=" + vNodes);
 		attributes.add(String.format("consume(ms)=%.2f", consume));
+		if (connectNanos >= 0) {
+			attributes.add(String.format("connect(ms)=%.2f", connectNanos * 0.000001F));
+		}
+		if (rpcNanos >= 0) {
+			attributes.add(String.format("rpc(ms)=%.2f", rpcNanos * 0.000001F));
+		}
 		event.setAttributes(attributes);
 		event.setTimestamp(System.currentTimeMillis());
 		Summary.getInstance().appendLogEvent(event);
@@ -0,0 +1,67 @@
+package com.github.jerrysearch.tns.server.command.push;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+
+import com.github.jerrysearch.tns.protocol.rpc.Cluster;
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.cluster.MerkleDigest;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+import com.github.jerrysearch.tns.server.util.TransportUtil;
+
+/**
+ * 与对方比较摘要，只交换摘要不同的service：拉取对方的节点合并到本地，并推送本地的节点
+ * 
+ * @author jerry
+ *
+ */
+public class ThriftMerkleSyncCommand extends ThriftPushCNodeAndSNodeListCommand {
+
+	private final MerkleDigest merkleDigest = MerkleDigest.getInstance();
+	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+
+	public ThriftMerkleSyncCommand(TCNode tcnode, List<TCNode> cList) {
+		super(tcnode, cList, new LinkedList<TSNode>(), 5000);
+	}
+
+	@Override
+	protected State run() throws Exception {
+		String host = tcnode.getHost();
+		int port = tcnode.getPort();
+
+		TTransport transport = TransportUtil.cluster(host, port, 3000);
+		TProtocol protocol = new TBinaryProtocol(transport);
+		Cluster.Client client = new Cluster.Client(protocol);
+		try {
+			transport.open();
+			List<Integer> buckets = MerkleDigest.diffBuckets(this.merkleDigest.digestBuckets(),
+					client.digestBuckets());
+			if (null == buckets) {
+				log.warn("merkle buckets of [{}] mismatch, push all", host);
+				sNodeManager.toAllServiceNodeList(sList);
+			} else if (!buckets.isEmpty()) {
+				List<String> serviceNames = MerkleDigest.diffServiceNames(
+						this.merkleDigest.serviceDigests(buckets), client.serviceDigests(buckets));
+				if (!serviceNames.isEmpty()) {
+					List<TSNode> remote = client.serviceNodeList(serviceNames);
+					sNodeManager.toServiceNodeList(serviceNames, sList);
+					sNodeManager.pushServiceList(remote);
+					log.info("merkle sync with [{}], services [{}], pull [{}], push [{}]", host,
+							serviceNames.size(), remote.size(), sList.size());
+				}
+			}
+			client.pushClusterAndServiceList(cList, sList);
+		} finally {
+			if (transport.isOpen()) {
+				transport.close();
+			}
+		}
+		return State.UP;
+	}
+}
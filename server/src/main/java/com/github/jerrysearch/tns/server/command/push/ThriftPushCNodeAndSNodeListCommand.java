@@ -5,7 +5,7 @@ import java.util.List;
 
 import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
-import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
 
 import com.github.jerrysearch.tns.protocol.rpc.Cluster;
 import com.github.jerrysearch.tns.protocol.rpc.State;
@@ -16,6 +16,7 @@ import com.github.jerrysearch.tns.protocol.rpc.event.Operation;
 import com.github.jerrysearch.tns.server.command.BaseSysCommand;
 import com.github.jerrysearch.tns.server.conf.Config;
 import com.github.jerrysearch.tns.server.summary.Summary;
+import com.github.jerrysearch.tns.server.util.TransportUtil;
 import com.jcabi.aspects.Loggable;
 
 public class ThriftPushCNodeAndSNodeListCommand extends BaseSysCommand<State> {
@@ -32,12 +33,20 @@ public class ThriftPushCNodeAndSNodeListCommand extends BaseSysCommand<State> {
 		this.sList = sList;
 	}
 
+	protected ThriftPushCNodeAndSNodeListCommand(TCNode tcnode, List<TCNode> cList,
+			List<TSNode> sList, int executionTimeoutInMilliseconds) {
+		super(executionTimeoutInMilliseconds);
+		this.tcnode = tcnode;
+		this.cList = cList;
+		this.sList = sList;
+	}
+
 	@Override
 	protected State run() throws Exception {
 		String host = tcnode.getHost();
 		int port = tcnode.getPort();
 
-		TSocket transport = new TSocket(host, port, 1000);
+		TTransport transport = TransportUtil.cluster(host, port, 1000);
 		TProtocol protocol = new TBinaryProtocol(transport);
 		Cluster.Client client = new Cluster.Client(protocol);
 		try {
@@ -0,0 +1,63 @@
+package com.github.jerrysearch.tns.server.command.push;
+
+import java.util.List;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TTransport;
+
+import com.github.jerrysearch.tns.protocol.rpc.Cluster;
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.util.TransportUtil;
+
+/**
+ * 增量推送，fromVersion为0表示全量
+ * 
+ * @author jerry
+ *
+ */
+public class ThriftPushDeltaCommand extends ThriftPushCNodeAndSNodeListCommand {
+
+	private final long epoch;
+	private final long fromVersion;
+	private final long toVersion;
+	/**
+	 * 对方返回的已确认版本号，-1表示推送失败
+	 */
+	private volatile long acked = -1;
+
+	public ThriftPushDeltaCommand(TCNode tcnode, long epoch, long fromVersion, long toVersion,
+			List<TCNode> cList, List<TSNode> sList) {
+		super(tcnode, cList, sList);
+		this.epoch = epoch;
+		this.fromVersion = fromVersion;
+		this.toVersion = toVersion;
+	}
+
+	@Override
+	protected State run() throws Exception {
+		String host = tcnode.getHost();
+		int port = tcnode.getPort();
+
+		TTransport transport = TransportUtil.cluster(host, port, 1000);
+		TProtocol protocol = new TBinaryProtocol(transport);
+		Cluster.Client client = new Cluster.Client(protocol);
+		try {
+			transport.open();
+			this.acked = client.pushDelta(Config.TNSID, this.epoch, this.fromVersion,
+					this.toVersion, cList, sList);
+		} finally {
+			if (transport.isOpen()) {
+				transport.close();
+			}
+		}
+		return State.UP;
+	}
+
+	public long getAcked() {
+		return acked;
+	}
+}
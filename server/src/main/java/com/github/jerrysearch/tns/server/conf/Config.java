@@ -12,4 +12,215 @@ public class Config {
 	public static final Long serviceStatusKeepSeconds = 17L;
 
 	public static final String CLUSTER_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+	/**
+	 * serviceList是否直接读取service快照（无锁）
+	 */
+	public static final boolean serviceSnapshot = Boolean.parseBoolean(System.getProperty(
+			"service.snapshot", "false"));
+
+	/**
+	 * service快照是否不持有节点，只保留UP节点的列式副本，serviceList时从副本生成，节点数很多时节省内存
+	 */
+	public static final boolean serviceCompact = Boolean.parseBoolean(System.getProperty(
+			"service.compact", "false"));
+
+	/**
+	 * serviceList是否使用预先编码的返回结果缓存
+	 */
+	public static final boolean serviceListCache = Boolean.parseBoolean(System.getProperty(
+			"service.list.cache", "false"));
+
+	/**
+	 * 是否使用非阻塞的ping
+	 */
+	public static final boolean pingNio = Boolean.parseBoolean(System.getProperty("ping.nio",
+			"false"));
+
+	/**
+	 * 非阻塞ping的selector线程数
+	 */
+	public static final int pingNioThreads = Integer.parseInt(System.getProperty(
+			"ping.nio.threads", "2"));
+
+	/**
+	 * 非阻塞ping的超时时间（毫秒）
+	 */
+	public static final int pingTimeoutMillis = Integer.parseInt(System.getProperty(
+			"ping.timeout", "2000"));
+
+	/**
+	 * 阻塞ping是否为每个节点保持长连接
+	 */
+	public static final boolean pingPersistent = Boolean.parseBoolean(System.getProperty(
+			"ping.persistent", "false"));
+
+	/**
+	 * 长连接是否使用TFramedTransport，需与service端的transport一致，默认与短连接ping相同，不分帧
+	 */
+	public static final boolean pingPersistentFramed = Boolean.parseBoolean(System.getProperty(
+			"ping.persistent.framed", "false"));
+
+	/**
+	 * ping任务是否使用时间轮调度
+	 */
+	public static final boolean pingWheel = Boolean.parseBoolean(System.getProperty("ping.wheel",
+			"false"));
+
+	/**
+	 * 时间轮每格的时间（毫秒）
+	 */
+	public static final int pingWheelTickMillis = Integer.parseInt(System.getProperty(
+			"ping.wheel.tick", "100"));
+
+	/**
+	 * 时间轮格子数
+	 */
+	public static final int pingWheelSize = Integer.parseInt(System.getProperty(
+			"ping.wheel.size", "512"));
+
+	/**
+	 * 是否按一致性哈希在cluster节点间分片ping，只有owner执行ping
+	 */
+	public static final boolean pingSharding = Boolean.parseBoolean(System.getProperty(
+			"ping.sharding", "false"));
+
+	/**
+	 * 每个cluster节点在哈希环上的虚拟点数
+	 */
+	public static final int pingShardingReplicas = Integer.parseInt(System.getProperty(
+			"ping.sharding.replicas", "160"));
+
+	/**
+	 * cluster间是否增量同步，所有cluster节点都支持pushDelta后才能打开
+	 */
+	public static final boolean clusterDelta = Boolean.parseBoolean(System.getProperty(
+			"cluster.delta", "false"));
+
+	/**
+	 * 一次增量最多包含的service节点数，超过则改为全量
+	 */
+	public static final int clusterDeltaMax = Integer.parseInt(System.getProperty(
+			"cluster.delta.max", "5000"));
+
+	/**
+	 * 每隔多少次推送做一次全量，兜底修复不一致
+	 */
+	public static final int clusterDeltaFullRounds = Integer.parseInt(System.getProperty(
+			"cluster.delta.full.rounds", "60"));
+
+	/**
+	 * cluster间是否用摘要比较代替全量推送，所有cluster节点都支持digestBuckets后才能打开
+	 */
+	public static final boolean clusterMerkle = Boolean.parseBoolean(System.getProperty(
+			"cluster.merkle", "false"));
+
+	/**
+	 * 摘要桶数，所有cluster节点必须一致
+	 */
+	public static final int clusterMerkleBuckets = Integer.parseInt(System.getProperty(
+			"cluster.merkle.buckets", "256"));
+
+	/**
+	 * 是否启动ServiceWatchServer，端口为PORT + 2，使用TFramedTransport
+	 */
+	public static final boolean serviceWatch = Boolean.parseBoolean(System.getProperty(
+			"service.watch", "false"));
+
+	/**
+	 * watchServiceList最长等待时间
+	 */
+	public static final int serviceWatchMaxTimeoutMillis = Integer.parseInt(System.getProperty(
+			"service.watch.timeout.max", "60000"));
+
+	/**
+	 * TNSRpcServer是否使用TThreadedSelectorServer（TFramedTransport），客户端需设置tns.client.framed=true
+	 */
+	public static final boolean tnsRpcSelector = Boolean.parseBoolean(System.getProperty(
+			"tns.rpc.selector", "false"));
+
+	/**
+	 * ClusterRpcServer是否使用TThreadedSelectorServer（TFramedTransport），所有cluster节点及console必须一致
+	 */
+	public static final boolean clusterRpcSelector = Boolean.parseBoolean(System.getProperty(
+			"cluster.rpc.selector", "false"));
+
+	/**
+	 * selector模式下每个server的selector线程数
+	 */
+	public static final int rpcSelectorThreads = Integer.parseInt(System.getProperty(
+			"rpc.selector.threads", "2"));
+
+	/**
+	 * TNSRpcServer的工作线程数
+	 */
+	public static final int tnsRpcWorkers = Integer.parseInt(System.getProperty(
+			"tns.rpc.workers", "4"));
+
+	/**
+	 * ClusterRpcServer的工作线程数
+	 */
+	public static final int clusterRpcWorkers = Integer.parseInt(System.getProperty(
+			"cluster.rpc.workers", "2"));
+
+	/**
+	 * ping返回的vNodes上限，客户端使用AliasTSNodeSelector时索引大小与vNodes无关，可以调大
+	 */
+	public static final int pingMaxVNodes = Integer.parseInt(System.getProperty(
+			"ping.vnodes.max", "20"));
+
+	/**
+	 * 是否把service注册表写入预写日志并定期做快照，重启时据此恢复
+	 */
+	public static final boolean registryWal = Boolean.parseBoolean(System.getProperty(
+			"registry.wal", "false"));
+
+	/**
+	 * 预写日志及快照的目录
+	 */
+	public static final String registryDir = System.getProperty("registry.dir", "data");
+
+	/**
+	 * 刷盘策略：none（只写入系统缓存）、batch（每registry.wal.sync.interval毫秒fsync一次）、
+	 * always（onLine/offLine等待所在批次fsync后返回）
+	 */
+	public static final String registryWalSync = System.getProperty("registry.wal.sync", "batch");
+
+	/**
+	 * batch策略的fsync间隔（毫秒）
+	 */
+	public static final int registryWalSyncIntervalMillis = Integer.parseInt(System.getProperty(
+			"registry.wal.sync.interval", "1000"));
+
+	/**
+	 * 等待日志落盘、快照时等待切换日志段的最长时间（毫秒），超时按写入失败处理
+	 */
+	public static final int registryWalTimeoutMillis = Integer.parseInt(System.getProperty(
+			"registry.wal.timeout", "10000"));
+
+	/**
+	 * 快照间隔（秒），快照后删除之前的日志
+	 */
+	public static final int registrySnapshotSeconds = Integer.parseInt(System.getProperty(
+			"registry.snapshot.interval", "300"));
+
+	/**
+	 * 启动时先映射快照镜像提供serviceList，注册表在后台重建
+	 */
+	public static final boolean registryWarmStart = Boolean.parseBoolean(System.getProperty(
+			"registry.warm.start", "true"));
+
+	/**
+	 * 节点的Leaving -> Tombstone_1 -> Tombstone -> 移除，是否由每个节点各自的到期事件驱动，
+	 * 代替每10分钟扫描全部service
+	 */
+	public static final boolean serviceTombstoneTimer = Boolean.parseBoolean(System.getProperty(
+			"service.tombstone.timer", "false"));
+
+	/**
+	 * 到期事件驱动时，每个状态停留的时间（秒），不小于serviceStatusKeepSeconds。默认与原来的扫描间隔相同，
+	 * 保证Leaving有足够的时间同步到其它cluster节点
+	 */
+	public static final int serviceTombstoneSeconds = Integer.parseInt(System.getProperty(
+			"service.tombstone.seconds", "600"));
 }
@@ -0,0 +1,66 @@
+package com.github.jerrysearch.tns.server.rpc.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc.serviceList_result;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 预先编码好的serviceList返回结果
+ * 
+ * TBinaryProtocol下直接把编码好的字节写入transport，其它协议退化为正常编码
+ * 
+ * @author jerry
+ *
+ */
+@SuppressWarnings("serial")
+public class CachedServiceListResult extends serviceList_result {
+
+	private final long version;
+	private final byte[] bytes;
+
+	public CachedServiceListResult(long version, List<TSNode> list) throws TException {
+		super(list);
+		this.version = version;
+		this.bytes = this.encode();
+	}
+
+	private byte[] encode() throws TException {
+		TMemoryBuffer buffer = new TMemoryBuffer(256);
+		serviceList_result result = new serviceList_result(this.success);
+		result.write(new TBinaryProtocol(buffer));
+		return Arrays.copyOf(buffer.getArray(), buffer.length());
+	}
+
+	@Override
+	public void write(TProtocol oprot) throws TException {
+		if (oprot instanceof TBinaryProtocol) {
+			oprot.getTransport().write(this.bytes);
+		} else {
+			super.write(oprot);
+		}
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public int size() {
+		return this.success.size();
+	}
+
+	/**
+	 * 编码后的字节数
+	 * 
+	 * @return
+	 */
+	public int length() {
+		return this.bytes.length;
+	}
+}
@@ -0,0 +1,49 @@
+package com.github.jerrysearch.tns.server.rpc.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.thrift.ProcessFunction;
+import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc;
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc.serviceList_args;
+import com.github.jerrysearch.tns.server.rpc.impl.TNSRpcImpl;
+
+/**
+ * serviceList走返回结果缓存的TNSRpc处理器，其它方法不变
+ * 
+ * @see ServiceListResponseCache
+ * @author jerry
+ *
+ */
+public class CachedTNSRpcProcessor extends TNSRpc.Processor<TNSRpcImpl> {
+
+	/**
+	 * 生成代码中Processor的构造参数使用原始类型TBase
+	 */
+	@SuppressWarnings("rawtypes")
+	public CachedTNSRpcProcessor(TNSRpcImpl iface) {
+		this(iface, new HashMap<String, ProcessFunction<TNSRpcImpl, ? extends TBase>>());
+	}
+
+	@SuppressWarnings("rawtypes")
+	private CachedTNSRpcProcessor(TNSRpcImpl iface,
+			Map<String, ProcessFunction<TNSRpcImpl, ? extends TBase>> processMap) {
+		super(iface, processMap);
+		/**
+		 * 覆盖生成代码中的serviceList
+		 */
+		processMap.put("serviceList", new cachedServiceList());
+	}
+
+	private static class cachedServiceList extends TNSRpc.Processor.serviceList<TNSRpcImpl> {
+
+		@Override
+		public CachedServiceListResult getResult(TNSRpcImpl iface, serviceList_args args)
+				throws TException {
+			return iface.cachedServiceList(args.clientId, args.serviceName);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.jerrysearch.tns.server.rpc.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+import com.github.jerrysearch.tns.server.service.ServiceSnapshot;
+
+/**
+ * serviceList返回结果缓存，以service快照版本为准
+ * 
+ * 快照版本变化（节点状态或vNodes变化）后，下一次请求重新编码
+ * 
+ * @author jerry
+ *
+ */
+public class ServiceListResponseCache implements ServiceListResponseCacheMBean {
+
+	private final ConcurrentHashMap<String, CachedServiceListResult> cache = new ConcurrentHashMap<String, CachedServiceListResult>();
+	private final SNodeManager sNodeManager = SNodeManager.getInstance();
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	/**
+	 * 不存在的service共用一个空结果
+	 */
+	private final CachedServiceListResult empty;
+
+	private ServiceListResponseCache() {
+		try {
+			this.empty = new CachedServiceListResult(0, Collections.<TSNode> emptyList());
+		} catch (TException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 返回该service当前的serviceList结果
+	 * 
+	 * @param serviceName
+	 * @return
+	 * @throws TException
+	 */
+	public CachedServiceListResult get(String serviceName) throws TException {
+		ServiceSnapshot snapshot = this.sNodeManager.getServiceSnapshot(serviceName);
+		if (null == snapshot) {
+			this.cache.remove(serviceName);
+			return this.empty;
+		}
+		CachedServiceListResult result = this.cache.get(serviceName);
+		if (null != result && result.getVersion() == snapshot.getVersion()) {
+			this.hitCount.incrementAndGet();
+			return result;
+		}
+		this.missCount.incrementAndGet();
+		result = new CachedServiceListResult(snapshot.getVersion(), snapshot.getUpList());
+		this.cache.put(serviceName, result);
+		this.log.debug("encode serviceList [ {} ] with version [ {} ]", serviceName,
+				snapshot.getVersion());
+		return result;
+	}
+
+	@Override
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	@Override
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	private final String format = "%-20s%-15s%-15s%-15s\n";
+	private final String headLine = String.format(format, "SERVICENAME", "VERSION", "UPNODES",
+			"BYTES");
+
+	@Override
+	public String cacheStatus() {
+		StringBuilder sb = new StringBuilder(500);
+		sb.append("hit : ").append(this.getHitCount()).append(", miss : ")
+				.append(this.getMissCount()).append("\n\n");
+		sb.append(this.headLine);
+		for (Map.Entry<String, CachedServiceListResult> entry : this.cache.entrySet()) {
+			CachedServiceListResult result = entry.getValue();
+			sb.append(String.format(format, entry.getKey(), result.getVersion(), result.size(),
+					result.length()));
+		}
+		return sb.toString();
+	}
+
+	private static class proxy {
+		private static ServiceListResponseCache instance = new ServiceListResponseCache();
+	}
+
+	public static ServiceListResponseCache getInstance() {
+		return proxy.instance;
+	}
+}
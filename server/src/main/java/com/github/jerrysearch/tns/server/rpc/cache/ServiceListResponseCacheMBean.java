@@ -0,0 +1,25 @@
+package com.github.jerrysearch.tns.server.rpc.cache;
+
+public interface ServiceListResponseCacheMBean {
+
+	/**
+	 * 命中次数
+	 * 
+	 * @return
+	 */
+	long getHitCount();
+
+	/**
+	 * 未命中次数
+	 * 
+	 * @return
+	 */
+	long getMissCount();
+
+	/**
+	 * 缓存状态
+	 * 
+	 * @return
+	 */
+	String cacheStatus();
+}
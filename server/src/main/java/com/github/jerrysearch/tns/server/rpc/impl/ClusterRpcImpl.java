@@ -7,9 +7,12 @@ import org.apache.thrift.TException;
 
 import com.github.jerrysearch.tns.protocol.rpc.Cluster.Iface;
 import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TDigest;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
 import com.github.jerrysearch.tns.protocol.rpc.event.LogEvent;
 import com.github.jerrysearch.tns.server.cluster.CNodeManager;
+import com.github.jerrysearch.tns.server.cluster.DeltaGossip;
+import com.github.jerrysearch.tns.server.cluster.MerkleDigest;
 import com.github.jerrysearch.tns.server.service.SNodeManager;
 import com.github.jerrysearch.tns.server.summary.Summary;
 import com.jcabi.aspects.Loggable;
@@ -32,6 +35,32 @@ public class ClusterRpcImpl implements Iface {
 		this.sNodeManager.pushServiceList(sList);
 	}
 
+	@Loggable(skipArgs = true)
+	@Override
+	public long pushDelta(long sourceId, long epoch, long fromVersion, long toVersion,
+			List<TCNode> cList, List<TSNode> sList) throws TException {
+		return DeltaGossip.getInstance().receive(sourceId, epoch, fromVersion, toVersion, cList,
+				sList);
+	}
+
+	@Loggable(skipResult = true)
+	@Override
+	public List<Long> digestBuckets() throws TException {
+		return MerkleDigest.getInstance().digestBuckets();
+	}
+
+	@Loggable(skipArgs = true, skipResult = true)
+	@Override
+	public List<TDigest> serviceDigests(List<Integer> buckets) throws TException {
+		return MerkleDigest.getInstance().serviceDigests(buckets);
+	}
+
+	@Loggable(skipArgs = true, skipResult = true)
+	@Override
+	public List<TSNode> serviceNodeList(List<String> serviceNames) throws TException {
+		return MerkleDigest.getInstance().serviceNodeList(serviceNames);
+	}
+
 	@Loggable(skipResult = true)
 	@Override
 	public List<TSNode> allServiceList(String clientId) throws TException {
@@ -0,0 +1,117 @@
+package com.github.jerrysearch.tns.server.rpc.impl;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.async.AsyncMethodCallback;
+
+import com.github.jerrysearch.tns.protocol.rpc.TCNode;
+import com.github.jerrysearch.tns.protocol.rpc.TNSRpc.AsyncIface;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.protocol.rpc.TServiceList;
+import com.github.jerrysearch.tns.server.rpc.watch.ServiceWatchManager;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
+
+/**
+ * ServiceWatchServer使用的异步实现，watchServiceList挂起到ServiceWatchManager，register、deregister交给worker线程，
+ * 其它方法直接返回
+ * 
+ * @author jerry
+ *
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class TNSRpcAsyncImpl implements AsyncIface {
+
+	private final TNSRpcImpl iface = new TNSRpcImpl();
+	private final ServiceWatchManager serviceWatchManager = ServiceWatchManager.getInstance();
+	/**
+	 * 执行register、deregister等会阻塞的调用
+	 */
+	private final ExecutorService worker = Executors.newSingleThreadExecutor(new NamedThreadFactory(
+			"TNSRpcAsyncWorker", true));
+
+	@Override
+	public void serviceList(String clientId, String serviceName, AsyncMethodCallback resultHandler)
+			throws TException {
+		List<TSNode> list = this.iface.serviceList(clientId, serviceName);
+		resultHandler.onComplete(list);
+	}
+
+	@Override
+	public void watchServiceList(final String clientId, final String serviceName,
+			long knownVersion, int timeoutMs, final AsyncMethodCallback resultHandler)
+			throws TException {
+		this.serviceWatchManager.watch(serviceName, knownVersion, timeoutMs,
+				new AsyncMethodCallback<TServiceList>() {
+
+					@Override
+					public void onComplete(TServiceList response) {
+						iface.serviceListLogEvent(clientId, serviceName, response.getNodesSize());
+						resultHandler.onComplete(response);
+					}
+
+					@Override
+					public void onError(Exception exception) {
+						resultHandler.onError(exception);
+					}
+				});
+	}
+
+	@Override
+	public void clusterList(String clientId, AsyncMethodCallback resultHandler) throws TException {
+		List<TCNode> list = this.iface.clusterList(clientId);
+		resultHandler.onComplete(list);
+	}
+
+	/**
+	 * 批量注册要加写锁、可能等待fsync，交给worker执行，不阻塞selector线程
+	 */
+	@Override
+	public void register(final String clientId, final List<TSNode> nodes,
+			final AsyncMethodCallback resultHandler) throws TException {
+		this.execute(resultHandler, new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				return iface.register(clientId, nodes);
+			}
+		});
+	}
+
+	@Override
+	public void deregister(final String clientId, final String serviceName, final List<Long> ids,
+			final AsyncMethodCallback resultHandler) throws TException {
+		this.execute(resultHandler, new Callable<Object>() {
+
+			@Override
+			public Object call() throws Exception {
+				return iface.deregister(clientId, serviceName, ids);
+			}
+		});
+	}
+
+	private void execute(final AsyncMethodCallback resultHandler, final Callable<Object> call) {
+		try {
+			this.worker.execute(new Runnable() {
+
+				@Override
+				public void run() {
+					Object result;
+					try {
+						result = call.call();
+					} catch (Exception e) {
+						resultHandler.onError(e);
+						return;
+					}
+					resultHandler.onComplete(result);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			resultHandler.onError(e);
+		}
+	}
+}
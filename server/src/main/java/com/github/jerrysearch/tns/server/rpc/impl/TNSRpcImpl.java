@@ -1,5 +1,6 @@
 package com.github.jerrysearch.tns.server.rpc.impl;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -8,11 +9,16 @@ import org.apache.thrift.TException;
 import com.github.jerrysearch.tns.protocol.rpc.TCNode;
 import com.github.jerrysearch.tns.protocol.rpc.TNSRpc.Iface;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.protocol.rpc.TServiceList;
 import com.github.jerrysearch.tns.protocol.rpc.event.LogEvent;
 import com.github.jerrysearch.tns.protocol.rpc.event.Operation;
 import com.github.jerrysearch.tns.server.cluster.CNodeManager;
 import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.rpc.cache.CachedServiceListResult;
+import com.github.jerrysearch.tns.server.rpc.cache.ServiceListResponseCache;
+import com.github.jerrysearch.tns.server.rpc.watch.ServiceWatchManager;
 import com.github.jerrysearch.tns.server.service.SNodeManager;
+import com.github.jerrysearch.tns.server.service.ServiceSnapshot;
 import com.github.jerrysearch.tns.server.summary.Summary;
 import com.jcabi.aspects.Loggable;
 
@@ -20,6 +26,8 @@ public class TNSRpcImpl implements Iface {
 
 	private final SNodeManager sNodeManager = SNodeManager.getInstance();
 	private final CNodeManager cNodeManager = CNodeManager.getInstance();
+	private final ServiceListResponseCache serviceListResponseCache = ServiceListResponseCache
+			.getInstance();
 	private final String clusterId = String.valueOf(Config.CLUSTER_ID);
 
 	/**
@@ -28,12 +36,50 @@ public class TNSRpcImpl implements Iface {
 	@Override
 	@Loggable(skipResult = true)
 	public List<TSNode> serviceList(String clientId, String serviceName) throws TException {
-		List<TSNode> list = new LinkedList<TSNode>();
-		this.sNodeManager.toUpServiceNodeList(serviceName, list);
+		List<TSNode> list;
+		if (Config.serviceSnapshot) {
+			list = this.sNodeManager.upServiceNodeList(serviceName);
+		} else {
+			list = new LinkedList<TSNode>();
+			this.sNodeManager.toUpServiceNodeList(serviceName, list);
+		}
 		this.serviceListLogEvent(clientId, serviceName, list.size());
 		return list;
 	}
 
+	/**
+	 * 阻塞的server中不挂起，直接返回当前列表，等待只在ServiceWatchServer中支持
+	 * 
+	 * @see ServiceWatchManager
+	 */
+	@Override
+	@Loggable(skipResult = true)
+	public TServiceList watchServiceList(String clientId, String serviceName, long knownVersion,
+			int timeoutMs) throws TException {
+		ServiceSnapshot snapshot = this.sNodeManager.getServiceSnapshot(serviceName);
+		TServiceList result;
+		if (null == snapshot) {
+			result = new TServiceList(0, Collections.<TSNode> emptyList());
+		} else {
+			result = new TServiceList(snapshot.getVersion(), snapshot.getUpList());
+		}
+		this.serviceListLogEvent(clientId, serviceName, result.getNodesSize());
+		return result;
+	}
+
+	/**
+	 * 请求service列表，返回预先编码好的结果
+	 * 
+	 * @see ServiceListResponseCache
+	 */
+	@Loggable(skipResult = true)
+	public CachedServiceListResult cachedServiceList(String clientId, String serviceName)
+			throws TException {
+		CachedServiceListResult result = this.serviceListResponseCache.get(serviceName);
+		this.serviceListLogEvent(clientId, serviceName, result.size());
+		return result;
+	}
+
 	/**
 	 * 上报LogEvent 用于统计
 	 * 
@@ -41,7 +87,7 @@ public class TNSRpcImpl implements Iface {
 	 * @param serviceName
 	 * @see LogEvent
 	 */
-	private void serviceListLogEvent(String clientId, String serviceName, int upNodes) {
+	void serviceListLogEvent(String clientId, String serviceName, int upNodes) {
 		LogEvent event = new LogEvent();
 		event.setSource(clientId);
 		event.setOperation(Operation.SYNC_SERVICE);
@@ -66,6 +112,28 @@ public class TNSRpcImpl implements Iface {
 		return list;
 	}
 
+	/**
+	 * 批量注册
+	 * 
+	 * @see SNodeManager#register(List)
+	 */
+	@Override
+	@Loggable(skipArgs = true, skipResult = true)
+	public List<Long> register(String clientId, List<TSNode> nodes) throws TException {
+		return this.sNodeManager.register(nodes);
+	}
+
+	/**
+	 * 批量下线
+	 * 
+	 * @see SNodeManager#deregister(String, java.util.Collection)
+	 */
+	@Override
+	@Loggable(skipArgs = true)
+	public int deregister(String clientId, String serviceName, List<Long> ids) throws TException {
+		return this.sNodeManager.deregister(serviceName, ids);
+	}
+
 	/**
 	 * 上报LogEvent 用于统计
 	 * 
@@ -0,0 +1,236 @@
+package com.github.jerrysearch.tns.server.rpc.watch;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.thrift.async.AsyncMethodCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.protocol.rpc.TServiceList;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+import com.github.jerrysearch.tns.server.service.ServiceSnapshot;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
+
+/**
+ * 挂起watchServiceList请求，直到service快照版本变化或超时
+ * 
+ * 等待中的请求只占用一个Watcher对象和一个定时器项，不占用线程。快照重建时由通知线程唤醒对应service的watcher
+ * 
+ * @author jerry
+ *
+ */
+public class ServiceWatchManager implements ServiceWatchManagerMBean {
+
+	/**
+	 * serviceName -> 等待中的watcher，set变空时移除；加入、移除时持有set的锁，不会加入已移除的set
+	 */
+	private final ConcurrentHashMap<String, Set<Watcher>> watchers = new ConcurrentHashMap<String, Set<Watcher>>();
+	private final ScheduledThreadPoolExecutor timer;
+	private final ExecutorService notifier = Executors
+			.newSingleThreadExecutor(new NamedThreadFactory("ServiceWatchNotifier", true));
+	private final AtomicLong changedCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	private ServiceWatchManager() {
+		this.timer = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory(
+				"ServiceWatchTimer", true));
+		this.timer.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * 当前版本号与knownVersion不一致时立即返回，否则挂起
+	 * 
+	 * @param serviceName
+	 * @param knownVersion
+	 * @param timeoutMs
+	 *            不超过Config.serviceWatchMaxTimeoutMillis
+	 * @param resultHandler
+	 */
+	public void watch(String serviceName, long knownVersion, int timeoutMs,
+			AsyncMethodCallback<TServiceList> resultHandler) {
+		Watcher watcher = new Watcher(serviceName, knownVersion, resultHandler);
+		if (watcher.changed()) {
+			watcher.complete(false);
+			return;
+		}
+		Set<Watcher> set = this.add(watcher);
+		/**
+		 * 加入前版本可能已经变化，再检查一次，避免错过通知
+		 */
+		if (watcher.changed()) {
+			this.remove(serviceName, set, watcher);
+			watcher.complete(false);
+			return;
+		}
+		long timeout = Math.max(Math.min(timeoutMs, Config.serviceWatchMaxTimeoutMillis), 0);
+		ScheduledFuture<?> future = this.timer.schedule(watcher, timeout, TimeUnit.MILLISECONDS);
+		watcher.timeout = future;
+		if (watcher.done.get()) {
+			future.cancel(false);
+		}
+	}
+
+	private Set<Watcher> add(Watcher watcher) {
+		while (true) {
+			Set<Watcher> set = this.watchers.get(watcher.serviceName);
+			if (null == set) {
+				set = Collections.newSetFromMap(new ConcurrentHashMap<Watcher, Boolean>());
+				Set<Watcher> old = this.watchers.putIfAbsent(watcher.serviceName, set);
+				if (null != old) {
+					set = old;
+				}
+			}
+			synchronized (set) {
+				if (this.watchers.get(watcher.serviceName) == set) {
+					set.add(watcher);
+					return set;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 移除watcher，set变空时从watchers中移除，未知或已删除的service不会一直占用
+	 * 
+	 * @param watcher
+	 *            为null时只检查set是否变空
+	 */
+	private void remove(String serviceName, Set<Watcher> set, Watcher watcher) {
+		synchronized (set) {
+			if (null != watcher) {
+				set.remove(watcher);
+			}
+			if (set.isEmpty()) {
+				this.watchers.remove(serviceName, set);
+			}
+		}
+	}
+
+	/**
+	 * service快照版本变化，在通知线程中唤醒watcher，调用者可能持有该service的写锁
+	 * 
+	 * @param serviceName
+	 */
+	public void versionChanged(final String serviceName) {
+		final Set<Watcher> set = this.watchers.get(serviceName);
+		if (null == set || set.isEmpty()) {
+			return;
+		}
+		this.notifier.execute(new Runnable() {
+			@Override
+			public void run() {
+				Iterator<Watcher> iterator = set.iterator();
+				while (iterator.hasNext()) {
+					Watcher watcher = iterator.next();
+					if (watcher.changed()) {
+						iterator.remove();
+						watcher.complete(false);
+					}
+				}
+				remove(serviceName, set, null);
+			}
+		});
+	}
+
+	@Override
+	public int getWatcherCount() {
+		int count = 0;
+		for (Set<Watcher> set : this.watchers.values()) {
+			count += set.size();
+		}
+		return count;
+	}
+
+	@Override
+	public long getChangedCount() {
+		return this.changedCount.get();
+	}
+
+	@Override
+	public long getTimeoutCount() {
+		return this.timeoutCount.get();
+	}
+
+	private static TServiceList serviceList(String serviceName) {
+		ServiceSnapshot snapshot = SNodeManager.getInstance().getServiceSnapshot(serviceName);
+		if (null == snapshot) {
+			return new TServiceList(0, Collections.<TSNode> emptyList());
+		}
+		return new TServiceList(snapshot.getVersion(), snapshot.getUpList());
+	}
+
+	private class Watcher implements Runnable {
+		private final String serviceName;
+		private final long knownVersion;
+		private final AsyncMethodCallback<TServiceList> resultHandler;
+		private final AtomicBoolean done = new AtomicBoolean();
+		private volatile ScheduledFuture<?> timeout;
+
+		private Watcher(String serviceName, long knownVersion,
+				AsyncMethodCallback<TServiceList> resultHandler) {
+			this.serviceName = serviceName;
+			this.knownVersion = knownVersion;
+			this.resultHandler = resultHandler;
+		}
+
+		private boolean changed() {
+			ServiceSnapshot snapshot = SNodeManager.getInstance().getServiceSnapshot(
+					this.serviceName);
+			long version = null == snapshot ? 0 : snapshot.getVersion();
+			return version != this.knownVersion;
+		}
+
+		/**
+		 * 超时，返回当前列表
+		 */
+		@Override
+		public void run() {
+			Set<Watcher> set = watchers.get(this.serviceName);
+			if (null != set) {
+				remove(this.serviceName, set, this);
+			}
+			this.complete(true);
+		}
+
+		private void complete(boolean timeout) {
+			if (!this.done.compareAndSet(false, true)) {
+				return;
+			}
+			if (timeout) {
+				timeoutCount.incrementAndGet();
+			} else {
+				changedCount.incrementAndGet();
+				ScheduledFuture<?> future = this.timeout;
+				if (null != future) {
+					future.cancel(false);
+				}
+			}
+			try {
+				this.resultHandler.onComplete(serviceList(this.serviceName));
+			} catch (Exception e) {
+				log.error("complete watch [" + this.serviceName + "]", e);
+			}
+		}
+	}
+
+	private static class proxy {
+		private static ServiceWatchManager instance = new ServiceWatchManager();
+	}
+
+	public static ServiceWatchManager getInstance() {
+		return proxy.instance;
+	}
+}
@@ -0,0 +1,25 @@
+package com.github.jerrysearch.tns.server.rpc.watch;
+
+public interface ServiceWatchManagerMBean {
+
+	/**
+	 * 正在等待的watch数
+	 * 
+	 * @return
+	 */
+	int getWatcherCount();
+
+	/**
+	 * 因版本变化返回的次数
+	 * 
+	 * @return
+	 */
+	long getChangedCount();
+
+	/**
+	 * 等待超时返回的次数
+	 * 
+	 * @return
+	 */
+	long getTimeoutCount();
+}
@@ -0,0 +1,422 @@
+package com.github.jerrysearch.tns.server.service;
+
+import java.util.Arrays;
+
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 某个service下全部节点的列式存储，每个节点一行，各字段分别存放在基本类型数组中
+ *
+ * 行是连续的[0, size)，删除时用最后一行填补；id -> 行号的索引为开放寻址 + 线性探测的int数组。
+ * 不保存TSNode对象，需要时由toTSNode生成；serviceName由ServiceNodes共用。
+ * host为点分十进制的IPv4地址时存为int，getHost时再生成字符串，其他host使用String.intern()。
+ * 非线程安全，读写需持有ServiceNodes对应的锁，行号只在持有锁期间有效
+ *
+ * @author jerry
+ *
+ */
+public class NodeTable {
+
+	private static final int MIN_CAPACITY = 8;
+	/**
+	 * 不安排ping
+	 */
+	public static final int NEVER = Integer.MAX_VALUE;
+	/**
+	 * host不能存为IPv4，即255.255.255.255
+	 */
+	private static final int NO_IPV4 = -1;
+
+	/**
+	 * id -> 行号 + 1，0表示空槽，长度为2的幂
+	 */
+	private int[] index;
+	private long[] ids;
+	/**
+	 * 节点最后一次变化时的版本号，用于增量同步
+	 */
+	private long[] versions;
+	/**
+	 * 不能存为IPv4的host，能存为IPv4时为null
+	 */
+	private String[] hosts;
+	private int[] ipv4s;
+	private int[] ports;
+	private int[] vNodes;
+	private int[] pingFrequencies;
+	/**
+	 * State.getValue()
+	 */
+	private byte[] states;
+	private long[] timestamps;
+	/**
+	 * 下次ping的时间（PingTaskManager.clock()，秒），NEVER表示不ping或ping尚未返回
+	 */
+	private int[] nextPings;
+	private int size = 0;
+
+	public NodeTable() {
+		this.index = new int[MIN_CAPACITY * 2];
+		this.allocate(MIN_CAPACITY);
+	}
+
+	private NodeTable(int capacity) {
+		this.allocate(capacity);
+	}
+
+	/**
+	 * 复制状态为UP的行，容量与行数相同，用作不再修改的快照
+	 *
+	 * @return
+	 */
+	public NodeTable copyUp() {
+		byte up = (byte) State.UP.getValue();
+		int count = 0;
+		for (int row = 0; row < this.size; row++) {
+			if (this.states[row] == up) {
+				count++;
+			}
+		}
+		NodeTable table = new NodeTable(count);
+		for (int row = 0; row < this.size; row++) {
+			if (this.states[row] != up) {
+				continue;
+			}
+			int to = table.size++;
+			table.ids[to] = this.ids[row];
+			table.versions[to] = this.versions[row];
+			table.hosts[to] = this.hosts[row];
+			table.ipv4s[to] = this.ipv4s[row];
+			table.ports[to] = this.ports[row];
+			table.vNodes[to] = this.vNodes[row];
+			table.pingFrequencies[to] = this.pingFrequencies[row];
+			table.states[to] = up;
+			table.timestamps[to] = this.timestamps[row];
+			table.nextPings[to] = NEVER;
+		}
+		int capacity = MIN_CAPACITY * 2;
+		while (count * 4 > capacity * 3) {
+			capacity *= 2;
+		}
+		table.rehash(capacity);
+		return table;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public boolean containsKey(long id) {
+		return this.row(id) >= 0;
+	}
+
+	/**
+	 *
+	 * @param id
+	 * @return 行号，不存在时返回-1
+	 */
+	public int row(long id) {
+		int mask = this.index.length - 1;
+		int slot = hash(id) & mask;
+		while (0 != this.index[slot]) {
+			int row = this.index[slot] - 1;
+			if (this.ids[row] == id) {
+				return row;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * 加入节点，已存在时覆盖除版本号、下次ping时间之外的字段
+	 *
+	 * @param tsnode
+	 * @return 行号
+	 */
+	public int put(TSNode tsnode) {
+		int row = this.row(tsnode.getId());
+		if (row < 0) {
+			if (this.size == this.ids.length) {
+				this.resize(this.size + (this.size >> 1));
+			}
+			if ((this.size + 1) * 4 > this.index.length * 3) {
+				this.rehash(this.index.length * 2);
+			}
+			row = this.size++;
+			this.ids[row] = tsnode.getId();
+			this.versions[row] = 0;
+			this.nextPings[row] = NEVER;
+			this.link(row);
+		}
+		this.setHost(row, tsnode.getHost());
+		this.ports[row] = tsnode.getPort();
+		this.vNodes[row] = tsnode.getVNodes();
+		this.pingFrequencies[row] = tsnode.getPingFrequency();
+		this.states[row] = null == tsnode.getState() ? 0 : (byte) tsnode.getState().getValue();
+		this.timestamps[row] = tsnode.getTimestamp();
+		return row;
+	}
+
+	/**
+	 * 移除节点，最后一行移到被移除的行
+	 *
+	 * @param id
+	 * @return 是否存在
+	 */
+	public boolean remove(long id) {
+		int row = this.row(id);
+		if (row < 0) {
+			return false;
+		}
+		this.unlink(id);
+		int last = --this.size;
+		if (row != last) {
+			this.unlink(this.ids[last]);
+			this.ids[row] = this.ids[last];
+			this.versions[row] = this.versions[last];
+			this.hosts[row] = this.hosts[last];
+			this.ipv4s[row] = this.ipv4s[last];
+			this.ports[row] = this.ports[last];
+			this.vNodes[row] = this.vNodes[last];
+			this.pingFrequencies[row] = this.pingFrequencies[last];
+			this.states[row] = this.states[last];
+			this.timestamps[row] = this.timestamps[last];
+			this.nextPings[row] = this.nextPings[last];
+			this.link(row);
+		}
+		this.hosts[last] = null;
+		if (this.ids.length > MIN_CAPACITY && this.size * 4 < this.ids.length) {
+			this.resize(Math.max(MIN_CAPACITY, this.ids.length / 2));
+			this.rehash(Math.max(MIN_CAPACITY * 2, Integer.highestOneBit(this.ids.length) * 2));
+		}
+		return true;
+	}
+
+	public long getId(int row) {
+		return this.ids[row];
+	}
+
+	public long getVersion(int row) {
+		return this.versions[row];
+	}
+
+	public void setVersion(int row, long version) {
+		this.versions[row] = version;
+	}
+
+	/**
+	 * 存为IPv4的host每次生成新的字符串
+	 */
+	public String getHost(int row) {
+		String host = this.hosts[row];
+		if (null != host || NO_IPV4 == this.ipv4s[row]) {
+			return host;
+		}
+		int ip = this.ipv4s[row];
+		return new StringBuilder(15).append(ip >>> 24).append('.').append((ip >>> 16) & 0xff)
+				.append('.').append((ip >>> 8) & 0xff).append('.').append(ip & 0xff).toString();
+	}
+
+	private void setHost(int row, String host) {
+		int ip = null == host ? NO_IPV4 : parseIpv4(host);
+		if (NO_IPV4 == ip) {
+			this.hosts[row] = null == host ? null : host.intern();
+			this.ipv4s[row] = NO_IPV4;
+		} else {
+			this.hosts[row] = null;
+			this.ipv4s[row] = ip;
+		}
+	}
+
+	public int getPort(int row) {
+		return this.ports[row];
+	}
+
+	public int getVNodes(int row) {
+		return this.vNodes[row];
+	}
+
+	public void setVNodes(int row, int vNodes) {
+		this.vNodes[row] = vNodes;
+	}
+
+	public int getPingFrequency(int row) {
+		return this.pingFrequencies[row];
+	}
+
+	public State getState(int row) {
+		return State.findByValue(this.states[row]);
+	}
+
+	public void setState(int row, State state) {
+		this.states[row] = (byte) state.getValue();
+	}
+
+	public long getTimestamp(int row) {
+		return this.timestamps[row];
+	}
+
+	public void setTimestamp(int row, long timestamp) {
+		this.timestamps[row] = timestamp;
+	}
+
+	public int getNextPing(int row) {
+		return this.nextPings[row];
+	}
+
+	public void setNextPing(int row, int nextPing) {
+		this.nextPings[row] = nextPing;
+	}
+
+	/**
+	 * 生成该行的TSNode，与表中的数据不再关联
+	 *
+	 * @param row
+	 * @param serviceName
+	 * @return
+	 */
+	public TSNode toTSNode(int row, String serviceName) {
+		TSNode tsnode = new TSNode();
+		tsnode.setServiceName(serviceName);
+		tsnode.setHost(this.getHost(row));
+		tsnode.setPort(this.ports[row]);
+		tsnode.setId(this.ids[row]);
+		tsnode.setVNodes(this.vNodes[row]);
+		tsnode.setPingFrequency(this.pingFrequencies[row]);
+		tsnode.setState(this.getState(row));
+		tsnode.setTimestamp(this.timestamps[row]);
+		return tsnode;
+	}
+
+	private void link(int row) {
+		int mask = this.index.length - 1;
+		int slot = hash(this.ids[row]) & mask;
+		while (0 != this.index[slot]) {
+			slot = (slot + 1) & mask;
+		}
+		this.index[slot] = row + 1;
+	}
+
+	/**
+	 * 从索引中删除id，之后的槽向前移动，不留删除标记
+	 */
+	private void unlink(long id) {
+		int mask = this.index.length - 1;
+		int hole = hash(id) & mask;
+		while (this.ids[this.index[hole] - 1] != id) {
+			hole = (hole + 1) & mask;
+		}
+		int next = (hole + 1) & mask;
+		while (0 != this.index[next]) {
+			int home = hash(this.ids[this.index[next] - 1]) & mask;
+			/**
+			 * home不在(hole, next]之间时，next可以移到hole
+			 */
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				this.index[hole] = this.index[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		this.index[hole] = 0;
+	}
+
+	private void rehash(int capacity) {
+		this.index = new int[capacity];
+		for (int row = 0; row < this.size; row++) {
+			this.link(row);
+		}
+	}
+
+	private void resize(int capacity) {
+		this.ids = Arrays.copyOf(this.ids, capacity);
+		this.versions = Arrays.copyOf(this.versions, capacity);
+		this.hosts = Arrays.copyOf(this.hosts, capacity);
+		this.ipv4s = Arrays.copyOf(this.ipv4s, capacity);
+		this.ports = Arrays.copyOf(this.ports, capacity);
+		this.vNodes = Arrays.copyOf(this.vNodes, capacity);
+		this.pingFrequencies = Arrays.copyOf(this.pingFrequencies, capacity);
+		this.states = Arrays.copyOf(this.states, capacity);
+		this.timestamps = Arrays.copyOf(this.timestamps, capacity);
+		this.nextPings = Arrays.copyOf(this.nextPings, capacity);
+	}
+
+	private void allocate(int capacity) {
+		this.ids = new long[capacity];
+		this.versions = new long[capacity];
+		this.hosts = new String[capacity];
+		this.ipv4s = new int[capacity];
+		this.ports = new int[capacity];
+		this.vNodes = new int[capacity];
+		this.pingFrequencies = new int[capacity];
+		this.states = new byte[capacity];
+		this.timestamps = new long[capacity];
+		this.nextPings = new int[capacity];
+	}
+
+	/**
+	 * 解析规范的点分十进制IPv4地址（四段，每段0-255，无前导0），生成的字符串与原host相同
+	 *
+	 * @param host
+	 * @return 不是规范的IPv4地址时返回NO_IPV4
+	 */
+	static int parseIpv4(String host) {
+		int length = host.length();
+		if (length < 7 || length > 15) {
+			return NO_IPV4;
+		}
+		int ip = 0;
+		int part = 0;
+		int digits = 0;
+		int dots = 0;
+		for (int i = 0; i < length; i++) {
+			char c = host.charAt(i);
+			if (c == '.') {
+				if (0 == digits || ++dots > 3) {
+					return NO_IPV4;
+				}
+				ip = (ip << 8) | part;
+				part = 0;
+				digits = 0;
+			} else if (c >= '0' && c <= '9') {
+				if (digits > 0 && 0 == part) { // 前导0
+					return NO_IPV4;
+				}
+				part = part * 10 + (c - '0');
+				if (++digits > 3 || part > 255) {
+					return NO_IPV4;
+				}
+			} else {
+				return NO_IPV4;
+			}
+		}
+		if (0 == digits || dots != 3) {
+			return NO_IPV4;
+		}
+		ip = (ip << 8) | part;
+		/**
+		 * 255.255.255.255与NO_IPV4相同，按字符串保存
+		 */
+		return ip;
+	}
+
+	/**
+	 * id多为时间戳或连续的序号，打散后再取低位
+	 */
+	private static int hash(long id) {
+		long h = id * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	@Override
+	public String toString() {
+		return "NodeTable [size=" + size + ", rows=" + ids.length + ", slots=" + index.length
+				+ "]";
+	}
+}
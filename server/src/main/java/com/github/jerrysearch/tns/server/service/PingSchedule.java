@@ -0,0 +1,121 @@
+package com.github.jerrysearch.tns.server.service;
+
+import java.util.Arrays;
+
+/**
+ * 某个service按秒分桶的待ping节点id，PingTask每秒只取出到期的桶，不扫描节点表
+ *
+ * 共WHEEL个桶，更远的时间放在取模后的桶中，取出时仍未到期的放回。桶中存节点id而不是行号，
+ * 节点表删除行时不需要调整；同一节点重新安排后旧的项不删除，取出时与节点表中的下次ping时间比较后丢弃。
+ * 非线程安全，调用者需持有ServiceNodes的写锁
+ *
+ * @author jerry
+ *
+ */
+class PingSchedule {
+
+	private static final int WHEEL = 64;
+	private static final int MASK = WHEEL - 1;
+	private static final long[] EMPTY = new long[0];
+
+	private final long[][] buckets = new long[WHEEL][];
+	private final int[] counts = new int[WHEEL];
+	/**
+	 * 已取出到的秒，不晚于它的安排放入下一秒的桶
+	 */
+	private int polled = Integer.MIN_VALUE;
+	private long[] due = EMPTY;
+
+	/**
+	 *
+	 * @param id
+	 * @param second
+	 *            PingTaskManager.clock()，NodeTable.NEVER时忽略
+	 */
+	void add(long id, int second) {
+		if (NodeTable.NEVER == second) {
+			return;
+		}
+		if (Integer.MIN_VALUE != this.polled && second <= this.polled) {
+			second = this.polled + 1;
+		}
+		int bucket = second & MASK;
+		long[] ids = this.buckets[bucket];
+		int count = this.counts[bucket];
+		if (null == ids) {
+			ids = this.buckets[bucket] = new long[4];
+		} else if (count == ids.length) {
+			ids = this.buckets[bucket] = Arrays.copyOf(ids, count * 2);
+		}
+		ids[count] = id;
+		this.counts[bucket] = count + 1;
+	}
+
+	/**
+	 * 取出上次之后到now为止各桶中的项，未到期的放回，已失效的丢弃
+	 *
+	 * @param now
+	 * @param table
+	 * @return due()中到期节点id的个数，id可能重复、可能已删除，由调用者检查
+	 */
+	int poll(int now, NodeTable table) {
+		int from;
+		if (Integer.MIN_VALUE == this.polled || now - this.polled >= WHEEL) {
+			from = now - MASK;
+		} else {
+			from = this.polled + 1;
+		}
+		if (from > now) {
+			return 0;
+		}
+		this.polled = now;
+		int size = 0;
+		for (int second = from; second <= now; second++) {
+			int bucket = second & MASK;
+			int count = this.counts[bucket];
+			if (0 == count) {
+				continue;
+			}
+			long[] ids = this.buckets[bucket];
+			this.counts[bucket] = 0;
+			if (this.due.length < size + count) {
+				this.due = Arrays.copyOf(this.due, Math.max(size + count, this.due.length * 2));
+			}
+			for (int i = 0; i < count; i++) {
+				long id = ids[i];
+				int row = table.row(id);
+				if (row < 0) {
+					this.due[size++] = id; // 已删除，调用者关闭长连接
+					continue;
+				}
+				int nextPing = table.getNextPing(row);
+				if (nextPing <= now) {
+					this.due[size++] = id;
+				} else if (NodeTable.NEVER != nextPing && (nextPing & MASK) == bucket) {
+					this.add(id, nextPing); // 超过一圈的安排
+				}
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * poll返回的节点id
+	 */
+	long[] due() {
+		return this.due;
+	}
+
+	/**
+	 * 最早的非空桶对应的秒，不早于下次poll的起点，没有时返回NodeTable.NEVER
+	 */
+	int next() {
+		for (int i = 1; i <= WHEEL; i++) {
+			int second = this.polled + i;
+			if (this.counts[second & MASK] > 0) {
+				return second;
+			}
+		}
+		return NodeTable.NEVER;
+	}
+}
@@ -1,63 +1,193 @@
 package com.github.jerrysearch.tns.server.service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.jerrysearch.tns.protocol.rpc.State;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.cluster.PingOwnership;
+import com.github.jerrysearch.tns.server.command.ping.NioPingEngine;
+import com.github.jerrysearch.tns.server.command.ping.PingCallback;
+import com.github.jerrysearch.tns.server.command.ping.PingConnection;
 import com.github.jerrysearch.tns.server.command.ping.ThriftPingCommand;
-import com.jcabi.aspects.Loggable;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.util.HashedTimingWheel;
 
-public class PingTask implements Runnable {
+/**
+ * 某个service的ping任务，每秒执行一次，ping节点表中到期的节点
+ *
+ * 每个节点的下次ping时间存放在节点表中，同时按秒放入ServiceNodes的PingSchedule，每次只取出到期的节点，
+ * 没有到期的节点时不加锁。ping发出后置为NodeTable.NEVER，结果返回时由SNodeManager.pinged
+ * 重新安排，同一节点不会同时有两个ping
+ *
+ * @author jerry
+ *
+ */
+public class PingTask implements Runnable, PingCallback {
 
-	private TSNode tsnode;
+	private final ServiceNodes serviceNodes;
 	private ScheduledFuture<?> future;
+	private HashedTimingWheel.Timeout timeout;
+	/**
+	 * id -> 健康检查长连接，未开启时为null
+	 */
+	private final Map<Long, PingConnection> connections;
+	private final PingTaskManager pingTaskManager = PingTaskManager.getInstance();
 	private static final Logger log = LoggerFactory.getLogger(PingTask.class);
 
+	public PingTask(ServiceNodes serviceNodes) {
+		this.serviceNodes = serviceNodes;
+		if (Config.pingPersistent) {
+			this.connections = new ConcurrentHashMap<Long, PingConnection>();
+		} else {
+			this.connections = null;
+		}
+	}
+
 	public void setFuture(ScheduledFuture<?> future) {
 		this.future = future;
 	}
 
-	public PingTask(TSNode tsnode) {
-		this.tsnode = tsnode;
+	public void setTimeout(HashedTimingWheel.Timeout timeout) {
+		this.timeout = timeout;
 	}
 
 	@Override
 	public void run() {
-		switch (tsnode.getState()) {
-		case UP:
-		case Joining:
-		case DOWN_1:
-		case DOWN_2:
-		case DOWN: // down的节点仍执行ping，万一恢复了呢
-			ThriftPingCommand command = new ThriftPingCommand(this.tsnode);
-			int vNodes = command.ping();
-			if (vNodes < 1) {
-				if (tsnode.getState() != State.DOWN) {
-					log.error("node [{}] state changed to DOWN ! ", tsnode.toString());
+		long nowMillis = this.pingTaskManager.clockMillis();
+		int now = (int) (nowMillis / 1000);
+		if (now < this.serviceNodes.getNextPing()) {
+			return;
+		}
+		String serviceName = this.serviceNodes.getServiceName();
+		List<TSNode> pings = new ArrayList<TSNode>();
+		Lock writeLock = this.serviceNodes.writeLock();
+		try {
+			writeLock.lock();
+			if (this.serviceNodes.isRemoved()) {
+				return;
+			}
+			NodeTable table = this.serviceNodes.getTable();
+			PingSchedule schedule = this.serviceNodes.getPingSchedule();
+			int size = schedule.poll(now, table);
+			long[] due = schedule.due();
+			for (int i = 0; i < size; i++) {
+				int row = table.row(due[i]);
+				if (row < 0) {
+					this.closeConnection(due[i]); // 已删除
+					continue;
+				}
+				int nextPing = table.getNextPing(row);
+				if (nextPing > now) {
+					continue; // 重复的项，已经处理过
 				}
-				this.tsnode.setState(State.DOWN);
-			} else {
-				if (tsnode.getState() != State.UP) {
-					log.warn("node [{}] state changed to UP ! ", tsnode.toString());
+				switch (table.getState(row)) {
+				case UP:
+				case Joining:
+				case DOWN_1:
+				case DOWN_2:
+				case DOWN: // down的节点仍执行ping，万一恢复了呢
+					if (Config.pingSharding
+							&& !PingOwnership.getInstance().isOwner(serviceName, table.getId(row))) {
+						// 由其它cluster节点ping，结果通过push同步过来
+						this.serviceNodes.schedulePing(row, now + table.getPingFrequency(row));
+					} else {
+						table.setNextPing(row, NodeTable.NEVER);
+						pings.add(table.toTSNode(row, serviceName));
+						this.pingTaskManager.recordPingLag(nowMillis - nextPing * 1000L);
+					}
+					break;
+				default: // 已下线的节点，本实例不会再ping
+					table.setNextPing(row, NodeTable.NEVER);
+					this.closeConnection(due[i]);
 				}
-				this.tsnode.setState(State.UP);
 			}
-			vNodes = Math.min(vNodes, 20); // 最大虚拟节点个数20,太大会增加客户端索引的成本
-			this.tsnode.setVNodes(vNodes);
-			this.tsnode.setTimestamp(System.currentTimeMillis());
-			break;
-		case Leaving:
-		case Tombstone_1:
-		case Tombstone: // 死亡节点，本实例不会再ping，直接移除
-			this.cancelTask(this.tsnode);
+			this.serviceNodes.setNextPing(schedule.next());
+		} finally {
+			writeLock.unlock();
+		}
+		for (TSNode tsnode : pings) {
+			this.ping(tsnode);
+		}
+	}
+
+	private void ping(final TSNode tsnode) {
+		if (Config.pingNio) {
+			NioPingEngine.getInstance().ping(tsnode, this);
+			return;
+		}
+		final PingConnection connection = this.connection(tsnode);
+		this.pingTaskManager.execute(new Runnable() {
+
+			@Override
+			public void run() {
+				ThriftPingCommand command = new ThriftPingCommand(tsnode, connection);
+				onPing(tsnode, command.ping());
+			}
+		});
+	}
+
+	@Override
+	public void onPing(TSNode tsnode, int vNodes) {
+		if (!SNodeManager.getInstance().pinged(this.serviceNodes, tsnode.getId(), vNodes)) {
+			this.closeConnection(tsnode.getId()); // ping期间已删除或下线
 		}
 	}
 
-	@Loggable(value = Loggable.WARN)
-	private boolean cancelTask(TSNode tsnode) {
-		return this.future.cancel(true);
+	private PingConnection connection(TSNode tsnode) {
+		if (null == this.connections) {
+			return null;
+		}
+		PingConnection connection = this.connections.get(tsnode.getId());
+		if (null == connection) {
+			connection = new PingConnection(tsnode, Config.pingPersistentFramed);
+			PingConnection old = this.connections.putIfAbsent(tsnode.getId(), connection);
+			if (null != old) {
+				connection = old;
+			}
+		}
+		return connection;
+	}
+
+	/**
+	 * 关闭已移除或不再ping的节点的长连接
+	 */
+	private void closeConnection(long id) {
+		if (null == this.connections) {
+			return;
+		}
+		PingConnection connection = this.connections.remove(id);
+		if (null != connection) {
+			connection.close();
+		}
+	}
+
+	/**
+	 * 取消任务并关闭长连接
+	 */
+	public void cancel() {
+		if (null != this.timeout) {
+			this.timeout.cancel();
+		} else if (null != this.future) {
+			this.future.cancel(false);
+		}
+		if (null != this.connections) {
+			for (PingConnection connection : this.connections.values()) {
+				connection.close();
+			}
+			this.connections.clear();
+		}
+		log.info("cancel ping task of [{}]", this.serviceNodes.getServiceName());
+	}
+
+	@Override
+	public String toString() {
+		return "PingTask [" + serviceNodes.getServiceName() + "]";
 	}
 }
@@ -1,38 +1,192 @@
 package com.github.jerrysearch.tns.server.service;
 
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.util.HashedTimingWheel;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
 
-public class PingTaskManager {
+public class PingTaskManager implements PingTaskManagerMBean {
 	/**
-	 * 全部ping任务调度线程
+	 * 黄金分割比，用于把启动时间均匀地分散在一个周期内
 	 */
-	private final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(2);
+	private static final double GOLDEN_RATIO = 0.6180339887498949;
+
+	/**
+	 * 全部ping任务调度线程，每个service一个任务
+	 */
+	private final ScheduledThreadPoolExecutor pool;
+	/**
+	 * 时间轮调度，开启时替代pool
+	 */
+	private final HashedTimingWheel wheel;
+	/**
+	 * 时间轮调度时执行任务的线程
+	 */
+	private final ExecutorService executor;
+	private final long epoch = System.nanoTime();
+	private final AtomicLong submitCount = new AtomicLong();
+	/**
+	 * 节点实际发出ping的时间与其下次ping时间之差
+	 */
+	private final AtomicLong pingLagCount = new AtomicLong();
+	private final AtomicLong pingLagTotalMillis = new AtomicLong();
+	private final AtomicLong pingLagMaxMillis = new AtomicLong();
 	private final Logger log = LoggerFactory.getLogger(PingTaskManager.class);
 
 	private PingTaskManager() {
-		this.pool.setRemoveOnCancelPolicy(true);
-	}
-
-	public void submit(TSNode tsnode) {
-		PingTask task = new PingTask(tsnode);
-		int pingFrequency = tsnode.getPingFrequency();
-		/**
-		 * 启动时间随机，避免同时增加大量任务，导致任务执行过于集中
-		 */
-		int startTime = ThreadLocalRandom.current().nextInt(pingFrequency * 1000) / 1000;
-		ScheduledFuture<?> future = this.pool.scheduleWithFixedDelay(task, startTime,
-				pingFrequency, TimeUnit.SECONDS);
-		task.setFuture(future);
-		this.log.info("submit {} whith initialDelay [{}], long delay [{}] ok!", task, startTime,
-				pingFrequency);
+		if (Config.pingWheel) {
+			this.executor = Executors.newFixedThreadPool(2, new NamedThreadFactory(
+					"PingTaskManager", true));
+			this.wheel = new HashedTimingWheel("PingTimingWheel", Config.pingWheelTickMillis,
+					TimeUnit.MILLISECONDS, Config.pingWheelSize, this.executor);
+			this.pool = null;
+		} else {
+			this.pool = new ScheduledThreadPoolExecutor(2);
+			this.pool.setRemoveOnCancelPolicy(true);
+			this.wheel = null;
+			this.executor = null;
+		}
+	}
+
+	/**
+	 * 为service提交ping任务，每秒执行一次，启动时间在一秒内随机
+	 * 
+	 * @param serviceNodes
+	 * @return
+	 */
+	public PingTask submit(ServiceNodes serviceNodes) {
+		PingTask task = new PingTask(serviceNodes);
+		int startTime = ThreadLocalRandom.current().nextInt(1000);
+		if (null != this.wheel) {
+			task.setTimeout(this.wheel.scheduleWithFixedDelay(task, startTime, 1000,
+					TimeUnit.MILLISECONDS));
+		} else {
+			task.setFuture(this.pool.scheduleWithFixedDelay(task, startTime, 1000,
+					TimeUnit.MILLISECONDS));
+		}
+		serviceNodes.setPingTask(task);
+		this.log.info("submit {} whith initialDelay [{}ms] ok!", task, startTime);
+		return task;
+	}
+
+	/**
+	 * 执行阻塞的ping，以及非阻塞ping的结果回调
+	 * 
+	 * @param command
+	 */
+	public void execute(Runnable command) {
+		if (null != this.executor) {
+			this.executor.execute(command);
+		} else {
+			this.pool.execute(command);
+		}
+	}
+
+	/**
+	 * 启动以来的秒数，节点表中的下次ping时间以此为准
+	 * 
+	 * @return
+	 */
+	public int clock() {
+		return (int) TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - this.epoch);
+	}
+
+	/**
+	 * 启动以来的毫秒数，与clock()同一起点
+	 * 
+	 * @return
+	 */
+	public long clockMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.epoch);
+	}
+
+	/**
+	 * 记录一个节点的ping延迟
+	 * 
+	 * @param lagMillis
+	 *            发出ping的时间 - 节点的下次ping时间
+	 */
+	public void recordPingLag(long lagMillis) {
+		lagMillis = Math.max(lagMillis, 0);
+		this.pingLagCount.incrementAndGet();
+		this.pingLagTotalMillis.addAndGet(lagMillis);
+		while (true) {
+			long max = this.pingLagMaxMillis.get();
+			if (lagMillis <= max || this.pingLagMaxMillis.compareAndSet(max, lagMillis)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 新节点的首次ping时间，按黄金分割序列分散在一个周期内，批量增加的节点也能均匀分布
+	 * 
+	 * @param pingFrequency
+	 * @return
+	 */
+	public int firstPing(int pingFrequency) {
+		long n = this.submitCount.incrementAndGet();
+		double fraction = (n * GOLDEN_RATIO) % 1;
+		return this.clock() + (int) (fraction * pingFrequency);
+	}
+
+	@Override
+	public int getTaskCount() {
+		if (null != this.wheel) {
+			return this.wheel.size();
+		}
+		return this.pool.getQueue().size();
+	}
+
+	@Override
+	public double getLagAvgMillis() {
+		long count = this.pingLagCount.get();
+		if (count == 0) {
+			return 0;
+		}
+		return (double) this.pingLagTotalMillis.get() / count;
+	}
+
+	@Override
+	public double getLagMaxMillis() {
+		return this.pingLagMaxMillis.get();
+	}
+
+	@Override
+	public double getTickLagAvgMillis() {
+		if (null == this.wheel || this.wheel.getLagCount() == 0) {
+			return 0;
+		}
+		return this.wheel.getLagTotalNanos() * 0.000001D / this.wheel.getLagCount();
+	}
+
+	@Override
+	public double getTickLagMaxMillis() {
+		if (null == this.wheel) {
+			return 0;
+		}
+		return this.wheel.getLagMaxNanos() * 0.000001D;
+	}
+
+	@Override
+	public String pingStatus() {
+		StringBuilder sb = new StringBuilder(200);
+		sb.append("scheduler : ").append(null != this.wheel ? "wheel" : "heap").append("\n");
+		sb.append("tasks : ").append(this.getTaskCount()).append("\n");
+		sb.append(String.format("lag avg(ms) : %.2f\n", this.getLagAvgMillis()));
+		sb.append(String.format("lag max(ms) : %.2f\n", this.getLagMaxMillis()));
+		sb.append(String.format("tick lag avg(ms) : %.2f\n", this.getTickLagAvgMillis()));
+		sb.append(String.format("tick lag max(ms) : %.2f\n", this.getTickLagMaxMillis()));
+		return sb.toString();
 	}
 
 	private static class proxy {
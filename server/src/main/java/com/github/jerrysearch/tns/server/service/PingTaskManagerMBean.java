@@ -0,0 +1,31 @@
+package com.github.jerrysearch.tns.server.service;
+
+public interface PingTaskManagerMBean {
+
+	/**
+	 * 调度中的ping任务数，每个service一个
+	 */
+	int getTaskCount();
+
+	/**
+	 * 节点的平均ping延迟（毫秒）：发出ping的时间 - 该节点的下次ping时间
+	 */
+	double getLagAvgMillis();
+
+	/**
+	 * 节点的最大ping延迟（毫秒）
+	 */
+	double getLagMaxMillis();
+
+	/**
+	 * service ping任务的平均调度延迟（毫秒），仅时间轮调度时统计
+	 */
+	double getTickLagAvgMillis();
+
+	/**
+	 * service ping任务的最大调度延迟（毫秒），仅时间轮调度时统计
+	 */
+	double getTickLagMaxMillis();
+
+	String pingStatus();
+}
@@ -1,34 +1,91 @@
 package com.github.jerrysearch.tns.server.service;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TDigest;
 import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.cluster.MerkleDigest;
+import com.github.jerrysearch.tns.server.cluster.PingOwnership;
 import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.rpc.watch.ServiceWatchManager;
+import com.github.jerrysearch.tns.server.store.RegistryImage;
+import com.github.jerrysearch.tns.server.store.RegistryStore;
 import com.github.jerrysearch.tns.server.util.DateUtil;
+import com.github.jerrysearch.tns.server.util.HashedTimingWheel;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
 import com.jcabi.aspects.Loggable;
 
 public class SNodeManager implements SNodeManagerMBean {
-	private final Map<String, Map<Long, TSNode>> serviceMap = new HashMap<String, Map<Long, TSNode>>();
+	/**
+	 * serviceName -> 该service下的节点，每个service单独加锁
+	 */
+	private final ConcurrentHashMap<String, ServiceNodes> serviceMap = new ConcurrentHashMap<String, ServiceNodes>();
+	/**
+	 * 快照版本号生成器
+	 */
+	private final AtomicLong snapshotVersion = new AtomicLong();
+	/**
+	 * 生成的节点id：高41位为ID_EPOCH之后的毫秒数（同一毫秒内递增），低22位为本实例的标识
+	 */
+	private static final long ID_EPOCH = 1420070400000L; // 2015-01-01
+	private static final int ID_INSTANCE_BITS = 22;
+	private final long idInstance = (Config.TNSID * 0x9E3779B97F4A7C15L) >>> (64 - ID_INSTANCE_BITS);
+	/**
+	 * 最后一个生成的id的毫秒部分
+	 */
+	private final AtomicLong lastId = new AtomicLong();
+	/**
+	 * 启动时注册表重建完成之前，不在serviceMap中的service从快照镜像读取
+	 */
+	private volatile RegistryImage warmImage;
+	/**
+	 * 重建期间从镜像装入serviceMap的service -> 装入的节点id，这些service不再读镜像
+	 *
+	 * 修改时持有warmLock，与置空warmImage互斥
+	 */
+	private final ConcurrentHashMap<String, Set<Long>> warmSeeded = new ConcurrentHashMap<String, Set<Long>>();
+	/**
+	 * 重建期间有变化或被移除的节点(serviceName/id)，重建时以堆上的为准
+	 */
+	private final ConcurrentHashMap<String, Boolean> warmTouched = new ConcurrentHashMap<String, Boolean>();
+	private final Object warmLock = new Object();
 	private final PingTaskManager pingTaskManager = PingTaskManager.getInstance();
-	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-	private final Lock readLock = lock.readLock();
-	private final Lock writeLock = lock.writeLock();
+	/**
+	 * Leaving、Tombstone_1、Tombstone的到期事件，未开启service.tombstone.timer时为null
+	 */
+	private final HashedTimingWheel reaper;
+	private final long tombstoneMillis = TimeUnit.SECONDS.toMillis(Math.max(
+			Config.serviceTombstoneSeconds, Config.serviceStatusKeepSeconds + 1));
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
 	private SNodeManager() {
+		if (Config.serviceTombstoneTimer) {
+			this.reaper = new HashedTimingWheel("TombstoneReaper", 1, TimeUnit.SECONDS, 1024,
+					Executors.newSingleThreadExecutor(new NamedThreadFactory("TombstoneReaper",
+							true)));
+		} else {
+			this.reaper = null;
+		}
 	}
 
 	/**
@@ -38,54 +95,482 @@ public class SNodeManager implements SNodeManagerMBean {
 	 * @param list
 	 */
 	public void toUpServiceNodeList(String serviceName, List<TSNode> list) {
+		ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+		if (null == serviceNodes) {
+			ServiceSnapshot snapshot = this.warmSnapshot(serviceName);
+			if (null != snapshot) {
+				list.addAll(snapshot.getUpList());
+			}
+			return;
+		}
+		Lock readLock = serviceNodes.readLock();
 		try {
-			this.readLock.lock();
-			if (this.serviceMap.containsKey(serviceName)) {
-				Map<Long, TSNode> map = this.serviceMap.get(serviceName);
-				for (Map.Entry<Long, TSNode> entry : map.entrySet()) {
-					TSNode tsnode = entry.getValue();
-					if (tsnode.getState() == State.UP) {
-						list.add(tsnode);
-					}
+			readLock.lock();
+			NodeTable table = serviceNodes.getTable();
+			for (int row = 0; row < table.size(); row++) {
+				if (table.getState(row) == State.UP) {
+					list.add(table.toTSNode(row, serviceName));
+				}
+			}
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * 返回该service下，存活的节点列表（快照，不可修改）
+	 * 
+	 * 不加锁，也不复制列表
+	 * 
+	 * @param serviceName
+	 * @return
+	 */
+	public List<TSNode> upServiceNodeList(String serviceName) {
+		ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+		if (null == serviceNodes) {
+			ServiceSnapshot snapshot = this.warmSnapshot(serviceName);
+			return null == snapshot ? Collections.<TSNode> emptyList() : snapshot.getUpList();
+		}
+		return serviceNodes.getSnapshot().getUpList();
+	}
+
+	/**
+	 * 返回该service当前的快照，service不存在时返回null
+	 * 
+	 * @param serviceName
+	 * @return
+	 */
+	public ServiceSnapshot getServiceSnapshot(String serviceName) {
+		ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+		if (null == serviceNodes) {
+			return this.warmSnapshot(serviceName);
+		}
+		return serviceNodes.getSnapshot();
+	}
+
+	private ServiceSnapshot warmSnapshot(String serviceName) {
+		RegistryImage image = this.warmImage;
+		if (null == image || this.warmSeeded.containsKey(serviceName)) {
+			return null;
+		}
+		return image.getServiceSnapshot(serviceName);
+	}
+
+	/**
+	 * 重建期间，该service只在镜像中时，先装入serviceMap，之后的修改在完整的节点表上进行
+	 *
+	 * @param serviceName
+	 * @return
+	 */
+	private ServiceNodes warmServiceNodes(String serviceName) {
+		ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+		RegistryImage image = this.warmImage;
+		if (null == serviceNodes && null != image && null != image.getServiceSnapshot(serviceName)) {
+			serviceNodes = this.lockServiceNodes(serviceName);
+			serviceNodes.writeLock().unlock();
+		}
+		return serviceNodes;
+	}
+
+	/**
+	 * 设置启动时使用的快照镜像，注册表重建完成后置为null
+	 * 
+	 * @param image
+	 */
+	public void setWarmImage(RegistryImage image) {
+		synchronized (this.warmLock) {
+			this.warmImage = image;
+			if (null == image) {
+				this.warmSeeded.clear();
+				this.warmTouched.clear();
+			}
+		}
+	}
+
+	/**
+	 * ping结果返回，更新节点状态并安排下次ping，状态或vNodes发生变化时重建该service的快照
+	 * 
+	 * @param serviceNodes
+	 * @param id
+	 * @param vNodes
+	 *            失败或超时为-1
+	 * @return 是否安排了下次ping，节点已删除或下线时为false
+	 */
+	public boolean pinged(ServiceNodes serviceNodes, long id, int vNodes) {
+		Lock writeLock = serviceNodes.writeLock();
+		try {
+			writeLock.lock();
+			NodeTable table = serviceNodes.getTable();
+			int row = serviceNodes.isRemoved() ? -1 : table.row(id);
+			if (row < 0 || !isPingState(table.getState(row))) {
+				return false; // 返回前节点可能已下线
+			}
+			State oldState = table.getState(row);
+			int oldVNodes = table.getVNodes(row);
+			State state = vNodes < 1 ? State.DOWN : State.UP;
+			if (oldState != state) {
+				if (state == State.DOWN) {
+					this.log.error("node [{}] state changed to DOWN ! ",
+							table.toTSNode(row, serviceNodes.getServiceName()));
+				} else {
+					this.log.warn("node [{}] state changed to UP ! ",
+							table.toTSNode(row, serviceNodes.getServiceName()));
 				}
 			}
+			vNodes = Math.min(vNodes, Config.pingMaxVNodes); // 默认最大虚拟节点个数20,太大会增加客户端索引的成本
+			table.setState(row, state);
+			table.setVNodes(row, vNodes);
+			table.setTimestamp(row, pingStamp(table.getTimestamp(row)));
+			serviceNodes.schedulePing(row,
+					this.pingTaskManager.clock() + table.getPingFrequency(row));
+			if (oldState != state || oldVNodes != vNodes) {
+				long version = this.rebuildSnapshot(serviceNodes);
+				table.setVersion(row, version);
+				this.persist(serviceNodes, row);
+			}
+			return true;
 		} finally {
-			this.readLock.unlock();
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * 重建快照，调用者需持有该service的写锁
+	 * 
+	 * @param serviceNodes
+	 * @return 新快照的版本号
+	 */
+	private long rebuildSnapshot(ServiceNodes serviceNodes) {
+		long version = this.snapshotVersion.incrementAndGet();
+		ServiceSnapshot snapshot = ServiceSnapshot.build(serviceNodes, version);
+		serviceNodes.setSnapshot(snapshot);
+		this.log.debug("rebuild {}", snapshot);
+		if (Config.serviceWatch) {
+			ServiceWatchManager.getInstance().versionChanged(serviceNodes.getServiceName());
+		}
+		return version;
+	}
+
+	/**
+	 * 当前的全局版本号，不小于任何已发生变化的版本号
+	 * 
+	 * @return
+	 */
+	public long currentVersion() {
+		return this.snapshotVersion.get();
+	}
+
+	/**
+	 * 返回版本号大于fromVersion的节点，不包括墓碑
+	 * 
+	 * 版本号只在持有读锁时比较：rebuildSnapshot先递增全局版本号再发布快照，不加锁读取快照版本号时，
+	 * currentVersion()可能已经包含了尚未发布的变化，按快照跳过会漏掉这些节点
+	 * 
+	 * @param fromVersion
+	 * @param list
+	 */
+	public void toChangedServiceNodeList(long fromVersion, List<TSNode> list) {
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			Lock readLock = serviceNodes.readLock();
+			try {
+				readLock.lock();
+				NodeTable table = serviceNodes.getTable();
+				for (int row = 0; row < table.size(); row++) {
+					if (table.getVersion(row) <= fromVersion) {
+						continue;
+					}
+					State state = table.getState(row);
+					if (state != State.Tombstone_1 && state != State.Tombstone) {
+						list.add(table.toTSNode(row, serviceNodes.getServiceName()));
+					}
+				}
+			} finally {
+				readLock.unlock();
+			}
 		}
 	}
 
 	/**
 	 * 返回所有节点列表，不管节点状态
 	 * 
+	 * 逐个service加读锁，每个service内部是一致的
+	 * 
 	 * @param list
 	 */
 	public void toAllServiceNodeList(List<TSNode> list) {
-		try {
-			this.readLock.lock();
-			for (Map<Long, TSNode> map : this.serviceMap.values()) {
-				Collection<TSNode> collection = map.values();
-				for (TSNode tsnode : collection) {
-					if (tsnode.getState() == State.Tombstone_1
-							|| tsnode.getState() == State.Tombstone) {
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			Lock readLock = serviceNodes.readLock();
+			try {
+				readLock.lock();
+				NodeTable table = serviceNodes.getTable();
+				for (int row = 0; row < table.size(); row++) {
+					State state = table.getState(row);
+					if (state == State.Tombstone_1 || state == State.Tombstone) {
 						// 墓碑不同步,等待墓碑存活时间会被清除
 					} else {
-						list.add(tsnode);
+						list.add(table.toTSNode(row, serviceNodes.getServiceName()));
 					}
 				}
+			} finally {
+				readLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * 返回所有serviceName
+	 * 
+	 * @param list
+	 */
+	public void toServiceNameList(List<String> list) {
+		list.addAll(this.serviceMap.keySet());
+	}
+
+	/**
+	 * 返回每个service的摘要，没有非墓碑节点的service不返回
+	 * 
+	 * @param list
+	 */
+	public void toServiceDigestList(List<TDigest> list) {
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			TDigest digest = this.digest(serviceNodes);
+			if (null != digest) {
+				list.add(digest);
+			}
+		}
+	}
+
+	/**
+	 * 返回指定service的摘要
+	 * 
+	 * @param serviceNames
+	 * @param list
+	 */
+	public void toServiceDigestList(Collection<String> serviceNames, List<TDigest> list) {
+		for (String serviceName : serviceNames) {
+			ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+			if (null == serviceNodes) {
+				continue;
+			}
+			TDigest digest = this.digest(serviceNodes);
+			if (null != digest) {
+				list.add(digest);
+			}
+		}
+	}
+
+	private TDigest digest(ServiceNodes serviceNodes) {
+		long digest = 0;
+		int count = 0;
+		Lock readLock = serviceNodes.readLock();
+		try {
+			readLock.lock();
+			NodeTable table = serviceNodes.getTable();
+			for (int row = 0; row < table.size(); row++) {
+				State state = table.getState(row);
+				if (state != State.Tombstone_1 && state != State.Tombstone) {
+					digest += MerkleDigest.nodeDigest(table.getId(row), table.getHost(row),
+							table.getPort(row), state, table.getVNodes(row));
+					count++;
+				}
 			}
 		} finally {
-			this.readLock.unlock();
+			readLock.unlock();
+		}
+		return count == 0 ? null : new TDigest(serviceNodes.getServiceName(), digest);
+	}
+
+	/**
+	 * 返回指定service的节点列表，不包括墓碑
+	 * 
+	 * @param serviceNames
+	 * @param list
+	 */
+	public void toServiceNodeList(Collection<String> serviceNames, List<TSNode> list) {
+		for (String serviceName : serviceNames) {
+			ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+			if (null == serviceNodes) {
+				continue;
+			}
+			Lock readLock = serviceNodes.readLock();
+			try {
+				readLock.lock();
+				NodeTable table = serviceNodes.getTable();
+				for (int row = 0; row < table.size(); row++) {
+					State state = table.getState(row);
+					if (state != State.Tombstone_1 && state != State.Tombstone) {
+						list.add(table.toTSNode(row, serviceName));
+					}
+				}
+			} finally {
+				readLock.unlock();
+			}
 		}
 	}
 
 	@Override
 	public String onLine(String serviceName, String host, int port, int pingFrequency) {
-		long id = System.currentTimeMillis();
-		return this.onLine(serviceName, host, port, pingFrequency, id);
+		return this.onLine(serviceName, host, port, pingFrequency, this.nextId());
 	}
 
 	@Loggable
 	public String onLine(String serviceName, String host, int port, int pingFrequency, long id) {
+		TSNode tsnode = this.newNode(serviceName, host, port, pingFrequency, id);
+		this.addOrLeaving(tsnode);
+		this.awaitDurable();
+		return tsnode.toString();
+	}
+
+	/**
+	 * 批量注册，按service分组，每个service只加一次写锁，节点的首次ping时间由PingTaskManager分散
+	 * 
+	 * id大于0时在写锁内检查：已存在且host:port相同、仍在ping的节点视为重复注册，返回该id；
+	 * 已存在的其他节点（host:port不同，或已下线）不覆盖，返回-1
+	 * 
+	 * @param tsnodes
+	 *            使用serviceName、host、port、pingFrequency，id大于0时使用该id，否则生成
+	 * @return 与tsnodes顺序一致的id，缺少serviceName或host的节点、id冲突的节点不注册，返回-1
+	 */
+	public List<Long> register(List<TSNode> tsnodes) {
+		Long[] ids = new Long[tsnodes.size()];
+		Map<String, List<Integer>> group = new HashMap<String, List<Integer>>();
+		for (int i = 0; i < ids.length; i++) {
+			TSNode node = tsnodes.get(i);
+			if (null == node.getServiceName() || null == node.getHost()) {
+				ids[i] = -1L;
+				continue;
+			}
+			List<Integer> list = group.get(node.getServiceName());
+			if (null == list) {
+				list = new LinkedList<Integer>();
+				group.put(node.getServiceName(), list);
+			}
+			list.add(i);
+		}
+		int count = 0;
+		for (Map.Entry<String, List<Integer>> entry : group.entrySet()) {
+			ServiceNodes serviceNodes = this.lockServiceNodes(entry.getKey());
+			try {
+				NodeTable table = serviceNodes.getTable();
+				List<Long> changedIds = new LinkedList<Long>();
+				for (int i : entry.getValue()) {
+					TSNode node = tsnodes.get(i);
+					if (node.getId() > 0) {
+						int row = table.row(node.getId());
+						if (row >= 0) {
+							boolean same = node.getHost().equals(table.getHost(row))
+									&& node.getPort() == table.getPort(row)
+									&& isPingState(table.getState(row));
+							ids[i] = same ? node.getId() : -1L;
+							continue;
+						}
+					}
+					long id = node.getId() > 0 ? node.getId() : this.nextId();
+					this.addToServiceMap(serviceNodes, this.newNode(entry.getKey(), node.getHost(),
+							node.getPort(), node.getPingFrequency(), id));
+					changedIds.add(id);
+					ids[i] = id;
+				}
+				this.commit(serviceNodes, changedIds);
+				count += changedIds.size();
+			} finally {
+				serviceNodes.writeLock().unlock();
+			}
+		}
+		this.awaitDurable();
+		this.log.info("register {} nodes", count);
+		return Arrays.asList(ids);
+	}
+
+	/**
+	 * 批量下线某个service下的节点，只加一次写锁，只重建一次快照
+	 * 
+	 * @param serviceName
+	 * @param ids
+	 * @return 下线的个数，不存在或已下线的节点不计
+	 */
+	public int deregister(String serviceName, Collection<Long> ids) {
+		ServiceNodes serviceNodes = this.warmServiceNodes(serviceName);
+		if (null == serviceNodes) {
+			return 0;
+		}
+		List<Long> leaving = new LinkedList<Long>();
+		Lock writeLock = serviceNodes.writeLock();
+		try {
+			writeLock.lock();
+			if (serviceNodes.isRemoved()) {
+				return 0;
+			}
+			NodeTable table = serviceNodes.getTable();
+			long timestamp = System.currentTimeMillis();
+			for (Long id : ids) {
+				int row = table.row(id);
+				if (row < 0 || table.getState(row) == State.Leaving
+						|| table.getState(row) == State.Tombstone_1
+						|| table.getState(row) == State.Tombstone) {
+					continue;
+				}
+				this.leavingToServiceMap(serviceNodes, row, timestamp);
+				leaving.add(id);
+			}
+			if (!leaving.isEmpty()) {
+				long version = this.rebuildSnapshot(serviceNodes);
+				for (Long id : leaving) {
+					int row = table.row(id);
+					table.setVersion(row, version);
+					this.persist(serviceNodes, row);
+				}
+			}
+		} finally {
+			writeLock.unlock();
+		}
+		if (!leaving.isEmpty()) {
+			this.awaitDurable();
+		}
+		return leaving.size();
+	}
+
+	@Override
+	public String register(String serviceName, String hostPorts, int pingFrequency) {
+		List<TSNode> list = new LinkedList<TSNode>();
+		for (String hostPort : hostPorts.split(",")) {
+			int index = hostPort.lastIndexOf(':');
+			TSNode tsnode = new TSNode();
+			tsnode.setServiceName(serviceName);
+			try {
+				tsnode.setHost(hostPort.substring(0, index).trim());
+				tsnode.setPort(Integer.parseInt(hostPort.substring(index + 1).trim()));
+			} catch (RuntimeException e) {
+				return "FAIL ! bad host:port [" + hostPort + "]";
+			}
+			tsnode.setPingFrequency(pingFrequency);
+			list.add(tsnode);
+		}
+		List<Long> ids = this.register(list);
+		StringBuilder sb = new StringBuilder(ids.size() * 15);
+		for (Long id : ids) {
+			if (sb.length() > 0) {
+				sb.append(',');
+			}
+			sb.append(id);
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String deregister(String serviceName, String ids) {
+		List<Long> list = new LinkedList<Long>();
+		for (String id : ids.split(",")) {
+			try {
+				list.add(Long.parseLong(id.trim()));
+			} catch (NumberFormatException e) {
+				return "FAIL ! bad id [" + id + "]";
+			}
+		}
+		return "OK ! " + this.deregister(serviceName, list);
+	}
+
+	private TSNode newNode(String serviceName, String host, int port, int pingFrequency, long id) {
 		pingFrequency = Math.max(pingFrequency, 10); // 最小ping频率10秒
 		pingFrequency = Math.min(pingFrequency, 60); // 最大ping频率1分钟
 
@@ -97,39 +582,162 @@ public class SNodeManager implements SNodeManagerMBean {
 		tsnode.setId(id);
 		tsnode.setState(State.Joining);
 		tsnode.setTimestamp(System.currentTimeMillis());
-		this.addOrLeaving(tsnode);
-		return tsnode.toString();
+		return tsnode;
 	}
 
 	/**
-	 * 新增一个节点
+	 * 生成节点id，毫秒部分同一毫秒内递增，本实例生成的id不会重复；低位混入由TNSID得到的实例标识，
+	 * 不同cluster节点同一毫秒注册同一service时也不会生成相同的id（实例标识相同的概率为1/2^22）
 	 * 
-	 * @param tsnode
+	 * 生成的id远大于原来以毫秒数作为的id，两者不会冲突
 	 */
-	private void putToServiceMap(TSNode tsnode) {
-		String serviceName = tsnode.getServiceName();
-		long id = tsnode.getId();
-		if (this.serviceMap.containsKey(serviceName)) {
-			Map<Long, TSNode> map = this.serviceMap.get(serviceName);
-			map.put(id, tsnode);
-		} else {
-			Map<Long, TSNode> map = new HashMap<Long, TSNode>();
-			map.put(id, tsnode);
-			this.serviceMap.put(serviceName, map);
+	private long nextId() {
+		while (true) {
+			long last = this.lastId.get();
+			long millis = Math.max(last + 1, System.currentTimeMillis() - ID_EPOCH);
+			if (this.lastId.compareAndSet(last, millis)) {
+				return (millis << ID_INSTANCE_BITS) | this.idInstance;
+			}
 		}
+	}
 
-		this.log.info("add [ {} ], sucess", tsnode.toString());
+	/**
+	 * 取得service并加写锁，不存在则新建
+	 * 
+	 * 拿到锁后发现已被移除（墓碑清理时变空），则重新获取
+	 * 
+	 * @param serviceName
+	 * @return 已持有写锁的service
+	 */
+	private ServiceNodes lockServiceNodes(String serviceName) {
+		while (true) {
+			ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+			if (null == serviceNodes) {
+				serviceNodes = this.newServiceNodes(serviceName);
+			}
+			serviceNodes.writeLock().lock();
+			if (!serviceNodes.isRemoved()) {
+				return serviceNodes;
+			}
+			serviceNodes.writeLock().unlock();
+		}
+	}
+
+	private ServiceNodes newServiceNodes(String serviceName) {
+		if (null != this.warmImage) {
+			synchronized (this.warmLock) {
+				if (null != this.warmImage) {
+					ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+					if (null == serviceNodes) {
+						serviceNodes = this.seed(serviceName,
+								this.warmSeeded.containsKey(serviceName) ? null : this.warmImage);
+						this.pingTaskManager.submit(serviceNodes);
+						this.serviceMap.put(serviceName, serviceNodes);
+					}
+					return serviceNodes;
+				}
+			}
+		}
+		String name = serviceName.intern();
+		ServiceSnapshot snapshot = ServiceSnapshot.build(name,
+				this.snapshotVersion.incrementAndGet(), Collections.<TSNode> emptyList());
+		ServiceNodes serviceNodes = new ServiceNodes(name, snapshot);
+		/**
+		 * 发布前提交ping任务，此时节点表为空，任务不会执行ping
+		 */
+		PingTask pingTask = this.pingTaskManager.submit(serviceNodes);
+		ServiceNodes old = this.serviceMap.putIfAbsent(serviceName, serviceNodes);
+		if (null != old) {
+			pingTask.cancel();
+			return old;
+		}
+		return serviceNodes;
+	}
+
+	/**
+	 * 重建期间新建service时，先装入镜像中该service的全部节点，发布到serviceMap之前完成，调用者需持有warmLock
+	 * 
+	 * 装入的节点不安排ping、不安排到期事件，由restore统一处理；重建期间已被移除的节点不再装入。
+	 * 已装入过或已由restore接管的service，image为null，只新建空的节点表
+	 */
+	private ServiceNodes seed(String serviceName, RegistryImage image) {
+		String name = serviceName.intern();
+		ServiceNodes serviceNodes = new ServiceNodes(name, ServiceSnapshot.build(name,
+				this.snapshotVersion.incrementAndGet(), Collections.<TSNode> emptyList()));
+		if (null == image) {
+			return serviceNodes;
+		}
+		Set<Long> seeded = new HashSet<Long>();
+		List<TSNode> tsnodes = image.getServiceNodes(serviceName);
+		if (null != tsnodes) {
+			for (TSNode tsnode : tsnodes) {
+				if (!this.warmTouched.containsKey(this.touchKey(name, tsnode.getId()))) {
+					serviceNodes.getTable().put(tsnode);
+					seeded.add(tsnode.getId());
+				}
+			}
+		}
+		this.warmSeeded.put(serviceName, seeded);
+		if (!seeded.isEmpty()) {
+			long version = this.rebuildSnapshot(serviceNodes);
+			NodeTable table = serviceNodes.getTable();
+			for (Long id : seeded) {
+				table.setVersion(table.row(id), version);
+			}
+			this.log.info("seed {} nodes of [{}] from {}", seeded.size(), name, image);
+		}
+		return serviceNodes;
+	}
+
+	/**
+	 * 重建期间有变化或被移除的节点，重建时不再覆盖
+	 */
+	private void touch(String serviceName, long id) {
+		if (null != this.warmImage) {
+			this.warmTouched.put(this.touchKey(serviceName, id), Boolean.TRUE);
+		}
+	}
+
+	private String touchKey(String serviceName, long id) {
+		return serviceName + "/" + id;
 	}
 
 	/**
-	 * 删除一个节点
+	 * 删除一个节点，调用者需持有该service的写锁
 	 * 
-	 * @param tsnode
+	 * @param serviceNodes
+	 * @param row
+	 * @param timestamp
 	 */
-	private void leavingToServiceMap(TSNode tsnode, long timestamp) {
-		this.log.info("Leaving [ {} ] with timestamp : {}", tsnode.toString(), timestamp);
-		tsnode.setState(State.Leaving);
-		tsnode.setTimestamp(timestamp);
+	private void leavingToServiceMap(ServiceNodes serviceNodes, int row, long timestamp) {
+		NodeTable table = serviceNodes.getTable();
+		this.log.info("Leaving [ {} ] with timestamp : {}",
+				table.toTSNode(row, serviceNodes.getServiceName()), timestamp);
+		table.setState(row, State.Leaving);
+		table.setTimestamp(row, timestamp);
+		this.scheduleReap(serviceNodes.getServiceName(), table.getId(row), State.Leaving,
+				timestamp);
+	}
+
+	/**
+	 * ping结果的timestamp：当前时间，且大于该节点已有的timestamp
+	 * 
+	 * 开启ping.sharding时，其他实例只接受timestamp更大的ping结果。owner变化后，新owner的时钟即使落后于
+	 * 原owner，它的结果也大于已同步到的版本，不会被忽略
+	 * 
+	 * @param last
+	 * @return
+	 */
+	static long pingStamp(long last) {
+		return Math.max(System.currentTimeMillis(), last + 1);
+	}
+
+	/**
+	 * 由ping维护的状态，不包括Leaving、Tombstone
+	 */
+	static boolean isPingState(State state) {
+		return state == State.UP || state == State.Joining || state == State.DOWN
+				|| state == State.DOWN_1 || state == State.DOWN_2;
 	}
 
 	/**
@@ -138,41 +746,250 @@ public class SNodeManager implements SNodeManagerMBean {
 	 * @param tsnodes
 	 */
 	private void addOrLeaving(TSNode... tsnodes) {
+		/**
+		 * 按service分组，每个service只加一次锁
+		 */
+		Map<String, List<TSNode>> group = new HashMap<String, List<TSNode>>();
+		for (TSNode tsnode : tsnodes) {
+			String serviceName = tsnode.getServiceName();
+			List<TSNode> list = group.get(serviceName);
+			if (null == list) {
+				list = new LinkedList<TSNode>();
+				group.put(serviceName, list);
+			}
+			list.add(tsnode);
+		}
+		for (Map.Entry<String, List<TSNode>> entry : group.entrySet()) {
+			this.addOrLeaving(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void addOrLeaving(String serviceName, List<TSNode> tsnodes) {
+		ServiceNodes serviceNodes = this.lockServiceNodes(serviceName);
 		try {
-			this.writeLock.lock();
+			NodeTable table = serviceNodes.getTable();
+			List<Long> changedIds = new LinkedList<Long>();
 			for (TSNode tsnode : tsnodes) {
-				if (this.isNew(tsnode)) { // add
-					this.putToServiceMap(tsnode);
-					this.pingTaskManager.submit(tsnode);
-				} else {
-					String serviceName = tsnode.getServiceName();
-					long id = tsnode.getId();
-					TSNode dst = this.serviceMap.get(serviceName).get(id);
-					if (tsnode.getState() == State.Leaving && dst.getState() != State.Leaving
-							&& dst.getState() != State.Tombstone_1
-							&& dst.getState() != State.Tombstone) { // leaving
-						/**
-						 * 这里用当前系统时间，而不能用节点被leaving的时间，因为节点操作的机器时间可能比较快，
-						 * 导致，在检查remove时，实际时间并未等到@link
-						 * Config.serviceRemoveSeconds, 导致立即被标记为@link
-						 * State.Tombstone，可能无法将leaving时间传递给下一个节点
-						 */
-						// long timestamp = tsnode.getTimestamp();
-						long timestamp = System.currentTimeMillis();
-						this.leavingToServiceMap(dst, timestamp);
+				long id = tsnode.getId();
+				int row = table.row(id);
+				if (row < 0) { // add
+					this.addToServiceMap(serviceNodes, tsnode);
+					changedIds.add(id);
+				} else if (tsnode.getState() == State.Leaving
+						&& table.getState(row) != State.Leaving
+						&& table.getState(row) != State.Tombstone_1
+						&& table.getState(row) != State.Tombstone) { // leaving
+					/**
+					 * 这里用当前系统时间，而不能用节点被leaving的时间，因为节点操作的机器时间可能比较快，
+					 * 导致，在检查remove时，实际时间并未等到@link
+					 * Config.serviceRemoveSeconds, 导致立即被标记为@link
+					 * State.Tombstone，可能无法将leaving时间传递给下一个节点
+					 */
+					// long timestamp = tsnode.getTimestamp();
+					long timestamp = System.currentTimeMillis();
+					this.leavingToServiceMap(serviceNodes, row, timestamp);
+					changedIds.add(id);
+				} else if (Config.pingSharding && isPingState(tsnode.getState())
+						&& isPingState(table.getState(row))
+						&& tsnode.getTimestamp() > table.getTimestamp(row)) {
+					/**
+					 * ping状态的timestamp是按节点递增的版本（见pingStamp），不比较不同机器的时钟
+					 */
+					if (!PingOwnership.getInstance().isOwner(serviceName, id)) { // owner的ping结果
+						if (table.getState(row) != tsnode.getState()
+								|| table.getVNodes(row) != tsnode.getVNodes()) {
+							changedIds.add(id);
+						}
+						table.setState(row, tsnode.getState());
+						table.setVNodes(row, tsnode.getVNodes());
+					}
+					/**
+					 * 本实例是owner时只推进版本，之后的ping结果大于其他实例已有的版本
+					 */
+					table.setTimestamp(row, tsnode.getTimestamp());
+				}
+			}
+			this.commit(serviceNodes, changedIds);
+		} finally {
+			serviceNodes.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 新增节点，ping状态的节点安排首次ping，调用者需持有该service的写锁
+	 */
+	private void addToServiceMap(ServiceNodes serviceNodes, TSNode tsnode) {
+		int row = serviceNodes.getTable().put(tsnode);
+		this.log.info("add [ {} ], sucess", tsnode.toString());
+		if (isPingState(tsnode.getState())) {
+			serviceNodes.schedulePing(row,
+					this.pingTaskManager.firstPing(tsnode.getPingFrequency()));
+		}
+		this.scheduleReap(serviceNodes.getServiceName(), tsnode.getId(), tsnode.getState(),
+				tsnode.getTimestamp());
+	}
+
+	/**
+	 * 有变化时重建一次快照，变化的节点记录新版本并写入日志，调用者需持有该service的写锁
+	 */
+	private void commit(ServiceNodes serviceNodes, List<Long> changedIds) {
+		if (changedIds.isEmpty()) {
+			return;
+		}
+		NodeTable table = serviceNodes.getTable();
+		long version = this.rebuildSnapshot(serviceNodes);
+		for (Long changedId : changedIds) {
+			int row = table.row(changedId);
+			table.setVersion(row, version);
+			this.persist(serviceNodes, row);
+		}
+	}
+
+	/**
+	 * 写入预写日志，调用者需持有该service的写锁，保证日志顺序与修改顺序一致
+	 */
+	private void persist(ServiceNodes serviceNodes, int row) {
+		NodeTable table = serviceNodes.getTable();
+		this.touch(serviceNodes.getServiceName(), table.getId(row));
+		if (Config.registryWal) {
+			RegistryStore.getInstance().put(table.toTSNode(row, serviceNodes.getServiceName()));
+		}
+	}
+
+	/**
+	 * 变化已生效，但未能写入日志时抛出异常，rpc调用方收到错误
+	 */
+	private void awaitDurable() {
+		if (Config.registryWal) {
+			try {
+				RegistryStore.getInstance().awaitDurable();
+			} catch (IOException e) {
+				throw new IllegalStateException("registry log write failed", e);
+			}
+		}
+	}
+
+	/**
+	 * 启动时从快照、日志恢复节点，不写日志，ping状态的节点重新安排ping
+	 * 
+	 * 后台重建期间有变化或被移除的节点以堆上的为准；从镜像装入、之后没有变化的节点以日志为准，
+	 * 日志中已移除的一并移除。完成后不再读镜像
+	 * 
+	 * @param tsnodes
+	 */
+	public void restore(Collection<TSNode> tsnodes) {
+		Map<String, List<TSNode>> group = new HashMap<String, List<TSNode>>();
+		for (TSNode tsnode : tsnodes) {
+			List<TSNode> list = group.get(tsnode.getServiceName());
+			if (null == list) {
+				list = new LinkedList<TSNode>();
+				group.put(tsnode.getServiceName(), list);
+			}
+			list.add(tsnode);
+		}
+		for (Map.Entry<String, List<TSNode>> entry : group.entrySet()) {
+			this.restore(entry.getKey(), entry.getValue());
+		}
+		/**
+		 * 从镜像装入、但日志中已整体移除的service
+		 */
+		List<String> seeded;
+		synchronized (this.warmLock) {
+			this.warmImage = null;
+			seeded = new ArrayList<String>(this.warmSeeded.keySet());
+		}
+		for (String serviceName : seeded) {
+			if (!group.containsKey(serviceName) && this.serviceMap.containsKey(serviceName)) {
+				this.restore(serviceName, Collections.<TSNode> emptyList());
+			}
+		}
+		this.setWarmImage(null);
+		this.log.info("restore {} services, {} nodes", group.size(), tsnodes.size());
+	}
+
+	private void restore(String serviceName, List<TSNode> tsnodes) {
+		List<Long> restored = new LinkedList<Long>();
+		List<Long> pings = new LinkedList<Long>();
+		synchronized (this.warmLock) {
+			/**
+			 * 节点都在tsnodes中，尚未装入的service不必再从镜像解码
+			 */
+			if (null != this.warmImage) {
+				this.warmSeeded.putIfAbsent(serviceName, Collections.<Long> emptySet());
+			}
+		}
+		ServiceNodes serviceNodes = this.lockServiceNodes(serviceName);
+		try {
+			NodeTable table = serviceNodes.getTable();
+			Set<Long> seeded = this.warmSeeded.get(serviceName);
+			Set<Long> ids = new HashSet<Long>();
+			for (TSNode tsnode : tsnodes) {
+				long id = tsnode.getId();
+				ids.add(id);
+				if (this.warmTouched.containsKey(this.touchKey(serviceName, id))) {
+					continue;
+				}
+				if (!table.containsKey(id) || (null != seeded && seeded.contains(id))) {
+					table.put(tsnode);
+					restored.add(id);
+				}
+			}
+			if (null != seeded) {
+				for (Long id : seeded) {
+					if (!table.containsKey(id)) {
+						continue;
+					}
+					if (this.warmTouched.containsKey(this.touchKey(serviceName, id))) {
+						pings.add(id);
+					} else if (!ids.contains(id)) {
+						table.remove(id);
 					}
 				}
 			}
+			long version = this.rebuildSnapshot(serviceNodes);
+			for (Long id : restored) {
+				int row = table.row(id);
+				table.setVersion(row, version);
+				this.scheduleReap(serviceName, id, table.getState(row), table.getTimestamp(row));
+			}
+			/**
+			 * 从镜像装入的节点还没有安排ping，重建期间新增的节点已经安排
+			 */
+			pings.addAll(restored);
+			for (Long id : pings) {
+				int row = table.row(id);
+				if (isPingState(table.getState(row)) && table.getNextPing(row) == NodeTable.NEVER) {
+					serviceNodes.schedulePing(row,
+							this.pingTaskManager.firstPing(table.getPingFrequency(row)));
+				}
+			}
+			if (table.isEmpty()) {
+				serviceNodes.markRemoved();
+				this.serviceMap.remove(serviceName, serviceNodes);
+			}
 		} finally {
-			this.writeLock.unlock();
+			serviceNodes.writeLock().unlock();
 		}
 	}
 
-	private boolean isNew(TSNode tsnode) {
-		String serviceName = tsnode.getServiceName();
-		long id = tsnode.getId();
-		return !(this.serviceMap.containsKey(serviceName) && this.serviceMap.get(serviceName)
-				.containsKey(id));
+	/**
+	 * 返回所有节点的副本，包括墓碑，用于快照
+	 * 
+	 * @param list
+	 */
+	public void toRegistryNodeList(List<TSNode> list) {
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			Lock readLock = serviceNodes.readLock();
+			try {
+				readLock.lock();
+				NodeTable table = serviceNodes.getTable();
+				for (int row = 0; row < table.size(); row++) {
+					list.add(table.toTSNode(row, serviceNodes.getServiceName()));
+				}
+			} finally {
+				readLock.unlock();
+			}
+		}
 	}
 
 	public void pushServiceList(List<TSNode> list) {
@@ -185,34 +1002,34 @@ public class SNodeManager implements SNodeManagerMBean {
 
 	@Override
 	public String serviceStatus() {
-		try {
-			this.readLock.lock();
-			StringBuilder sb = new StringBuilder();
-			sb.append(this.headLine);
-			Set<String> set = this.serviceMap.keySet();
-			for (String serviceName : set) {
-				sb.append("\n");
-				String content = this.statusService(serviceName);
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.headLine);
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			sb.append("\n");
+			Lock readLock = serviceNodes.readLock();
+			try {
+				readLock.lock();
+				String content = this.statusService(serviceNodes);
 				sb.append(content);
+			} finally {
+				readLock.unlock();
 			}
-			return sb.toString();
-		} finally {
-			this.readLock.unlock();
 		}
+		return sb.toString();
 	}
 
-	private String statusService(String serviceName) {
-		Map<Long, TSNode> map = this.serviceMap.get(serviceName);
-		if (map.isEmpty()) {
-			return serviceName + " EMPTY !\n";
+	private String statusService(ServiceNodes serviceNodes) {
+		NodeTable table = serviceNodes.getTable();
+		if (table.isEmpty()) {
+			return serviceNodes.getServiceName() + " EMPTY !\n";
 		}
-		Collection<TSNode> tsnodeList = map.values();
 		StringBuilder sb = new StringBuilder();
-		for (TSNode tsnode : tsnodeList) {
-			String s = String.format(this.format, tsnode.getState(), tsnode.getServiceName(),
-					tsnode.getHost(), tsnode.getPort(), tsnode.getId(), tsnode.getVNodes(),
-					tsnode.getPingFrequency(), tsnode.getTimestamp(),
-					DateUtil.dateTimeFormat.format(new Date(tsnode.getTimestamp())));
+		for (int row = 0; row < table.size(); row++) {
+			String s = String.format(this.format, table.getState(row),
+					serviceNodes.getServiceName(), table.getHost(row), table.getPort(row),
+					table.getId(row), table.getVNodes(row), table.getPingFrequency(row),
+					table.getTimestamp(row),
+					DateUtil.dateTimeFormat.format(new Date(table.getTimestamp(row))));
 			sb.append(s);
 		}
 		return sb.toString();
@@ -221,91 +1038,193 @@ public class SNodeManager implements SNodeManagerMBean {
 	@Loggable
 	@Override
 	public String offLine(String serviceName, long id) {
+		ServiceNodes serviceNodes = this.warmServiceNodes(serviceName);
+		if (null == serviceNodes) {
+			return "FAIL !";
+		}
+		Lock writeLock = serviceNodes.writeLock();
 		try {
-			this.writeLock.lock();
-			if (this.serviceMap.containsKey(serviceName)
-					&& this.serviceMap.get(serviceName).containsKey(id)) {
-
-				TSNode tsnode = this.serviceMap.get(serviceName).get(id);
-				long timestamp = System.currentTimeMillis();
-				this.leavingToServiceMap(tsnode, timestamp);
-				return "OK !";
+			writeLock.lock();
+			int row = serviceNodes.isRemoved() ? -1 : serviceNodes.getTable().row(id);
+			if (row < 0) {
+				return "FAIL !";
 			}
-			return "FAIL !";
+			long timestamp = System.currentTimeMillis();
+			this.leavingToServiceMap(serviceNodes, row, timestamp);
+			long version = this.rebuildSnapshot(serviceNodes);
+			serviceNodes.getTable().setVersion(row, version);
+			this.persist(serviceNodes, row);
 		} finally {
-			this.writeLock.unlock();
+			writeLock.unlock();
 		}
+		this.awaitDurable();
+		return "OK !";
 	}
 
 	/**
 	 * 检查下线的节点，并移除墓碑
+	 * 
+	 * 逐个service加写锁，不会阻塞其它service的读写
 	 */
 	public void CheckAndRemoveTombstone() {
+		for (ServiceNodes serviceNodes : this.serviceMap.values()) {
+			Lock writeLock = serviceNodes.writeLock();
+			try {
+				writeLock.lock();
+				if (serviceNodes.isRemoved()) {
+					continue;
+				}
+				this.checkAndRemoveTombstone(serviceNodes);
+				if (serviceNodes.getTable().isEmpty()) {
+					serviceNodes.markRemoved();
+					this.serviceMap.remove(serviceNodes.getServiceName(), serviceNodes);
+				}
+			} finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	private void checkAndRemoveTombstone(ServiceNodes serviceNodes) {
+		/**
+		 * 移除会把最后一行移到被移除的行，到期的墓碑遍历之后再移除
+		 */
+		String serviceName = serviceNodes.getServiceName();
+		NodeTable table = serviceNodes.getTable();
+		List<Long> removed = new LinkedList<Long>();
+		for (int row = 0; row < table.size(); row++) {
+			long tmp = TimeUnit.SECONDS.convert(System.currentTimeMillis() - table.getTimestamp(row),
+					TimeUnit.MILLISECONDS);
+			State state = table.getState(row);
+			switch (state) {
+			case Leaving:
+			case Tombstone_1:
+				if (tmp > Config.serviceStatusKeepSeconds) {
+					State next = state == State.Leaving ? State.Tombstone_1 : State.Tombstone;
+					this.log.info("checkAndRemove [ {} ] to [{}] sucess, and waitSeconds is [ {} ]",
+							table.toTSNode(row, serviceName), next, tmp);
+					table.setState(row, next);
+					table.setTimestamp(row, System.currentTimeMillis());
+					this.persist(serviceNodes, row);
+				} else {
+					this.log.info(
+							"checkAndRemove [ {} ], but waitSeconds [ {} ] is less than  [ {} ]",
+							table.toTSNode(row, serviceName), tmp, Config.serviceStatusKeepSeconds);
+				}
+				break;
+			case Tombstone:
+				if (tmp > Config.serviceStatusKeepSeconds) {
+					removed.add(table.getId(row));
+					this.log.info("checkAndRemove [ {} ], and waitSeconds is [ {} ]",
+							table.toTSNode(row, serviceName), tmp);
+				} else {
+					this.log.info(
+							"checkAndRemove [ {} ], but waitSeconds [ {} ] is less than  [ {} ]",
+							table.toTSNode(row, serviceName), tmp, Config.serviceStatusKeepSeconds);
+				}
+				break;
+			default:
+				break;
+			}
+		}
+		for (Long id : removed) {
+			this.remove(serviceNodes, id);
+		}
+	}
+
+	/**
+	 * 从节点表中移除并写入日志，调用者需持有该service的写锁
+	 */
+	private void remove(ServiceNodes serviceNodes, long id) {
+		NodeTable table = serviceNodes.getTable();
+		if (Config.registryWal) {
+			RegistryStore.getInstance().remove(
+					table.toTSNode(table.row(id), serviceNodes.getServiceName()));
+		}
+		table.remove(id);
+		this.touch(serviceNodes.getServiceName(), id);
+	}
+
+	/**
+	 * 为Leaving、Tombstone_1、Tombstone的节点安排到期事件，到期时间为进入该状态的时间 + 停留时间
+	 * 
+	 * 事件只记录serviceName、id和当时的状态，节点状态已变化的事件到期时直接作废
+	 */
+	private void scheduleReap(String serviceName, long id, State state, long timestamp) {
+		if (null == this.reaper) {
+			return;
+		}
+		if (state != State.Leaving && state != State.Tombstone_1 && state != State.Tombstone) {
+			return;
+		}
+		long delay = timestamp + this.tombstoneMillis - System.currentTimeMillis();
+		this.reaper.schedule(new Reap(serviceName, id, state), delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 节点在某个状态停留到期，转到下一个状态或移除，只锁所在的service
+	 */
+	private void reap(String serviceName, long id, State state) {
+		ServiceNodes serviceNodes = this.serviceMap.get(serviceName);
+		if (null == serviceNodes) {
+			return;
+		}
+		Lock writeLock = serviceNodes.writeLock();
 		try {
-			this.writeLock.lock();
-			Iterator<Map.Entry<String, Map<Long, TSNode>>> iterator1 = this.serviceMap.entrySet()
-					.iterator();
-			while (iterator1.hasNext()) {
-				Map.Entry<String, Map<Long, TSNode>> entry1 = iterator1.next();
-
-				Map<Long, TSNode> map = entry1.getValue();
-				Iterator<Map.Entry<Long, TSNode>> iterator2 = map.entrySet().iterator();
-
-				while (iterator2.hasNext()) {
-					Map.Entry<Long, TSNode> entry2 = iterator2.next();
-					TSNode tsnode = entry2.getValue();
-
-					long tmp = TimeUnit.SECONDS.convert(
-							System.currentTimeMillis() - tsnode.getTimestamp(),
-							TimeUnit.MILLISECONDS);
-					switch (tsnode.getState()) {
-					case Leaving:
-						if (tmp > Config.serviceStatusKeepSeconds) {
-							this.log.info(
-									"checkAndRemove [ {} ] to [Tombstone_1] sucess, and waitSeconds is [ {} ]",
-									tsnode.toString(), tmp);
-							tsnode.setState(State.Tombstone_1);
-							tsnode.setTimestamp(System.currentTimeMillis());
-						} else {
-							this.log.info(
-									"checkAndRemove [ {} ], but waitSeconds [ {} ] is less than  [ {} ]",
-									tsnode, tmp, Config.serviceStatusKeepSeconds);
-						}
-						break;
-					case Tombstone_1:
-						if (tmp > Config.serviceStatusKeepSeconds) {
-							this.log.info(
-									"checkAndRemove [ {} ] to [Tombstone] sucess, and waitSeconds is [ {} ]",
-									tsnode.toString(), tmp);
-							tsnode.setState(State.Tombstone);
-							tsnode.setTimestamp(System.currentTimeMillis());
-						} else {
-							this.log.info(
-									"checkAndRemove [ {} ], but waitSeconds [ {} ] is less than  [ {} ]",
-									tsnode, tmp, Config.serviceStatusKeepSeconds);
-						}
-						break;
-					case Tombstone:
-						if (tmp > Config.serviceStatusKeepSeconds) {
-							iterator2.remove();
-							if (map.isEmpty()) {
-								iterator1.remove();
-							}
-							this.log.info("checkAndRemove [ {} ], and waitSeconds is [ {} ]",
-									tsnode.toString(), tmp);
-						} else {
-							this.log.info(
-									"checkAndRemove [ {} ], but waitSeconds [ {} ] is less than  [ {} ]",
-									tsnode, tmp, Config.serviceStatusKeepSeconds);
-						}
-						break;
-					default:
-						break;
-					}
+			writeLock.lock();
+			NodeTable table = serviceNodes.getTable();
+			int row = serviceNodes.isRemoved() ? -1 : table.row(id);
+			if (row < 0 || table.getState(row) != state) {
+				return;
+			}
+			long timestamp = table.getTimestamp(row);
+			if (timestamp + this.tombstoneMillis > System.currentTimeMillis()) {
+				this.scheduleReap(serviceName, id, state, timestamp);
+				return;
+			}
+			switch (state) {
+			case Leaving:
+			case Tombstone_1:
+				State next = state == State.Leaving ? State.Tombstone_1 : State.Tombstone;
+				timestamp = System.currentTimeMillis();
+				table.setState(row, next);
+				table.setTimestamp(row, timestamp);
+				this.persist(serviceNodes, row);
+				this.scheduleReap(serviceName, id, next, timestamp);
+				this.log.info("reap [ {} ] from [{}]", table.toTSNode(row, serviceName), state);
+				break;
+			default:
+				this.log.info("reap [ {} ], removed", table.toTSNode(row, serviceName));
+				this.remove(serviceNodes, id);
+				if (table.isEmpty()) {
+					serviceNodes.markRemoved();
+					this.serviceMap.remove(serviceName, serviceNodes);
 				}
 			}
 		} finally {
-			this.writeLock.unlock();
+			writeLock.unlock();
+		}
+	}
+
+	private class Reap implements Runnable {
+		private final String serviceName;
+		private final long id;
+		private final State state;
+
+		private Reap(String serviceName, long id, State state) {
+			this.serviceName = serviceName;
+			this.id = id;
+			this.state = state;
+		}
+
+		@Override
+		public void run() {
+			reap(this.serviceName, this.id, this.state);
+		}
+
+		@Override
+		public String toString() {
+			return "Reap [" + serviceName + "/" + id + ", " + state + "]";
 		}
 	}
 
@@ -335,6 +1254,31 @@ public class SNodeManager implements SNodeManagerMBean {
 		return sb.toString();
 	}
 
+	@Override
+	public String helpRegister() {
+		StringBuilder sb = new StringBuilder(500);
+		sb.append("SYNOPSIS").append(end);
+		sb.append(tab).append("string serviceName, string hostPorts, int pingFrequency").append(end);
+		sb.append(end);
+		sb.append("OPTIONS").append(end);
+		sb.append(tab).append("serviceName : service name of these nodes provide").append(end);
+		sb.append(tab).append("hostPorts : host:port,host:port,...").append(end);
+		sb.append(tab).append("pingFrequency : the frequency of ping (s)").append(end);
+		return sb.toString();
+	}
+
+	@Override
+	public String helpDeregister() {
+		StringBuilder sb = new StringBuilder(500);
+		sb.append("SYNOPSIS").append(end);
+		sb.append(tab).append("string serviceName, string ids").append(end);
+		sb.append(end);
+		sb.append("OPTIONS").append(end);
+		sb.append(tab).append("serviceName : service name").append(end);
+		sb.append(tab).append("ids : id,id,... , see serviceStatus");
+		return sb.toString();
+	}
+
 	@Override
 	public String helpOffline() {
 		StringBuilder sb = new StringBuilder(500);
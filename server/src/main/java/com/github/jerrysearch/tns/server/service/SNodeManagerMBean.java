@@ -5,6 +5,27 @@ public interface SNodeManagerMBean {
 
 	String offLine(String serviceName, long id);
 
+	/**
+	 * 批量注册
+	 * 
+	 * @param serviceName
+	 * @param hostPorts
+	 *            host:port,host:port,...
+	 * @param pingFrequency
+	 * @return 生成的id，逗号分隔
+	 */
+	String register(String serviceName, String hostPorts, int pingFrequency);
+
+	/**
+	 * 批量下线
+	 * 
+	 * @param serviceName
+	 * @param ids
+	 *            id,id,...
+	 * @return
+	 */
+	String deregister(String serviceName, String ids);
+
 	String serviceStatus();
 
 	/**
@@ -13,4 +34,8 @@ public interface SNodeManagerMBean {
 	String helpOnLine();
 
 	String helpOffline();
+
+	String helpRegister();
+
+	String helpDeregister();
 }
@@ -0,0 +1,116 @@
+package com.github.jerrysearch.tns.server.service;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 某个service下的全部节点，每个service一把读写锁，不同service之间互不阻塞
+ *
+ * @author jerry
+ *
+ */
+public class ServiceNodes {
+
+	private final String serviceName;
+	/**
+	 * 节点的列式存储，读写需持有对应的锁
+	 */
+	private final NodeTable table = new NodeTable();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Lock readLock = lock.readLock();
+	private final Lock writeLock = lock.writeLock();
+	/**
+	 * UP节点快照，读取无锁
+	 */
+	private volatile ServiceSnapshot snapshot;
+	/**
+	 * 已从注册表中移除，持有写锁时读写
+	 */
+	private boolean removed = false;
+	/**
+	 * 按秒分桶的待ping节点，持有写锁时读写
+	 */
+	private final PingSchedule pingSchedule = new PingSchedule();
+	/**
+	 * 最早的非空桶对应的秒，持有写锁时修改，PingTask不加锁读取，未到时间不必加锁
+	 */
+	private volatile int nextPing = NodeTable.NEVER;
+	/**
+	 * 该service的ping任务，发布到注册表之前由PingTaskManager设置
+	 */
+	private volatile PingTask pingTask;
+
+	public ServiceNodes(String serviceName, ServiceSnapshot snapshot) {
+		this.serviceName = serviceName;
+		this.snapshot = snapshot;
+	}
+
+	public String getServiceName() {
+		return serviceName;
+	}
+
+	public NodeTable getTable() {
+		return table;
+	}
+
+	public Lock readLock() {
+		return readLock;
+	}
+
+	public Lock writeLock() {
+		return writeLock;
+	}
+
+	public ServiceSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	public void setSnapshot(ServiceSnapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	public boolean isRemoved() {
+		return removed;
+	}
+
+	/**
+	 * 标记为已移除，并取消ping任务，调用者需持有写锁
+	 */
+	public void markRemoved() {
+		this.removed = true;
+		PingTask pingTask = this.pingTask;
+		if (null != pingTask) {
+			pingTask.cancel();
+		}
+	}
+
+	public void setPingTask(PingTask pingTask) {
+		this.pingTask = pingTask;
+	}
+
+	public int getNextPing() {
+		return nextPing;
+	}
+
+	public void setNextPing(int nextPing) {
+		this.nextPing = nextPing;
+	}
+
+	PingSchedule getPingSchedule() {
+		return pingSchedule;
+	}
+
+	/**
+	 * 安排某一行的下次ping，调用者需持有写锁
+	 *
+	 * @param row
+	 * @param nextPing
+	 */
+	public void schedulePing(int row, int nextPing) {
+		this.table.setNextPing(row, nextPing);
+		this.pingSchedule.add(this.table.getId(row), nextPing);
+		if (nextPing < this.nextPing) {
+			this.nextPing = nextPing;
+		}
+	}
+}
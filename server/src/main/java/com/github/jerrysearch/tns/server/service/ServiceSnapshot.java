@@ -0,0 +1,116 @@
+package com.github.jerrysearch.tns.server.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+
+/**
+ * 某个service下UP节点的不可变快照
+ *
+ * service发生变化（节点上下线、状态或vNodes变化）时整体重建并替换，读取时无需加锁。
+ * 开启service.compact时快照不持有节点，只持有UP节点的列式副本，getUpList每次从副本生成，同样无需加锁
+ *
+ * @author jerry
+ *
+ */
+public class ServiceSnapshot {
+
+	private final String serviceName;
+	/**
+	 * 全局递增的版本号，不同service之间不会重复
+	 */
+	private final long version;
+	/**
+	 * 开启service.compact时为null
+	 */
+	private final List<TSNode> upList;
+	/**
+	 * 开启service.compact时，构建时UP节点的副本，不再修改
+	 */
+	private final NodeTable upTable;
+
+	private ServiceSnapshot(String serviceName, long version, List<TSNode> upList,
+			NodeTable upTable) {
+		this.serviceName = serviceName;
+		this.version = version;
+		this.upList = upList;
+		this.upTable = upTable;
+	}
+
+	/**
+	 * 用给定的节点构建快照，节点会被复制
+	 *
+	 * @param serviceName
+	 * @param version
+	 * @param tsnodes
+	 * @return
+	 */
+	public static ServiceSnapshot build(String serviceName, long version, Collection<TSNode> tsnodes) {
+		List<TSNode> list = new ArrayList<TSNode>(tsnodes.size());
+		for (TSNode tsnode : tsnodes) {
+			if (tsnode.getState() == State.UP) {
+				list.add(tsnode.deepCopy());
+			}
+		}
+		return new ServiceSnapshot(serviceName, version, Collections.unmodifiableList(list), null);
+	}
+
+	/**
+	 * 用节点表的当前内容构建快照，调用者需持有该service的锁
+	 *
+	 * @param serviceNodes
+	 * @param version
+	 * @return
+	 */
+	public static ServiceSnapshot build(ServiceNodes serviceNodes, long version) {
+		if (Config.serviceCompact) {
+			return new ServiceSnapshot(serviceNodes.getServiceName(), version, null, serviceNodes
+					.getTable().copyUp());
+		}
+		return new ServiceSnapshot(serviceNodes.getServiceName(), version, upList(
+				serviceNodes.getTable(), serviceNodes.getServiceName()), null);
+	}
+
+	private static List<TSNode> upList(NodeTable table, String serviceName) {
+		List<TSNode> list = new ArrayList<TSNode>(table.size());
+		for (int row = 0; row < table.size(); row++) {
+			if (table.getState(row) == State.UP) {
+				list.add(table.toTSNode(row, serviceName));
+			}
+		}
+		return Collections.unmodifiableList(list);
+	}
+
+	public String getServiceName() {
+		return serviceName;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	/**
+	 * 不可修改的UP节点列表
+	 *
+	 * 开启service.compact时从构建时的副本生成，不加锁，内容与版本号一致
+	 *
+	 * @return
+	 */
+	public List<TSNode> getUpList() {
+		if (null != this.upList) {
+			return this.upList;
+		}
+		return upList(this.upTable, this.serviceName);
+	}
+
+	@Override
+	public String toString() {
+		return "ServiceSnapshot [serviceName=" + serviceName + ", version=" + version
+				+ (null == upList ? ", compact" : ", upNodes=" + upList.size()) + "]";
+	}
+}
@@ -0,0 +1,361 @@
+package com.github.jerrysearch.tns.server.store;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.State;
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.service.ServiceSnapshot;
+
+/**
+ * 注册表快照的镜像文件，定长布局，启动时只读映射到内存，按service读取时才解码
+ *
+ * <pre>
+ * header   : magic(4) version(4) start(8) strings(4) services(4) nodes(4) crc32(4)
+ * services : nameIndex(4) firstNode(4) nodeCount(4)，同一service的节点连续存放
+ * nodes    : hostIndex(4) port(4) id(8) vNodes(4) pingFrequency(4) state(4) timestamp(8)
+ * strings  : strings + 1个偏移(4)，之后是UTF-8编码的service名和host，去重后只存一份
+ * </pre>
+ *
+ * crc32覆盖header之后的全部内容。open只检查header和各段的范围，crc32由verify在后台重建时校验，
+ * 启动时间与镜像大小无关
+ *
+ * @author jerry
+ *
+ */
+public class RegistryImage {
+
+	private static final Logger log = LoggerFactory.getLogger(RegistryImage.class);
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final int MAGIC = 0x544E5349; // TNSI
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+	private static final int SERVICE_SIZE = 12;
+	private static final int NODE_SIZE = 36;
+
+	private final MappedByteBuffer buffer;
+	private final long start;
+	private final int stringCount;
+	private final int nodeCount;
+	private final int servicesOffset;
+	private final int nodesOffset;
+	private final int stringsOffset;
+	private final int stringDataOffset;
+	/**
+	 * serviceName -> services中的下标
+	 */
+	private final Map<String, Integer> serviceIndex;
+	/**
+	 * 已解码的service
+	 */
+	private final ConcurrentHashMap<String, ServiceSnapshot> snapshots = new ConcurrentHashMap<String, ServiceSnapshot>();
+
+	private RegistryImage(MappedByteBuffer buffer) {
+		this.buffer = buffer;
+		this.start = buffer.getLong(8);
+		this.stringCount = buffer.getInt(16);
+		int serviceCount = buffer.getInt(20);
+		this.nodeCount = buffer.getInt(24);
+		this.servicesOffset = HEADER_SIZE;
+		this.nodesOffset = this.servicesOffset + serviceCount * SERVICE_SIZE;
+		this.stringsOffset = this.nodesOffset + this.nodeCount * NODE_SIZE;
+		this.stringDataOffset = this.stringsOffset + (this.stringCount + 1) * 4;
+		this.serviceIndex = new HashMap<String, Integer>(serviceCount * 2);
+		for (int i = 0; i < serviceCount; i++) {
+			int offset = this.servicesOffset + i * SERVICE_SIZE;
+			int first = buffer.getInt(offset + 4);
+			int count = buffer.getInt(offset + 8);
+			if (first < 0 || count < 0 || first > this.nodeCount - count) {
+				throw new IllegalStateException("bad service entry " + i);
+			}
+			this.serviceIndex.put(this.string(buffer.getInt(offset)), i);
+		}
+	}
+
+	/**
+	 * 写入镜像，调用方负责fsync之后的改名
+	 *
+	 * @param file
+	 * @param start
+	 *            快照之后的第一个日志段
+	 * @param tsnodes
+	 * @throws IOException
+	 */
+	public static void write(File file, long start, List<TSNode> tsnodes) throws IOException {
+		Map<String, List<TSNode>> group = new LinkedHashMap<String, List<TSNode>>();
+		for (TSNode tsnode : tsnodes) {
+			List<TSNode> list = group.get(tsnode.getServiceName());
+			if (null == list) {
+				list = new ArrayList<TSNode>();
+				group.put(tsnode.getServiceName(), list);
+			}
+			list.add(tsnode);
+		}
+		Map<String, Integer> stringIndex = new HashMap<String, Integer>();
+		List<byte[]> strings = new ArrayList<byte[]>();
+		int stringBytes = 0;
+		for (TSNode tsnode : tsnodes) {
+			stringBytes += intern(tsnode.getServiceName(), stringIndex, strings);
+			stringBytes += intern(tsnode.getHost(), stringIndex, strings);
+		}
+
+		int size = HEADER_SIZE + group.size() * SERVICE_SIZE + tsnodes.size() * NODE_SIZE
+				+ (strings.size() + 1) * 4 + stringBytes;
+		ByteBuffer out = ByteBuffer.allocate(size);
+		out.putInt(MAGIC).putInt(VERSION).putLong(start).putInt(strings.size())
+				.putInt(group.size()).putInt(tsnodes.size()).putInt(0);
+		int first = 0;
+		for (Map.Entry<String, List<TSNode>> entry : group.entrySet()) {
+			out.putInt(stringIndex.get(entry.getKey())).putInt(first)
+					.putInt(entry.getValue().size());
+			first += entry.getValue().size();
+		}
+		for (List<TSNode> list : group.values()) {
+			for (TSNode tsnode : list) {
+				State state = tsnode.getState();
+				out.putInt(stringIndex.get(tsnode.getHost())).putInt(tsnode.getPort())
+						.putLong(tsnode.getId()).putInt(tsnode.getVNodes())
+						.putInt(tsnode.getPingFrequency()).putInt(null == state ? 0 : state.getValue())
+						.putLong(tsnode.getTimestamp());
+			}
+		}
+		int offset = 0;
+		for (byte[] string : strings) {
+			out.putInt(offset);
+			offset += string.length;
+		}
+		out.putInt(offset);
+		for (byte[] string : strings) {
+			out.put(string);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(out.array(), HEADER_SIZE, size - HEADER_SIZE);
+		out.putInt(28, (int) crc.getValue());
+
+		FileOutputStream fileOut = new FileOutputStream(file);
+		try {
+			fileOut.write(out.array());
+			fileOut.getFD().sync();
+		} finally {
+			fileOut.close();
+		}
+	}
+
+	private static int intern(String string, Map<String, Integer> stringIndex, List<byte[]> strings) {
+		if (null == string || stringIndex.containsKey(string)) {
+			return 0;
+		}
+		byte[] bytes = string.getBytes(UTF8);
+		stringIndex.put(string, strings.size());
+		strings.add(bytes);
+		return bytes.length;
+	}
+
+	/**
+	 * 映射镜像，只检查header和各段的范围，不计算crc32
+	 *
+	 * @param file
+	 * @return 镜像损坏时返回null
+	 */
+	public static RegistryImage open(File file) {
+		try {
+			MappedByteBuffer buffer;
+			FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+			try {
+				if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+					log.warn("registry image {} has bad size {}", file, channel.size());
+					return null;
+				}
+				buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			} finally {
+				channel.close();
+			}
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				log.warn("registry image {} has bad header", file);
+				return null;
+			}
+			int strings = buffer.getInt(16);
+			int services = buffer.getInt(20);
+			int nodes = buffer.getInt(24);
+			if (strings < 0 || services < 0 || nodes < 0) {
+				log.warn("registry image {} has bad counts", file);
+				return null;
+			}
+			long size = HEADER_SIZE + (long) services * SERVICE_SIZE + (long) nodes * NODE_SIZE
+					+ ((long) strings + 1) * 4;
+			if (size > buffer.capacity()
+					|| size + buffer.getInt((int) size - 4) != buffer.capacity()) {
+				log.warn("registry image {} is truncated", file);
+				return null;
+			}
+			return new RegistryImage(buffer);
+		} catch (IOException e) {
+			log.warn("open registry image " + file, e);
+			return null;
+		} catch (RuntimeException e) {
+			log.warn("registry image " + file + " is corrupt", e);
+			return null;
+		}
+	}
+
+	/**
+	 * 校验crc32，需读取整个文件
+	 *
+	 * @return
+	 */
+	public boolean verify() {
+		if (crc(this.buffer) != this.buffer.getInt(28)) {
+			log.warn("registry image {} has bad crc", this);
+			return false;
+		}
+		return true;
+	}
+
+	private static int crc(MappedByteBuffer buffer) {
+		CRC32 crc = new CRC32();
+		ByteBuffer in = buffer.duplicate();
+		in.position(HEADER_SIZE);
+		byte[] chunk = new byte[64 * 1024];
+		while (in.hasRemaining()) {
+			int length = Math.min(chunk.length, in.remaining());
+			in.get(chunk, 0, length);
+			crc.update(chunk, 0, length);
+		}
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * 快照之后的第一个日志段
+	 *
+	 * @return
+	 */
+	public long getStart() {
+		return start;
+	}
+
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * 该service的UP节点，版本号为0，service不存在时返回null
+	 *
+	 * @param serviceName
+	 * @return
+	 */
+	public ServiceSnapshot getServiceSnapshot(String serviceName) {
+		ServiceSnapshot snapshot = this.snapshots.get(serviceName);
+		if (null != snapshot) {
+			return snapshot;
+		}
+		Integer index = this.serviceIndex.get(serviceName);
+		if (null == index) {
+			return null;
+		}
+		List<TSNode> list = this.nodes(index, serviceName);
+		if (null == list) {
+			return null;
+		}
+		snapshot = ServiceSnapshot.build(serviceName, 0, list);
+		ServiceSnapshot old = this.snapshots.putIfAbsent(serviceName, snapshot);
+		return null == old ? snapshot : old;
+	}
+
+	/**
+	 * 该service的全部节点，包括墓碑，每次调用都重新解码，service不存在时返回null
+	 *
+	 * @param serviceName
+	 * @return
+	 */
+	public List<TSNode> getServiceNodes(String serviceName) {
+		Integer index = this.serviceIndex.get(serviceName);
+		return null == index ? null : this.nodes(index, serviceName);
+	}
+
+	/**
+	 * verify之前按service读取时，损坏的节点按service不存在处理
+	 */
+	private List<TSNode> nodes(int index, String serviceName) {
+		try {
+			return this.nodes(index);
+		} catch (RuntimeException e) {
+			log.warn("registry image " + this + " has corrupt service " + serviceName, e);
+			return null;
+		}
+	}
+
+	/**
+	 * 解码全部节点，包括墓碑
+	 *
+	 * @param list
+	 */
+	public void toNodeList(List<TSNode> list) {
+		for (int i = 0; i < this.serviceIndex.size(); i++) {
+			list.addAll(this.nodes(i));
+		}
+	}
+
+	private List<TSNode> nodes(int service) {
+		int offset = this.servicesOffset + service * SERVICE_SIZE;
+		String serviceName = this.string(this.buffer.getInt(offset));
+		int first = this.buffer.getInt(offset + 4);
+		int count = this.buffer.getInt(offset + 8);
+		if (count == 0) {
+			return Collections.emptyList();
+		}
+		List<TSNode> list = new ArrayList<TSNode>(count);
+		for (int i = first; i < first + count; i++) {
+			int node = this.nodesOffset + i * NODE_SIZE;
+			TSNode tsnode = new TSNode();
+			tsnode.setServiceName(serviceName);
+			tsnode.setHost(this.string(this.buffer.getInt(node)));
+			tsnode.setPort(this.buffer.getInt(node + 4));
+			tsnode.setId(this.buffer.getLong(node + 8));
+			tsnode.setVNodes(this.buffer.getInt(node + 16));
+			tsnode.setPingFrequency(this.buffer.getInt(node + 20));
+			tsnode.setState(State.findByValue(this.buffer.getInt(node + 24)));
+			tsnode.setTimestamp(this.buffer.getLong(node + 28));
+			list.add(tsnode);
+		}
+		return list;
+	}
+
+	private String string(int index) {
+		if (index < 0 || index >= this.stringCount) {
+			throw new IllegalStateException("bad string index " + index);
+		}
+		int begin = this.buffer.getInt(this.stringsOffset + index * 4);
+		int end = this.buffer.getInt(this.stringsOffset + index * 4 + 4);
+		if (begin < 0 || end < begin || end > this.buffer.capacity() - this.stringDataOffset) {
+			throw new IllegalStateException("bad string " + index);
+		}
+		byte[] bytes = new byte[end - begin];
+		ByteBuffer in = this.buffer.duplicate();
+		in.position(this.stringDataOffset + begin);
+		in.get(bytes);
+		return new String(bytes, UTF8);
+	}
+
+	@Override
+	public String toString() {
+		return "RegistryImage [start=" + start + ", services=" + serviceIndex.size() + ", nodes="
+				+ nodeCount + "]";
+	}
+}
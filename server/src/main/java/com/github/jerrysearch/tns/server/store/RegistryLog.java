@@ -0,0 +1,405 @@
+package com.github.jerrysearch.tns.server.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
+
+/**
+ * 注册表的预写日志，按段（wal-序号.log）存放，快照时切换到新的段
+ *
+ * 调用方只把记录放入队列，由一个线程批量写入（group commit），一次fsync覆盖整个批次
+ *
+ * @author jerry
+ *
+ */
+public class RegistryLog {
+
+	private static final Logger log = LoggerFactory.getLogger(RegistryLog.class);
+
+	public static final int SYNC_NONE = 0;
+	public static final int SYNC_BATCH = 1;
+	public static final int SYNC_ALWAYS = 2;
+
+	/**
+	 * 每批次最多写入的记录数
+	 */
+	private static final int MAX_BATCH = 1024;
+	/**
+	 * 保留最近写入失败的批次数
+	 */
+	private static final int FAILED_RANGES = 64;
+
+	private final File dir;
+	private final int syncMode;
+	private final long syncIntervalNanos;
+	/**
+	 * 等待落盘、等待切换段的最长时间
+	 */
+	private final long timeoutNanos;
+	private final LinkedBlockingQueue<Entry> queue = new LinkedBlockingQueue<Entry>();
+	/**
+	 * 最后一个放入队列的记录序号，持有queue锁时修改，保证序号与入队顺序一致
+	 */
+	private long appendSeq = 0;
+	/**
+	 * 已按策略落盘的记录序号，持有this锁时读写
+	 */
+	private long durableSeq = 0;
+	/**
+	 * 写入失败的批次：最后一条记录的序号、最近FAILED_RANGES个批次的记录序号范围[from, to]，持有this锁时读写
+	 */
+	private long failedSeq = 0;
+	private long failures = 0;
+	private final long[] failedFrom = new long[FAILED_RANGES];
+	private final long[] failedTo = new long[FAILED_RANGES];
+	/**
+	 * 当前线程追加、尚未等待落盘的记录序号范围
+	 */
+	private final ThreadLocal<long[]> pending = new ThreadLocal<long[]>() {
+
+		@Override
+		protected long[] initialValue() {
+			return new long[2];
+		}
+	};
+	/**
+	 * 以下字段只由写线程访问
+	 */
+	private FileChannel channel;
+	private long segment;
+	/**
+	 * 当前段中最后一条完整写入的记录之后的位置
+	 */
+	private long position;
+	private long lastSyncNanos = System.nanoTime();
+	private boolean unsynced = false;
+
+	/**
+	 *
+	 * @param dir
+	 * @param segment
+	 *            从该段开始写，必须大于已有的段
+	 * @param syncMode
+	 * @param syncIntervalMillis
+	 * @param timeoutMillis
+	 *            awaitDurable、roll的最长等待时间
+	 * @throws IOException
+	 */
+	public RegistryLog(File dir, long segment, int syncMode, int syncIntervalMillis,
+			int timeoutMillis) throws IOException {
+		this.dir = dir;
+		this.syncMode = syncMode;
+		this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(syncIntervalMillis, 1));
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(timeoutMillis, 1));
+		this.open(segment);
+		new NamedThreadFactory("RegistryLog", true).newThread(new Writer()).start();
+	}
+
+	public static String segmentName(long segment) {
+		return String.format("wal-%016d.log", segment);
+	}
+
+	/**
+	 * 追加一条记录
+	 *
+	 * @param record
+	 *            RegistryRecord.encode的结果
+	 */
+	public void append(byte[] record) {
+		long seq;
+		synchronized (this.queue) {
+			seq = ++this.appendSeq;
+			this.queue.add(new Entry(record, seq, null));
+		}
+		long[] range = this.pending.get();
+		if (range[0] == 0) {
+			range[0] = seq;
+		}
+		range[1] = seq;
+	}
+
+	/**
+	 * 等待当前线程追加的记录按策略落盘，只有always策略会等待
+	 *
+	 * @throws InterruptedException
+	 * @throws IOException
+	 *             其中有记录写入失败，或超时仍未落盘
+	 */
+	public void awaitDurable() throws InterruptedException, IOException {
+		long[] range = this.pending.get();
+		long from = range[0];
+		long to = range[1];
+		range[0] = 0;
+		range[1] = 0;
+		if (this.syncMode != SYNC_ALWAYS || to == 0) {
+			return;
+		}
+		long deadline = System.nanoTime() + this.timeoutNanos;
+		synchronized (this) {
+			while (this.durableSeq < to && this.failedSeq < to) {
+				long nanos = deadline - System.nanoTime();
+				if (nanos <= 0) {
+					throw new IOException("registry log records [" + from + ", " + to
+							+ "] are not durable in "
+							+ TimeUnit.NANOSECONDS.toMillis(this.timeoutNanos) + "ms");
+				}
+				TimeUnit.NANOSECONDS.timedWait(this, nanos);
+			}
+			if (this.failed(from, to)) {
+				throw new IOException("registry log records [" + from + ", " + to
+						+ "] are not durable");
+			}
+		}
+	}
+
+	/**
+	 * [from, to]中是否有写入失败的记录，更早的失败批次已不保留时按失败处理
+	 */
+	private boolean failed(long from, long to) {
+		int kept = (int) Math.min(this.failures, FAILED_RANGES);
+		for (long i = this.failures - kept; i < this.failures; i++) {
+			int k = (int) (i % FAILED_RANGES);
+			if (this.failedFrom[k] <= to && this.failedTo[k] >= from) {
+				return true;
+			}
+		}
+		return this.failures > FAILED_RANGES
+				&& this.failedFrom[(int) (this.failures % FAILED_RANGES)] > from;
+	}
+
+	/**
+	 * 切换到新的段，之前追加的记录都在旧的段中
+	 *
+	 * @return 新的段序号，失败或超时返回-1
+	 * @throws InterruptedException
+	 */
+	public long roll() throws InterruptedException {
+		Roll roll = new Roll();
+		synchronized (this.queue) {
+			this.queue.add(new Entry(null, this.appendSeq, roll));
+		}
+		if (!roll.latch.await(this.timeoutNanos, TimeUnit.NANOSECONDS)) {
+			log.error("roll registry log timeout");
+			return -1;
+		}
+		return roll.segment;
+	}
+
+	/**
+	 * 打开失败时仍使用原来的段
+	 */
+	private void open(long segment) throws IOException {
+		File file = new File(this.dir, segmentName(segment));
+		FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		this.channel = channel;
+		this.segment = segment;
+		this.position = channel.size();
+		log.info("open registry log {}", file);
+	}
+
+	private void sync() throws IOException {
+		if (this.unsynced) {
+			this.channel.force(false);
+			this.unsynced = false;
+		}
+		this.lastSyncNanos = System.nanoTime();
+	}
+
+	private synchronized void publish(long seq) {
+		if (seq > this.durableSeq) {
+			this.durableSeq = seq;
+			this.notifyAll();
+		}
+	}
+
+	private synchronized void fail(long from, long to) {
+		int k = (int) (this.failures % FAILED_RANGES);
+		this.failedFrom[k] = from;
+		this.failedTo[k] = to;
+		this.failures++;
+		this.failedSeq = Math.max(this.failedSeq, to);
+		this.notifyAll();
+	}
+
+	private static class Entry {
+		private final byte[] record;
+		private final long seq;
+		private final Roll roll;
+
+		private Entry(byte[] record, long seq, Roll roll) {
+			this.record = record;
+			this.seq = seq;
+			this.roll = roll;
+		}
+	}
+
+	private static class Roll {
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private long segment;
+	}
+
+	private class Writer implements Runnable {
+		private final List<Entry> batch = new ArrayList<Entry>(MAX_BATCH);
+
+		@Override
+		public void run() {
+			while (true) {
+				try {
+					Entry first = syncMode == SYNC_BATCH ? queue.poll(syncIntervalNanos,
+							TimeUnit.NANOSECONDS) : queue.take();
+					if (null != first) {
+						this.batch.add(first);
+						queue.drainTo(this.batch, MAX_BATCH - 1);
+						this.write();
+						this.batch.clear();
+					}
+					if (syncMode == SYNC_BATCH && System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+						sync();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (Throwable e) {
+					log.error("write registry log", e);
+					this.abort();
+					this.batch.clear();
+				}
+			}
+		}
+
+		private void write() throws IOException {
+			long from = 0;
+			long seq = 0;
+			int bytes = 0;
+			for (Entry entry : this.batch) {
+				if (null != entry.record) {
+					bytes += entry.record.length;
+				}
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(bytes);
+			for (Entry entry : this.batch) {
+				if (null != entry.roll) {
+					this.flush(buffer, from, seq);
+					from = 0;
+					seq = 0;
+					try {
+						sync();
+						this.next();
+						entry.roll.segment = segment;
+					} catch (IOException e) {
+						log.error("roll registry log " + segmentName(segment + 1), e);
+						entry.roll.segment = -1;
+					} finally {
+						entry.roll.latch.countDown();
+					}
+				} else {
+					buffer.put(entry.record);
+					if (from == 0) {
+						from = entry.seq;
+					}
+					seq = entry.seq;
+				}
+			}
+			this.flush(buffer, from, seq);
+		}
+
+		/**
+		 * 批次异常中断，尚未落盘的记录按失败通知等待的调用方，尚未完成的切换按失败返回
+		 */
+		private void abort() {
+			long from = 0;
+			long to = 0;
+			for (Entry entry : this.batch) {
+				if (null != entry.roll) {
+					if (entry.roll.latch.getCount() > 0) {
+						entry.roll.segment = -1;
+						entry.roll.latch.countDown();
+					}
+				} else {
+					if (from == 0) {
+						from = entry.seq;
+					}
+					to = entry.seq;
+				}
+			}
+			if (to == 0) {
+				return;
+			}
+			synchronized (RegistryLog.this) {
+				from = Math.max(from, durableSeq + 1);
+				if (from <= to) {
+					fail(from, to);
+				}
+			}
+		}
+
+		/**
+		 * 切换到下一个段，新段打开之后才关闭旧段
+		 */
+		private void next() throws IOException {
+			FileChannel old = channel;
+			open(segment + 1);
+			try {
+				old.close();
+			} catch (IOException e) {
+				log.warn("close registry log", e);
+			}
+		}
+
+		/**
+		 * 写入buffer中的记录，失败时截断到最后一条完整的记录，这批记录按失败通知等待的调用方
+		 */
+		private void flush(ByteBuffer buffer, long from, long seq) {
+			if (buffer.position() == 0) {
+				return;
+			}
+			buffer.flip();
+			try {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				unsynced = true;
+				if (syncMode == SYNC_ALWAYS) {
+					sync();
+				}
+				position += buffer.limit();
+				publish(seq);
+			} catch (IOException e) {
+				log.error("write registry log " + segmentName(segment), e);
+				this.truncate();
+				fail(from, seq);
+			} finally {
+				buffer.clear();
+			}
+		}
+
+		/**
+		 * 去掉写了一半的记录，否则重放时在此处停止，之后的记录都会丢失；截断失败时改写下一个段
+		 */
+		private void truncate() {
+			try {
+				channel.truncate(position);
+			} catch (IOException e) {
+				log.error("truncate registry log " + segmentName(segment) + " to " + position, e);
+				try {
+					this.next();
+				} catch (IOException ex) {
+					log.error("open registry log " + segmentName(segment + 1), ex);
+				}
+			}
+		}
+	}
+}
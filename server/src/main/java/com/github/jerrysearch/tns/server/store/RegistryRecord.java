@@ -0,0 +1,111 @@
+package com.github.jerrysearch.tns.server.store;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TCompactProtocol;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+
+/**
+ * 日志及快照中的一条记录：length(4) + crc32(4) + type(1) + TSNode（TCompactProtocol）
+ *
+ * @author jerry
+ *
+ */
+public class RegistryRecord {
+
+	/**
+	 * 新增或更新节点，记录节点的全部字段
+	 */
+	public static final byte PUT = 1;
+	/**
+	 * 移除节点，只有serviceName、id
+	 */
+	public static final byte REMOVE = 2;
+
+	/**
+	 * 超过该长度认为记录已损坏
+	 */
+	private static final int MAX_LENGTH = 1024 * 1024;
+
+	private final byte type;
+	private final TSNode tsnode;
+
+	public RegistryRecord(byte type, TSNode tsnode) {
+		this.type = type;
+		this.tsnode = tsnode;
+	}
+
+	public byte getType() {
+		return type;
+	}
+
+	public TSNode getTsnode() {
+		return tsnode;
+	}
+
+	/**
+	 * 编码为带长度、校验和的字节
+	 *
+	 * @param type
+	 * @param tsnode
+	 * @return
+	 */
+	public static byte[] encode(byte type, TSNode tsnode) {
+		byte[] body;
+		try {
+			body = new TSerializer(new TCompactProtocol.Factory()).serialize(tsnode);
+		} catch (TException e) {
+			throw new IllegalStateException("serialize " + tsnode, e);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(type);
+		crc.update(body);
+		ByteBuffer buffer = ByteBuffer.allocate(9 + body.length);
+		buffer.putInt(1 + body.length);
+		buffer.putInt((int) crc.getValue());
+		buffer.put(type);
+		buffer.put(body);
+		return buffer.array();
+	}
+
+	/**
+	 * 读取下一条记录
+	 *
+	 * @param in
+	 * @return 已读到结尾或记录不完整、损坏（写入时崩溃）时返回null
+	 * @throws IOException
+	 */
+	public static RegistryRecord read(DataInputStream in) throws IOException {
+		try {
+			int length = in.readInt();
+			int checksum = in.readInt();
+			if (length < 1 || length > MAX_LENGTH) {
+				return null;
+			}
+			byte[] payload = new byte[length];
+			in.readFully(payload);
+			CRC32 crc = new CRC32();
+			crc.update(payload);
+			if ((int) crc.getValue() != checksum) {
+				return null;
+			}
+			TSNode tsnode = new TSNode();
+			new TDeserializer(new TCompactProtocol.Factory()).deserialize(tsnode,
+					Arrays.copyOfRange(payload, 1, length));
+			return new RegistryRecord(payload[0], tsnode);
+		} catch (EOFException e) {
+			return null;
+		} catch (TException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.jerrysearch.tns.server.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class RegistrySnapshotTask implements Runnable {
+	private final RegistryStore registryStore = RegistryStore.getInstance();
+	private final Logger log = LoggerFactory.getLogger(getClass());
+
+	@Override
+	public void run() {
+		try {
+			this.registryStore.snapshot();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			this.log.error("registry snapshot", e);
+		}
+	}
+}
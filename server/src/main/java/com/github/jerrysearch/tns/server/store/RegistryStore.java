@@ -0,0 +1,441 @@
+package com.github.jerrysearch.tns.server.store;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.jerrysearch.tns.protocol.rpc.TSNode;
+import com.github.jerrysearch.tns.server.conf.Config;
+import com.github.jerrysearch.tns.server.service.SNodeManager;
+import com.github.jerrysearch.tns.server.util.NamedThreadFactory;
+
+/**
+ * 注册表的持久化：预写日志 + 定期快照
+ *
+ * 快照先切换日志段，再导出注册表，文件名中的序号即快照之后的第一个日志段。恢复时加载最新的快照，
+ * 再按顺序重放之后的日志段。记录都是节点的完整状态，重复重放结果不变
+ *
+ * 快照以RegistryImage的格式（snapshot-序号.img）存放，旧格式的snapshot-序号.dat仍可加载。
+ * 新快照写入并校验通过后，保留上一个快照及其之后的日志段，最新的镜像损坏时从上一个快照恢复
+ *
+ * @author jerry
+ *
+ */
+public class RegistryStore {
+
+	private static final Logger log = LoggerFactory.getLogger(RegistryStore.class);
+	private static final int SNAPSHOT_MAGIC = 0x544E5331; // TNS1，旧格式
+	private static final String SNAPSHOT_PREFIX = "snapshot-";
+	private static final String SNAPSHOT_SUFFIX = ".dat";
+	private static final String IMAGE_SUFFIX = ".img";
+	private static final String SEGMENT_PREFIX = "wal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private final File dir = new File(Config.registryDir);
+	/**
+	 * recover之后才可用
+	 */
+	private volatile RegistryLog registryLog;
+	/**
+	 * 后台重建注册表期间不做快照
+	 */
+	private volatile boolean recovering = false;
+
+	private RegistryStore() {
+	}
+
+	/**
+	 * 恢复注册表并打开新的日志段，需在rpc server启动之前调用
+	 *
+	 * 开启warm start时只映射最新的镜像就返回，堆上的注册表在后台重建，重建完成之前不在堆上的service
+	 * 从镜像读取（只含快照时刻的UP节点，不含之后日志中的变化）。镜像的crc32在后台校验，校验不通过时
+	 * 从上一个快照及其之后的日志段重建
+	 *
+	 * @throws IOException
+	 */
+	public synchronized void recover() throws IOException {
+		if (!this.dir.isDirectory() && !this.dir.mkdirs()) {
+			throw new IOException("can not create " + this.dir.getAbsolutePath());
+		}
+		long begin = System.currentTimeMillis();
+		RegistryImage image = null;
+		long[] images = this.list(SNAPSHOT_PREFIX, IMAGE_SUFFIX);
+		for (int i = images.length - 1; i >= 0 && null == image; i--) {
+			image = RegistryImage.open(new File(this.dir, imageName(images[i])));
+			if (null != image && image.getStart() != images[i]) {
+				log.warn("registry image {} has bad start {}", images[i], image.getStart());
+				image = null;
+			}
+			/**
+			 * warm start时crc32在后台重建时校验
+			 */
+			if (null != image && !Config.registryWarmStart && !image.verify()) {
+				image = null;
+			}
+		}
+		final Map<String, TSNode> state = new LinkedHashMap<String, TSNode>();
+		long start = 0;
+		if (null != image) {
+			start = image.getStart();
+		} else {
+			start = this.loadLatestSnapshot(Long.MAX_VALUE, state);
+		}
+		long[] segments = this.list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+		long next = Math.max(start, segments.length == 0 ? 0 : segments[segments.length - 1] + 1);
+		/**
+		 * 先打开新的日志段，重建期间的变化写入新段，重建只重放之前的段
+		 */
+		this.registryLog = new RegistryLog(this.dir, next, syncMode(Config.registryWalSync),
+				Config.registryWalSyncIntervalMillis, Config.registryWalTimeoutMillis);
+
+		if (Config.registryWarmStart && null != image) {
+			final RegistryImage warmImage = image;
+			final long from = start;
+			final long[] replaySegments = segments;
+			this.recovering = true;
+			SNodeManager.getInstance().setWarmImage(warmImage);
+			log.info("warm start from {} in {}ms", warmImage, System.currentTimeMillis() - begin);
+			new NamedThreadFactory("RegistryRecover", true).newThread(new Runnable() {
+
+				@Override
+				public void run() {
+					try {
+						if (warmImage.verify()) {
+							rebuild(warmImage, state, from, replaySegments);
+						} else {
+							RegistryImage older = olderImage(from);
+							log.error("registry image {} is corrupt, rebuild from {}", warmImage,
+									null == older ? "older snapshot" : older);
+							if (null != older) {
+								rebuild(older, state, older.getStart(), replaySegments);
+							} else {
+								rebuild(null, state, loadLatestSnapshot(from, state),
+										replaySegments);
+							}
+						}
+					} catch (Throwable e) {
+						log.error("rebuild registry", e);
+					} finally {
+						SNodeManager.getInstance().setWarmImage(null);
+						recovering = false;
+					}
+				}
+			}).start();
+		} else {
+			this.rebuild(image, state, start, segments);
+		}
+	}
+
+	/**
+	 * 序号小于before的最新的完整镜像
+	 *
+	 * @return 没有时返回null
+	 */
+	private RegistryImage olderImage(long before) {
+		long[] images = this.list(SNAPSHOT_PREFIX, IMAGE_SUFFIX);
+		for (int i = images.length - 1; i >= 0; i--) {
+			if (images[i] >= before) {
+				continue;
+			}
+			RegistryImage image = RegistryImage.open(new File(this.dir, imageName(images[i])));
+			if (null != image && image.getStart() == images[i] && image.verify()) {
+				return image;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 加载序号小于before的最新的完整旧格式快照
+	 *
+	 * @return 快照序号，没有时返回0（重放全部日志段）
+	 */
+	private long loadLatestSnapshot(long before, Map<String, TSNode> state) {
+		long[] snapshots = this.list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+		for (int i = snapshots.length - 1; i >= 0; i--) {
+			if (snapshots[i] >= before) {
+				continue;
+			}
+			if (this.loadSnapshot(snapshots[i], state)) {
+				return snapshots[i];
+			}
+			state.clear();
+		}
+		return 0;
+	}
+
+	/**
+	 * 镜像（或旧格式快照已加载到state） + 日志段，恢复到堆上的注册表
+	 */
+	private void rebuild(RegistryImage image, Map<String, TSNode> state, long start,
+			long[] segments) throws IOException {
+		long begin = System.currentTimeMillis();
+		if (null != image) {
+			List<TSNode> list = new ArrayList<TSNode>(image.getNodeCount());
+			image.toNodeList(list);
+			for (TSNode tsnode : list) {
+				state.put(tsnode.getServiceName() + "/" + tsnode.getId(), tsnode);
+			}
+		}
+		int records = 0;
+		for (long segment : segments) {
+			if (segment >= start) {
+				records += this.replay(segment, state);
+			}
+		}
+		SNodeManager.getInstance().restore(state.values());
+		log.info("recover {} nodes from snapshot [{}] and {} log records in {}ms", state.size(),
+				start, records, System.currentTimeMillis() - begin);
+	}
+
+	/**
+	 * 记录节点的当前状态
+	 *
+	 * @param tsnode
+	 */
+	public void put(TSNode tsnode) {
+		RegistryLog registryLog = this.registryLog;
+		if (null != registryLog) {
+			registryLog.append(RegistryRecord.encode(RegistryRecord.PUT, tsnode));
+		}
+	}
+
+	/**
+	 * 记录节点被移除
+	 *
+	 * @param tsnode
+	 */
+	public void remove(TSNode tsnode) {
+		RegistryLog registryLog = this.registryLog;
+		if (null != registryLog) {
+			TSNode key = new TSNode();
+			key.setServiceName(tsnode.getServiceName());
+			key.setId(tsnode.getId());
+			registryLog.append(RegistryRecord.encode(RegistryRecord.REMOVE, key));
+		}
+	}
+
+	/**
+	 * 等待当前线程记录的变化落盘（只有always策略会等待）
+	 *
+	 * @throws IOException
+	 *             其中有记录写入失败；等待时被中断（InterruptedIOException，保留中断标记），记录不一定已落盘
+	 */
+	public void awaitDurable() throws IOException {
+		RegistryLog registryLog = this.registryLog;
+		if (null == registryLog) {
+			return;
+		}
+		try {
+			registryLog.awaitDurable();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			InterruptedIOException ex = new InterruptedIOException(
+					"interrupted while waiting for the registry log");
+			ex.initCause(e);
+			throw ex;
+		}
+	}
+
+	/**
+	 * 做一次快照，校验通过后只保留新快照、上一个快照以及上一个快照之后的日志段
+	 *
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public synchronized void snapshot() throws IOException, InterruptedException {
+		RegistryLog registryLog = this.registryLog;
+		if (null == registryLog || this.recovering) {
+			return;
+		}
+		long begin = System.currentTimeMillis();
+		long start = registryLog.roll();
+		if (start < 0) {
+			return;
+		}
+		List<TSNode> list = new LinkedList<TSNode>();
+		SNodeManager.getInstance().toRegistryNodeList(list);
+
+		File tmp = new File(this.dir, SNAPSHOT_PREFIX + start + ".tmp");
+		RegistryImage.write(tmp, start, list);
+		File file = new File(this.dir, imageName(start));
+		Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		RegistryImage image = RegistryImage.open(file);
+		if (null == image || image.getStart() != start || !image.verify()) {
+			this.delete(file);
+			throw new IOException("registry image " + file + " failed verification");
+		}
+
+		/**
+		 * 上一个快照（镜像或旧格式）及其之后的日志段保留，新镜像损坏时用于恢复
+		 */
+		long previous = -1;
+		for (long snapshot : this.list(SNAPSHOT_PREFIX, IMAGE_SUFFIX)) {
+			if (snapshot < start) {
+				previous = Math.max(previous, snapshot);
+			}
+		}
+		for (long snapshot : this.list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+			if (snapshot < start) {
+				previous = Math.max(previous, snapshot);
+			}
+		}
+		for (long snapshot : this.list(SNAPSHOT_PREFIX, IMAGE_SUFFIX)) {
+			if (snapshot < previous) {
+				this.delete(new File(this.dir, imageName(snapshot)));
+			}
+		}
+		for (long snapshot : this.list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+			if (snapshot < previous) {
+				this.delete(new File(this.dir, snapshotName(snapshot)));
+			}
+		}
+		for (long segment : this.list(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+			if (segment < previous) {
+				this.delete(new File(this.dir, RegistryLog.segmentName(segment)));
+			}
+		}
+		log.info("snapshot [{}] with {} nodes in {}ms", start, list.size(),
+				System.currentTimeMillis() - begin);
+	}
+
+	/**
+	 * 旧格式的快照，只在没有镜像时加载
+	 */
+	private boolean loadSnapshot(long start, Map<String, TSNode> state) {
+		File file = new File(this.dir, snapshotName(start));
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(
+					file)));
+			try {
+				if (in.readInt() != SNAPSHOT_MAGIC || in.readLong() != start) {
+					log.warn("snapshot {} has bad header", file);
+					return false;
+				}
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					RegistryRecord record = RegistryRecord.read(in);
+					if (null == record) {
+						log.warn("snapshot {} is broken at record {}", file, i);
+						return false;
+					}
+					this.apply(record, state);
+				}
+				return true;
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			log.warn("load snapshot " + file, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 重放一个日志段，遇到不完整的记录（写入时崩溃）即停止
+	 *
+	 * @return 重放的记录数
+	 */
+	private int replay(long segment, Map<String, TSNode> state) throws IOException {
+		File file = new File(this.dir, RegistryLog.segmentName(segment));
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		int count = 0;
+		try {
+			while (true) {
+				RegistryRecord record = RegistryRecord.read(in);
+				if (null == record) {
+					break;
+				}
+				this.apply(record, state);
+				count++;
+			}
+			if (in.available() > 0) {
+				log.warn("registry log {} has a broken tail after {} records", file, count);
+			}
+		} finally {
+			in.close();
+		}
+		return count;
+	}
+
+	private void apply(RegistryRecord record, Map<String, TSNode> state) {
+		TSNode tsnode = record.getTsnode();
+		String key = tsnode.getServiceName() + "/" + tsnode.getId();
+		if (record.getType() == RegistryRecord.PUT) {
+			state.put(key, tsnode);
+		} else if (record.getType() == RegistryRecord.REMOVE) {
+			state.remove(key);
+		}
+	}
+
+	/**
+	 * 目录中指定前后缀的文件序号，升序
+	 */
+	private long[] list(String prefix, String suffix) {
+		String[] names = this.dir.list();
+		if (null == names) {
+			return new long[0];
+		}
+		long[] array = new long[names.length];
+		int size = 0;
+		for (String name : names) {
+			if (name.startsWith(prefix) && name.endsWith(suffix)) {
+				try {
+					array[size++] = Long.parseLong(name.substring(prefix.length(), name.length()
+							- suffix.length()));
+				} catch (NumberFormatException e) {
+					log.warn("ignore {}", name);
+				}
+			}
+		}
+		array = Arrays.copyOf(array, size);
+		Arrays.sort(array);
+		return array;
+	}
+
+	private void delete(File file) {
+		if (!file.delete()) {
+			log.warn("delete {} fail", file);
+		}
+	}
+
+	private static String imageName(long start) {
+		return String.format(SNAPSHOT_PREFIX + "%016d" + IMAGE_SUFFIX, start);
+	}
+
+	private static String snapshotName(long start) {
+		return String.format(SNAPSHOT_PREFIX + "%016d" + SNAPSHOT_SUFFIX, start);
+	}
+
+	private static int syncMode(String sync) {
+		if ("none".equalsIgnoreCase(sync)) {
+			return RegistryLog.SYNC_NONE;
+		}
+		if ("always".equalsIgnoreCase(sync)) {
+			return RegistryLog.SYNC_ALWAYS;
+		}
+		return RegistryLog.SYNC_BATCH;
+	}
+
+	private static class proxy {
+		private static RegistryStore instance = new RegistryStore();
+	}
+
+	public static RegistryStore getInstance() {
+		return proxy.instance;
+	}
+}
@@ -0,0 +1,344 @@
+package com.github.jerrysearch.tns.server.util;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 哈希时间轮，用于固定周期的任务和大量的一次性到期事件
+ *
+ * 插入、取消都是O(1)。一个线程推进时间轮，到期的任务交给executor执行，周期任务执行完成后按固定延迟重新放入时间轮
+ *
+ * @author jerry
+ *
+ */
+public class HashedTimingWheel {
+
+	private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+	private static final int ST_INIT = 0;
+	private static final int ST_CANCELLED = 1;
+	private static final int ST_EXPIRED = 2;
+	private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater
+			.newUpdater(Timeout.class, "state");
+
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Executor executor;
+	private final long startTime = System.nanoTime();
+	/**
+	 * 新加入、重新调度的任务，由时间轮线程放入对应的格子
+	 */
+	private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<Timeout>();
+	/**
+	 * 取消的任务，由时间轮线程从格子中移除
+	 */
+	private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<Timeout>();
+	private final AtomicInteger size = new AtomicInteger();
+	/**
+	 * 调度延迟：任务实际开始执行的时间 - 应该执行的时间
+	 */
+	private final AtomicLong lagCount = new AtomicLong();
+	private final AtomicLong lagTotalNanos = new AtomicLong();
+	private final AtomicLong lagMaxNanos = new AtomicLong();
+	/**
+	 * 时间轮线程独占
+	 */
+	private long tick = 0;
+
+	/**
+	 * @param name
+	 *            时间轮线程名
+	 * @param tickDuration
+	 *            每格的时间
+	 * @param unit
+	 * @param ticksPerWheel
+	 *            格子数，会调整为2的幂
+	 * @param executor
+	 *            执行到期任务
+	 */
+	public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int ticksPerWheel,
+			Executor executor) {
+		this.tickNanos = Math.max(unit.toNanos(tickDuration), TimeUnit.MILLISECONDS.toNanos(1));
+		int n = 1;
+		while (n < ticksPerWheel) {
+			n <<= 1;
+		}
+		this.wheel = new Bucket[n];
+		for (int i = 0; i < n; i++) {
+			this.wheel[i] = new Bucket();
+		}
+		this.mask = n - 1;
+		this.executor = executor;
+
+		Thread worker = new NamedThreadFactory(name, true).newThread(new Worker());
+		worker.start();
+	}
+
+	/**
+	 * 按固定延迟周期执行任务
+	 *
+	 * @param task
+	 * @param initialDelay
+	 * @param delay
+	 * @param unit
+	 * @return 用于取消任务
+	 */
+	public Timeout scheduleWithFixedDelay(Runnable task, long initialDelay, long delay,
+			TimeUnit unit) {
+		Timeout timeout = new Timeout(task, unit.toNanos(delay));
+		timeout.deadline = System.nanoTime() - this.startTime + unit.toNanos(initialDelay);
+		this.size.incrementAndGet();
+		this.pending.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * 延迟执行一次
+	 *
+	 * @param task
+	 * @param delay
+	 * @param unit
+	 * @return 用于取消任务
+	 */
+	public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		Timeout timeout = new Timeout(task, -1);
+		timeout.deadline = System.nanoTime() - this.startTime + unit.toNanos(Math.max(delay, 0));
+		this.size.incrementAndGet();
+		this.pending.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * 时间轮中的任务数
+	 *
+	 * @return
+	 */
+	public int size() {
+		return this.size.get();
+	}
+
+	public long getLagCount() {
+		return this.lagCount.get();
+	}
+
+	public long getLagTotalNanos() {
+		return this.lagTotalNanos.get();
+	}
+
+	public long getLagMaxNanos() {
+		return this.lagMaxNanos.get();
+	}
+
+	private void recordLag(long lagNanos) {
+		lagNanos = Math.max(lagNanos, 0);
+		this.lagCount.incrementAndGet();
+		this.lagTotalNanos.addAndGet(lagNanos);
+		while (true) {
+			long max = this.lagMaxNanos.get();
+			if (lagNanos <= max || this.lagMaxNanos.compareAndSet(max, lagNanos)) {
+				return;
+			}
+		}
+	}
+
+	public class Timeout implements Runnable {
+		private final Runnable task;
+		/**
+		 * 小于0表示一次性任务
+		 */
+		private final long delayNanos;
+		/**
+		 * 通过STATE修改，每个任务省去一个AtomicInteger
+		 */
+		volatile int state = ST_INIT;
+		/**
+		 * 相对startTime的到期时间
+		 */
+		private long deadline;
+		/**
+		 * 以下字段只由时间轮线程访问
+		 */
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(Runnable task, long delayNanos) {
+			this.task = task;
+			this.delayNanos = delayNanos;
+		}
+
+		/**
+		 * 取消任务，正在执行的任务会执行完，但不再被调度
+		 *
+		 * @return 是否由本次调用取消
+		 */
+		public boolean cancel() {
+			if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+				return false;
+			}
+			size.decrementAndGet();
+			cancelled.add(this);
+			return true;
+		}
+
+		public boolean isCancelled() {
+			return this.state == ST_CANCELLED;
+		}
+
+		@Override
+		public void run() {
+			recordLag(System.nanoTime() - startTime - this.deadline);
+			if (this.delayNanos < 0) {
+				if (STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+					size.decrementAndGet();
+					this.runTask();
+				}
+				return;
+			}
+			try {
+				this.runTask();
+			} finally {
+				if (!this.isCancelled()) {
+					this.deadline = System.nanoTime() - startTime + this.delayNanos;
+					pending.add(this);
+				}
+			}
+		}
+
+		private void runTask() {
+			try {
+				this.task.run();
+			} catch (Throwable e) {
+				log.error("run " + this.task, e);
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Timeout [task=" + task + "]";
+		}
+	}
+
+	/**
+	 * 时间轮的一格，双向链表，只由时间轮线程访问
+	 */
+	private class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		private void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (null == this.head) {
+				this.head = this.tail = timeout;
+			} else {
+				this.tail.next = timeout;
+				timeout.prev = this.tail;
+				this.tail = timeout;
+			}
+		}
+
+		private void remove(Timeout timeout) {
+			Timeout next = timeout.next;
+			if (null != timeout.prev) {
+				timeout.prev.next = next;
+			}
+			if (null != next) {
+				next.prev = timeout.prev;
+			}
+			if (timeout == this.head) {
+				this.head = next;
+			}
+			if (timeout == this.tail) {
+				this.tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+
+		private void expire() {
+			Timeout timeout = this.head;
+			while (null != timeout) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0) {
+					this.remove(timeout);
+					if (!timeout.isCancelled()) {
+						executor.execute(timeout);
+					}
+				} else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	private class Worker implements Runnable {
+
+		@Override
+		public void run() {
+			while (true) {
+				try {
+					this.waitForNextTick();
+					this.processCancelled();
+					this.transferPending();
+					wheel[(int) (tick & mask)].expire();
+					tick++;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (Throwable e) {
+					log.error("tick", e);
+				}
+			}
+		}
+
+		private void waitForNextTick() throws InterruptedException {
+			long deadline = tickNanos * (tick + 1);
+			while (true) {
+				long sleepNanos = deadline - (System.nanoTime() - startTime);
+				if (sleepNanos <= 0) {
+					return;
+				}
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			}
+		}
+
+		private void processCancelled() {
+			while (true) {
+				Timeout timeout = cancelled.poll();
+				if (null == timeout) {
+					return;
+				}
+				if (null != timeout.bucket) {
+					timeout.bucket.remove(timeout);
+				}
+			}
+		}
+
+		private void transferPending() {
+			while (true) {
+				Timeout timeout = pending.poll();
+				if (null == timeout) {
+					return;
+				}
+				if (timeout.isCancelled()) {
+					continue;
+				}
+				long calculated = timeout.deadline / tickNanos;
+				timeout.remainingRounds = (calculated - tick) / wheel.length;
+				long ticks = Math.max(calculated, tick); // 已经过期的放到当前格子
+				wheel[(int) (ticks & mask)].add(timeout);
+			}
+		}
+	}
+}
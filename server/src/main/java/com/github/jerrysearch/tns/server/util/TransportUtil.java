@@ -0,0 +1,26 @@
+package com.github.jerrysearch.tns.server.util;
+
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+
+import com.github.jerrysearch.tns.server.conf.Config;
+
+public final class TransportUtil {
+
+	/**
+	 * 连接其它cluster节点的transport，ClusterRpcServer使用selector模式时为TFramedTransport
+	 * 
+	 * @param host
+	 * @param port
+	 * @param timeout
+	 * @return
+	 */
+	public static TTransport cluster(String host, int port, int timeout) {
+		TSocket socket = new TSocket(host, port, timeout);
+		if (Config.clusterRpcSelector) {
+			return new TFramedTransport(socket);
+		}
+		return socket;
+	}
+}